@@ -0,0 +1,211 @@
+/*
+ * File:		Easing.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the easing curves tweens and keyframes are
+ * 				interpolated along
+ */
+
+package com.github.kmacdonald222.asclepiasfw.animation;
+
+// Enumeration of the standard easing curves, each mapping the progress of a
+// tween through its duration (0 to 1) to the fraction of the way from its start
+// value to its end value (which may leave 0 to 1 for the back and elastic
+// curves)
+public enum Easing {
+	
+	// Constant speed
+	LINEAR("Linear"),
+	// Accelerating from zero speed along a quadratic
+	QUAD_IN("Quad In"),
+	// Decelerating to zero speed along a quadratic
+	QUAD_OUT("Quad Out"),
+	// Accelerating then decelerating along a quadratic
+	QUAD_IN_OUT("Quad In Out"),
+	// Accelerating from zero speed along a cubic
+	CUBIC_IN("Cubic In"),
+	// Decelerating to zero speed along a cubic
+	CUBIC_OUT("Cubic Out"),
+	// Accelerating then decelerating along a cubic
+	CUBIC_IN_OUT("Cubic In Out"),
+	// Accelerating from zero speed along a quartic
+	QUART_IN("Quart In"),
+	// Decelerating to zero speed along a quartic
+	QUART_OUT("Quart Out"),
+	// Accelerating then decelerating along a quartic
+	QUART_IN_OUT("Quart In Out"),
+	// Accelerating from zero speed along a sine wave
+	SINE_IN("Sine In"),
+	// Decelerating to zero speed along a sine wave
+	SINE_OUT("Sine Out"),
+	// Accelerating then decelerating along a sine wave
+	SINE_IN_OUT("Sine In Out"),
+	// Accelerating from zero speed exponentially
+	EXPO_IN("Expo In"),
+	// Decelerating to zero speed exponentially
+	EXPO_OUT("Expo Out"),
+	// Accelerating then decelerating exponentially
+	EXPO_IN_OUT("Expo In Out"),
+	// Pulling back past the start value before accelerating
+	BACK_IN("Back In"),
+	// Overshooting the end value before settling on it
+	BACK_OUT("Back Out"),
+	// Pulling back at the start and overshooting at the end
+	BACK_IN_OUT("Back In Out"),
+	// Oscillating with growing amplitude before reaching the end value
+	ELASTIC_IN("Elastic In"),
+	// Oscillating with shrinking amplitude around the end value
+	ELASTIC_OUT("Elastic Out"),
+	// Growing oscillation in the first half, shrinking in the second
+	ELASTIC_IN_OUT("Elastic In Out"),
+	// Bouncing with growing height away from the start value
+	BOUNCE_IN("Bounce In"),
+	// Bouncing with shrinking height against the end value
+	BOUNCE_OUT("Bounce Out"),
+	// Bouncing away from the start value then against the end value
+	BOUNCE_IN_OUT("Bounce In Out");
+	
+	// The overshoot of the back curves
+	private static final double BackOvershoot = 1.70158d;
+	// The overshoot of the back in-out curve
+	private static final double BackInOutOvershoot = BackOvershoot * 1.525d;
+	// The angular frequency of the elastic curves
+	private static final double ElasticFrequency = 2.0d * Math.PI / 3.0d;
+	// The angular frequency of the elastic in-out curve
+	private static final double ElasticInOutFrequency = 2.0d * Math.PI / 4.5d;
+	
+	// The name of this easing curve
+	private String name = "";
+	
+	/*
+	 * Construct a new easing curve with a name
+	 * @param String name - The name of this easing curve
+	 */
+	private Easing(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Evaluate this easing curve
+	 * @param double t - The progress through a tween, from 0 to 1
+	 * @return double - The fraction of the way from the start value to the end
+	 * value, 0 at t = 0 and 1 at t = 1
+	 */
+	public double apply(double t) {
+		switch (this) {
+		case LINEAR:
+			return t;
+		case QUAD_IN:
+			return t * t;
+		case QUAD_OUT:
+			return 1.0d - (1.0d - t) * (1.0d - t);
+		case QUAD_IN_OUT:
+			return t < 0.5d ? 2.0d * t * t
+					: 1.0d - 2.0d * (1.0d - t) * (1.0d - t);
+		case CUBIC_IN:
+			return t * t * t;
+		case CUBIC_OUT:
+			return 1.0d - Cube(1.0d - t);
+		case CUBIC_IN_OUT:
+			return t < 0.5d ? 4.0d * t * t * t : 1.0d - 4.0d * Cube(1.0d - t);
+		case QUART_IN:
+			return t * t * t * t;
+		case QUART_OUT:
+			return 1.0d - Cube(1.0d - t) * (1.0d - t);
+		case QUART_IN_OUT:
+			return t < 0.5d ? 8.0d * t * t * t * t
+					: 1.0d - 8.0d * Cube(1.0d - t) * (1.0d - t);
+		case SINE_IN:
+			return 1.0d - Math.cos(t * Math.PI / 2.0d);
+		case SINE_OUT:
+			return Math.sin(t * Math.PI / 2.0d);
+		case SINE_IN_OUT:
+			return (1.0d - Math.cos(t * Math.PI)) / 2.0d;
+		case EXPO_IN:
+			return t <= 0.0d ? 0.0d : Math.pow(2.0d, 10.0d * t - 10.0d);
+		case EXPO_OUT:
+			return t >= 1.0d ? 1.0d : 1.0d - Math.pow(2.0d, -10.0d * t);
+		case EXPO_IN_OUT:
+			if (t <= 0.0d || t >= 1.0d) {
+				return t <= 0.0d ? 0.0d : 1.0d;
+			}
+			return t < 0.5d ? Math.pow(2.0d, 20.0d * t - 10.0d) / 2.0d
+					: 1.0d - Math.pow(2.0d, -20.0d * t + 10.0d) / 2.0d;
+		case BACK_IN:
+			return t * t * ((BackOvershoot + 1.0d) * t - BackOvershoot);
+		case BACK_OUT:
+			return 1.0d - BACK_IN.apply(1.0d - t);
+		case BACK_IN_OUT:
+			if (t < 0.5d) {
+				return 2.0d * t * t * ((BackInOutOvershoot + 1.0d) * 2.0d * t
+						- BackInOutOvershoot);
+			}
+			return 1.0d - 2.0d * (1.0d - t) * (1.0d - t)
+					* ((BackInOutOvershoot + 1.0d) * 2.0d * (1.0d - t)
+					- BackInOutOvershoot);
+		case ELASTIC_IN:
+			if (t <= 0.0d || t >= 1.0d) {
+				return t <= 0.0d ? 0.0d : 1.0d;
+			}
+			return -Math.pow(2.0d, 10.0d * t - 10.0d)
+					* Math.sin((10.0d * t - 10.75d) * ElasticFrequency);
+		case ELASTIC_OUT:
+			return 1.0d - ELASTIC_IN.apply(1.0d - t);
+		case ELASTIC_IN_OUT:
+			if (t <= 0.0d || t >= 1.0d) {
+				return t <= 0.0d ? 0.0d : 1.0d;
+			}
+			if (t < 0.5d) {
+				return -Math.pow(2.0d, 20.0d * t - 10.0d) * Math.sin((20.0d
+						* t - 11.125d) * ElasticInOutFrequency) / 2.0d;
+			}
+			return Math.pow(2.0d, -20.0d * t + 10.0d) * Math.sin((20.0d * t
+					- 11.125d) * ElasticInOutFrequency) / 2.0d + 1.0d;
+		case BOUNCE_IN:
+			return 1.0d - Bounce(1.0d - t);
+		case BOUNCE_OUT:
+			return Bounce(t);
+		case BOUNCE_IN_OUT:
+			return t < 0.5d ? (1.0d - Bounce(1.0d - 2.0d * t)) / 2.0d
+					: (1.0d + Bounce(2.0d * t - 1.0d)) / 2.0d;
+		}
+		return t;
+	}
+	
+	/*
+	 * Cube a value
+	 * @param double value - The value
+	 * @return double - The value cubed
+	 */
+	private static double Cube(double value) {
+		return value * value * value;
+	}
+	/*
+	 * Evaluate the bounce out curve, four parabolic arcs of shrinking height
+	 * @param double t - The progress through a tween, from 0 to 1
+	 * @return double - The eased fraction
+	 */
+	private static double Bounce(double t) {
+		if (t < 1.0d / 2.75d) {
+			return 7.5625d * t * t;
+		} else if (t < 2.0d / 2.75d) {
+			t -= 1.5d / 2.75d;
+			return 7.5625d * t * t + 0.75d;
+		} else if (t < 2.5d / 2.75d) {
+			t -= 2.25d / 2.75d;
+			return 7.5625d * t * t + 0.9375d;
+		}
+		t -= 2.625d / 2.75d;
+		return 7.5625d * t * t + 0.984375d;
+	}
+	
+	/*
+	 * Convert this easing curve to its name to represent as a string
+	 * @return String - The string representation of this easing curve
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
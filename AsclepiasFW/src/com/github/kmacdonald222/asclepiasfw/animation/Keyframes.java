@@ -0,0 +1,176 @@
+/*
+ * File:		Keyframes.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a track of keyframes played by tween engines
+ */
+
+package com.github.kmacdonald222.asclepiasfw.animation;
+
+import java.util.Arrays;
+
+// Track of keyframes of one tween type, each a time in logic updates and a
+// value reached at that time along the keyframe's easing curve from the
+// previous keyframe's value, a track is built once and may be played by any
+// number of tweens at once (keyframes should not be added while it is playing)
+public class Keyframes {
+	
+	// The number of keyframes there is room for when a track is created
+	private static final int InitialCapacity = 8;
+	
+	// The type of value this track animates
+	private TweenType type = TweenType.VALUE;
+	// The time of each keyframe in logic updates
+	private double[] times = null;
+	// The lanes of each keyframe's value, TweenEngine.LaneStride per keyframe
+	private double[] values = null;
+	// The easing curve from the previous keyframe to each keyframe
+	private Easing[] easings = null;
+	// The number of keyframes in this track
+	private int keyCount = 0;
+	
+	/*
+	 * Construct an empty keyframe track
+	 * @param TweenType type - The type of value the track animates
+	 */
+	public Keyframes(TweenType type) {
+		this.type = type;
+		times = new double[InitialCapacity];
+		values = new double[InitialCapacity * TweenEngine.LaneStride];
+		easings = new Easing[InitialCapacity];
+	}
+	
+	/*
+	 * Add a keyframe to a value track
+	 * @param double time - The time of the keyframe in logic updates, no
+	 * earlier than the last keyframe
+	 * @param double value - The value at the keyframe
+	 * @param Easing easing - The easing curve from the previous keyframe
+	 * @return boolean - Whether the track animates values and the keyframe was
+	 * added
+	 */
+	public boolean add(double time, double value, Easing easing) {
+		if (type != TweenType.VALUE) {
+			return false;
+		}
+		int offset = addKey(time, easing);
+		if (offset < 0) {
+			return false;
+		}
+		values[offset] = value;
+		return true;
+	}
+	/*
+	 * Add a keyframe to a vector track
+	 * @param double time - The time of the keyframe in logic updates, no
+	 * earlier than the last keyframe
+	 * @param double x - The x component at the keyframe
+	 * @param double y - The y component at the keyframe
+	 * @param Easing easing - The easing curve from the previous keyframe
+	 * @return boolean - Whether the track animates vectors and the keyframe was
+	 * added
+	 */
+	public boolean add(double time, double x, double y, Easing easing) {
+		if (type != TweenType.VECTOR) {
+			return false;
+		}
+		int offset = addKey(time, easing);
+		if (offset < 0) {
+			return false;
+		}
+		values[offset] = x;
+		values[offset + 1] = y;
+		return true;
+	}
+	/*
+	 * Add a keyframe to a color track
+	 * @param double time - The time of the keyframe in logic updates, no
+	 * earlier than the last keyframe
+	 * @param int color - The ARGB color at the keyframe
+	 * @param Easing easing - The easing curve from the previous keyframe
+	 * @return boolean - Whether the track animates colors and the keyframe was
+	 * added
+	 */
+	public boolean addColor(double time, int color, Easing easing) {
+		if (type != TweenType.COLOR) {
+			return false;
+		}
+		int offset = addKey(time, easing);
+		if (offset < 0) {
+			return false;
+		}
+		TweenEngine.UnpackColor(color, values, offset);
+		return true;
+	}
+	/*
+	 * Append a keyframe's time and easing curve, growing the track if needed
+	 * @param double time - The time of the keyframe in logic updates
+	 * @param Easing easing - The easing curve from the previous keyframe
+	 * @return int - The offset of the keyframe's lanes in the values array, or
+	 * -1 if the time or easing curve was invalid
+	 */
+	private int addKey(double time, Easing easing) {
+		if (easing == null || !(time >= 0.0d) || (keyCount > 0
+				&& time < times[keyCount - 1])) {
+			return -1;
+		}
+		if (keyCount == times.length) {
+			int capacity = times.length * 2;
+			times = Arrays.copyOf(times, capacity);
+			values = Arrays.copyOf(values, capacity * TweenEngine.LaneStride);
+			easings = Arrays.copyOf(easings, capacity);
+		}
+		times[keyCount] = time;
+		easings[keyCount] = easing;
+		return keyCount++ * TweenEngine.LaneStride;
+	}
+	
+	/*
+	 * Get the type of value this track animates
+	 * @return TweenType - The track's tween type
+	 */
+	public TweenType getType() {
+		return type;
+	}
+	/*
+	 * Get the number of keyframes in this track
+	 * @return int - The number of keyframes
+	 */
+	public int getKeyCount() {
+		return keyCount;
+	}
+	/*
+	 * Get the time of this track's last keyframe
+	 * @return double - The track's duration in logic updates, 0 if it is empty
+	 */
+	public double getDuration() {
+		return keyCount == 0 ? 0.0d : times[keyCount - 1];
+	}
+	/*
+	 * Get the time of a keyframe
+	 * @param int key - The index of the keyframe
+	 * @return double - The keyframe's time in logic updates
+	 */
+	public double getTime(int key) {
+		return times[key];
+	}
+	/*
+	 * Get one lane of a keyframe's value (the value of a value track, x or y of
+	 * a vector track, or alpha, red, green or blue of a color track)
+	 * @param int key - The index of the keyframe
+	 * @param int lane - The lane of the value
+	 * @return double - The lane's value at the keyframe
+	 */
+	public double getValue(int key, int lane) {
+		return values[key * TweenEngine.LaneStride + lane];
+	}
+	/*
+	 * Get the easing curve from the previous keyframe to a keyframe
+	 * @param int key - The index of the keyframe
+	 * @return Easing - The keyframe's easing curve
+	 */
+	public Easing getEasing(int key) {
+		return easings[key];
+	}
+	
+}
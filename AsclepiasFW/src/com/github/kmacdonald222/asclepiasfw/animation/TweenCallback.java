@@ -0,0 +1,24 @@
+/*
+ * File:		TweenCallback.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback function of tweens finishing in a tween
+ * 				engine
+ */
+
+package com.github.kmacdonald222.asclepiasfw.animation;
+
+// Interface for work run when a tween in a tween engine finishes
+public interface TweenCallback {
+	
+	/*
+	 * A tween has reached its end value and run out of repeats, called after
+	 * the batched pass of the update it finished on, while the tween's final
+	 * value can still be read (it is removed once the callback returns)
+	 * @param TweenEngine engine - The engine running the tween, which may be
+	 * used to start new tweens
+	 * @param int tween - The handle of the finished tween
+	 */
+	public void tweenFinished(TweenEngine engine, int tween);
+	
+}
@@ -0,0 +1,764 @@
+/*
+ * File:		TweenEngine.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the engine advancing every active tween and keyframe
+ * 				track of an application in one batched pass per update
+ */
+
+package com.github.kmacdonald222.asclepiasfw.animation;
+
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+
+// Engine storing every active tween in flat arrays indexed by a dense list, so
+// one call to update advances them all in a single pass over contiguous memory
+// without allocating, tweens are integer handles which stay valid until the
+// tween finishes or is cancelled and write their value either to a target (an
+// element of a double or int array, or a Vector2D) or to the engine, where it
+// is read with getValue, getVector or getColor (an engine should be used from
+// one thread, usually the main thread from a scene's timedUpdate or the
+// application's own engine which advances after each timed update)
+public class TweenEngine {
+	
+	// Handle which refers to no tween
+	public static final int NullTween = -1;
+	// Repeat count of a tween which repeats until it is cancelled
+	public static final int RepeatForever = -1;
+	// The number of lanes stored for each tween and keyframe value, enough for
+	// the widest tween type
+	public static final int LaneStride = 4;
+	
+	// The number of bits of a tween handle holding its slot
+	private static final int IndexBits = 24;
+	// The bits of a tween handle holding its slot
+	private static final int IndexMask = (1 << IndexBits) - 1;
+	// The bits of a slot's generation kept in its handle (leaving handles
+	// positive)
+	private static final int GenerationMask = 0x7F;
+	// The number of tweens there is room for when an engine is created
+	private static final int InitialCapacity = 256;
+	// Flag of a tween which reverses direction each time it repeats
+	private static final byte YoyoFlag = 1;
+	// Flag of a tween currently running from its end value to its start value
+	private static final byte ReversedFlag = 2;
+	// The tween types indexed by the ordinals stored per tween
+	private static final TweenType[] Types = TweenType.values();
+	// The easing curves indexed by the ordinals stored per tween
+	private static final Easing[] Easings = Easing.values();
+	
+	// The generation of each slot, bumped as its tween is removed
+	private int[] generations = null;
+	// The dense index of each slot's tween (-1 for free slots)
+	private int[] denseIndices = null;
+	// The slots freed by removed tweens, reused before new slots
+	private int[] freeSlots = null;
+	// The number of freed slots
+	private int freeCount = 0;
+	// The number of slots which have ever been used
+	private int slotCount = 0;
+	// The handle of each active tween
+	private int[] handles = null;
+	// The ordinal of each active tween's type
+	private byte[] types = null;
+	// The ordinal of each active tween's easing curve
+	private byte[] easings = null;
+	// The YoyoFlag and ReversedFlag bits of each active tween
+	private byte[] flags = null;
+	// The logic updates each active tween has run for, including its delay and
+	// excluding completed repeats
+	private double[] elapsed = null;
+	// The logic updates each active tween waits before starting
+	private double[] delays = null;
+	// The logic updates each active tween takes to run once
+	private double[] durations = null;
+	// The number of repeats each active tween has left (RepeatForever for
+	// endless repeats)
+	private int[] repeats = null;
+	// The lanes of each active tween's start value, LaneStride per tween
+	private double[] starts = null;
+	// The lanes of each active tween's end value, LaneStride per tween
+	private double[] ends = null;
+	// The lanes of each active tween's current value, LaneStride per tween
+	private double[] values = null;
+	// The object each active tween writes its value to (a double[], Vector2D
+	// or int[] for its type), or null
+	private Object[] targets = null;
+	// The element of an array target each active tween writes to
+	private int[] targetIndices = null;
+	// The keyframe track each active tween plays, or null
+	private Keyframes[] tracks = null;
+	// The keyframe each active track is between it and the next
+	private int[] keys = null;
+	// The callback of each active tween run when it finishes, or null
+	private TweenCallback[] callbacks = null;
+	// The number of active tweens
+	private int count = 0;
+	// The handles of the tweens which finished during the current update
+	private int[] finished = null;
+	// The number of tweens which have finished
+	private long finishedCount = 0L;
+	
+	/*
+	 * Construct a new tween engine with no active tweens
+	 */
+	public TweenEngine() {
+		generations = new int[InitialCapacity];
+		denseIndices = new int[InitialCapacity];
+		freeSlots = new int[InitialCapacity];
+		handles = new int[InitialCapacity];
+		types = new byte[InitialCapacity];
+		easings = new byte[InitialCapacity];
+		flags = new byte[InitialCapacity];
+		elapsed = new double[InitialCapacity];
+		delays = new double[InitialCapacity];
+		durations = new double[InitialCapacity];
+		repeats = new int[InitialCapacity];
+		starts = new double[InitialCapacity * LaneStride];
+		ends = new double[InitialCapacity * LaneStride];
+		values = new double[InitialCapacity * LaneStride];
+		targets = new Object[InitialCapacity];
+		targetIndices = new int[InitialCapacity];
+		tracks = new Keyframes[InitialCapacity];
+		keys = new int[InitialCapacity];
+		callbacks = new TweenCallback[InitialCapacity];
+		finished = new int[InitialCapacity];
+	}
+	
+	/*
+	 * Start a tween of a value held by the engine, read with getValue
+	 * @param double start - The value at the start of the tween
+	 * @param double end - The value at the end of the tween
+	 * @param double duration - The logic updates the tween takes (above 0)
+	 * @param Easing easing - The easing curve of the tween
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int tween(double start, double end, double duration,
+			Easing easing) {
+		int i = add(TweenType.VALUE, duration, easing, null, 0, null);
+		if (i < 0) {
+			return NullTween;
+		}
+		setLanes(i, 0, start, end);
+		return handles[i];
+	}
+	/*
+	 * Start a tween of an element of a double array from its current value
+	 * @param double[] target - The array holding the value
+	 * @param int index - The index of the value in the array
+	 * @param double end - The value at the end of the tween
+	 * @param double duration - The logic updates the tween takes (above 0)
+	 * @param Easing easing - The easing curve of the tween
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int tween(double[] target, int index, double end, double duration,
+			Easing easing) {
+		if (target == null || index < 0 || index >= target.length) {
+			return NullTween;
+		}
+		int i = add(TweenType.VALUE, duration, easing, target, index, null);
+		if (i < 0) {
+			return NullTween;
+		}
+		setLanes(i, 0, target[index], end);
+		return handles[i];
+	}
+	/*
+	 * Start a tween of a vector's components from their current values
+	 * @param Vector2D target - The vector to animate
+	 * @param double endX - The x component at the end of the tween
+	 * @param double endY - The y component at the end of the tween
+	 * @param double duration - The logic updates the tween takes (above 0)
+	 * @param Easing easing - The easing curve of the tween
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int tween(Vector2D target, double endX, double endY,
+			double duration, Easing easing) {
+		if (target == null) {
+			return NullTween;
+		}
+		int i = add(TweenType.VECTOR, duration, easing, target, 0, null);
+		if (i < 0) {
+			return NullTween;
+		}
+		setLanes(i, 0, target.x, endX);
+		setLanes(i, 1, target.y, endY);
+		return handles[i];
+	}
+	/*
+	 * Start a tween of a color held by the engine, read with getColor
+	 * @param int start - The ARGB color at the start of the tween
+	 * @param int end - The ARGB color at the end of the tween
+	 * @param double duration - The logic updates the tween takes (above 0)
+	 * @param Easing easing - The easing curve of the tween
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int tweenColor(int start, int end, double duration,
+			Easing easing) {
+		int i = add(TweenType.COLOR, duration, easing, null, 0, null);
+		if (i < 0) {
+			return NullTween;
+		}
+		setColorLanes(i, start, end);
+		return handles[i];
+	}
+	/*
+	 * Start a tween of an ARGB color element of an int array from its current
+	 * value
+	 * @param int[] target - The array holding the color
+	 * @param int index - The index of the color in the array
+	 * @param int end - The ARGB color at the end of the tween
+	 * @param double duration - The logic updates the tween takes (above 0)
+	 * @param Easing easing - The easing curve of the tween
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int tweenColor(int[] target, int index, int end, double duration,
+			Easing easing) {
+		if (target == null || index < 0 || index >= target.length) {
+			return NullTween;
+		}
+		int i = add(TweenType.COLOR, duration, easing, target, index, null);
+		if (i < 0) {
+			return NullTween;
+		}
+		setColorLanes(i, target[index], end);
+		return handles[i];
+	}
+	/*
+	 * Start playing a keyframe track held by the engine, read with getValue,
+	 * getVector or getColor for the track's type
+	 * @param Keyframes track - The track to play, with at least two keyframes
+	 * and a duration above 0
+	 * @return int - The new tween's handle, or NullTween if the track was
+	 * invalid
+	 */
+	public int play(Keyframes track) {
+		return play(track, track == null ? null : track.getType(), null, 0);
+	}
+	/*
+	 * Start playing a value keyframe track into an element of a double array
+	 * @param Keyframes track - The value track to play, with at least two
+	 * keyframes and a duration above 0
+	 * @param double[] target - The array holding the value
+	 * @param int index - The index of the value in the array
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int play(Keyframes track, double[] target, int index) {
+		if (target == null || index < 0 || index >= target.length) {
+			return NullTween;
+		}
+		return play(track, TweenType.VALUE, target, index);
+	}
+	/*
+	 * Start playing a vector keyframe track into a vector's components
+	 * @param Keyframes track - The vector track to play, with at least two
+	 * keyframes and a duration above 0
+	 * @param Vector2D target - The vector to animate
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int play(Keyframes track, Vector2D target) {
+		if (target == null) {
+			return NullTween;
+		}
+		return play(track, TweenType.VECTOR, target, 0);
+	}
+	/*
+	 * Start playing a color keyframe track into an ARGB color element of an int
+	 * array
+	 * @param Keyframes track - The color track to play, with at least two
+	 * keyframes and a duration above 0
+	 * @param int[] target - The array holding the color
+	 * @param int index - The index of the color in the array
+	 * @return int - The new tween's handle, or NullTween if the arguments were
+	 * invalid
+	 */
+	public int play(Keyframes track, int[] target, int index) {
+		if (target == null || index < 0 || index >= target.length) {
+			return NullTween;
+		}
+		return play(track, TweenType.COLOR, target, index);
+	}
+	/*
+	 * Set the logic updates a tween waits before starting, counted from when
+	 * it was started
+	 * @param int tween - The handle of the tween
+	 * @param double delay - The delay in logic updates
+	 * @return boolean - Whether the tween was active
+	 */
+	public boolean setDelay(int tween, double delay) {
+		if (!isActive(tween)) {
+			return false;
+		}
+		delays[denseIndices[tween & IndexMask]] = Math.max(delay, 0.0d);
+		return true;
+	}
+	/*
+	 * Set the number of times a tween runs again after it first reaches its
+	 * end value
+	 * @param int tween - The handle of the tween
+	 * @param int repeatCount - The number of repeats, or RepeatForever
+	 * @param boolean yoyo - Whether the tween runs back to its start value on
+	 * every other repeat instead of jumping back to it
+	 * @return boolean - Whether the tween was active
+	 */
+	public boolean setRepeat(int tween, int repeatCount, boolean yoyo) {
+		if (!isActive(tween)) {
+			return false;
+		}
+		int i = denseIndices[tween & IndexMask];
+		repeats[i] = Math.max(repeatCount, RepeatForever);
+		flags[i] = (byte)(yoyo ? flags[i] | YoyoFlag : flags[i] & ~YoyoFlag);
+		return true;
+	}
+	/*
+	 * Set the callback run when a tween finishes
+	 * @param int tween - The handle of the tween
+	 * @param TweenCallback callback - The callback, or null for none
+	 * @return boolean - Whether the tween was active
+	 */
+	public boolean setCallback(int tween, TweenCallback callback) {
+		if (!isActive(tween)) {
+			return false;
+		}
+		callbacks[denseIndices[tween & IndexMask]] = callback;
+		return true;
+	}
+	/*
+	 * Stop a tween where it is without running its callback
+	 * @param int tween - The handle of the tween
+	 * @return boolean - Whether the tween was active and has been cancelled
+	 */
+	public boolean cancel(int tween) {
+		if (!isActive(tween)) {
+			return false;
+		}
+		remove(denseIndices[tween & IndexMask]);
+		return true;
+	}
+	/*
+	 * Advance every active tween, writing their new values to their targets,
+	 * then run the callbacks of the tweens which finished and remove them
+	 * @param double delta - The number of logic updates to advance by
+	 */
+	public void update(double delta) {
+		int finishedTweens = 0;
+		for (int i = 0; i < count; i++) {
+			double time = elapsed[i] + delta;
+			elapsed[i] = time;
+			time -= delays[i];
+			if (time < 0.0d) {
+				continue;
+			}
+			double duration = durations[i];
+			boolean done = false;
+			if (time >= duration) {
+				if (repeats[i] == 0) {
+					time = duration;
+					done = true;
+				} else {
+					double cycles = Math.floor(time / duration);
+					if (repeats[i] > 0) {
+						cycles = Math.min(cycles, repeats[i]);
+						repeats[i] -= (int)cycles;
+					}
+					time = Math.max(time - cycles * duration, 0.0d);
+					elapsed[i] -= cycles * duration;
+					if ((flags[i] & YoyoFlag) != 0 && cycles % 2.0d != 0.0d) {
+						flags[i] ^= ReversedFlag;
+					}
+					if (time >= duration) {
+						time = duration;
+						done = true;
+					}
+				}
+			}
+			double progress = time / duration;
+			if ((flags[i] & ReversedFlag) != 0) {
+				progress = 1.0d - progress;
+			}
+			if (tracks[i] == null) {
+				interpolate(i, progress);
+			} else {
+				sample(i, progress * duration);
+			}
+			if (targets[i] != null) {
+				write(i);
+			}
+			if (done) {
+				finished[finishedTweens++] = handles[i];
+			}
+		}
+		for (int f = 0; f < finishedTweens; f++) {
+			int tween = finished[f];
+			if (!isActive(tween)) {
+				continue;
+			}
+			TweenCallback callback = callbacks[denseIndices[tween & IndexMask]];
+			if (callback != null) {
+				callback.tweenFinished(this, tween);
+			}
+			if (isActive(tween)) {
+				remove(denseIndices[tween & IndexMask]);
+			}
+			finishedCount++;
+		}
+	}
+	/*
+	 * Cancel every active tween
+	 */
+	public void clear() {
+		while (count > 0) {
+			remove(count - 1);
+		}
+	}
+	
+	/*
+	 * Add a tween to the end of the dense list, growing the arrays if needed
+	 * @param TweenType type - The type of the tween
+	 * @param double duration - The logic updates the tween takes
+	 * @param Easing easing - The easing curve of the tween
+	 * @param Object target - The object the tween writes to, or null
+	 * @param int index - The element of an array target the tween writes to
+	 * @param Keyframes track - The keyframe track the tween plays, or null
+	 * @return int - The dense index of the new tween, or -1 if the duration or
+	 * easing curve was invalid or there are no handles left
+	 */
+	private int add(TweenType type, double duration, Easing easing,
+			Object target, int index, Keyframes track) {
+		if (!(duration > 0.0d) || Double.isInfinite(duration)
+				|| easing == null) {
+			return -1;
+		}
+		int slot = 0;
+		if (freeCount > 0) {
+			slot = freeSlots[--freeCount];
+		} else {
+			if (slotCount > IndexMask) {
+				return -1;
+			}
+			slot = slotCount++;
+			if (slot == generations.length) {
+				int capacity = generations.length * 2;
+				generations = Arrays.copyOf(generations, capacity);
+				denseIndices = Arrays.copyOf(denseIndices, capacity);
+				freeSlots = Arrays.copyOf(freeSlots, capacity);
+			}
+		}
+		if (count == handles.length) {
+			grow(handles.length * 2);
+		}
+		int i = count++;
+		denseIndices[slot] = i;
+		handles[i] = (generations[slot] << IndexBits) | slot;
+		types[i] = (byte)type.ordinal();
+		easings[i] = (byte)easing.ordinal();
+		flags[i] = 0;
+		elapsed[i] = 0.0d;
+		delays[i] = 0.0d;
+		durations[i] = duration;
+		repeats[i] = 0;
+		targets[i] = target;
+		targetIndices[i] = index;
+		tracks[i] = track;
+		keys[i] = 0;
+		callbacks[i] = null;
+		return i;
+	}
+	/*
+	 * Add a tween playing a keyframe track, starting at its first keyframe
+	 * @param Keyframes track - The keyframe track to play
+	 * @param TweenType type - The type of the tween's target
+	 * @param Object target - The object the tween writes to, or null
+	 * @param int index - The element of an array target the tween writes to
+	 * @return int - The new tween's handle, or NullTween if the track was
+	 * invalid or did not match the target's type
+	 */
+	private int play(Keyframes track, TweenType type, Object target,
+			int index) {
+		if (track == null || track.getType() != type
+				|| track.getKeyCount() < 2) {
+			return NullTween;
+		}
+		int i = add(type, track.getDuration(), Easing.LINEAR, target, index,
+				track);
+		if (i < 0) {
+			return NullTween;
+		}
+		sample(i, 0.0d);
+		return handles[i];
+	}
+	/*
+	 * Set one lane of a new tween's start, end and current values
+	 * @param int i - The dense index of the tween
+	 * @param int lane - The lane of the tween's value
+	 * @param double start - The lane's start value
+	 * @param double end - The lane's end value
+	 */
+	private void setLanes(int i, int lane, double start, double end) {
+		starts[i * LaneStride + lane] = start;
+		ends[i * LaneStride + lane] = end;
+		values[i * LaneStride + lane] = start;
+	}
+	/*
+	 * Set the lanes of a new color tween's start, end and current values
+	 * @param int i - The dense index of the tween
+	 * @param int start - The ARGB color at the start of the tween
+	 * @param int end - The ARGB color at the end of the tween
+	 */
+	private void setColorLanes(int i, int start, int end) {
+		UnpackColor(start, starts, i * LaneStride);
+		UnpackColor(end, ends, i * LaneStride);
+		UnpackColor(start, values, i * LaneStride);
+	}
+	/*
+	 * Set a tween's current value between its start and end values
+	 * @param int i - The dense index of the tween
+	 * @param double progress - The progress from the start value to the end
+	 * value, from 0 to 1
+	 */
+	private void interpolate(int i, double progress) {
+		double eased = Easings[easings[i]].apply(progress);
+		int offset = i * LaneStride;
+		int end = offset + Types[types[i]].getLaneCount();
+		for (int lane = offset; lane < end; lane++) {
+			values[lane] = starts[lane] + (ends[lane] - starts[lane]) * eased;
+		}
+	}
+	/*
+	 * Set a tween's current value to its keyframe track's value at a time,
+	 * moving from the keyframe it was last between
+	 * @param int i - The dense index of the tween
+	 * @param double time - The time in the track in logic updates
+	 */
+	private void sample(int i, double time) {
+		Keyframes track = tracks[i];
+		int key = keys[i];
+		while (key > 0 && time < track.getTime(key)) {
+			key--;
+		}
+		int last = track.getKeyCount() - 1;
+		while (key < last - 1 && time >= track.getTime(key + 1)) {
+			key++;
+		}
+		keys[i] = key;
+		double keyTime = track.getTime(key);
+		double length = track.getTime(key + 1) - keyTime;
+		double progress = length > 0.0d ? (time - keyTime) / length : 1.0d;
+		double eased = track.getEasing(key + 1).apply(Math.min(Math.max(
+				progress, 0.0d), 1.0d));
+		int offset = i * LaneStride;
+		int laneCount = track.getType().getLaneCount();
+		for (int lane = 0; lane < laneCount; lane++) {
+			double start = track.getValue(key, lane);
+			values[offset + lane] = start + (track.getValue(key + 1, lane)
+					- start) * eased;
+		}
+	}
+	/*
+	 * Write a tween's current value to its target
+	 * @param int i - The dense index of the tween
+	 */
+	private void write(int i) {
+		int offset = i * LaneStride;
+		switch (Types[types[i]]) {
+		case VALUE:
+			((double[])targets[i])[targetIndices[i]] = values[offset];
+			break;
+		case VECTOR:
+			Vector2D vector = (Vector2D)targets[i];
+			vector.x = values[offset];
+			vector.y = values[offset + 1];
+			break;
+		case COLOR:
+			((int[])targets[i])[targetIndices[i]] = PackColor(values, offset);
+			break;
+		}
+	}
+	/*
+	 * Remove a tween by moving the last tween in the dense list into its place
+	 * and free its handle's slot
+	 * @param int i - The dense index of the tween
+	 */
+	private void remove(int i) {
+		int slot = handles[i] & IndexMask;
+		denseIndices[slot] = -1;
+		generations[slot] = (generations[slot] + 1) & GenerationMask;
+		freeSlots[freeCount++] = slot;
+		int last = --count;
+		if (i != last) {
+			handles[i] = handles[last];
+			types[i] = types[last];
+			easings[i] = easings[last];
+			flags[i] = flags[last];
+			elapsed[i] = elapsed[last];
+			delays[i] = delays[last];
+			durations[i] = durations[last];
+			repeats[i] = repeats[last];
+			System.arraycopy(starts, last * LaneStride, starts, i * LaneStride,
+					LaneStride);
+			System.arraycopy(ends, last * LaneStride, ends, i * LaneStride,
+					LaneStride);
+			System.arraycopy(values, last * LaneStride, values, i * LaneStride,
+					LaneStride);
+			targets[i] = targets[last];
+			targetIndices[i] = targetIndices[last];
+			tracks[i] = tracks[last];
+			keys[i] = keys[last];
+			callbacks[i] = callbacks[last];
+			denseIndices[handles[i] & IndexMask] = i;
+		}
+		targets[last] = null;
+		tracks[last] = null;
+		callbacks[last] = null;
+	}
+	/*
+	 * Grow the arrays of the dense list
+	 * @param int capacity - The number of tweens to make room for
+	 */
+	private void grow(int capacity) {
+		handles = Arrays.copyOf(handles, capacity);
+		types = Arrays.copyOf(types, capacity);
+		easings = Arrays.copyOf(easings, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		elapsed = Arrays.copyOf(elapsed, capacity);
+		delays = Arrays.copyOf(delays, capacity);
+		durations = Arrays.copyOf(durations, capacity);
+		repeats = Arrays.copyOf(repeats, capacity);
+		starts = Arrays.copyOf(starts, capacity * LaneStride);
+		ends = Arrays.copyOf(ends, capacity * LaneStride);
+		values = Arrays.copyOf(values, capacity * LaneStride);
+		targets = Arrays.copyOf(targets, capacity);
+		targetIndices = Arrays.copyOf(targetIndices, capacity);
+		tracks = Arrays.copyOf(tracks, capacity);
+		keys = Arrays.copyOf(keys, capacity);
+		callbacks = Arrays.copyOf(callbacks, capacity);
+		finished = Arrays.copyOf(finished, capacity);
+	}
+	
+	/*
+	 * Split an ARGB color into alpha, red, green and blue lanes
+	 * @param int color - The ARGB color
+	 * @param double[] lanes - The array to write the lanes to
+	 * @param int offset - The index of the alpha lane in the array
+	 */
+	static void UnpackColor(int color, double[] lanes, int offset) {
+		lanes[offset] = (color >>> 24) & 0xFF;
+		lanes[offset + 1] = (color >>> 16) & 0xFF;
+		lanes[offset + 2] = (color >>> 8) & 0xFF;
+		lanes[offset + 3] = color & 0xFF;
+	}
+	/*
+	 * Combine alpha, red, green and blue lanes into an ARGB color, rounding
+	 * and clamping each channel (curves may overshoot the 0 to 255 range)
+	 * @param double[] lanes - The array holding the lanes
+	 * @param int offset - The index of the alpha lane in the array
+	 * @return int - The ARGB color
+	 */
+	static int PackColor(double[] lanes, int offset) {
+		int color = 0;
+		for (int lane = offset; lane < offset + 4; lane++) {
+			int channel = (int)(Math.min(Math.max(lanes[lane], 0.0d), 255.0d)
+					+ 0.5d);
+			color = (color << 8) | channel;
+		}
+		return color;
+	}
+	
+	/*
+	 * Test whether a tween handle refers to an active tween
+	 * @param int tween - The handle of the tween
+	 * @return boolean - Whether the tween exists and has not finished or been
+	 * cancelled
+	 */
+	public boolean isActive(int tween) {
+		if (tween < 0) {
+			return false;
+		}
+		int slot = tween & IndexMask;
+		return slot < slotCount && denseIndices[slot] >= 0
+				&& generations[slot] == tween >>> IndexBits;
+	}
+	/*
+	 * Get the current value of a value tween or keyframe track
+	 * @param int tween - The handle of the tween
+	 * @return double - The current value, or NaN if the tween is not active
+	 */
+	public double getValue(int tween) {
+		if (!isActive(tween)) {
+			return Double.NaN;
+		}
+		return values[denseIndices[tween & IndexMask] * LaneStride];
+	}
+	/*
+	 * Copy the current value of a vector tween or keyframe track into a vector
+	 * @param int tween - The handle of the tween
+	 * @param Vector2D result - The vector to write the value to
+	 * @return boolean - Whether the tween was an active vector tween
+	 */
+	public boolean getVector(int tween, Vector2D result) {
+		if (!isActive(tween)) {
+			return false;
+		}
+		int i = denseIndices[tween & IndexMask];
+		if (Types[types[i]] != TweenType.VECTOR) {
+			return false;
+		}
+		result.set(values[i * LaneStride], values[i * LaneStride + 1]);
+		return true;
+	}
+	/*
+	 * Get the current value of a color tween or keyframe track
+	 * @param int tween - The handle of the tween
+	 * @return int - The current ARGB color, or 0 if the tween is not an active
+	 * color tween
+	 */
+	public int getColor(int tween) {
+		if (!isActive(tween)) {
+			return 0;
+		}
+		int i = denseIndices[tween & IndexMask];
+		if (Types[types[i]] != TweenType.COLOR) {
+			return 0;
+		}
+		return PackColor(values, i * LaneStride);
+	}
+	/*
+	 * Get how far a tween is through its current run, ignoring its easing
+	 * curve
+	 * @param int tween - The handle of the tween
+	 * @return double - The progress from 0 to 1, or NaN if the tween is not
+	 * active
+	 */
+	public double getProgress(int tween) {
+		if (!isActive(tween)) {
+			return Double.NaN;
+		}
+		int i = denseIndices[tween & IndexMask];
+		return Math.min(Math.max((elapsed[i] - delays[i]) / durations[i],
+				0.0d), 1.0d);
+	}
+	/*
+	 * Get the number of active tweens
+	 * @return int - The number of tweens
+	 */
+	public int getActiveCount() {
+		return count;
+	}
+	/*
+	 * Get the number of tweens which have finished, not counting cancelled
+	 * tweens
+	 * @return long - The number of finished tweens
+	 */
+	public long getFinishedCount() {
+		return finishedCount;
+	}
+	
+}
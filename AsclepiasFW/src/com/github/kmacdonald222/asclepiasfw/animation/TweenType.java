@@ -0,0 +1,53 @@
+/*
+ * File:		TweenType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the kinds of value animated by tweens and keyframe
+ * 				tracks
+ */
+
+package com.github.kmacdonald222.asclepiasfw.animation;
+
+// Enumeration of the kinds of value a tween or keyframe track animates, each
+// interpolated as a number of independent double lanes
+public enum TweenType {
+	
+	// A single double
+	VALUE("Value", 1),
+	// The x and y components of a Vector2D
+	VECTOR("Vector", 2),
+	// An ARGB color packed into an int, interpolated per channel
+	COLOR("Color", 4);
+	
+	// The name of this tween type
+	private String name = "";
+	// The number of lanes this tween type is interpolated as
+	private int laneCount = 0;
+	
+	/*
+	 * Construct a new tween type with a name and number of lanes
+	 * @param String name - The name of this tween type
+	 * @param int laneCount - The number of lanes the type is interpolated as
+	 */
+	private TweenType(String name, int laneCount) {
+		this.name = name;
+		this.laneCount = laneCount;
+	}
+	
+	/*
+	 * Get the number of double lanes this tween type is interpolated as
+	 * @return int - The number of lanes
+	 */
+	public int getLaneCount() {
+		return laneCount;
+	}
+	/*
+	 * Convert this tween type to its name to represent as a string
+	 * @return String - The string representation of this tween type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -7,22 +7,32 @@
 
 package com.github.kmacdonald222.asclepiasfw.app;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import com.github.kmacdonald222.asclepiasfw.animation.TweenEngine;
 import com.github.kmacdonald222.asclepiasfw.audio.AudioManager;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.graphics.RenderThread;
 import com.github.kmacdonald222.asclepiasfw.graphics.WindowManager;
 import com.github.kmacdonald222.asclepiasfw.input.InputManager;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncCallback;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncManager;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncTask;
+import com.github.kmacdonald222.asclepiasfw.jobs.JobSystem;
 import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
-import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
 import com.github.kmacdonald222.asclepiasfw.networking.NetClient;
-import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.pooling.PoolRegistry;
+import com.github.kmacdonald222.asclepiasfw.profiling.FrameProfiler;
+import com.github.kmacdonald222.asclepiasfw.profiling.FrameWatchdog;
+import com.github.kmacdonald222.asclepiasfw.replay.ReplayPlayer;
+import com.github.kmacdonald222.asclepiasfw.replay.ReplayRecorder;
+import com.github.kmacdonald222.asclepiasfw.timing.TimerService;
 
 // The main application class of the Asclepias Framework
 public class App {
 	
 	// Instance of the logging system manager
 	public static LogManager Log = null;
+	// The event bus input and network events are published to
+	public static EventBus Events = null;
 	// Instance of the window management system
 	public static WindowManager Window = null;
 	// Instance of the user input management system
@@ -31,18 +41,17 @@ public class App {
 	public static AudioManager Audio = null;
 	// Instance of the client side of the networking system
 	public static NetClient Network = null;
+	// Instance of the job system
+	public static JobSystem Jobs = null;
+	// Instance of the tick-driven timer service
+	public static TimerService Timers = null;
+	// Engine advancing the application's tweens after each timed update
+	public static TweenEngine Tweens = null;
+	// Registry of the application's object pools
+	public static PoolRegistry Pools = null;
 	
-	// The target number of logic updates to perform per second
-	private static int TargetUpdatesPerSecond = 0;
-	// The maximum number of logic updates to perform per graphics frame
-	private static int MaximumUpdatesPerFrame = 0;
-	// The current scene of the application
-	private static AppScene CurrentScene = null;
-	// List of all previous scenes in the application
-	private static List<AppScene> Scenes = null;
-	
-	// Whether the application has been initialized
-	private static boolean Initialized = false;
+	// The application context backing this class's static functions
+	private static AppContext Context = new AppContext(true);
 	
 	/*
 	 * Initialize the application with its configuration structure
@@ -50,181 +59,27 @@ public class App {
 	 * @return boolean - Whether the application was successfully initialized
 	 */
 	public static boolean Initialize(AppConfig config) {
-		if (Initialized) {
-			return false;
-		}
-		Log = new LogManager();
-		if (!Log.initialize(config.log.consoleOutputEnabled,
-				config.log.outputFileNames)) {
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Initialized logging ",
-				"system");
-		Window = new WindowManager();
-		if (!Window.initialize(config.window.title, config.window.dimensions,
-				config.window.fullscreen, config.window.monitorIndex)) {
-			Log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
-					"window management system");
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Initialized window ",
-				"management system");
-		Input = new InputManager();
-		if (!Input.initialize()) {
-			Log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
-					"user input management systems");
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Initialized user input ",
-				"management systems");
-		Audio = new AudioManager();
-		if (!Audio.initialize(config.audio.soundEffects.volume,
-				config.audio.music.volume)) {
-			Log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
-					"audio management systems");
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Initialized audio ",
-				"management systems");
-		Network = new NetClient();
-		if (!Network.initialize(config.network.maxMessagesPerUpdate)) {
-			Log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
-					"network client");
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Initialized network ",
-				"client");
-		TargetUpdatesPerSecond = config.timing.targetUpdatesPerSecond;
-		MaximumUpdatesPerFrame = config.timing.maximumUpdatesPerFrame;
-		Log.write(LogSource.App, LogPriority.Info, "Initialized timing ",
-				"parameters");
-		Scenes = new ArrayList<AppScene>();
-		if (!SetCurrentScene(config.initialScene)) {
-			Log.write(LogSource.App, LogPriority.Error, "Failed to set ",
-					"initial scene");
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Set initial scene");
-		Log.write(LogSource.App, LogPriority.Info, "Initialized Asclepias ",
-				"Framework application");
-		Initialized = true;
-		return Initialized;
+		return Context.initialize(config);
 	}
 	/*
 	 * Run the application's main loop
 	 */
 	public static void Run() {
-		Log.write(LogSource.App, LogPriority.Info, "Running main application ",
-				"loop");
-		long startTime = System.currentTimeMillis();
-		while (!Window.isWindowClosing()) {
-			if (CurrentScene == null) {
-				Log.write(LogSource.App, LogPriority.Error, "No current scene ",
-						"available");
-				break;
-			}
-			if (!CurrentScene.processInput()) {
-				Log.write(LogSource.App, LogPriority.Info, "Current scene ",
-						"requested to stop main loop");
-				break;
-			}
-			Input.update();
-			Audio.update();
-			Network.update();
-			long endTime = System.currentTimeMillis();
-			double elapsed = (double)(endTime - startTime);
-			startTime = endTime;
-			double framesPerMillisecond = (double)TargetUpdatesPerSecond
-					/ 1000.0d;
-			double delta = ((double)elapsed) * framesPerMillisecond;
-			int updates = 0;
-			while (delta > 1.0d && updates < MaximumUpdatesPerFrame - 1) {
-				CurrentScene.timedUpdate(1.0d);
-				delta -= 1.0d;
-				updates++;
-			}
-			CurrentScene.timedUpdate(delta);
-			long remainingMilliseconds = Math.max((long)((1.0d - delta)
-					/ framesPerMillisecond), 0);
-			try {
-				Thread.sleep(remainingMilliseconds);
-			} catch (InterruptedException e) {
-				Log.write(LogSource.App, LogPriority.Warning, "Main ",
-						"application loop interrupted while sleeping");
-			}
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Finished main application ",
-				"loop");
+		Context.run();
 	}
 	/*
 	 * Free the application's memory
 	 * @return boolean - Whether the application was successfully destroyed
 	 */
 	public static boolean Destroy() {
-		if (!Initialized) {
-			return false;
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Destroying Asclepias ",
-				"Framework application");
-		boolean success = true;
-		Log.write(LogSource.App, LogPriority.Info, "Clearing current scene");
-		SetCurrentScene(null);
-		Log.write(LogSource.App, LogPriority.Info, "Destroying all previous ",
-				"scenes");
-		for (int i = 0; i < Scenes.size(); i++) {
-			Scenes.get(i).destroyScene();
-		}
-		Scenes.clear();
-		Scenes = null;
-		Log.write(LogSource.App, LogPriority.Info, "Freeing timing parameters");
-		TargetUpdatesPerSecond = 0;
-		MaximumUpdatesPerFrame = 0;
-		Log.write(LogSource.App, LogPriority.Info, "Destroying network client");
-		if (!Network.destroy()) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to destroy ",
-					"network client");
-			success = false;
-		}
-		Network = null;
-		Log.write(LogSource.App, LogPriority.Info, "Destroying audio ",
-				"management systems");
-		if (!Audio.destroy()) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to destroy ",
-					"audio management systems");
-			success = false;
-		}
-		Audio = null;
-		Log.write(LogSource.App, LogPriority.Info, "Destroying user input ",
-				"management system");
-		if (!Input.destroy()) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to destroy ",
-					"user input management system");
-			success = false;
-		}
-		Input = null;
-		Log.write(LogSource.App, LogPriority.Info, "Destroying window ",
-				"management system");
-		if (!Window.destroy()) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to destroy ",
-					"window management system");
-			success = false;
-		}
-		Window = null;
-		Log.write(LogSource.App, LogPriority.Info, "Destroying logging system");
-		if (!Log.destroy()) {
-			success = false;
-		}
-		Log = null;
-		Initialized = false;
-		return success;
+		return Context.destroy();
 	}
-	
 	/*
 	 * Get the current target number of logic updates per second
 	 * @return int - The current target number of logic updates per second
 	 */
 	public static int GetTargetUpdatesPerSecond() {
-		return TargetUpdatesPerSecond;
+		return Context.getTargetUpdatesPerSecond();
 	}
 	/*
 	 * Set the target number of logic updates per second
@@ -232,7 +87,7 @@ public class App {
 	 * updates per second
 	 */
 	public static void SetTargetUpdatesPerSecond(int targetUpdatesPerSecond) {
-		TargetUpdatesPerSecond = targetUpdatesPerSecond;
+		Context.setTargetUpdatesPerSecond(targetUpdatesPerSecond);
 	}
 	/*
 	 * Get the current maximum number of logic updates per graphics frame
@@ -240,7 +95,7 @@ public class App {
 	 * frame
 	 */
 	public static int GetMaximumUpdatesPerFrame() {
-		return MaximumUpdatesPerFrame;
+		return Context.getMaximumUpdatesPerFrame();
 	}
 	/*
 	 * Set the maximum number of logic updates per graphics frame
@@ -248,14 +103,172 @@ public class App {
 	 * updates per graphics frame
 	 */
 	public static void SetMaximumUpdatesPerFrame(int maximumUpdatesPerFrame) {
-		MaximumUpdatesPerFrame = maximumUpdatesPerFrame;
+		Context.setMaximumUpdatesPerFrame(maximumUpdatesPerFrame);
+	}
+	/*
+	 * Get the number of nanoseconds between logic updates at the current
+	 * target number of logic updates per second
+	 * @return long - The number of nanoseconds per logic update
+	 */
+	public static long GetUpdateNanoseconds() {
+		return Context.getUpdateNanoseconds();
+	}
+	/*
+	 * Get the way the main loop schedules timed updates
+	 * @return TimingMode - The main loop's timing mode
+	 */
+	public static TimingMode GetTimingMode() {
+		return Context.getTimingMode();
+	}
+	/*
+	 * Get the fraction of a logic update elapsed since the last timed update,
+	 * for interpolating between the previous and current state of a scene when
+	 * drawing (always 1 in variable timing mode)
+	 * @return double - The interpolation alpha (0.0 - 1.0)
+	 */
+	public static double GetInterpolationAlpha() {
+		return Context.getInterpolationAlpha();
+	}
+	/*
+	 * Test whether the application runs without a window, user input or audio
+	 * @return boolean - Whether the application is headless
+	 */
+	public static boolean IsHeadless() {
+		return Context.isHeadless();
+	}
+	/*
+	 * Get the number of timed updates performed since the application started
+	 * @return long - The application's tick count
+	 */
+	public static long GetTickCount() {
+		return Context.getTickCount();
+	}
+	/*
+	 * Get the virtual time elapsed in timed updates since the application
+	 * started, which runs ahead of real time in unthrottled headless mode
+	 * @return double - The virtual time elapsed in seconds
+	 */
+	public static double GetVirtualSeconds() {
+		return Context.getVirtualSeconds();
+	}
+	/*
+	 * Get the dedicated render thread drawing scene snapshots
+	 * @return RenderThread - The render thread, or null if pipelined rendering
+	 * is disabled
+	 */
+	public static RenderThread GetRenderThread() {
+		return Context.getRenderThread();
+	}
+	/*
+	 * Get the detector of sustained main loop overrun, for its counters, its
+	 * policy and listening to its events
+	 * @return OverloadGovernor - The main loop's overload governor
+	 */
+	public static OverloadGovernor GetOverloadGovernor() {
+		return Context.getOverloadGovernor();
+	}
+	/*
+	 * Get the recorder of each frame's input and network events
+	 * @return ReplayRecorder - The replay recorder, or null if no replay is
+	 * being recorded
+	 */
+	public static ReplayRecorder GetReplayRecorder() {
+		return Context.getReplayRecorder();
+	}
+	/*
+	 * Get the player feeding recorded events back into the application
+	 * @return ReplayPlayer - The replay player, or null if no replay is being
+	 * played
+	 */
+	public static ReplayPlayer GetReplayPlayer() {
+		return Context.getReplayPlayer();
+	}
+	/*
+	 * Get the timing of each stage of the application's last startup
+	 * @return StartupReport - The startup report, or null if the application
+	 * has never been initialized
+	 */
+	public static StartupReport GetStartupReport() {
+		return Context.getStartupReport();
+	}
+	/*
+	 * Get the per-phase timing profiler of the main loop, for querying the
+	 * recent times of each phase and how often catch-up updates were clamped
+	 * @return FrameProfiler - The main loop's frame profiler
+	 */
+	public static FrameProfiler GetFrameProfiler() {
+		return Context.getFrameProfiler();
+	}
+	/*
+	 * Get the watchdog sampling the main thread during long frames
+	 * @return FrameWatchdog - The frame watchdog, or null if it is disabled
+	 */
+	public static FrameWatchdog GetFrameWatchdog() {
+		return Context.getFrameWatchdog();
+	}
+	/*
+	 * Get the frame pacer the main loop uses to wait for the next frame, for
+	 * tuning its policy and reading how much it oversleeps
+	 * @return FramePacer - The main loop's frame pacer
+	 */
+	public static FramePacer GetFramePacer() {
+		return Context.getFramePacer();
+	}
+	/*
+	 * Replace the frame pacer the main loop uses to wait for the next frame
+	 * @param FramePacer framePacer - The new frame pacer for the main loop
+	 * @return boolean - Whether the frame pacer was replaced successfully
+	 */
+	public static boolean SetFramePacer(FramePacer framePacer) {
+		return Context.setFramePacer(framePacer);
+	}
+	/*
+	 * Run blocking work (file loads, network requests, database access) on a
+	 * virtual thread, with its completion callback called on the main thread
+	 * so it may safely use application state
+	 * @param AsyncTask<T> task - The blocking work to run
+	 * @param AsyncCallback<T> callback - The callback for the work's result,
+	 * or null
+	 * @return boolean - Whether the work was started successfully
+	 */
+	public static <T> boolean RunAsync(AsyncTask<T> task,
+			AsyncCallback<T> callback) {
+		return Context.runAsync(task, callback);
+	}
+	/*
+	 * Queue work to run on the main thread at the end of input processing in
+	 * an upcoming frame, within the per-frame main thread queue budget (safe
+	 * to call from any thread)
+	 * @param Runnable work - The work to run on the main thread
+	 * @return boolean - Whether the work was queued successfully
+	 */
+	public static boolean RunOnMainThread(Runnable work) {
+		return Context.runOnMainThread(work);
+	}
+	/*
+	 * Get the manager of asynchronous tasks and the main thread queue, for
+	 * reading the queue's length and tuning its per-frame budget (kept once
+	 * destroyed, refusing new work with an empty queue)
+	 * @return AsyncManager - The application's asynchronous task manager, or
+	 * null if it was never initialized
+	 */
+	public static AsyncManager GetAsyncManager() {
+		return Context.getAsyncManager();
+	}
+	/*
+	 * Get the bounded cache of initialized scenes, for pinning scenes, evicting
+	 * them early and reporting the memory they hold
+	 * @return SceneCache - The application's scene cache
+	 */
+	public static SceneCache GetSceneCache() {
+		return Context.getSceneCache();
 	}
 	/*
 	 * Get the current scene in the application
 	 * @return AppScene - The application's current scene
 	 */
 	public static AppScene GetCurrentScene() {
-		return CurrentScene;
+		return Context.getCurrentScene();
 	}
 	/*
 	 * Set a new current scene for the application
@@ -263,56 +276,35 @@ public class App {
 	 * @return boolean - Whether the new scene was set successfully
 	 */
 	public static boolean SetCurrentScene(AppScene nextScene) {
-		Log.write(LogSource.App, LogPriority.Info, "Setting new scene");
-		if (CurrentScene != null) {
-			Log.write(LogSource.App, LogPriority.Info, "Leaving current scene");
-			CurrentScene.leave(nextScene);
-			if (!Input.keyboard.removeListener(CurrentScene)) {
-				Log.write(LogSource.App, LogPriority.Warning, "Failed to ",
-						"remove current scene from keyboard input listeners");
-			}
-			if (!Input.mouse.removeListener(CurrentScene)) {
-				Log.write(LogSource.App, LogPriority.Warning, "Failed to ",
-						"remove current scene from mouse input listeners");
-			}
-			if (!Network.removeListener(CurrentScene)) {
-				Log.write(LogSource.App, LogPriority.Warning, "Failed to ",
-						"remove current scene from network listeners");
-			}
-		}
-		if (nextScene == null) {
-			Log.write(LogSource.App, LogPriority.Warning, "No new scene ",
-					"passed to app");
-			CurrentScene = null;
-			return true;
-		}
-		if (!nextScene.isInitialized()) {
-			Log.write(LogSource.App, LogPriority.Info, "Initializing new ",
-					"scene");
-			if (!nextScene.initializeScene()) {
-				Log.write(LogSource.App, LogPriority.Error, "Failed to ",
-						"initialize new scene");
-				CurrentScene = null;
-				return false;
-			}
-		}
-		Log.write(LogSource.App, LogPriority.Info, "Entering new scene");
-		if (!Input.keyboard.addListener(nextScene)) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to add new ",
-					"scene to keyboard input listeners");
-		}
-		if (!Input.mouse.addListener(nextScene)) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to add new ",
-					"scene to mouse input listeners");
-		}
-		if (!Network.addListener(nextScene)) {
-			Log.write(LogSource.App, LogPriority.Warning, "Failed to add new ",
-					"scene to network listeners");
-		}
-		nextScene.enter(CurrentScene);
-		CurrentScene = nextScene;
-		Scenes.add(nextScene);
-		return true;
+		return Context.setCurrentScene(nextScene);
+	}
+	/*
+	 * Initialize a scene on a background thread while the current scene keeps
+	 * running, so it can later be set as the current scene without a hitch
+	 * @param AppScene scene - The scene to preload
+	 * @return boolean - Whether preloading the scene was started successfully
+	 */
+	public static boolean PreloadScene(AppScene scene) {
+		return Context.preloadScene(scene);
+	}
+	/*
+	 * Initialize a scene on a background thread while the current scene keeps
+	 * running, optionally setting it as the current scene once it is ready
+	 * @param AppScene scene - The scene to preload
+	 * @param boolean switchWhenReady - Whether to set the scene as the current
+	 * scene on the main thread once it has loaded
+	 * @return boolean - Whether preloading the scene was started successfully
+	 */
+	public static boolean PreloadScene(AppScene scene,
+			boolean switchWhenReady) {
+		return Context.preloadScene(scene, switchWhenReady);
+	}
+	/*
+	 * Get the application context backing this class's static functions
+	 * @return AppContext - The application's context
+	 */
+	public static AppContext GetContext() {
+		return Context;
 	}
 	
-}
\ No newline at end of file
+}
@@ -38,6 +38,15 @@ public class AppConfig {
 		public boolean fullscreen = false;
 		// The index of the monitor the window should initially appear on
 		public int monitorIndex = 0;
+		// Whether scenes should be drawn from snapshots on a dedicated render
+		// thread while the next logic update runs
+		public boolean pipelinedRendering = false;
+		// Whether frames should be drawn to a canvas and presented through its
+		// buffer strategy each frame instead of by Swing's passive painting
+		public boolean activeRendering = true;
+		// The number of buffers of the canvas's buffer strategy with active
+		// rendering (2 or 3)
+		public int bufferCount = 2;
 		
 	}
 	// Audio management system configuration structures
@@ -74,6 +83,30 @@ public class AppConfig {
 		
 	}
 	
+	// Job system configuration structure
+	public class Jobs {
+		
+		// The number of job worker threads (0 or less to use the number of
+		// available cores)
+		public int workerCount = 0;
+		// The longest work queued to run on the main thread may run for each
+		// frame in microseconds (at least one queued item always runs)
+		public long mainThreadBudgetMicroseconds = 2000L;
+		
+	}
+	
+	// Scene cache configuration structure
+	public class Scenes {
+		
+		// The maximum number of initialized scenes to keep, including the
+		// current scene
+		public int cacheCapacity = 4;
+		// The policy used to choose inactive scenes to destroy
+		public SceneEvictionPolicy evictionPolicy = SceneEvictionPolicy
+				.LEAST_RECENTLY_USED;
+		
+	}
+	
 	// Application timing configuration structure
 	public class Timing {
 		
@@ -81,6 +114,103 @@ public class AppConfig {
 		public int targetUpdatesPerSecond = 60;
 		// The maximum number of logic updates to perform per graphics frame
 		public int maximumUpdatesPerFrame = 8;
+		// The way the main loop schedules timed updates
+		public TimingMode mode = TimingMode.VARIABLE;
+		// The policy the main loop uses to wait for the next frame
+		public FramePacingPolicy pacing = FramePacingPolicy.BALANCED;
+
+	}
+	
+	// Overload governor configuration structure
+	public class Overload {
+		
+		// The way the main loop reacts to sustained overrun
+		public OverloadPolicy policy = OverloadPolicy.DROP_TIME;
+		// The number of consecutive frames with clamped catch-up updates
+		// counted as sustained overrun
+		public int sustainedFrames = 30;
+		// The number of consecutive frames without clamping counted as
+		// recovery
+		public int recoveryFrames = 120;
+		// The lowest time scale the slow motion policy may apply
+		public double minimumTimeScale = 0.25d;
+		// The lowest target number of logic updates per second the reduce
+		// tick rate policy may apply
+		public int minimumUpdatesPerSecond = 20;
+		
+	}
+	
+	// Frame profiling configuration structure
+	public class Profiling {
+		
+		// Whether the main loop should record per-phase frame timings
+		public boolean enabled = true;
+		// The number of recent frames to keep timings of for each phase
+		public int sampleCount = 1024;
+		// The name of a file to write a flight recording of the application
+		// to, using the JDK's default settings and the framework's preset
+		// (null to disable recording)
+		public String flightRecordingFileName = null;
+		
+	}
+	
+	// Long frame watchdog configuration structure
+	public class Watchdog {
+		
+		// Whether a watchdog thread should sample the main thread's stack
+		// during frames running past the threshold (never in unthrottled
+		// headless mode, where frames have no deadline)
+		public boolean enabled = true;
+		// The time a frame must run for before it is sampled in milliseconds
+		public long thresholdMilliseconds = 200L;
+		// The time between stack samples of a long frame in microseconds
+		public long sampleMicroseconds = 1000L;
+		
+	}
+	
+	// Headless run mode configuration structure
+	public class Headless {
+		
+		// Whether the application should run without a window, user input or
+		// audio
+		public boolean enabled = false;
+		// Whether timed updates should be paced at real-time rate rather than
+		// run as fast as possible
+		public boolean realTime = true;
+		// The number of timed updates to run before stopping the main loop (-1
+		// for no limit)
+		public long maximumTicks = -1L;
+		
+	}
+	
+	// Application startup configuration structure
+	public class Startup {
+		
+		// Whether subsystems independent of the window (audio, network, jobs
+		// and asynchronous tasks) should be initialized concurrently with it
+		public boolean parallel = true;
+		
+	}
+	
+	// Replay recording and playback configuration structure
+	public class Replay {
+		
+		// The name of a file to record each frame's input and network events
+		// to (null to disable recording)
+		public String recordFileName = null;
+		// The name of a recorded file to play back instead of live input and
+		// network events (null to disable playback, takes priority over
+		// recording)
+		public String playbackFileName = null;
+		
+	}
+	
+	// Object pooling configuration structure
+	public class Pooling {
+		
+		// Whether the framework's object pools should record where each object
+		// in use was acquired and report unreleased objects at shutdown
+		public boolean leakDetection = false;
 		
 	}
 	
@@ -92,8 +222,26 @@ public class AppConfig {
 	public Audio audio = new Audio();
 	// Instance of the network client configuration structure
 	public Network network = new Network();
+	// Instance of the job system configuration structure
+	public Jobs jobs = new Jobs();
+	// Instance of the scene cache configuration structure
+	public Scenes scenes = new Scenes();
 	// Instance of the application timing configuration structure
 	public Timing timing = new Timing();
+	// Instance of the overload governor configuration structure
+	public Overload overload = new Overload();
+	// Instance of the frame profiling configuration structure
+	public Profiling profiling = new Profiling();
+	// Instance of the long frame watchdog configuration structure
+	public Watchdog watchdog = new Watchdog();
+	// Instance of the headless run mode configuration structure
+	public Headless headless = new Headless();
+	// Instance of the application startup configuration structure
+	public Startup startup = new Startup();
+	// Instance of the replay recording and playback configuration structure
+	public Replay replay = new Replay();
+	// Instance of the object pooling configuration structure
+	public Pooling pooling = new Pooling();
 	// The initial scene for the application
 	public AppScene initialScene = null;
 	
@@ -0,0 +1,1464 @@
+/*
+ * File:		AppContext.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines an instantiable Asclepias Framework application holding
+ * 				its own managers, main loop and scenes
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import com.github.kmacdonald222.asclepiasfw.animation.TweenEngine;
+import com.github.kmacdonald222.asclepiasfw.audio.AudioManager;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.graphics.FrameRenderer;
+import com.github.kmacdonald222.asclepiasfw.graphics.RenderThread;
+import com.github.kmacdonald222.asclepiasfw.graphics.WindowManager;
+import com.github.kmacdonald222.asclepiasfw.input.InputManager;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncCallback;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncManager;
+import com.github.kmacdonald222.asclepiasfw.jobs.AsyncTask;
+import com.github.kmacdonald222.asclepiasfw.jobs.JobSystem;
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.networking.NetClient;
+import com.github.kmacdonald222.asclepiasfw.profiling.FlightRecording;
+import com.github.kmacdonald222.asclepiasfw.pooling.PoolRegistry;
+import com.github.kmacdonald222.asclepiasfw.profiling.FramePhase;
+import com.github.kmacdonald222.asclepiasfw.profiling.FrameProfiler;
+import com.github.kmacdonald222.asclepiasfw.profiling.FrameWatchdog;
+import com.github.kmacdonald222.asclepiasfw.profiling.SceneTransitionEvent;
+import com.github.kmacdonald222.asclepiasfw.replay.ReplayPlayer;
+import com.github.kmacdonald222.asclepiasfw.replay.ReplayRecorder;
+import com.github.kmacdonald222.asclepiasfw.timing.TimerService;
+
+// An application of the Asclepias Framework with its own managers, main loop
+// and scenes, so that one JVM can host many independent headless simulations
+// (the static App class wraps a single context which may open a window)
+public class AppContext {
+	
+	// Instance of the logging system manager
+	private LogManager log = null;
+	// The event bus input and network events are published to
+	private EventBus events = null;
+	// Instance of the window management system
+	private WindowManager window = null;
+	// Instance of the user input management system
+	private InputManager input = null;
+	// Instance of the audio management systems
+	private AudioManager audio = null;
+	// Instance of the client side of the networking system
+	private NetClient network = null;
+	// Instance of the job system
+	private JobSystem jobs = null;
+	// Instance of the tick-driven timer service
+	private TimerService timers = null;
+	// Engine advancing the application's tweens after each timed update
+	private TweenEngine tweens = null;
+	// Registry of the application's object pools
+	private PoolRegistry pools = null;
+	// Manager of virtual-thread asynchronous tasks and the main thread queue
+	private AsyncManager async = null;
+	// The target number of logic updates to perform per second
+	private int targetUpdatesPerSecond = 0;
+	// The maximum number of logic updates to perform per graphics frame
+	private int maximumUpdatesPerFrame = 0;
+	// The way the main loop schedules timed updates
+	private TimingMode mode = TimingMode.VARIABLE;
+	// The fraction of a logic update elapsed since the last timed update, for
+	// interpolating between the previous and current state when drawing
+	private double interpolationAlpha = 0.0d;
+	// The frame pacer used to wait for the next frame
+	private FramePacer pacer = null;
+	// The dedicated render thread drawing scene snapshots (null unless
+	// pipelined rendering is enabled)
+	private RenderThread renderer = null;
+	// Function drawing the current scene to the window's back buffer with
+	// active rendering
+	private FrameRenderer sceneRenderer = this::renderScene;
+	// The detector of sustained main loop overrun and its reactions
+	private OverloadGovernor overload = null;
+	// The per-phase timing profiler of the main loop
+	private FrameProfiler profiler = null;
+	// The watchdog sampling the main thread during long frames (null unless
+	// enabled)
+	private FrameWatchdog watchdog = null;
+	// The flight recording started by the framework (null unless configured)
+	private FlightRecording recording = null;
+	// The timing of each stage of the last startup
+	private StartupReport startup = null;
+	// The recorder of each frame's input and network events (null unless
+	// recording a replay)
+	private ReplayRecorder recorder = null;
+	// The player feeding recorded events back in place of live input and
+	// network events (null unless playing a replay)
+	private ReplayPlayer player = null;
+	// Whether the application runs without a window, user input or audio
+	private boolean headless = false;
+	// Whether a headless application paces timed updates at real-time rate
+	private boolean realTime = true;
+	// The number of timed updates to run before stopping the main loop (-1 for
+	// no limit)
+	private long maximumTicks = -1L;
+	// The number of timed updates performed since the application started
+	private long tickCount = 0L;
+	// The virtual time elapsed in timed updates since the application started
+	// in seconds
+	private double virtualSeconds = 0.0d;
+	// The current scene of the application
+	private AppScene currentScene = null;
+	// Bounded cache of the initialized scenes in the application
+	private SceneCache scenes = null;
+	
+	// Whether this context backs the static App class, which is the only
+	// context allowed to open a window
+	private boolean primary = false;
+	// Whether the application has been initialized
+	private boolean initialized = false;
+	
+	/*
+	 * Construct a new uninitialized application context
+	 */
+	public AppContext() {
+	}
+	/*
+	 * Construct a new uninitialized application context, optionally backing
+	 * the static App class (for use by the App class only)
+	 * @param boolean primary - Whether this context backs the App class
+	 */
+	AppContext(boolean primary) {
+		this.primary = primary;
+	}
+	
+	/*
+	 * Initialize the application with its configuration structure
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the application was successfully initialized
+	 */
+	public boolean initialize(AppConfig config) {
+		if (initialized) {
+			return false;
+		}
+		startup = new StartupReport(config.startup.parallel);
+		log = new LogManager();
+		if (!startup.measure("Logging", () -> log.initialize(
+				config.log.consoleOutputEnabled,
+				config.log.outputFileNames))) {
+			log = null;
+			return false;
+		}
+		publish();
+		log.write(LogSource.App, LogPriority.Info, "Initialized logging ",
+				"system");
+		if (config.profiling.flightRecordingFileName != null) {
+			recording = new FlightRecording();
+			if (!startup.measure("Flight recording", () -> recording
+					.initialize(log, config.profiling
+					.flightRecordingFileName))) {
+				recording = null;
+				log.write(LogSource.App, LogPriority.Warning, "Continuing ",
+						"without flight recording");
+			}
+		}
+		startup.measure("Event bus", () -> {
+			events = new EventBus();
+			return true;
+		});
+		publish();
+		headless = config.headless.enabled;
+		realTime = config.headless.realTime;
+		maximumTicks = config.headless.maximumTicks;
+		if (headless) {
+			log.write(LogSource.App, LogPriority.Info, "Skipping window, user ",
+					"input and audio management systems in headless mode");
+		} else if (!primary) {
+			log.write(LogSource.App, LogPriority.Error, "Only the App ",
+					"class's context can open a window, enable headless mode ",
+					"for other contexts");
+			return failInitialization();
+		}
+		if (!initializeSubsystems(config)) {
+			return failInitialization();
+		}
+		startup.measure("Pools", () -> {
+			initializePools(config);
+			return true;
+		});
+		targetUpdatesPerSecond = config.timing.targetUpdatesPerSecond;
+		maximumUpdatesPerFrame = config.timing.maximumUpdatesPerFrame;
+		mode = config.timing.mode;
+		interpolationAlpha = 0.0d;
+		pacer = new FramePacer(config.timing.pacing);
+		tickCount = 0L;
+		virtualSeconds = 0.0d;
+		startup.measure("Timers", () -> {
+			timers = new TimerService(tickCount);
+			tweens = new TweenEngine();
+			return true;
+		});
+		startup.measure("Overload governor", () -> {
+			overload = new OverloadGovernor(log, config.overload.policy,
+					config.overload.sustainedFrames,
+					config.overload.recoveryFrames,
+					config.overload.minimumTimeScale,
+					config.overload.minimumUpdatesPerSecond);
+			return true;
+		});
+		startup.measure("Profiler", () -> {
+			profiler = new FrameProfiler(config.profiling.enabled,
+					config.profiling.sampleCount);
+			return true;
+		});
+		if (config.watchdog.enabled && headless && !realTime) {
+			log.write(LogSource.App, LogPriority.Info, "Skipping frame ",
+					"watchdog in unthrottled headless mode");
+		} else if (config.watchdog.enabled) {
+			watchdog = new FrameWatchdog();
+			if (!startup.measure("Watchdog", () -> watchdog.initialize(log,
+					config.watchdog.thresholdMilliseconds,
+					config.watchdog.sampleMicroseconds))) {
+				log.write(LogSource.App, LogPriority.Error, "Failed to ",
+						"initialize frame watchdog");
+				return failInitialization();
+			}
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized timing ",
+				"parameters");
+		if (!startup.measure("Replay", () -> initializeReplay(config))) {
+			return failInitialization();
+		}
+		scenes = new SceneCache(log, config.scenes.cacheCapacity,
+				config.scenes.evictionPolicy);
+		publish();
+		if (!startup.measure("Initial scene", () -> setCurrentScene(
+				config.initialScene))) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to set ",
+					"initial scene");
+			return failInitialization();
+		}
+		log.write(LogSource.App, LogPriority.Info, "Set initial scene");
+		startup.finish();
+		startup.writeReport(log);
+		log.write(LogSource.App, LogPriority.Info, "Initialized Asclepias ",
+				"Framework application");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Register the framework's object pools, enabling leak detection for them
+	 * if configured
+	 * @param AppConfig config - The application's configuration structure
+	 */
+	private void initializePools(AppConfig config) {
+		pools = new PoolRegistry();
+		pools.setLeakDetection(config.pooling.leakDetection);
+		if (input != null) {
+			pools.register(input.keyboard.getEventPool());
+			pools.register(input.mouse.getEventPool());
+		}
+		pools.register(network.getEventPool());
+		publish();
+		log.write(LogSource.App, LogPriority.Info, "Registered ",
+				pools.getPoolCount(), " object pools", config.pooling
+				.leakDetection ? " with leak detection" : "");
+	}
+	/*
+	 * Initialize the window, user input, audio, network, job and asynchronous
+	 * task systems, running the window and the systems depending on it on the
+	 * calling thread while the independent systems start on their own threads
+	 * (unless parallel startup is disabled)
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether all systems were initialized successfully
+	 */
+	private boolean initializeSubsystems(AppConfig config) {
+		List<BooleanSupplier> stages = new ArrayList<BooleanSupplier>();
+		if (!headless) {
+			stages.add(() -> startup.measure("Audio", () -> initializeAudio(
+					config)));
+		}
+		stages.add(() -> startup.measure("Network", () -> initializeNetwork(
+				config)));
+		stages.add(() -> startup.measure("Jobs", () -> initializeJobs(
+				config)));
+		stages.add(() -> startup.measure("Async", () -> initializeAsync(
+				config)));
+		if (!config.startup.parallel) {
+			if (!headless && !initializeWindowSystems(config)) {
+				return false;
+			}
+			for (BooleanSupplier stage : stages) {
+				if (!stage.getAsBoolean()) {
+					return false;
+				}
+			}
+			return true;
+		}
+		boolean success = true;
+		List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+		try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+				Thread.ofVirtual().name("Startup-", 0).factory())) {
+			for (BooleanSupplier stage : stages) {
+				results.add(executor.submit(stage::getAsBoolean));
+			}
+			if (!headless && !initializeWindowSystems(config)) {
+				success = false;
+			}
+			for (Future<Boolean> result : results) {
+				try {
+					if (!result.get()) {
+						success = false;
+					}
+				} catch (InterruptedException | ExecutionException e) {
+					log.write(LogSource.App, LogPriority.Error, "Startup ",
+							"stage failed: ", e.getMessage());
+					success = false;
+				}
+			}
+		}
+		publish();
+		return success;
+	}
+	/*
+	 * Initialize the window and the systems depending on it, in order
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the systems were initialized successfully
+	 */
+	private boolean initializeWindowSystems(AppConfig config) {
+		if (!startup.measure("Window", () -> initializeWindow(config))) {
+			return false;
+		}
+		if (!startup.measure("Input", this::initializeInput)) {
+			return false;
+		}
+		if (config.window.pipelinedRendering && !startup.measure(
+				"Render thread", this::initializeRenderer)) {
+			return false;
+		}
+		return true;
+	}
+	/*
+	 * Initialize the window management system and publish it for the systems
+	 * depending on it
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the window was initialized successfully
+	 */
+	private boolean initializeWindow(AppConfig config) {
+		window = new WindowManager();
+		if (!window.initialize(config.window.title, config.window.dimensions,
+				config.window.fullscreen, config.window.monitorIndex,
+				config.window.activeRendering ? config.window.bufferCount : 0)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to ",
+					"initialize window management system");
+			return false;
+		}
+		publish();
+		log.write(LogSource.App, LogPriority.Info, "Initialized window ",
+				"management system");
+		return true;
+	}
+	/*
+	 * Initialize the user input management systems, attached to the window
+	 * @return boolean - Whether user input was initialized successfully
+	 */
+	private boolean initializeInput() {
+		input = new InputManager();
+		if (!input.initialize(events)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to ",
+					"initialize user input management systems");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized user ",
+				"input management systems");
+		return true;
+	}
+	/*
+	 * Initialize the render thread drawing scene snapshots to the window
+	 * @return boolean - Whether the render thread was initialized successfully
+	 */
+	private boolean initializeRenderer() {
+		renderer = new RenderThread();
+		if (!renderer.initialize(window)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to ",
+					"initialize render thread");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized render ",
+				"thread");
+		return true;
+	}
+	/*
+	 * Initialize the audio management systems
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether audio was initialized successfully
+	 */
+	private boolean initializeAudio(AppConfig config) {
+		audio = new AudioManager();
+		if (!audio.initialize(config.audio.soundEffects.volume,
+				config.audio.music.volume)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to ",
+					"initialize audio management systems");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized audio ",
+				"management systems");
+		return true;
+	}
+	/*
+	 * Initialize the client side of the networking system
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the network client was initialized
+	 * successfully
+	 */
+	private boolean initializeNetwork(AppConfig config) {
+		network = new NetClient();
+		if (!network.initialize(log, events,
+				config.network.maxMessagesPerUpdate)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
+					"network client");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized network ",
+				"client");
+		return true;
+	}
+	/*
+	 * Initialize the job system
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the job system was initialized successfully
+	 */
+	private boolean initializeJobs(AppConfig config) {
+		jobs = new JobSystem();
+		if (!jobs.initialize(log, config.jobs.workerCount)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
+					"job system");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized job system");
+		return true;
+	}
+	/*
+	 * Initialize the manager of asynchronous tasks and the main thread queue
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether the asynchronous task manager was initialized
+	 * successfully
+	 */
+	private boolean initializeAsync(AppConfig config) {
+		async = new AsyncManager();
+		if (!async.initialize(log,
+				config.jobs.mainThreadBudgetMicroseconds)) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
+					"asynchronous task manager");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Initialized asynchronous ",
+				"task manager");
+		return true;
+	}
+	/*
+	 * Initialize replay playback or recording if either is configured
+	 * @param AppConfig config - The application's configuration structure
+	 * @return boolean - Whether replays were initialized successfully
+	 */
+	private boolean initializeReplay(AppConfig config) {
+		if (config.replay.playbackFileName != null) {
+			player = new ReplayPlayer();
+			if (!player.initialize(log, events,
+					config.replay.playbackFileName)) {
+				log.write(LogSource.App, LogPriority.Error, "Failed to ",
+						"initialize replay player");
+				return false;
+			}
+			targetUpdatesPerSecond = player.getUpdatesPerSecond();
+			if (!headless) {
+				input.keyboard.setLiveInputEnabled(false);
+				input.mouse.setLiveInputEnabled(false);
+			}
+			network.setLiveNetworkEnabled(false);
+			log.write(LogSource.App, LogPriority.Info, "Initialized replay ",
+					"player");
+		} else if (config.replay.recordFileName != null) {
+			recorder = new ReplayRecorder();
+			if (!recorder.initialize(log, events,
+					config.replay.recordFileName, targetUpdatesPerSecond)) {
+				log.write(LogSource.App, LogPriority.Error, "Failed to ",
+						"initialize replay recorder");
+				return false;
+			}
+			log.write(LogSource.App, LogPriority.Info, "Initialized replay ",
+					"recorder");
+		}
+		return true;
+	}
+	/*
+	 * Run the application's main loop
+	 */
+	public void run() {
+		watchFrames(Thread.currentThread());
+		if (player != null) {
+			log.write(LogSource.App, LogPriority.Info, "Running main ",
+					"application loop from replay");
+			runReplay();
+			watchFrames(null);
+			log.write(LogSource.App, LogPriority.Info, "Finished main ",
+					"application loop after ", tickCount, " timed updates");
+			return;
+		}
+		if (headless && !realTime) {
+			log.write(LogSource.App, LogPriority.Info, "Running main ",
+					"application loop headless and unthrottled");
+			runUnthrottled();
+			watchFrames(null);
+			log.write(LogSource.App, LogPriority.Info, "Finished main ",
+					"application loop after ", tickCount, " timed updates");
+			return;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Running main application ",
+				"loop in ", mode, " timing mode");
+		switch (mode) {
+		case FIXED:
+			runFixed();
+			break;
+		case VARIABLE:
+			runVariable();
+			break;
+		}
+		watchFrames(null);
+		log.write(LogSource.App, LogPriority.Info, "Finished main application ",
+				"loop");
+	}
+	/*
+	 * Run the main loop with legacy millisecond timing, passing the leftover
+	 * fraction of an update to the current scene as a partial delta each frame
+	 */
+	private void runVariable() {
+		long startTime = System.currentTimeMillis();
+		while (isRunning()) {
+			long frameTime = profiler.beginFrame();
+			beginWatchedFrame();
+			if (!processFrame()) {
+				break;
+			}
+			long endTime = System.currentTimeMillis();
+			double elapsed = overload.scaleElapsed((double)(endTime
+					- startTime));
+			startTime = endTime;
+			double framesPerMillisecond = (double)targetUpdatesPerSecond
+					/ 1000.0d;
+			double delta = ((double)elapsed) * framesPerMillisecond;
+			long phaseTime = profiler.begin();
+			int updates = 0;
+			while (delta > 1.0d && updates < maximumUpdatesPerFrame - 1
+					&& isRunning()) {
+				timedUpdate(1.0d);
+				delta -= 1.0d;
+				updates++;
+			}
+			boolean clamped = delta > 1.0d;
+			long dropped = 0L;
+			if (clamped) {
+				profiler.recordClamp();
+				dropped = (long)((delta - 1.0d) / framesPerMillisecond
+						* 1000000.0d);
+				delta = 1.0d;
+			}
+			if (isRunning()) {
+				timedUpdate(delta);
+			}
+			targetUpdatesPerSecond = overload.update(clamped, dropped,
+					targetUpdatesPerSecond);
+			interpolationAlpha = 1.0d;
+			endRecordedFrame();
+			phaseTime = profiler.record(FramePhase.TIMED_UPDATES, phaseTime);
+			phaseTime = publishSnapshot(phaseTime);
+			phaseTime = renderFrame(phaseTime);
+			endWatchedFrame();
+			long remainingNanoseconds = overload.unscaleElapsed(Math.max(
+					(long)((1.0d - delta) / framesPerMillisecond
+					* 1000000.0d), 0L));
+			if (!pacer.waitUntil(System.nanoTime() + remainingNanoseconds)) {
+				log.write(LogSource.App, LogPriority.Warning, "Main ",
+						"application loop interrupted while sleeping");
+			}
+			profiler.record(FramePhase.PACING, phaseTime);
+			profiler.record(FramePhase.FRAME, frameTime);
+		}
+	}
+	/*
+	 * Run the main loop with nanosecond timing, accumulating elapsed time and
+	 * calling timed updates with a delta of exactly one update until less than
+	 * one update's worth of time remains
+	 */
+	private void runFixed() {
+		long previousTime = System.nanoTime();
+		long accumulator = 0L;
+		while (isRunning()) {
+			long frameTime = profiler.beginFrame();
+			beginWatchedFrame();
+			if (!processFrame()) {
+				break;
+			}
+			long updateNanoseconds = getUpdateNanoseconds();
+			long currentTime = System.nanoTime();
+			accumulator += overload.scaleElapsed(currentTime - previousTime);
+			previousTime = currentTime;
+			long phaseTime = profiler.begin();
+			int updates = 0;
+			while (accumulator >= updateNanoseconds
+					&& updates < maximumUpdatesPerFrame && isRunning()) {
+				timedUpdate(1.0d);
+				accumulator -= updateNanoseconds;
+				updates++;
+			}
+			boolean clamped = accumulator >= updateNanoseconds;
+			long dropped = 0L;
+			if (clamped) {
+				profiler.recordClamp();
+				dropped = accumulator - accumulator % updateNanoseconds;
+				accumulator %= updateNanoseconds;
+			}
+			targetUpdatesPerSecond = overload.update(clamped, dropped,
+					targetUpdatesPerSecond);
+			interpolationAlpha = (double)accumulator
+					/ (double)updateNanoseconds;
+			endRecordedFrame();
+			phaseTime = profiler.record(FramePhase.TIMED_UPDATES, phaseTime);
+			phaseTime = publishSnapshot(phaseTime);
+			phaseTime = renderFrame(phaseTime);
+			endWatchedFrame();
+			if (!pacer.waitUntil(currentTime + overload.unscaleElapsed(
+					updateNanoseconds - accumulator))) {
+				log.write(LogSource.App, LogPriority.Warning, "Main ",
+						"application loop interrupted while sleeping");
+			}
+			profiler.record(FramePhase.PACING, phaseTime);
+			profiler.record(FramePhase.FRAME, frameTime);
+		}
+	}
+	/*
+	 * Run the main loop headless as fast as possible, driving one timed update
+	 * per frame from the virtual clock without waiting between frames
+	 */
+	private void runUnthrottled() {
+		while (isRunning()) {
+			long frameTime = profiler.beginFrame();
+			beginWatchedFrame();
+			if (!processFrame()) {
+				break;
+			}
+			long phaseTime = profiler.begin();
+			timedUpdate(1.0d);
+			endRecordedFrame();
+			profiler.record(FramePhase.TIMED_UPDATES, phaseTime);
+			endWatchedFrame();
+			profiler.record(FramePhase.FRAME, frameTime);
+		}
+	}
+	/*
+	 * Run the main loop from a replay, injecting each recorded frame's events
+	 * and performing its recorded timed updates, paced at the recorded frame
+	 * durations unless running headless and unthrottled (a frame's recorded
+	 * tick rate is the one at its end, so it is applied after its updates)
+	 */
+	private void runReplay() {
+		while (isRunning()) {
+			long frameTime = profiler.beginFrame();
+			beginWatchedFrame();
+			if (!processFrame()) {
+				break;
+			}
+			long phaseTime = profiler.begin();
+			if (!player.playFrame(input, network)) {
+				break;
+			}
+			for (int i = 0; i < player.getUpdateCount() && isRunning(); i++) {
+				timedUpdate(player.getUpdate(i));
+			}
+			targetUpdatesPerSecond = player.getUpdatesPerSecond();
+			interpolationAlpha = 1.0d;
+			phaseTime = profiler.record(FramePhase.TIMED_UPDATES, phaseTime);
+			phaseTime = publishSnapshot(phaseTime);
+			phaseTime = renderFrame(phaseTime);
+			endWatchedFrame();
+			if (!headless || realTime) {
+				if (!pacer.waitUntil(frameTime
+						+ player.getFrameNanoseconds())) {
+					log.write(LogSource.App, LogPriority.Warning, "Main ",
+							"application loop interrupted while sleeping");
+				}
+			}
+			profiler.record(FramePhase.PACING, phaseTime);
+			profiler.record(FramePhase.FRAME, frameTime);
+		}
+	}
+	/*
+	 * Test whether the main loop should keep running, either because the window
+	 * is still open or because a headless application has not yet reached its
+	 * tick limit
+	 * @return boolean - Whether the main loop should keep running
+	 */
+	private boolean isRunning() {
+		if (headless) {
+			return maximumTicks < 0L || tickCount < maximumTicks;
+		}
+		return !window.isWindowClosing();
+	}
+	/*
+	 * Publish the current scene's render snapshot to the render thread if
+	 * pipelined rendering is enabled
+	 * @param long phaseTime - The System.nanoTime value the phase started at
+	 * @return long - The System.nanoTime value the next phase starts at
+	 */
+	private long publishSnapshot(long phaseTime) {
+		if (renderer == null || currentScene == null) {
+			return phaseTime;
+		}
+		renderer.publish(currentScene, interpolationAlpha);
+		return profiler.record(FramePhase.SNAPSHOT, phaseTime);
+	}
+	/*
+	 * Draw the current scene to the window's back buffer and show it if active
+	 * rendering is enabled without pipelined rendering
+	 * @param long phaseTime - The System.nanoTime value the phase started at
+	 * @return long - The System.nanoTime value the next phase starts at
+	 */
+	private long renderFrame(long phaseTime) {
+		if (renderer != null || window == null || currentScene == null
+				|| !window.isActiveRendering()) {
+			return phaseTime;
+		}
+		window.present(sceneRenderer);
+		return profiler.record(FramePhase.RENDER, phaseTime);
+	}
+	/*
+	 * Draw the current scene through its render hook
+	 * @param Graphics2D graphics - The graphics context of the back buffer
+	 */
+	private void renderScene(Graphics2D graphics) {
+		currentScene.render(graphics, interpolationAlpha);
+	}
+	/*
+	 * Call the current scene's timed update, advance the virtual clock, fire
+	 * the timers due on the new tick and advance the application's tweens
+	 * @param double delta - The number of logic updates to advance by
+	 */
+	private void timedUpdate(double delta) {
+		if (recorder != null) {
+			recorder.recordUpdate(delta);
+		}
+		currentScene.timedUpdate(delta);
+		tickCount++;
+		timers.advance(tickCount);
+		tweens.update(delta);
+		virtualSeconds += delta / (double)Math.max(targetUpdatesPerSecond, 1);
+	}
+	/*
+	 * Start or stop the frame watchdog watching the main loop, if enabled
+	 * @param Thread target - The thread running the main loop, or null to stop
+	 * watching
+	 */
+	private void watchFrames(Thread target) {
+		if (watchdog != null) {
+			watchdog.watch(target);
+		}
+	}
+	/*
+	 * Mark the start of a frame for the frame watchdog, if enabled
+	 */
+	private void beginWatchedFrame() {
+		if (watchdog != null) {
+			watchdog.begin();
+		}
+	}
+	/*
+	 * Mark the end of the busy part of a frame for the frame watchdog, if
+	 * enabled
+	 */
+	private void endWatchedFrame() {
+		if (watchdog != null) {
+			watchdog.end();
+		}
+	}
+	/*
+	 * Record the end of a frame if a replay is being recorded
+	 */
+	private void endRecordedFrame() {
+		if (recorder != null) {
+			recorder.endFrame(targetUpdatesPerSecond);
+		}
+	}
+	/*
+	 * Process user input to the current scene and update the application's
+	 * systems at the start of a frame
+	 * @return boolean - Whether the main loop should continue running
+	 */
+	private boolean processFrame() {
+		if (currentScene == null) {
+			log.write(LogSource.App, LogPriority.Error, "No current scene ",
+					"available");
+			return false;
+		}
+		long phaseTime = profiler.begin();
+		if (!currentScene.processInput()) {
+			log.write(LogSource.App, LogPriority.Info, "Current scene ",
+					"requested to stop main loop");
+			return false;
+		}
+		phaseTime = profiler.record(FramePhase.SCENE_INPUT, phaseTime);
+		if (!headless) {
+			input.update();
+			phaseTime = profiler.record(FramePhase.INPUT_UPDATE, phaseTime);
+			audio.update();
+			phaseTime = profiler.record(FramePhase.AUDIO_UPDATE, phaseTime);
+		}
+		network.update();
+		phaseTime = profiler.record(FramePhase.NETWORK_UPDATE, phaseTime);
+		async.update();
+		profiler.record(FramePhase.MAIN_THREAD_QUEUE, phaseTime);
+		return true;
+	}
+	/*
+	 * Free the application's memory
+	 * @return boolean - Whether the application was successfully destroyed
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Destroying Asclepias ",
+				"Framework application");
+		boolean success = destroySystems();
+		initialized = false;
+		return success;
+	}
+	/*
+	 * Log a failure to initialize the application and destroy the systems
+	 * started so far, so a failed context leaves no threads or files open
+	 * @return boolean - Always false, for returning from initialize
+	 */
+	private boolean failInitialization() {
+		log.write(LogSource.App, LogPriority.Error, "Failed to initialize ",
+				"Asclepias Framework application, destroying the systems ",
+				"already started");
+		destroySystems();
+		return false;
+	}
+	/*
+	 * Destroy every system which has been created, in the reverse order they
+	 * are initialized, skipping those which were never created
+	 * @return boolean - Whether every created system was destroyed
+	 * successfully
+	 */
+	private boolean destroySystems() {
+		boolean success = true;
+		if (renderer != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying render ",
+					"thread");
+			if (!renderer.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy render thread");
+				success = false;
+			}
+			renderer = null;
+		}
+		if (async != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying ",
+					"asynchronous task manager");
+			if (!async.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy asynchronous task manager");
+				success = false;
+			}
+		}
+		if (scenes != null) {
+			log.write(LogSource.App, LogPriority.Info, "Clearing current ",
+					"scene");
+			setCurrentScene(null);
+			log.write(LogSource.App, LogPriority.Info, "Destroying all ",
+					"cached scenes");
+			scenes.clear();
+			scenes = null;
+		}
+		if (recorder != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying replay ",
+					"recorder");
+			if (!recorder.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"complete replay recording");
+				success = false;
+			}
+			recorder = null;
+		}
+		if (player != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying replay ",
+					"player");
+			player.destroy();
+			player = null;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Freeing timing parameters");
+		targetUpdatesPerSecond = 0;
+		maximumUpdatesPerFrame = 0;
+		mode = TimingMode.VARIABLE;
+		interpolationAlpha = 0.0d;
+		pacer = null;
+		profiler = null;
+		if (watchdog != null) {
+			if (!watchdog.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy frame watchdog");
+				success = false;
+			}
+			watchdog = null;
+		}
+		overload = null;
+		if (timers != null) {
+			timers.clear();
+			timers = null;
+		}
+		if (tweens != null) {
+			tweens.clear();
+			tweens = null;
+		}
+		if (jobs != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying job ",
+					"system");
+			if (!jobs.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy job system");
+				success = false;
+			}
+			jobs = null;
+		}
+		if (network != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying network ",
+					"client");
+			if (!network.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy network client");
+				success = false;
+			}
+			network = null;
+		}
+		if (audio != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying audio ",
+					"management systems");
+			if (!audio.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy audio management systems");
+				success = false;
+			}
+			audio = null;
+		}
+		if (input != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying user input ",
+					"management system");
+			if (!input.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy user input management system");
+				success = false;
+			}
+			input = null;
+		}
+		if (window != null) {
+			log.write(LogSource.App, LogPriority.Info, "Destroying window ",
+					"management system");
+			if (!window.destroy()) {
+				log.write(LogSource.App, LogPriority.Warning, "Failed to ",
+						"destroy window management system");
+				success = false;
+			}
+			window = null;
+		}
+		headless = false;
+		realTime = true;
+		maximumTicks = -1L;
+		tickCount = 0L;
+		virtualSeconds = 0.0d;
+		if (pools != null) {
+			if (pools.isLeakDetectionEnabled()) {
+				pools.writeReport(log);
+			}
+			pools.clear();
+			pools = null;
+		}
+		if (events != null) {
+			log.write(LogSource.App, LogPriority.Info, "Clearing event bus");
+			events.clear();
+			events = null;
+		}
+		if (recording != null) {
+			log.write(LogSource.App, LogPriority.Info, "Stopping flight ",
+					"recording");
+			if (!recording.destroy()) {
+				success = false;
+			}
+			recording = null;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Destroying logging system");
+		if (!log.destroy()) {
+			success = false;
+		}
+		log = null;
+		publish();
+		return success;
+	}
+	/*
+	 * Copy this context's managers to the static App class's fields if this
+	 * context backs it, so managers and scenes using them see the same systems
+	 */
+	private void publish() {
+		if (!primary) {
+			return;
+		}
+		App.Log = log;
+		App.Events = events;
+		App.Window = window;
+		App.Input = input;
+		App.Audio = audio;
+		App.Network = network;
+		App.Jobs = jobs;
+		App.Timers = timers;
+		App.Tweens = tweens;
+		App.Pools = pools;
+	}
+	
+	/*
+	 * Get this context's logging system manager
+	 * @return LogManager - The context's log
+	 */
+	public LogManager getLog() {
+		return log;
+	}
+	/*
+	 * Get this context's event bus, for subscribing to input and network
+	 * events and publishing application events
+	 * @return EventBus - The context's event bus
+	 */
+	public EventBus getEvents() {
+		return events;
+	}
+	/*
+	 * Get this context's window management system
+	 * @return WindowManager - The context's window, or null if headless
+	 */
+	public WindowManager getWindow() {
+		return window;
+	}
+	/*
+	 * Get this context's user input management system
+	 * @return InputManager - The context's user input, or null if headless
+	 */
+	public InputManager getInput() {
+		return input;
+	}
+	/*
+	 * Get this context's audio management systems
+	 * @return AudioManager - The context's audio, or null if headless
+	 */
+	public AudioManager getAudio() {
+		return audio;
+	}
+	/*
+	 * Get the client side of this context's networking system
+	 * @return NetClient - The context's network client
+	 */
+	public NetClient getNetwork() {
+		return network;
+	}
+	/*
+	 * Get this context's job system
+	 * @return JobSystem - The context's job system
+	 */
+	public JobSystem getJobs() {
+		return jobs;
+	}
+	/*
+	 * Get this context's tick-driven timer service
+	 * @return TimerService - The context's timer service
+	 */
+	public TimerService getTimers() {
+		return timers;
+	}
+	/*
+	 * Get this context's tween engine, advanced after each timed update
+	 * @return TweenEngine - The context's tween engine
+	 */
+	public TweenEngine getTweens() {
+		return tweens;
+	}
+	/*
+	 * Get this context's registry of object pools, for registering scene pools
+	 * so they are reported alongside the framework's
+	 * @return PoolRegistry - The context's pool registry
+	 */
+	public PoolRegistry getPools() {
+		return pools;
+	}
+	/*
+	 * Test whether this context has been initialized
+	 * @return boolean - Whether this context has been initialized
+	 */
+	public boolean isInitialized() {
+		return initialized;
+	}
+	
+	/*
+	 * Get the current target number of logic updates per second
+	 * @return int - The current target number of logic updates per second
+	 */
+	public int getTargetUpdatesPerSecond() {
+		return targetUpdatesPerSecond;
+	}
+	/*
+	 * Set the target number of logic updates per second
+	 * @param int targetUpdatesPerSecond - The new target number of logic
+	 * updates per second
+	 */
+	public void setTargetUpdatesPerSecond(int targetUpdatesPerSecond) {
+		this.targetUpdatesPerSecond = targetUpdatesPerSecond;
+	}
+	/*
+	 * Get the current maximum number of logic updates per graphics frame
+	 * @return int - The current maximum number of logic updates per graphics
+	 * frame
+	 */
+	public int getMaximumUpdatesPerFrame() {
+		return maximumUpdatesPerFrame;
+	}
+	/*
+	 * Set the maximum number of logic updates per graphics frame
+	 * @param int maximumUpdatesPerFrame - The new maximum number of logic
+	 * updates per graphics frame
+	 */
+	public void setMaximumUpdatesPerFrame(int maximumUpdatesPerFrame) {
+		this.maximumUpdatesPerFrame = maximumUpdatesPerFrame;
+	}
+	/*
+	 * Get the number of nanoseconds between logic updates at the current
+	 * target number of logic updates per second
+	 * @return long - The number of nanoseconds per logic update
+	 */
+	public long getUpdateNanoseconds() {
+		return 1000000000L / Math.max(targetUpdatesPerSecond, 1);
+	}
+	/*
+	 * Get the way the main loop schedules timed updates
+	 * @return TimingMode - The main loop's timing mode
+	 */
+	public TimingMode getTimingMode() {
+		return mode;
+	}
+	/*
+	 * Get the fraction of a logic update elapsed since the last timed update,
+	 * for interpolating between the previous and current state of a scene when
+	 * drawing (always 1 in variable timing mode)
+	 * @return double - The interpolation alpha (0.0 - 1.0)
+	 */
+	public double getInterpolationAlpha() {
+		return interpolationAlpha;
+	}
+	/*
+	 * Test whether the application runs without a window, user input or audio
+	 * @return boolean - Whether the application is headless
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+	/*
+	 * Get the number of timed updates performed since the application started
+	 * @return long - The application's tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+	/*
+	 * Get the virtual time elapsed in timed updates since the application
+	 * started, which runs ahead of real time in unthrottled headless mode
+	 * @return double - The virtual time elapsed in seconds
+	 */
+	public double getVirtualSeconds() {
+		return virtualSeconds;
+	}
+	/*
+	 * Get the dedicated render thread drawing scene snapshots
+	 * @return RenderThread - The render thread, or null if pipelined rendering
+	 * is disabled
+	 */
+	public RenderThread getRenderThread() {
+		return renderer;
+	}
+	/*
+	 * Get the detector of sustained main loop overrun, for its counters, its
+	 * policy and listening to its events
+	 * @return OverloadGovernor - The main loop's overload governor
+	 */
+	public OverloadGovernor getOverloadGovernor() {
+		return overload;
+	}
+	/*
+	 * Get the recorder of each frame's input and network events
+	 * @return ReplayRecorder - The replay recorder, or null if no replay is
+	 * being recorded
+	 */
+	public ReplayRecorder getReplayRecorder() {
+		return recorder;
+	}
+	/*
+	 * Get the player feeding recorded events back into the application
+	 * @return ReplayPlayer - The replay player, or null if no replay is being
+	 * played
+	 */
+	public ReplayPlayer getReplayPlayer() {
+		return player;
+	}
+	/*
+	 * Get the timing of each stage of the application's last startup
+	 * @return StartupReport - The startup report, or null if the application
+	 * has never been initialized
+	 */
+	public StartupReport getStartupReport() {
+		return startup;
+	}
+	/*
+	 * Get the per-phase timing profiler of the main loop, for querying the
+	 * recent times of each phase and how often catch-up updates were clamped
+	 * @return FrameProfiler - The main loop's frame profiler
+	 */
+	public FrameProfiler getFrameProfiler() {
+		return profiler;
+	}
+	/*
+	 * Get the watchdog sampling the main thread during long frames
+	 * @return FrameWatchdog - The frame watchdog, or null if it is disabled
+	 */
+	public FrameWatchdog getFrameWatchdog() {
+		return watchdog;
+	}
+	/*
+	 * Get the flight recording started by the framework
+	 * @return FlightRecording - The flight recording, or null if none was
+	 * configured
+	 */
+	public FlightRecording getFlightRecording() {
+		return recording;
+	}
+	/*
+	 * Get the frame pacer the main loop uses to wait for the next frame, for
+	 * tuning its policy and reading how much it oversleeps
+	 * @return FramePacer - The main loop's frame pacer
+	 */
+	public FramePacer getFramePacer() {
+		return pacer;
+	}
+	/*
+	 * Replace the frame pacer the main loop uses to wait for the next frame
+	 * @param FramePacer framePacer - The new frame pacer for the main loop
+	 * @return boolean - Whether the frame pacer was replaced successfully
+	 */
+	public boolean setFramePacer(FramePacer framePacer) {
+		if (framePacer == null) {
+			return false;
+		}
+		pacer = framePacer;
+		return true;
+	}
+	/*
+	 * Run blocking work (file loads, network requests, database access) on a
+	 * virtual thread, with its completion callback called on the main thread
+	 * so it may safely use application state
+	 * @param AsyncTask<T> task - The blocking work to run
+	 * @param AsyncCallback<T> callback - The callback for the work's result,
+	 * or null
+	 * @return boolean - Whether the work was started successfully
+	 */
+	public <T> boolean runAsync(AsyncTask<T> task,
+			AsyncCallback<T> callback) {
+		if (async == null || task == null) {
+			return false;
+		}
+		return async.runAsync(task, callback);
+	}
+	/*
+	 * Queue work to run on the main thread at the end of input processing in
+	 * an upcoming frame, within the per-frame main thread queue budget (safe
+	 * to call from any thread)
+	 * @param Runnable work - The work to run on the main thread
+	 * @return boolean - Whether the work was queued successfully
+	 */
+	public boolean runOnMainThread(Runnable work) {
+		if (async == null) {
+			return false;
+		}
+		return async.runOnMainThread(work);
+	}
+	/*
+	 * Get the manager of asynchronous tasks and the main thread queue, for
+	 * reading the queue's length and tuning its per-frame budget (kept once
+	 * destroyed, refusing new work with an empty queue)
+	 * @return AsyncManager - The application's asynchronous task manager, or
+	 * null if it was never initialized
+	 */
+	public AsyncManager getAsyncManager() {
+		return async;
+	}
+	/*
+	 * Get the bounded cache of initialized scenes, for pinning scenes, evicting
+	 * them early and reporting the memory they hold
+	 * @return SceneCache - The application's scene cache
+	 */
+	public SceneCache getSceneCache() {
+		return scenes;
+	}
+	/*
+	 * Get the current scene in the application
+	 * @return AppScene - The application's current scene
+	 */
+	public AppScene getCurrentScene() {
+		return currentScene;
+	}
+	/*
+	 * Set a new current scene for the application, recording the transition
+	 * if the flight recorder is recording scene transitions
+	 * @param AppScene nextScene - The new scene for the application
+	 * @return boolean - Whether the new scene was set successfully
+	 */
+	public boolean setCurrentScene(AppScene nextScene) {
+		if (!FlightRecording.IsRecorderRunning()) {
+			return transitionScene(nextScene);
+		}
+		SceneTransitionEvent event = new SceneTransitionEvent();
+		if (!event.isEnabled()) {
+			return transitionScene(nextScene);
+		}
+		event.begin();
+		event.previousScene = SceneTransitionEvent.GetSceneName(currentScene);
+		event.nextScene = SceneTransitionEvent.GetSceneName(nextScene);
+		event.initializedScene = nextScene != null
+				&& !nextScene.isInitialized();
+		event.success = transitionScene(nextScene);
+		event.commit();
+		return event.success;
+	}
+	/*
+	 * Leave the current scene and enter a new one, initializing it if it has
+	 * not been preloaded
+	 * @param AppScene nextScene - The new scene for the application
+	 * @return boolean - Whether the new scene was set successfully
+	 */
+	private boolean transitionScene(AppScene nextScene) {
+		log.write(LogSource.App, LogPriority.Info, "Setting new scene");
+		if (nextScene != null && nextScene.isLoading()) {
+			log.write(LogSource.App, LogPriority.Warning, "New scene is ",
+					"still loading, keeping current scene");
+			return false;
+		}
+		if (currentScene != null) {
+			log.write(LogSource.App, LogPriority.Info, "Leaving current scene");
+			currentScene.leave(nextScene);
+			currentScene.unsubscribeEvents(events);
+			overload.removeListener(currentScene);
+		}
+		if (nextScene == null) {
+			log.write(LogSource.App, LogPriority.Warning, "No new scene ",
+					"passed to app");
+			currentScene = null;
+			return true;
+		}
+		if (!nextScene.isInitialized()) {
+			log.write(LogSource.App, LogPriority.Info, "Initializing new ",
+					"scene");
+			nextScene.setContext(this);
+			if (!nextScene.initializeScene()) {
+				log.write(LogSource.App, LogPriority.Error, "Failed to ",
+						"initialize new scene");
+				currentScene = null;
+				return false;
+			}
+		}
+		log.write(LogSource.App, LogPriority.Info, "Entering new scene");
+		nextScene.setContext(this);
+		nextScene.subscribeEvents(events);
+		overload.addListener(nextScene);
+		nextScene.enter(currentScene);
+		currentScene = nextScene;
+		scenes.touch(nextScene);
+		scenes.evict(currentScene);
+		return true;
+	}
+	/*
+	 * Initialize a scene on a background thread while the current scene keeps
+	 * running, so it can later be set as the current scene without a hitch
+	 * @param AppScene scene - The scene to preload
+	 * @return boolean - Whether preloading the scene was started successfully
+	 */
+	public boolean preloadScene(AppScene scene) {
+		return preloadScene(scene, false);
+	}
+	/*
+	 * Initialize a scene on a background thread while the current scene keeps
+	 * running, optionally setting it as the current scene once it is ready
+	 * @param AppScene scene - The scene to preload
+	 * @param boolean switchWhenReady - Whether to set the scene as the current
+	 * scene on the main thread once it has loaded
+	 * @return boolean - Whether preloading the scene was started successfully
+	 */
+	public boolean preloadScene(AppScene scene,
+			boolean switchWhenReady) {
+		if (scene == null) {
+			return false;
+		}
+		if (!scene.beginLoading()) {
+			log.write(LogSource.App, LogPriority.Warning, "Scene is already ",
+					"loading or initialized");
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Preloading scene");
+		scene.setContext(this);
+		scenes.touch(scene);
+		boolean started = runAsync(() -> scene.finishLoading(),
+				new AsyncCallback<Boolean>() {
+			@Override
+			public void asyncCompleted(Boolean loaded) {
+				if (!loaded) {
+					preloadFailed(scene, "scene failed to initialize");
+					return;
+				}
+				log.write(LogSource.App, LogPriority.Info, "Preloaded scene");
+				if (switchWhenReady) {
+					setCurrentScene(scene);
+				}
+			}
+			@Override
+			public void asyncFailed(Throwable error) {
+				preloadFailed(scene, error);
+			}
+		});
+		if (!started) {
+			log.write(LogSource.App, LogPriority.Warning, "Failed to start ",
+					"preloading scene");
+			scene.cancelLoading();
+		}
+		return started;
+	}
+	
+	/*
+	 * Log a scene which failed to preload and drop it from the scene cache
+	 * @param AppScene scene - The scene which failed to preload
+	 * @param Object reason - The error or description of why it failed
+	 */
+	private void preloadFailed(AppScene scene, Object reason) {
+		log.write(LogSource.App, LogPriority.Error, "Failed to preload ",
+				"scene: ", reason);
+		scenes.remove(scene);
+	}
+	
+}
\ No newline at end of file
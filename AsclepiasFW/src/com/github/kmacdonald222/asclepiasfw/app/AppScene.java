@@ -8,39 +8,113 @@
 
 package com.github.kmacdonald222.asclepiasfw.app;
 
+import java.awt.Graphics2D;
+
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventHandler;
+import com.github.kmacdonald222.asclepiasfw.graphics.RenderSnapshot;
+import com.github.kmacdonald222.asclepiasfw.input.KeyboardInputEvent;
 import com.github.kmacdonald222.asclepiasfw.input.KeyboardListener;
+import com.github.kmacdonald222.asclepiasfw.input.MouseInputEvent;
 import com.github.kmacdonald222.asclepiasfw.input.MouseListener;
+import com.github.kmacdonald222.asclepiasfw.networking.NetEvent;
 import com.github.kmacdonald222.asclepiasfw.networking.NetListener;
 
-//An abstract scene for the Asclepias Framework application
+// An abstract scene for the Asclepias Framework application, subscribed to the
+// event bus while current so its listener callbacks receive input and network
+// events (scenes may instead subscribe their own handlers to the event bus)
 public abstract class AppScene implements KeyboardListener, MouseListener,
-		NetListener {
+		NetListener, OverloadListener {
 	
+	// The application context running this scene
+	private volatile AppContext context = null;
 	// Whether this scene has been initialized
-	private boolean initialized = false;
+	private volatile boolean initialized = false;
+	// The loading state of this scene
+	private volatile SceneLoadState loadState = SceneLoadState.UNLOADED;
+	// The fraction of this scene's initialize completed, reported by the scene
+	private volatile double loadProgress = 0.0d;
+	// Handler forwarding keyboard input events to this scene's callbacks
+	private final EventHandler<KeyboardInputEvent> keyboardHandler =
+			this::handleKeyboardEvent;
+	// Handler forwarding mouse input events to this scene's callbacks
+	private final EventHandler<MouseInputEvent> mouseHandler =
+			this::handleMouseEvent;
+	// Handler forwarding network events to this scene's callbacks
+	private final EventHandler<NetEvent> netHandler = this::handleNetEvent;
 	
 	/*
 	 * Call initialize and flag this scene as initialized
 	 * @return boolean - Whether the scene was initialized successfully
 	 */
 	public boolean initializeScene() {
-		if (initialized) {
+		if (!beginLoading()) {
 			return false;
 		}
-		initialized = initialize();
-		return initialized;
+		return finishLoading();
 	}
 	/*
 	 * Call destroy and flag this scene as not initialized
 	 * @return boolean - Whether the scene was destroyed successfully
 	 */
 	public boolean destroyScene() {
-		if (!initialized) {
+		if (!initialized || loadState == SceneLoadState.LOADING) {
 			return false;
 		}
 		initialized = false;
+		loadState = SceneLoadState.UNLOADED;
+		loadProgress = 0.0d;
 		return destroy();
 	}
+	/*
+	 * Flag this scene as loading before its initialize is called, possibly on
+	 * another thread
+	 * @return boolean - Whether the scene may be loaded
+	 */
+	boolean beginLoading() {
+		if (initialized || loadState == SceneLoadState.LOADING) {
+			return false;
+		}
+		loadProgress = 0.0d;
+		loadState = SceneLoadState.LOADING;
+		return true;
+	}
+	/*
+	 * Call initialize on a scene flagged as loading and flag it as ready or
+	 * failed, including if initialize throws
+	 * @return boolean - Whether the scene was initialized successfully
+	 */
+	boolean finishLoading() {
+		if (loadState != SceneLoadState.LOADING) {
+			return false;
+		}
+		// A throwing initialize still leaves the scene failed rather than
+		// loading forever before the error reaches the caller
+		boolean loaded = false;
+		try {
+			loaded = initialize();
+		} finally {
+			initialized = loaded;
+			if (loaded) {
+				loadProgress = 1.0d;
+				loadState = SceneLoadState.READY;
+			} else {
+				loadProgress = 0.0d;
+				loadState = SceneLoadState.FAILED;
+			}
+		}
+		return initialized;
+	}
+	/*
+	 * Return a scene flagged as loading to the unloaded state without calling
+	 * initialize
+	 */
+	void cancelLoading() {
+		if (loadState == SceneLoadState.LOADING) {
+			loadProgress = 0.0d;
+			loadState = SceneLoadState.UNLOADED;
+		}
+	}
 	/*
 	 * Initialize this scene's memory
 	 * @return boolean - Whether the scene was initialized successfully
@@ -62,6 +136,145 @@ public abstract class AppScene implements KeyboardListener, MouseListener,
 	 * the last timed update
 	 */
 	public abstract void timedUpdate(double delta);
+	/*
+	 * Copy this scene's drawable state into a snapshot for the render thread
+	 * after its timed updates (pipelined rendering only)
+	 * @param RenderSnapshot recycled - A snapshot previously produced by this
+	 * scene which the render thread has finished with and may be overwritten,
+	 * or null
+	 * @return RenderSnapshot - The snapshot to draw, or null to skip the frame
+	 */
+	public RenderSnapshot produceSnapshot(RenderSnapshot recycled) {
+		return null;
+	}
+	/*
+	 * Draw a snapshot produced by this scene, called on the render thread while
+	 * the logic thread may be running the next timed update so only the
+	 * snapshot should be read (pipelined rendering only)
+	 * @param RenderSnapshot snapshot - The snapshot to draw
+	 * @param Graphics2D graphics - The graphics context of the frame to draw to
+	 * @param double alpha - The interpolation alpha when the snapshot was
+	 * produced
+	 */
+	public void consumeSnapshot(RenderSnapshot snapshot, Graphics2D graphics,
+			double alpha) {
+	}
+	/*
+	 * Draw this scene to the window's back buffer, called on the main thread
+	 * once per frame after its timed updates and again if the buffer's
+	 * contents were lost before it could be shown (active rendering without
+	 * pipelined rendering only)
+	 * @param Graphics2D graphics - The graphics context of the back buffer,
+	 * already cleared to black
+	 * @param double alpha - The current interpolation alpha
+	 */
+	public void render(Graphics2D graphics, double alpha) {
+	}
+	/*
+	 * Estimate the memory held by this scene's resources for scene cache
+	 * reports, overridden by scenes which can measure their own assets
+	 * @return long - The estimated memory in bytes, or -1 if unknown
+	 */
+	public long estimateMemoryUsage() {
+		return -1L;
+	}
+	/*
+	 * Get the priority this scene's callbacks are subscribed to the event bus
+	 * with, overridden by scenes which should receive events before or after
+	 * other subscribers such as overlays
+	 * @return int - The scene's event priority, higher priorities receive
+	 * events first
+	 */
+	public int getEventPriority() {
+		return 0;
+	}
+	/*
+	 * Subscribe this scene's callbacks to the event bus when it becomes the
+	 * current scene (for use by the AppContext class only)
+	 * @param EventBus events - The application's event bus
+	 */
+	void subscribeEvents(EventBus events) {
+		int priority = getEventPriority();
+		events.subscribe(KeyboardInputEvent.class, keyboardHandler, priority);
+		events.subscribe(MouseInputEvent.class, mouseHandler, priority);
+		events.subscribe(NetEvent.class, netHandler, priority);
+	}
+	/*
+	 * Unsubscribe this scene's callbacks from the event bus when it stops
+	 * being the current scene (for use by the AppContext class only)
+	 * @param EventBus events - The application's event bus
+	 */
+	void unsubscribeEvents(EventBus events) {
+		events.unsubscribe(KeyboardInputEvent.class, keyboardHandler);
+		events.unsubscribe(MouseInputEvent.class, mouseHandler);
+		events.unsubscribe(NetEvent.class, netHandler);
+	}
+	/*
+	 * Forward a keyboard input event to this scene's keyboard callbacks
+	 * @param KeyboardInputEvent event - The event published
+	 * @return boolean - Always false, leaving the event to lower priorities
+	 */
+	private boolean handleKeyboardEvent(KeyboardInputEvent event) {
+		switch (event.getType()) {
+		case KEY_PRESSED:
+			keyboardKeyPressed(event.getKey());
+			break;
+		case KEY_RELEASED:
+			keyboardKeyReleased(event.getKey());
+			break;
+		case CHARACTER_TYPED:
+			characterTyped(event.getCharacter());
+			break;
+		}
+		return false;
+	}
+	/*
+	 * Forward a mouse input event to this scene's mouse callbacks
+	 * @param MouseInputEvent event - The event published
+	 * @return boolean - Always false, leaving the event to lower priorities
+	 */
+	private boolean handleMouseEvent(MouseInputEvent event) {
+		switch (event.getType()) {
+		case BUTTON_PRESSED:
+			mouseButtonPressed(event.getButton());
+			break;
+		case BUTTON_RELEASED:
+			mouseButtonReleased(event.getButton());
+			break;
+		case SCROLL_WHEEL_MOVED:
+			mouseScrollWheelMoved(event.getScrollDistance(),
+					event.getPreviousScrollDistance());
+			break;
+		case CURSOR_MOVED:
+			mouseCursorMoved(event.getCursorPosition(),
+					event.getPreviousCursorPosition());
+			break;
+		}
+		return false;
+	}
+	/*
+	 * Forward a network event to this scene's network callbacks
+	 * @param NetEvent event - The event published
+	 * @return boolean - Whether the scene rejected a connection, consuming
+	 * the event
+	 */
+	private boolean handleNetEvent(NetEvent event) {
+		switch (event.getType()) {
+		case CONNECTED:
+			if (!netConnected(event.getID())) {
+				event.reject();
+				return true;
+			}
+			break;
+		case MESSAGE_RECEIVED:
+			netMessageReceived(event.getMessage());
+			break;
+		case DISCONNECTED:
+			netDisconnected(event.getID());
+			break;
+		}
+		return false;
+	}
 	/*
 	 * Leave this scene for another in the application
 	 * @param AppScene nextScene - The next scene for the application
@@ -80,5 +293,52 @@ public abstract class AppScene implements KeyboardListener, MouseListener,
 	public boolean isInitialized() {
 		return initialized;
 	}
+	/*
+	 * Get the application context running this scene, for scenes run by
+	 * contexts other than the static App class's
+	 * @return AppContext - The context this scene was last set or preloaded
+	 * in, or null
+	 */
+	public AppContext getContext() {
+		return context;
+	}
+	/*
+	 * Set the application context running this scene (for use by the
+	 * AppContext class only)
+	 * @param AppContext context - The context running this scene
+	 */
+	void setContext(AppContext context) {
+		this.context = context;
+	}
+	/*
+	 * Test whether this scene's initialize is running
+	 * @return boolean - Whether this scene is loading
+	 */
+	public boolean isLoading() {
+		return loadState == SceneLoadState.LOADING;
+	}
+	/*
+	 * Get the loading state of this scene
+	 * @return SceneLoadState - This scene's loading state
+	 */
+	public SceneLoadState getLoadState() {
+		return loadState;
+	}
+	/*
+	 * Get the fraction of this scene's initialize completed, as last reported
+	 * by the scene (safe to call from any thread)
+	 * @return double - This scene's load progress from 0 to 1
+	 */
+	public double getLoadProgress() {
+		return loadProgress;
+	}
+	/*
+	 * Report the fraction of this scene's initialize completed, called from
+	 * initialize so loading screens can show progress while preloading
+	 * @param double progress - The load progress from 0 to 1
+	 */
+	protected void setLoadProgress(double progress) {
+		loadProgress = Math.min(Math.max(progress, 0.0d), 1.0d);
+	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * File:		FramePacer.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the hybrid sleep/spin frame pacer used by the main
+ * 				application loop to wait for the next frame
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+import java.util.concurrent.locks.LockSupport;
+
+// Hybrid sleep/spin frame pacer which parks the main thread for the coarse part
+// of a wait and spins for the calibrated remainder
+public class FramePacer {
+	
+	// The smallest margin to spin for before a deadline in nanoseconds
+	private static final long MinimumSpinNanoseconds = 50000L;
+	// The largest margin to spin for before a deadline in nanoseconds
+	private static final long MaximumSpinNanoseconds = 4000000L;
+	// The smallest margin to spin for in low latency mode in nanoseconds
+	private static final long LowLatencySpinNanoseconds = 2000000L;
+	// The weight of a new park oversleep sample in its running average
+	private static final double CalibrationWeight = 0.1d;
+	
+	// The policy this frame pacer uses to wait for deadlines
+	private FramePacingPolicy policy = FramePacingPolicy.BALANCED;
+	// Running average of how long parking the thread oversleeps its requested
+	// time by in nanoseconds
+	private double parkOversleep = 0.0d;
+	// How long the last wait overslept its deadline by in nanoseconds
+	private long lastOversleep = 0L;
+	// Running average of how long waits oversleep their deadlines by in
+	// nanoseconds
+	private double averageOversleep = 0.0d;
+	// The longest any wait has overslept its deadline by in nanoseconds
+	private long maximumOversleep = 0L;
+	// The number of waits this frame pacer has performed
+	private long waitCount = 0L;
+	
+	/*
+	 * Construct a frame pacer with a pacing policy
+	 * @param FramePacingPolicy policy - The policy to wait for deadlines with
+	 */
+	public FramePacer(FramePacingPolicy policy) {
+		if (policy != null) {
+			this.policy = policy;
+		}
+		parkOversleep = (double)MinimumSpinNanoseconds;
+	}
+	
+	/*
+	 * Wait until System.nanoTime reaches a deadline
+	 * @param long deadline - The System.nanoTime value to wait for
+	 * @return boolean - Whether the wait finished without the thread being
+	 * interrupted
+	 */
+	public boolean waitUntil(long deadline) {
+		long spinNanoseconds = getSpinNanoseconds();
+		long remaining = deadline - System.nanoTime();
+		while (remaining > spinNanoseconds) {
+			long requested = remaining - spinNanoseconds;
+			long parkStart = System.nanoTime();
+			LockSupport.parkNanos(requested);
+			long parkEnd = System.nanoTime();
+			if (Thread.interrupted()) {
+				return false;
+			}
+			calibrate((parkEnd - parkStart) - requested);
+			remaining = deadline - parkEnd;
+		}
+		while (remaining > 0L) {
+			Thread.onSpinWait();
+			remaining = deadline - System.nanoTime();
+		}
+		recordOversleep(-remaining);
+		return true;
+	}
+	/*
+	 * Clear the oversleep statistics reported by this frame pacer
+	 */
+	public void resetStatistics() {
+		lastOversleep = 0L;
+		averageOversleep = 0.0d;
+		maximumOversleep = 0L;
+		waitCount = 0L;
+	}
+	/*
+	 * Get how long to spin for at the end of a wait under this frame pacer's
+	 * policy
+	 * @return long - The spin margin in nanoseconds
+	 */
+	protected long getSpinNanoseconds() {
+		switch (policy) {
+		case POWER_SAVING:
+			return 0L;
+		case LOW_LATENCY:
+			return Math.max(LowLatencySpinNanoseconds,
+					4L * getParkOversleep());
+		default:
+			return Math.min(Math.max(2L * getParkOversleep(),
+					MinimumSpinNanoseconds), MaximumSpinNanoseconds);
+		}
+	}
+	/*
+	 * Fold a new sample of how long parking oversleeps into its running average
+	 * @param long oversleep - How long a park call overslept in nanoseconds
+	 */
+	private void calibrate(long oversleep) {
+		if (oversleep < 0L) {
+			oversleep = 0L;
+		}
+		parkOversleep += ((double)oversleep - parkOversleep)
+				* CalibrationWeight;
+	}
+	/*
+	 * Record how long a wait overslept its deadline by
+	 * @param long oversleep - How long the wait overslept in nanoseconds
+	 */
+	private void recordOversleep(long oversleep) {
+		lastOversleep = oversleep;
+		waitCount++;
+		averageOversleep += ((double)oversleep - averageOversleep)
+				/ (double)Math.min(waitCount, 1000L);
+		maximumOversleep = Math.max(maximumOversleep, oversleep);
+	}
+	
+	/*
+	 * Get the policy this frame pacer uses to wait for deadlines
+	 * @return FramePacingPolicy - This frame pacer's policy
+	 */
+	public FramePacingPolicy getPolicy() {
+		return policy;
+	}
+	/*
+	 * Set the policy this frame pacer uses to wait for deadlines
+	 * @param FramePacingPolicy policy - This frame pacer's new policy
+	 */
+	public void setPolicy(FramePacingPolicy policy) {
+		if (policy == null) {
+			policy = FramePacingPolicy.BALANCED;
+		}
+		this.policy = policy;
+	}
+	/*
+	 * Get the calibrated estimate of how long parking the thread oversleeps its
+	 * requested time by on this machine
+	 * @return long - The park oversleep estimate in nanoseconds
+	 */
+	public long getParkOversleep() {
+		return (long)parkOversleep;
+	}
+	/*
+	 * Get how long the last wait overslept its deadline by
+	 * @return long - The last oversleep in nanoseconds
+	 */
+	public long getLastOversleep() {
+		return lastOversleep;
+	}
+	/*
+	 * Get the running average of how long waits oversleep their deadlines by
+	 * @return long - The average oversleep in nanoseconds
+	 */
+	public long getAverageOversleep() {
+		return (long)averageOversleep;
+	}
+	/*
+	 * Get the longest any wait has overslept its deadline by since the
+	 * statistics were last reset
+	 * @return long - The maximum oversleep in nanoseconds
+	 */
+	public long getMaximumOversleep() {
+		return maximumOversleep;
+	}
+	/*
+	 * Get the number of waits performed since the statistics were last reset
+	 * @return long - The number of waits
+	 */
+	public long getWaitCount() {
+		return waitCount;
+	}
+	
+}
@@ -0,0 +1,43 @@
+/*
+ * File:		FramePacingPolicy.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the policies the frame pacer can use to wait out the
+ * 				remainder of a frame
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Enumeration of the ways the frame pacer can wait for the next frame
+public enum FramePacingPolicy {
+	
+	// Park the main thread for the whole remaining time, never spinning
+	POWER_SAVING("Power Saving"),
+	// Park the main thread until shortly before the deadline, then spin for
+	// the calibrated margin the operating system tends to oversleep by
+	BALANCED("Balanced"),
+	// Only park the main thread for long waits with a wide margin and spin for
+	// the rest of the remaining time
+	LOW_LATENCY("Low Latency");
+	
+	// The name of this frame pacing policy
+	private String name = "";
+	
+	/*
+	 * Construct a new frame pacing policy with a name
+	 * @param String name - The name of this frame pacing policy
+	 */
+	private FramePacingPolicy(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this frame pacing policy to its name to represent as a string
+	 * @return String - The string representation of this frame pacing policy
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
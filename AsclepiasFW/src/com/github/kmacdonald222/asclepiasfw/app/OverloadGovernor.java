@@ -0,0 +1,357 @@
+/*
+ * File:		OverloadGovernor.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the detector of sustained main loop overrun and its
+ * 				reactions
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Governor detecting when the main loop has had to clamp its catch-up updates
+// for a sustained number of frames, applying an overload policy and
+// publishing events and counters about it
+public class OverloadGovernor {
+	
+	// The factor the time scale or tick rate is multiplied by each time the
+	// policy degrades them
+	private static final double DegradeFactor = 0.75d;
+	
+	// The log for the governor to write messages to
+	private LogManager log = null;
+	// The way the governor reacts to sustained overrun
+	private OverloadPolicy policy = OverloadPolicy.DROP_TIME;
+	// The number of consecutive clamped frames counted as sustained overrun
+	private int sustainedFrames = 0;
+	// The number of consecutive frames without clamping counted as recovery
+	private int recoveryFrames = 0;
+	// The lowest time scale the slow motion policy may apply
+	private double minimumTimeScale = 0.0d;
+	// The lowest target number of logic updates per second the reduce tick
+	// rate policy may apply
+	private int minimumUpdatesPerSecond = 0;
+	// The set of listeners for the governor to publish overload events to,
+	// copied on write so listeners may be added or removed mid-publish
+	private List<OverloadListener> listeners = null;
+	// Whether the main loop is currently overloaded
+	private boolean overloaded = false;
+	// The number of consecutive clamped frames
+	private int clampedStreak = 0;
+	// The number of consecutive frames without clamping
+	private int unclampedStreak = 0;
+	// The factor elapsed time is multiplied by before it is accumulated
+	private double timeScale = 1.0d;
+	// The target number of logic updates per second chosen by the governor
+	// for the next frame
+	private int updatesPerSecond = 0;
+	// The target number of logic updates per second to restore once the main
+	// loop recovers (0 if the tick rate has not been reduced)
+	private int restoredUpdatesPerSecond = 0;
+	// The number of frames whose catch-up updates were clamped
+	private long clampedFrameCount = 0L;
+	// The number of frames spent overloaded
+	private long overloadedFrameCount = 0L;
+	// The number of times the main loop has become overloaded
+	private long overloadCount = 0L;
+	// The total elapsed time discarded by clamping in nanoseconds
+	private long droppedNanoseconds = 0L;
+	
+	/*
+	 * Construct a new overload governor
+	 * @param LogManager log - Copy of a log for the governor to write messages
+	 * to
+	 * @param OverloadPolicy policy - The way the governor reacts to sustained
+	 * overrun
+	 * @param int sustainedFrames - The number of consecutive clamped frames
+	 * counted as sustained overrun
+	 * @param int recoveryFrames - The number of consecutive frames without
+	 * clamping counted as recovery
+	 * @param double minimumTimeScale - The lowest time scale the slow motion
+	 * policy may apply
+	 * @param int minimumUpdatesPerSecond - The lowest target number of logic
+	 * updates per second the reduce tick rate policy may apply
+	 */
+	public OverloadGovernor(LogManager log, OverloadPolicy policy,
+			int sustainedFrames, int recoveryFrames, double minimumTimeScale,
+			int minimumUpdatesPerSecond) {
+		this.log = log;
+		this.policy = policy == null ? OverloadPolicy.DROP_TIME : policy;
+		this.sustainedFrames = Math.max(sustainedFrames, 1);
+		this.recoveryFrames = Math.max(recoveryFrames, 1);
+		this.minimumTimeScale = Math.min(Math.max(minimumTimeScale, 0.01d),
+				1.0d);
+		this.minimumUpdatesPerSecond = Math.max(minimumUpdatesPerSecond, 1);
+		listeners = new CopyOnWriteArrayList<OverloadListener>();
+	}
+	
+	/*
+	 * Scale time elapsed in a frame by the current time scale
+	 * @param long elapsed - The elapsed time
+	 * @return long - The elapsed time to accumulate
+	 */
+	public long scaleElapsed(long elapsed) {
+		if (timeScale == 1.0d) {
+			return elapsed;
+		}
+		return (long)((double)elapsed * timeScale);
+	}
+	/*
+	 * Scale time elapsed in a frame by the current time scale
+	 * @param double elapsed - The elapsed time
+	 * @return double - The elapsed time to accumulate
+	 */
+	public double scaleElapsed(double elapsed) {
+		return elapsed * timeScale;
+	}
+	/*
+	 * Convert an amount of scaled time back to the real time it takes to pass
+	 * at the current time scale
+	 * @param long scaled - The scaled time
+	 * @return long - The real time
+	 */
+	public long unscaleElapsed(long scaled) {
+		if (timeScale == 1.0d) {
+			return scaled;
+		}
+		return (long)((double)scaled / timeScale);
+	}
+	/*
+	 * Record the outcome of a frame's catch-up updates, detecting the start and
+	 * end of sustained overrun and applying the overload policy
+	 * @param boolean clamped - Whether the frame's catch-up updates were
+	 * clamped
+	 * @param long dropped - The elapsed time discarded by clamping in
+	 * nanoseconds
+	 * @param int updatesPerSecond - The current target number of logic
+	 * updates per second
+	 * @return int - The target number of logic updates per second to use from
+	 * the next frame
+	 */
+	public int update(boolean clamped, long dropped, int updatesPerSecond) {
+		this.updatesPerSecond = updatesPerSecond;
+		if (overloaded) {
+			overloadedFrameCount++;
+		}
+		if (clamped) {
+			clampedFrameCount++;
+			droppedNanoseconds += dropped;
+			clampedStreak++;
+			unclampedStreak = 0;
+		} else {
+			unclampedStreak++;
+			clampedStreak = 0;
+		}
+		if (clampedStreak >= sustainedFrames) {
+			clampedStreak = 0;
+			if (!overloaded) {
+				overloaded = true;
+				overloadCount++;
+				log.write(LogSource.App, LogPriority.Warning, "Main ",
+						"application loop overloaded, applying ", policy,
+						" policy");
+				for (OverloadListener listener : listeners) {
+					listener.overloadStarted(this);
+				}
+			}
+			degrade();
+			return this.updatesPerSecond;
+		}
+		if (unclampedStreak >= recoveryFrames) {
+			unclampedStreak = 0;
+			if (overloaded) {
+				overloaded = false;
+				log.write(LogSource.App, LogPriority.Info, "Main application ",
+						"loop recovered from overload");
+				for (OverloadListener listener : listeners) {
+					listener.overloadEnded(this);
+				}
+			}
+			recover();
+			return this.updatesPerSecond;
+		}
+		return updatesPerSecond;
+	}
+	/*
+	 * Apply one degrading step of the overload policy
+	 */
+	private void degrade() {
+		switch (policy) {
+		case SLOW_MOTION:
+			if (timeScale > minimumTimeScale) {
+				timeScale = Math.max(timeScale * DegradeFactor,
+						minimumTimeScale);
+				adjusted();
+			}
+			break;
+		case REDUCE_TICK_RATE:
+			int reduced = Math.max((int)(updatesPerSecond * DegradeFactor),
+					minimumUpdatesPerSecond);
+			if (reduced < updatesPerSecond) {
+				if (restoredUpdatesPerSecond == 0) {
+					restoredUpdatesPerSecond = updatesPerSecond;
+				}
+				updatesPerSecond = reduced;
+				adjusted();
+			}
+			break;
+		case DROP_TIME:
+			break;
+		}
+	}
+	/*
+	 * Undo one degrading step of the overload policy
+	 */
+	private void recover() {
+		if (timeScale < 1.0d) {
+			timeScale = Math.min(timeScale / DegradeFactor, 1.0d);
+			adjusted();
+		}
+		if (restoredUpdatesPerSecond > 0) {
+			updatesPerSecond = Math.min((int)Math.ceil(updatesPerSecond
+					/ DegradeFactor), restoredUpdatesPerSecond);
+			if (updatesPerSecond == restoredUpdatesPerSecond) {
+				restoredUpdatesPerSecond = 0;
+			}
+			adjusted();
+		}
+	}
+	/*
+	 * Publish a change to the time scale or tick rate to every listener
+	 */
+	private void adjusted() {
+		for (OverloadListener listener : listeners) {
+			listener.overloadAdjusted(this);
+		}
+	}
+	/*
+	 * Reset the governor's state and counters, restoring the normal time
+	 * scale
+	 */
+	public void reset() {
+		overloaded = false;
+		clampedStreak = 0;
+		unclampedStreak = 0;
+		timeScale = 1.0d;
+		restoredUpdatesPerSecond = 0;
+		clampedFrameCount = 0L;
+		overloadedFrameCount = 0L;
+		overloadCount = 0L;
+		droppedNanoseconds = 0L;
+	}
+	/*
+	 * Write the governor's counters to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	public void writeReport(LogManager log) {
+		log.write(LogSource.App, LogPriority.Info, "Overload: ", overloadCount,
+				" episodes, ", overloadedFrameCount, " frames overloaded, ",
+				clampedFrameCount, " frames clamped, ", droppedNanoseconds
+				/ 1000000L, "ms dropped, time scale ", timeScale);
+	}
+	
+	/*
+	 * Get the set of listeners the governor publishes overload events to
+	 * @return List<OverloadListener> - A copy of the governor's listeners
+	 */
+	public List<OverloadListener> getListeners() {
+		return new ArrayList<OverloadListener>(listeners);
+	}
+	/*
+	 * Add a listener for the governor to publish overload events to
+	 * @param OverloadListener listener - The new listener
+	 * @return boolean - Whether the listener was added successfully
+	 */
+	public boolean addListener(OverloadListener listener) {
+		if (listener == null || listeners.contains(listener)) {
+			return false;
+		}
+		return listeners.add(listener);
+	}
+	/*
+	 * Remove a listener the governor publishes overload events to
+	 * @param OverloadListener listener - The listener to remove
+	 * @return boolean - Whether the listener was removed successfully
+	 */
+	public boolean removeListener(OverloadListener listener) {
+		return listeners.remove(listener);
+	}
+	/*
+	 * Get the way the governor reacts to sustained overrun
+	 * @return OverloadPolicy - The governor's overload policy
+	 */
+	public OverloadPolicy getPolicy() {
+		return policy;
+	}
+	/*
+	 * Set the way the governor reacts to sustained overrun, restoring the
+	 * normal time scale (a reduced tick rate is still restored on recovery)
+	 * @param OverloadPolicy policy - The new overload policy
+	 */
+	public void setPolicy(OverloadPolicy policy) {
+		if (policy == null) {
+			return;
+		}
+		this.policy = policy;
+		timeScale = 1.0d;
+	}
+	/*
+	 * Test whether the main loop is currently overloaded
+	 * @return boolean - Whether the main loop is overloaded
+	 */
+	public boolean isOverloaded() {
+		return overloaded;
+	}
+	/*
+	 * Get the target number of logic updates per second the governor chose
+	 * for the next frame, which the main loop applies after the governor's
+	 * events have been published
+	 * @return int - The chosen target number of logic updates per second
+	 */
+	public int getUpdatesPerSecond() {
+		return updatesPerSecond;
+	}
+	/*
+	 * Get the factor elapsed time is currently multiplied by
+	 * @return double - The current time scale (1 when not slowed)
+	 */
+	public double getTimeScale() {
+		return timeScale;
+	}
+	/*
+	 * Get the number of frames whose catch-up updates were clamped
+	 * @return long - The number of clamped frames
+	 */
+	public long getClampedFrameCount() {
+		return clampedFrameCount;
+	}
+	/*
+	 * Get the number of frames spent overloaded
+	 * @return long - The number of overloaded frames
+	 */
+	public long getOverloadedFrameCount() {
+		return overloadedFrameCount;
+	}
+	/*
+	 * Get the number of times the main loop has become overloaded
+	 * @return long - The number of overload episodes
+	 */
+	public long getOverloadCount() {
+		return overloadCount;
+	}
+	/*
+	 * Get the total elapsed time discarded by clamping
+	 * @return long - The dropped time in nanoseconds
+	 */
+	public long getDroppedNanoseconds() {
+		return droppedNanoseconds;
+	}
+	
+}
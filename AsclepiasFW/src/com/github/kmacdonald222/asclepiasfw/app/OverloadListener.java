@@ -0,0 +1,34 @@
+/*
+ * File:		OverloadListener.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines an interface for overload governor callback functions
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Interface for overload governor callback functions
+public interface OverloadListener {
+	
+	/*
+	 * The main loop has failed to catch up for a sustained number of frames
+	 * @param OverloadGovernor governor - The governor which detected it
+	 */
+	public default void overloadStarted(OverloadGovernor governor) {
+	}
+	/*
+	 * The governor's policy has changed the time scale or the target number
+	 * of logic updates per second
+	 * @param OverloadGovernor governor - The governor which made the change
+	 */
+	public default void overloadAdjusted(OverloadGovernor governor) {
+	}
+	/*
+	 * The main loop has kept up for a sustained number of frames after being
+	 * overloaded
+	 * @param OverloadGovernor governor - The governor which detected it
+	 */
+	public default void overloadEnded(OverloadGovernor governor) {
+	}
+	
+}
@@ -0,0 +1,44 @@
+/*
+ * File:		OverloadPolicy.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the ways the overload governor reacts when the main
+ * 				loop cannot keep up
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Enumeration of the ways the overload governor reacts to sustained overrun
+public enum OverloadPolicy {
+	
+	// Discard the time the main loop could not catch up on, so the game keeps
+	// its speed between hitches but loses the dropped time
+	DROP_TIME("Drop Time"),
+	// Scale down the passage of game time while overloaded, so the game runs
+	// uniformly slower instead of hitching
+	SLOW_MOTION("Slow Motion"),
+	// Lower the target number of logic updates per second while overloaded
+	// and restore it step by step once the main loop keeps up again
+	REDUCE_TICK_RATE("Reduce Tick Rate");
+	
+	// The name of this overload policy
+	private String name = "";
+	
+	/*
+	 * Construct a new overload policy with a name
+	 * @param String name - The name of this overload policy
+	 */
+	private OverloadPolicy(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this overload policy to its name to represent as a string
+	 * @return String - The string representation of this overload policy
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
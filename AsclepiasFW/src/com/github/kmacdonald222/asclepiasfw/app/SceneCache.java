@@ -0,0 +1,260 @@
+/*
+ * File:		SceneCache.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the bounded cache of initialized scenes kept by
+ * 				Asclepias Framework applications
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Bounded cache of the initialized scenes of an application, destroying
+// inactive scenes chosen by an eviction policy so that scenes left long ago do
+// not hold their resources until the application is destroyed
+public class SceneCache {
+	
+	// The log for the scene cache to write messages to
+	private LogManager log = null;
+	// The cached scenes in least to most recently used order, mapped to
+	// whether each is pinned
+	private LinkedHashMap<AppScene, Boolean> scenes = null;
+	// The maximum number of scenes to keep, including the current scene
+	private int capacity = 0;
+	// The policy used to choose inactive scenes to destroy
+	private SceneEvictionPolicy policy = SceneEvictionPolicy
+			.LEAST_RECENTLY_USED;
+	// The number of scenes destroyed by eviction
+	private long evictionCount = 0L;
+	
+	/*
+	 * Construct a new empty scene cache
+	 * @param LogManager log - Copy of a log for the scene cache to write
+	 * messages to
+	 * @param int capacity - The maximum number of scenes to keep, including the
+	 * current scene (at least 1)
+	 * @param SceneEvictionPolicy policy - The policy used to choose inactive
+	 * scenes to destroy
+	 */
+	public SceneCache(LogManager log, int capacity,
+			SceneEvictionPolicy policy) {
+		this.log = log;
+		scenes = new LinkedHashMap<AppScene, Boolean>();
+		this.capacity = Math.max(capacity, 1);
+		this.policy = policy == null ? SceneEvictionPolicy.LEAST_RECENTLY_USED
+				: policy;
+	}
+	
+	/*
+	 * Add a scene to the cache or mark it as the most recently used
+	 * @param AppScene scene - The scene which was used
+	 * @return boolean - Whether the scene was added or marked successfully
+	 */
+	public boolean touch(AppScene scene) {
+		if (scene == null) {
+			return false;
+		}
+		Boolean pinned = scenes.remove(scene);
+		scenes.put(scene, pinned != null && pinned);
+		return true;
+	}
+	/*
+	 * Destroy inactive scenes chosen by the eviction policy until the cache is
+	 * within its capacity, never evicting the current scene, pinned scenes or
+	 * scenes which are still loading
+	 * @param AppScene currentScene - The application's current scene
+	 * @return int - The number of scenes evicted
+	 */
+	public int evict(AppScene currentScene) {
+		int evicted = 0;
+		Iterator<Map.Entry<AppScene, Boolean>> iterator = scenes.entrySet()
+				.iterator();
+		while (iterator.hasNext()) {
+			if (policy == SceneEvictionPolicy.LEAST_RECENTLY_USED
+					&& scenes.size() <= capacity) {
+				break;
+			}
+			Map.Entry<AppScene, Boolean> entry = iterator.next();
+			AppScene scene = entry.getKey();
+			if (entry.getValue() || scene == currentScene
+					|| scene.isLoading()) {
+				continue;
+			}
+			iterator.remove();
+			log.write(LogSource.App, LogPriority.Info, "Evicting scene ",
+					getSceneName(scene), " from scene cache");
+			scene.destroyScene();
+			evicted++;
+		}
+		evictionCount += evicted;
+		return evicted;
+	}
+	/*
+	 * Destroy a cached scene immediately if it is not the current scene
+	 * @param AppScene scene - The scene to evict
+	 * @param AppScene currentScene - The application's current scene
+	 * @return boolean - Whether the scene was evicted successfully
+	 */
+	public boolean evictScene(AppScene scene, AppScene currentScene) {
+		if (scene == null || scene == currentScene || scene.isLoading()
+				|| scenes.remove(scene) == null) {
+			return false;
+		}
+		scene.destroyScene();
+		evictionCount++;
+		return true;
+	}
+	/*
+	 * Remove a scene from the cache without destroying it, such as a scene
+	 * which failed to load
+	 * @param AppScene scene - The scene to remove
+	 * @return boolean - Whether the scene was cached and has been removed
+	 */
+	public boolean remove(AppScene scene) {
+		return scene != null && scenes.remove(scene) != null;
+	}
+	/*
+	 * Pin a scene so it is never evicted, adding it to the cache if needed
+	 * @param AppScene scene - The scene to pin
+	 * @return boolean - Whether the scene was pinned successfully
+	 */
+	public boolean pin(AppScene scene) {
+		if (scene == null) {
+			return false;
+		}
+		scenes.put(scene, true);
+		return true;
+	}
+	/*
+	 * Unpin a scene so it may be evicted
+	 * @param AppScene scene - The scene to unpin
+	 * @return boolean - Whether the scene was pinned and has been unpinned
+	 */
+	public boolean unpin(AppScene scene) {
+		if (scene == null || !scenes.containsKey(scene)) {
+			return false;
+		}
+		return scenes.put(scene, false);
+	}
+	/*
+	 * Destroy every cached scene and empty the cache
+	 */
+	public void clear() {
+		for (AppScene scene : scenes.keySet()) {
+			scene.destroyScene();
+		}
+		scenes.clear();
+	}
+	/*
+	 * Write the estimated memory held by each cached scene to a log, from most
+	 * to least recently used
+	 * @param LogManager log - The log to write the report to
+	 */
+	public void writeReport(LogManager log) {
+		List<Map.Entry<AppScene, Boolean>> ordered =
+				new ArrayList<Map.Entry<AppScene, Boolean>>(scenes.entrySet());
+		long total = 0L;
+		for (int i = ordered.size() - 1; i >= 0; i--) {
+			AppScene scene = ordered.get(i).getKey();
+			long bytes = scene.estimateMemoryUsage();
+			log.write(LogSource.App, LogPriority.Info, getSceneName(scene),
+					": ", scene.getLoadState(), ordered.get(i).getValue()
+					? ", pinned" : "", ", ", bytes < 0L ? "unknown"
+					: (bytes / 1024L) + "KiB");
+			total += Math.max(bytes, 0L);
+		}
+		log.write(LogSource.App, LogPriority.Info, scenes.size(), " of ",
+				capacity, " cached scenes holding at least ", total / 1024L,
+				"KiB, ", evictionCount, " scenes evicted");
+	}
+	
+	/*
+	 * Get the name of a scene's class for reports
+	 * @param AppScene scene - The scene to name
+	 * @return String - The scene's class name
+	 */
+	private static String getSceneName(AppScene scene) {
+		String name = scene.getClass().getSimpleName();
+		return name.isEmpty() ? scene.getClass().getName() : name;
+	}
+	
+	/*
+	 * Test whether a scene is in the cache
+	 * @param AppScene scene - The scene to test for
+	 * @return boolean - Whether the scene is cached
+	 */
+	public boolean contains(AppScene scene) {
+		return scenes.containsKey(scene);
+	}
+	/*
+	 * Test whether a scene is pinned in the cache
+	 * @param AppScene scene - The scene to test
+	 * @return boolean - Whether the scene is cached and pinned
+	 */
+	public boolean isPinned(AppScene scene) {
+		return scenes.getOrDefault(scene, false);
+	}
+	/*
+	 * Get the scenes in the cache from least to most recently used
+	 * @return List<AppScene> - A copy of the cached scenes
+	 */
+	public List<AppScene> getScenes() {
+		return new ArrayList<AppScene>(scenes.keySet());
+	}
+	/*
+	 * Get the number of scenes in the cache
+	 * @return int - The number of cached scenes
+	 */
+	public int getSize() {
+		return scenes.size();
+	}
+	/*
+	 * Get the maximum number of scenes to keep
+	 * @return int - The capacity of the cache
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	/*
+	 * Set the maximum number of scenes to keep, taking effect at the next
+	 * eviction
+	 * @param int capacity - The new capacity of the cache (at least 1)
+	 */
+	public void setCapacity(int capacity) {
+		this.capacity = Math.max(capacity, 1);
+	}
+	/*
+	 * Get the policy used to choose inactive scenes to destroy
+	 * @return SceneEvictionPolicy - The cache's eviction policy
+	 */
+	public SceneEvictionPolicy getPolicy() {
+		return policy;
+	}
+	/*
+	 * Set the policy used to choose inactive scenes to destroy, taking effect
+	 * at the next eviction
+	 * @param SceneEvictionPolicy policy - The new eviction policy
+	 */
+	public void setPolicy(SceneEvictionPolicy policy) {
+		if (policy != null) {
+			this.policy = policy;
+		}
+	}
+	/*
+	 * Get the number of scenes destroyed by eviction
+	 * @return long - The number of evicted scenes
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+	
+}
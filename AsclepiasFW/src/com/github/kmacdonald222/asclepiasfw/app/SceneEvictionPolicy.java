@@ -0,0 +1,41 @@
+/*
+ * File:		SceneEvictionPolicy.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the policies the scene cache uses to choose inactive
+ * 				scenes to destroy
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Enumeration of the ways the scene cache chooses inactive scenes to destroy
+public enum SceneEvictionPolicy {
+	
+	// Keep up to the cache's capacity of scenes, destroying the least recently
+	// used unpinned scene first when it is exceeded
+	LEAST_RECENTLY_USED("Least Recently Used"),
+	// Keep only the current scene and explicitly pinned scenes, destroying
+	// every other scene as soon as it is left
+	PINNED_ONLY("Pinned Only");
+	
+	// The name of this scene eviction policy
+	private String name = "";
+	
+	/*
+	 * Construct a new scene eviction policy with a name
+	 * @param String name - The name of this scene eviction policy
+	 */
+	private SceneEvictionPolicy(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this scene eviction policy to its name to represent as a string
+	 * @return String - The string representation of this scene eviction policy
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -0,0 +1,43 @@
+/*
+ * File:		SceneLoadState.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the loading states of Asclepias Framework application
+ * 				scenes
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Enumeration of the loading states of a scene
+public enum SceneLoadState {
+	
+	// The scene has not been initialized
+	UNLOADED("Unloaded"),
+	// The scene's initialize is running, possibly on a background thread
+	LOADING("Loading"),
+	// The scene has been initialized and may be entered
+	READY("Ready"),
+	// The scene's last initialize failed
+	FAILED("Failed");
+	
+	// The name of this scene loading state
+	private String name = "";
+	
+	/*
+	 * Construct a new scene loading state with a name
+	 * @param String name - The name of this scene loading state
+	 */
+	private SceneLoadState(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this scene loading state to its name to represent as a string
+	 * @return String - The string representation of this scene loading state
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
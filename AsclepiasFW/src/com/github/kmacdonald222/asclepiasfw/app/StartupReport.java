@@ -0,0 +1,225 @@
+/*
+ * File:		StartupReport.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a record of the time spent in each stage of an
+ * 				Asclepias Framework application's startup
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Record of when each startup stage ran, for how long and on which thread, so
+// cold start time can be tracked and compared between releases (stages may be
+// measured from several threads at once)
+public class StartupReport {
+
+	// Timing of a single startup stage
+	private class Stage {
+
+		// The name of the stage
+		public String name = "";
+		// The name of the thread the stage ran on
+		public String threadName = "";
+		// The time the stage started at relative to the start of startup in
+		// nanoseconds
+		public long startOffset = 0L;
+		// The time the stage took in nanoseconds
+		public long duration = 0L;
+		// Whether the stage finished successfully
+		public boolean success = false;
+
+		/*
+		 * Construct a startup stage timing
+		 * @param String name - The name of the stage
+		 * @param String threadName - The name of the thread the stage ran on
+		 * @param long startOffset - The time the stage started at relative to
+		 * the start of startup in nanoseconds
+		 * @param long duration - The time the stage took in nanoseconds
+		 * @param boolean success - Whether the stage finished successfully
+		 */
+		public Stage(String name, String threadName, long startOffset,
+				long duration, boolean success) {
+			this.name = name;
+			this.threadName = threadName;
+			this.startOffset = startOffset;
+			this.duration = duration;
+			this.success = success;
+		}
+
+	}
+
+	// The System.nanoTime value startup began at
+	private long startTime = 0L;
+	// The time startup took in total in nanoseconds (0 until finished)
+	private long totalNanoseconds = 0L;
+	// Whether independent stages were run concurrently
+	private boolean parallel = false;
+	// The stages measured, in the order they finished
+	private List<Stage> stages = new ArrayList<Stage>();
+
+	/*
+	 * Construct a startup report beginning now
+	 * @param boolean parallel - Whether independent stages are run
+	 * concurrently
+	 */
+	public StartupReport(boolean parallel) {
+		this.parallel = parallel;
+		startTime = System.nanoTime();
+	}
+
+	/*
+	 * Run a startup stage on the calling thread and record its timing
+	 * @param String name - The name of the stage
+	 * @param BooleanSupplier stage - The stage to run, returning whether it
+	 * succeeded
+	 * @return boolean - Whether the stage succeeded
+	 */
+	public boolean measure(String name, BooleanSupplier stage) {
+		long stageStart = System.nanoTime();
+		boolean success = stage.getAsBoolean();
+		long stageEnd = System.nanoTime();
+		Stage timing = new Stage(name, Thread.currentThread().getName(),
+				stageStart - startTime, stageEnd - stageStart, success);
+		synchronized (stages) {
+			stages.add(timing);
+		}
+		return success;
+	}
+	/*
+	 * Mark the end of startup
+	 */
+	public void finish() {
+		totalNanoseconds = System.nanoTime() - startTime;
+	}
+	/*
+	 * Write the timing of each stage and the total startup time to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	public void writeReport(LogManager log) {
+		synchronized (stages) {
+			for (Stage stage : stages) {
+				log.write(LogSource.App, LogPriority.Info, "Startup stage ",
+						stage.name, ": ", toMilliseconds(stage.duration),
+						"ms at +", toMilliseconds(stage.startOffset), "ms on ",
+						stage.threadName.isEmpty() ? "unnamed thread"
+						: stage.threadName, stage.success ? "" : " (failed)");
+			}
+		}
+		log.write(LogSource.App, LogPriority.Info, "Started in ",
+				toMilliseconds(totalNanoseconds), "ms (", toMilliseconds(
+				getSerialNanoseconds()), "ms in ", getStageCount(),
+				" timed stages, ", toMilliseconds(getUntimedNanoseconds()),
+				"ms untimed", parallel ? ", parallel" : ", sequential", ")");
+	}
+
+	/*
+	 * Convert a time in nanoseconds to milliseconds with one decimal place for
+	 * reports
+	 * @param long nanoseconds - The time to convert
+	 * @return String - The time in milliseconds
+	 */
+	private static String toMilliseconds(long nanoseconds) {
+		return String.format("%.1f", (double)nanoseconds / 1000000.0d);
+	}
+
+	/*
+	 * Test whether independent stages were run concurrently
+	 * @return boolean - Whether startup was parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+	/*
+	 * Get the time startup took in total
+	 * @return long - The total startup time in nanoseconds, or 0 if startup
+	 * has not finished
+	 */
+	public long getTotalNanoseconds() {
+		return totalNanoseconds;
+	}
+	/*
+	 * Get the sum of the times of all stages, counting stages which ran
+	 * concurrently in full
+	 * @return long - The summed stage times in nanoseconds
+	 */
+	public long getSerialNanoseconds() {
+		long serial = 0L;
+		synchronized (stages) {
+			for (Stage stage : stages) {
+				serial += stage.duration;
+			}
+		}
+		return serial;
+	}
+	/*
+	 * Get the time during startup in which no stage was running, spent
+	 * between stages such as loading classes or writing to the log
+	 * @return long - The untimed startup time in nanoseconds, or 0 if startup
+	 * has not finished
+	 */
+	public long getUntimedNanoseconds() {
+		if (totalNanoseconds == 0L) {
+			return 0L;
+		}
+		List<Stage> ordered = null;
+		synchronized (stages) {
+			ordered = new ArrayList<Stage>(stages);
+		}
+		ordered.sort((a, b) -> Long.compare(a.startOffset, b.startOffset));
+		long covered = 0L;
+		long coveredEnd = 0L;
+		for (Stage stage : ordered) {
+			long start = Math.max(stage.startOffset, coveredEnd);
+			long end = stage.startOffset + stage.duration;
+			if (end > start) {
+				covered += end - start;
+				coveredEnd = end;
+			}
+		}
+		return Math.max(totalNanoseconds - covered, 0L);
+	}
+	/*
+	 * Get the number of stages measured
+	 * @return int - The number of stages
+	 */
+	public int getStageCount() {
+		synchronized (stages) {
+			return stages.size();
+		}
+	}
+	/*
+	 * Get the name of a stage
+	 * @param int index - The index of the stage in the order stages finished
+	 * @return String - The stage's name
+	 */
+	public String getStageName(int index) {
+		synchronized (stages) {
+			return stages.get(index).name;
+		}
+	}
+	/*
+	 * Get the time a stage took
+	 * @param String name - The name of the stage
+	 * @return long - The stage's time in nanoseconds, or -1 if no stage has
+	 * the name
+	 */
+	public long getStageNanoseconds(String name) {
+		synchronized (stages) {
+			for (Stage stage : stages) {
+				if (stage.name.equals(name)) {
+					return stage.duration;
+				}
+			}
+		}
+		return -1L;
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * File:		TimingMode.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the main loop timing modes of Asclepias Framework
+ * 				applications
+ */
+
+package com.github.kmacdonald222.asclepiasfw.app;
+
+// Enumeration of the ways the main application loop can schedule timed updates
+public enum TimingMode {
+	
+	// Legacy millisecond timing, the leftover fraction of an update is passed
+	// to the scene as a partial delta at the end of each frame
+	VARIABLE("Variable"),
+	// Nanosecond timing with an accumulator, timed updates are only ever
+	// called with a delta of exactly one update and the leftover fraction is
+	// exposed as an interpolation alpha
+	FIXED("Fixed");
+	
+	// The name of this timing mode
+	private String name = "";
+	
+	/*
+	 * Construct a new timing mode with a name
+	 * @param String name - The name of this timing mode
+	 */
+	private TimingMode(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this timing mode to its name to represent as a string
+	 * @return String - The string representation of this timing mode
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -20,6 +20,8 @@ import com.github.kmacdonald222.asclepiasfw.app.App;
 import com.github.kmacdonald222.asclepiasfw.data.AudioData;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.profiling.AssetLoadEvent;
+import com.github.kmacdonald222.asclepiasfw.profiling.FlightRecording;
 
 // Static loader/cache utility class for audio data
 public class AudioLoader {
@@ -39,48 +41,23 @@ public class AudioLoader {
 			Audio = new HashMap<String, AudioData>();
 		}
 		if (!Audio.containsKey(fileName)) {
-			App.Log.write(LogSource.Audio, LogPriority.Info, "Loading audio ",
-					"data from \"", fileName, "\"");
-			File audioFile = new File(fileName);
-			if (!audioFile.exists()) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
-						"file \"", fileName, "\" does not exist");
-				return null;
-			}
-			if (!audioFile.canRead()) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
-						"file \"", fileName, "\" is not readable");
-				return null;
+			AssetLoadEvent event = FlightRecording.IsRecorderRunning()
+					? new AssetLoadEvent() : null;
+			if (event != null) {
+				event.begin();
 			}
-			AudioInputStream audioIn = null;
-			try {
-				audioIn = AudioSystem.getAudioInputStream(audioFile);
-			} catch (UnsupportedAudioFileException e) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
-						"file \"", fileName, "\" contains invalid format");
-				return null;
-			} catch (IOException e) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
-						"to open audio file \"", fileName, "\"");
-				return null;
+			AudioData audioData = ReadAudioData(fileName);
+			if (event != null && event.shouldCommit()) {
+				event.assetType = "Audio";
+				event.fileName = fileName;
+				event.bytes = audioData == null ? 0L : audioData.data.length;
+				event.success = audioData != null;
+				event.commit();
 			}
-			AudioFormat format = audioIn.getFormat();
-			byte[] data = null;
-			try {
-				data = audioIn.readAllBytes();
-			} catch (IOException e) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
-						"to read audio file \"", fileName, "\"");
+			if (audioData == null) {
 				return null;
 			}
-			try {
-				audioIn.close();
-			} catch (IOException e) {
-				App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
-						"to close audio file \"", fileName, "\"");
-				return null;
-			}
-			Audio.put(fileName, new AudioData(format, data));
+			Audio.put(fileName, audioData);
 		}
 		return Audio.get(fileName);
 	}
@@ -97,4 +74,55 @@ public class AudioLoader {
 		return true;
 	}
 	
+	/*
+	 * Read an audio file's data and format from the disk
+	 * @param String fileName - The file to load data from
+	 * @return AudioData - The data contained in the file and its format or
+	 * null if an error occurred
+	 */
+	private static AudioData ReadAudioData(String fileName) {
+		App.Log.write(LogSource.Audio, LogPriority.Info, "Loading audio ",
+				"data from \"", fileName, "\"");
+		File audioFile = new File(fileName);
+		if (!audioFile.exists()) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
+					"file \"", fileName, "\" does not exist");
+			return null;
+		}
+		if (!audioFile.canRead()) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
+					"file \"", fileName, "\" is not readable");
+			return null;
+		}
+		AudioInputStream audioIn = null;
+		try {
+			audioIn = AudioSystem.getAudioInputStream(audioFile);
+		} catch (UnsupportedAudioFileException e) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Audio ",
+					"file \"", fileName, "\" contains invalid format");
+			return null;
+		} catch (IOException e) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
+					"to open audio file \"", fileName, "\"");
+			return null;
+		}
+		AudioFormat format = audioIn.getFormat();
+		byte[] data = null;
+		try {
+			data = audioIn.readAllBytes();
+		} catch (IOException e) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
+					"to read audio file \"", fileName, "\"");
+			return null;
+		}
+		try {
+			audioIn.close();
+		} catch (IOException e) {
+			App.Log.write(LogSource.Audio, LogPriority.Warning, "Failed ",
+					"to close audio file \"", fileName, "\"");
+			return null;
+		}
+		return new AudioData(format, data);
+	}
+	
 }
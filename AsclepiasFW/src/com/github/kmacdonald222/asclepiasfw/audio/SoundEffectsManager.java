@@ -21,6 +21,8 @@ import com.github.kmacdonald222.asclepiasfw.app.App;
 import com.github.kmacdonald222.asclepiasfw.data.AudioData;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.profiling.AudioClipEvent;
+import com.github.kmacdonald222.asclepiasfw.profiling.FlightRecording;
 
 // The main class of the sound effects management system for Asclepias Framework
 // applications
@@ -87,6 +89,11 @@ public class SoundEffectsManager {
 					"\"");
 			return false;
 		}
+		AudioClipEvent event = FlightRecording.IsRecorderRunning()
+				? new AudioClipEvent() : null;
+		if (event != null) {
+			event.begin();
+		}
 		Clip clip = null;
 		try {
 			clip = AudioSystem.getClip();
@@ -104,6 +111,11 @@ public class SoundEffectsManager {
 					fileName, "\"");
 			return false;
 		}
+		if (event != null && event.shouldCommit()) {
+			event.fileName = fileName;
+			event.bytes = data.data.length;
+			event.commit();
+		}
 		if (!effects.containsKey(fileName)) {
 			effects.put(fileName, new ArrayList<Clip>());
 		}
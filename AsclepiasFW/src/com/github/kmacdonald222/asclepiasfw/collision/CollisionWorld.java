@@ -0,0 +1,566 @@
+/*
+ * File:		CollisionWorld.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a world of box and circle bodies whose overlaps are
+ * 				found by a sweep-and-prune broadphase and a contact generating
+ * 				narrowphase
+ */
+
+package com.github.kmacdonald222.asclepiasfw.collision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.jobs.JobSystem;
+
+// World of box and circle bodies identified by non-negative integers, each
+// detect() call sorts the bodies along the x axis starting from the previous
+// update's order (so bodies which moved a little sort in close to linear
+// time), sweeps the sorted bodies for pairs whose bounds overlap and computes a
+// contact for each pair whose shapes touch, optionally splitting the sweep into
+// chunks run on the job system with the contacts merged in a fixed order
+public class CollisionWorld {
+	
+	// The number of sorted bodies in each chunk of a parallel sweep by default
+	public static final int DefaultGrainSize = 2048;
+	
+	// The number of body identifiers there is room for when a world is created
+	private static final int InitialCapacity = 256;
+	// The number of element shifts per body the incremental sort may make
+	// before the order is treated as incoherent and fully sorted instead
+	private static final int ShiftsPerBody = 8;
+	
+	// The job system parallel sweeps are run on (null to always sweep on the
+	// calling thread)
+	private JobSystem jobs = null;
+	// Whether the sweep is split into chunks run on the job system
+	private boolean parallel = false;
+	// The number of sorted bodies in each chunk of a parallel sweep
+	private int grainSize = DefaultGrainSize;
+	// The shape of each body (null for identifiers not in the world)
+	private ShapeType[] shapes = new ShapeType[InitialCapacity];
+	// The x coordinate of the center of each body
+	private double[] centerX = new double[InitialCapacity];
+	// The y coordinate of the center of each body
+	private double[] centerY = new double[InitialCapacity];
+	// Half the width of each box, or the radius of each circle
+	private double[] halfWidths = new double[InitialCapacity];
+	// Half the height of each box, or the radius of each circle
+	private double[] halfHeights = new double[InitialCapacity];
+	// The smallest x coordinate of each body's bounds as of the last sort
+	private double[] minimumX = new double[InitialCapacity];
+	// Whether each identifier appears in the sorted order
+	private boolean[] ordered = new boolean[InitialCapacity];
+	// The bodies sorted by the smallest x coordinate of their bounds, possibly
+	// including removed bodies until the next sort
+	private int[] order = new int[InitialCapacity];
+	// The number of entries in the sorted order
+	private int orderSize = 0;
+	// Scratch buffer used by the full sort
+	private int[] sortBuffer = new int[InitialCapacity];
+	// The number of bodies in the world
+	private int size = 0;
+	// The contacts found by the last update
+	private ContactList contacts = new ContactList();
+	// The contacts found by each chunk of the last parallel sweep
+	private List<ContactList> chunkContacts = new ArrayList<ContactList>();
+	// The number of pairs found by each chunk of the last parallel sweep
+	private int[] chunkPairCounts = new int[0];
+	// The number of pairs with overlapping bounds found by the last update
+	private int pairCount = 0;
+	// Whether the last sort fell back to a full sort
+	private boolean fullySorted = false;
+	
+	/*
+	 * Construct an empty collision world
+	 * @param JobSystem jobs - The job system to run parallel sweeps on (null
+	 * to always sweep on the calling thread)
+	 */
+	public CollisionWorld(JobSystem jobs) {
+		this.jobs = jobs;
+	}
+	
+	/*
+	 * Add a box body to the world
+	 * @param int ID - The body's identifier, which must not already be in the
+	 * world
+	 * @param double x - The x coordinate of the box's center
+	 * @param double y - The y coordinate of the box's center
+	 * @param double halfWidth - Half the width of the box
+	 * @param double halfHeight - Half the height of the box
+	 * @return boolean - Whether the body was added
+	 */
+	public boolean addBox(int ID, double x, double y, double halfWidth,
+			double halfHeight) {
+		return addBody(ID, ShapeType.BOX, x, y, halfWidth, halfHeight);
+	}
+	/*
+	 * Add a box body to the world
+	 * @param int ID - The body's identifier, which must not already be in the
+	 * world
+	 * @param Vector2D center - The box's center
+	 * @param Vector2D halfSize - Half the width and height of the box
+	 * @return boolean - Whether the body was added
+	 */
+	public boolean addBox(int ID, Vector2D center, Vector2D halfSize) {
+		return addBody(ID, ShapeType.BOX, center.x, center.y, halfSize.x,
+				halfSize.y);
+	}
+	/*
+	 * Add a circle body to the world
+	 * @param int ID - The body's identifier, which must not already be in the
+	 * world
+	 * @param double x - The x coordinate of the circle's center
+	 * @param double y - The y coordinate of the circle's center
+	 * @param double radius - The circle's radius
+	 * @return boolean - Whether the body was added
+	 */
+	public boolean addCircle(int ID, double x, double y, double radius) {
+		return addBody(ID, ShapeType.CIRCLE, x, y, radius, radius);
+	}
+	/*
+	 * Add a circle body to the world
+	 * @param int ID - The body's identifier, which must not already be in the
+	 * world
+	 * @param Vector2D center - The circle's center
+	 * @param double radius - The circle's radius
+	 * @return boolean - Whether the body was added
+	 */
+	public boolean addCircle(int ID, Vector2D center, double radius) {
+		return addBody(ID, ShapeType.CIRCLE, center.x, center.y, radius,
+				radius);
+	}
+	/*
+	 * Move a body's center
+	 * @param int ID - The body's identifier
+	 * @param double x - The x coordinate of the body's new center
+	 * @param double y - The y coordinate of the body's new center
+	 * @return boolean - Whether the body was in the world
+	 */
+	public boolean move(int ID, double x, double y) {
+		if (!contains(ID)) {
+			return false;
+		}
+		centerX[ID] = x;
+		centerY[ID] = y;
+		return true;
+	}
+	/*
+	 * Move a body's center
+	 * @param int ID - The body's identifier
+	 * @param Vector2D center - The body's new center
+	 * @return boolean - Whether the body was in the world
+	 */
+	public boolean move(int ID, Vector2D center) {
+		return move(ID, center.x, center.y);
+	}
+	/*
+	 * Remove a body from the world
+	 * @param int ID - The body's identifier
+	 * @return boolean - Whether the body was in the world
+	 */
+	public boolean remove(int ID) {
+		if (!contains(ID)) {
+			return false;
+		}
+		shapes[ID] = null;
+		size--;
+		return true;
+	}
+	/*
+	 * Remove every body from the world
+	 */
+	public void clear() {
+		Arrays.fill(shapes, null);
+		Arrays.fill(ordered, false);
+		orderSize = 0;
+		size = 0;
+		contacts.clear();
+		pairCount = 0;
+	}
+	/*
+	 * Find the contacts between every pair of touching bodies, replacing the
+	 * contacts found by the previous update
+	 * @return ContactList - The contacts found, valid until the next update
+	 */
+	public ContactList detect() {
+		sort();
+		contacts.clear();
+		int chunkCount = JobSystem.GetChunkCount(0, orderSize, grainSize);
+		if (!parallel || jobs == null || chunkCount < 2) {
+			pairCount = sweep(0, orderSize, contacts);
+			return contacts;
+		}
+		while (chunkContacts.size() < chunkCount) {
+			chunkContacts.add(new ContactList());
+		}
+		if (chunkPairCounts.length < chunkCount) {
+			chunkPairCounts = new int[chunkCount];
+		}
+		jobs.parallelFor(0, orderSize, grainSize, (start, end) -> {
+			ContactList chunk = chunkContacts.get(start / grainSize);
+			chunk.clear();
+			chunkPairCounts[start / grainSize] = sweep(start, end, chunk);
+		});
+		pairCount = 0;
+		for (int i = 0; i < chunkCount; i++) {
+			contacts.addAll(chunkContacts.get(i));
+			pairCount += chunkPairCounts[i];
+		}
+		return contacts;
+	}
+	
+	/*
+	 * Add a body of any shape to the world
+	 * @param int ID - The body's identifier
+	 * @param ShapeType shape - The body's shape
+	 * @param double x - The x coordinate of the body's center
+	 * @param double y - The y coordinate of the body's center
+	 * @param double halfWidth - Half the width of the body's bounds
+	 * @param double halfHeight - Half the height of the body's bounds
+	 * @return boolean - Whether the body was added
+	 */
+	private boolean addBody(int ID, ShapeType shape, double x, double y,
+			double halfWidth, double halfHeight) {
+		if (ID < 0 || contains(ID)) {
+			return false;
+		}
+		if (ID >= shapes.length) {
+			growBodies(ID);
+		}
+		shapes[ID] = shape;
+		centerX[ID] = x;
+		centerY[ID] = y;
+		halfWidths[ID] = halfWidth;
+		halfHeights[ID] = halfHeight;
+		if (!ordered[ID]) {
+			if (orderSize == order.length) {
+				order = Arrays.copyOf(order, order.length * 2);
+			}
+			order[orderSize++] = ID;
+			ordered[ID] = true;
+		}
+		size++;
+		return true;
+	}
+	/*
+	 * Drop removed bodies from the sorted order and re-sort it by the current
+	 * bounds, shifting bodies into place from the previous order unless that
+	 * takes too many shifts
+	 */
+	private void sort() {
+		int kept = 0;
+		for (int i = 0; i < orderSize; i++) {
+			int ID = order[i];
+			if (shapes[ID] == null) {
+				ordered[ID] = false;
+				continue;
+			}
+			minimumX[ID] = centerX[ID] - halfWidths[ID];
+			order[kept++] = ID;
+		}
+		orderSize = kept;
+		long shiftBudget = (long)orderSize * ShiftsPerBody;
+		fullySorted = false;
+		for (int i = 1; i < orderSize; i++) {
+			int ID = order[i];
+			double key = minimumX[ID];
+			int j = i - 1;
+			while (j >= 0 && minimumX[order[j]] > key) {
+				order[j + 1] = order[j];
+				j--;
+			}
+			order[j + 1] = ID;
+			shiftBudget -= i - 1 - j;
+			if (shiftBudget < 0L) {
+				fullSort();
+				return;
+			}
+		}
+	}
+	/*
+	 * Sort the whole order with a merge sort, for when bodies were added or
+	 * moved far enough that shifting them into place would be slow
+	 */
+	private void fullSort() {
+		fullySorted = true;
+		if (sortBuffer.length < orderSize) {
+			sortBuffer = new int[order.length];
+		}
+		for (int width = 1; width < orderSize; width *= 2) {
+			for (int start = 0; start < orderSize; start += width * 2) {
+				int middle = Math.min(start + width, orderSize);
+				int end = Math.min(start + width * 2, orderSize);
+				int left = start;
+				int right = middle;
+				for (int i = start; i < end; i++) {
+					if (left < middle && (right >= end || minimumX[order[left]]
+							<= minimumX[order[right]])) {
+						sortBuffer[i] = order[left++];
+					} else {
+						sortBuffer[i] = order[right++];
+					}
+				}
+			}
+			int[] swap = order;
+			order = sortBuffer;
+			sortBuffer = swap;
+		}
+	}
+	/*
+	 * Sweep a range of the sorted order for bodies whose bounds overlap a
+	 * later body's and test each such pair's shapes
+	 * @param int start - The first position in the sorted order (inclusive)
+	 * @param int end - The last position in the sorted order (exclusive)
+	 * @param ContactList results - The list to add contacts to
+	 * @return int - The number of pairs with overlapping bounds found
+	 */
+	private int sweep(int start, int end, ContactList results) {
+		int pairs = 0;
+		for (int i = start; i < end; i++) {
+			int a = order[i];
+			double maximumX = centerX[a] + halfWidths[a];
+			double minimumY = centerY[a] - halfHeights[a];
+			double maximumY = centerY[a] + halfHeights[a];
+			for (int j = i + 1; j < orderSize; j++) {
+				int b = order[j];
+				if (minimumX[b] > maximumX) {
+					break;
+				}
+				if (centerY[b] - halfHeights[b] > maximumY
+						|| centerY[b] + halfHeights[b] < minimumY) {
+					continue;
+				}
+				pairs++;
+				collide(a, b, results);
+			}
+		}
+		return pairs;
+	}
+	/*
+	 * Test whether the shapes of two bodies with overlapping bounds touch and
+	 * add a contact if they do
+	 * @param int a - The identifier of the first body
+	 * @param int b - The identifier of the second body
+	 * @param ContactList results - The list to add the contact to
+	 */
+	private void collide(int a, int b, ContactList results) {
+		if (shapes[a] == ShapeType.BOX) {
+			if (shapes[b] == ShapeType.BOX) {
+				collideBoxes(a, b, results);
+			} else {
+				collideBoxCircle(a, b, false, results);
+			}
+		} else if (shapes[b] == ShapeType.BOX) {
+			collideBoxCircle(b, a, true, results);
+		} else {
+			collideCircles(a, b, results);
+		}
+	}
+	/*
+	 * Add a contact between two boxes if they overlap, separating them along
+	 * the axis they overlap least on
+	 * @param int a - The identifier of the first box
+	 * @param int b - The identifier of the second box
+	 * @param ContactList results - The list to add the contact to
+	 */
+	private void collideBoxes(int a, int b, ContactList results) {
+		double dx = centerX[b] - centerX[a];
+		double dy = centerY[b] - centerY[a];
+		double overlapX = halfWidths[a] + halfWidths[b] - Math.abs(dx);
+		double overlapY = halfHeights[a] + halfHeights[b] - Math.abs(dy);
+		if (overlapX < 0.0d || overlapY < 0.0d) {
+			return;
+		}
+		double px = (Math.max(centerX[a] - halfWidths[a], centerX[b]
+				- halfWidths[b]) + Math.min(centerX[a] + halfWidths[a],
+				centerX[b] + halfWidths[b])) * 0.5d;
+		double py = (Math.max(centerY[a] - halfHeights[a], centerY[b]
+				- halfHeights[b]) + Math.min(centerY[a] + halfHeights[a],
+				centerY[b] + halfHeights[b])) * 0.5d;
+		if (overlapX < overlapY) {
+			results.add(a, b, dx < 0.0d ? -1.0d : 1.0d, 0.0d, overlapX, px,
+					py);
+		} else {
+			results.add(a, b, 0.0d, dy < 0.0d ? -1.0d : 1.0d, overlapY, px,
+					py);
+		}
+	}
+	/*
+	 * Add a contact between two circles if they overlap
+	 * @param int a - The identifier of the first circle
+	 * @param int b - The identifier of the second circle
+	 * @param ContactList results - The list to add the contact to
+	 */
+	private void collideCircles(int a, int b, ContactList results) {
+		double dx = centerX[b] - centerX[a];
+		double dy = centerY[b] - centerY[a];
+		double radii = halfWidths[a] + halfWidths[b];
+		double distanceSquared = dx * dx + dy * dy;
+		if (distanceSquared > radii * radii) {
+			return;
+		}
+		double distance = Math.sqrt(distanceSquared);
+		double nx = 1.0d;
+		double ny = 0.0d;
+		if (distance > 0.0d) {
+			nx = dx / distance;
+			ny = dy / distance;
+		}
+		double depth = radii - distance;
+		double reach = halfWidths[a] - depth * 0.5d;
+		results.add(a, b, nx, ny, depth, centerX[a] + nx * reach, centerY[a]
+				+ ny * reach);
+	}
+	/*
+	 * Add a contact between a box and a circle if they overlap, using the
+	 * point of the box nearest the circle's center
+	 * @param int box - The identifier of the box
+	 * @param int circle - The identifier of the circle
+	 * @param boolean circleFirst - Whether the circle is the contact's first
+	 * body, reversing the normal
+	 * @param ContactList results - The list to add the contact to
+	 */
+	private void collideBoxCircle(int box, int circle, boolean circleFirst,
+			ContactList results) {
+		double dx = centerX[circle] - centerX[box];
+		double dy = centerY[circle] - centerY[box];
+		double radius = halfWidths[circle];
+		double closestX = Math.max(-halfWidths[box], Math.min(dx,
+				halfWidths[box]));
+		double closestY = Math.max(-halfHeights[box], Math.min(dy,
+				halfHeights[box]));
+		double nx = 0.0d;
+		double ny = 0.0d;
+		double depth = 0.0d;
+		if (closestX == dx && closestY == dy) {
+			double faceX = halfWidths[box] - Math.abs(dx);
+			double faceY = halfHeights[box] - Math.abs(dy);
+			if (faceX < faceY) {
+				nx = dx < 0.0d ? -1.0d : 1.0d;
+				closestX = nx * halfWidths[box];
+				depth = radius + faceX;
+			} else {
+				ny = dy < 0.0d ? -1.0d : 1.0d;
+				closestY = ny * halfHeights[box];
+				depth = radius + faceY;
+			}
+		} else {
+			double offsetX = dx - closestX;
+			double offsetY = dy - closestY;
+			double distanceSquared = offsetX * offsetX + offsetY * offsetY;
+			if (distanceSquared > radius * radius) {
+				return;
+			}
+			double distance = Math.sqrt(distanceSquared);
+			nx = offsetX / distance;
+			ny = offsetY / distance;
+			depth = radius - distance;
+		}
+		double px = centerX[box] + closestX;
+		double py = centerY[box] + closestY;
+		if (circleFirst) {
+			results.add(circle, box, -nx, -ny, depth, px, py);
+		} else {
+			results.add(box, circle, nx, ny, depth, px, py);
+		}
+	}
+	/*
+	 * Grow the per-body arrays to fit an identifier
+	 * @param int ID - The identifier to fit
+	 */
+	private void growBodies(int ID) {
+		int capacity = Math.max(shapes.length * 2, ID + 1);
+		shapes = Arrays.copyOf(shapes, capacity);
+		centerX = Arrays.copyOf(centerX, capacity);
+		centerY = Arrays.copyOf(centerY, capacity);
+		halfWidths = Arrays.copyOf(halfWidths, capacity);
+		halfHeights = Arrays.copyOf(halfHeights, capacity);
+		minimumX = Arrays.copyOf(minimumX, capacity);
+		ordered = Arrays.copyOf(ordered, capacity);
+	}
+	
+	/*
+	 * Set whether the sweep is split into chunks run on the job system, which
+	 * finds the same contacts in the same order as a single-threaded sweep
+	 * @param boolean parallel - Whether to sweep in parallel
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+	/*
+	 * Test whether the sweep is split into chunks run on the job system
+	 * @return boolean - Whether sweeps are parallel
+	 */
+	public boolean isParallel() {
+		return parallel;
+	}
+	/*
+	 * Set the number of sorted bodies in each chunk of a parallel sweep
+	 * @param int grainSize - The number of bodies in each chunk
+	 */
+	public void setGrainSize(int grainSize) {
+		this.grainSize = Math.max(grainSize, 1);
+	}
+	/*
+	 * Test whether a body is in the world
+	 * @param int ID - The body's identifier
+	 * @return boolean - Whether the body is in the world
+	 */
+	public boolean contains(int ID) {
+		return ID >= 0 && ID < shapes.length && shapes[ID] != null;
+	}
+	/*
+	 * Get the shape of a body
+	 * @param int ID - The body's identifier
+	 * @return ShapeType - The body's shape, or null if it is not in the world
+	 */
+	public ShapeType getShape(int ID) {
+		return contains(ID) ? shapes[ID] : null;
+	}
+	/*
+	 * Read a body's center into an existing vector
+	 * @param int ID - The body's identifier, which must be in the world
+	 * @param Vector2D result - The vector to write the center to
+	 * @return Vector2D - The result vector
+	 */
+	public Vector2D getCenter(int ID, Vector2D result) {
+		result.x = centerX[ID];
+		result.y = centerY[ID];
+		return result;
+	}
+	/*
+	 * Get the number of bodies in the world
+	 * @return int - The number of bodies
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the contacts found by the last update
+	 * @return ContactList - The contacts
+	 */
+	public ContactList getContacts() {
+		return contacts;
+	}
+	/*
+	 * Get the number of pairs of bodies whose bounds overlapped in the last
+	 * update, each of which had its shapes tested
+	 * @return int - The number of pairs
+	 */
+	public int getPairCount() {
+		return pairCount;
+	}
+	/*
+	 * Test whether the last update had to fully sort the bodies rather than
+	 * shift them into place from the previous order
+	 * @return boolean - Whether a full sort was needed
+	 */
+	public boolean wasFullySorted() {
+		return fullySorted;
+	}
+	
+}
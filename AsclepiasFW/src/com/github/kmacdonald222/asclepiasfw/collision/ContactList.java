@@ -0,0 +1,191 @@
+/*
+ * File:		ContactList.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a reusable list of the contacts found between bodies in
+ * 				a collision world
+ */
+
+package com.github.kmacdonald222.asclepiasfw.collision;
+
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+
+// List of contacts between pairs of overlapping bodies, each with the normal
+// pointing from the first body to the second, the depth the bodies overlap by
+// along it and a point in the overlap, stored in primitive arrays reused
+// between updates
+public class ContactList {
+	
+	// The number of contacts there is room for when a list is created
+	private static final int InitialCapacity = 64;
+	
+	// The identifier of the first body of each contact
+	private int[] bodiesA = new int[InitialCapacity];
+	// The identifier of the second body of each contact
+	private int[] bodiesB = new int[InitialCapacity];
+	// The x component of each contact's unit normal
+	private double[] normalX = new double[InitialCapacity];
+	// The y component of each contact's unit normal
+	private double[] normalY = new double[InitialCapacity];
+	// The depth the bodies of each contact overlap by along its normal
+	private double[] depths = new double[InitialCapacity];
+	// The x coordinate of each contact's point
+	private double[] pointX = new double[InitialCapacity];
+	// The y coordinate of each contact's point
+	private double[] pointY = new double[InitialCapacity];
+	// The number of contacts in the list
+	private int count = 0;
+	
+	/*
+	 * Remove every contact from this list, keeping its capacity
+	 */
+	void clear() {
+		count = 0;
+	}
+	/*
+	 * Append a contact
+	 * @param int bodyA - The identifier of the first body
+	 * @param int bodyB - The identifier of the second body
+	 * @param double nx - The x component of the unit normal from A to B
+	 * @param double ny - The y component of the unit normal from A to B
+	 * @param double depth - The depth the bodies overlap by
+	 * @param double px - The x coordinate of the contact point
+	 * @param double py - The y coordinate of the contact point
+	 */
+	void add(int bodyA, int bodyB, double nx, double ny, double depth,
+			double px, double py) {
+		if (count == bodiesA.length) {
+			grow(count + 1);
+		}
+		bodiesA[count] = bodyA;
+		bodiesB[count] = bodyB;
+		normalX[count] = nx;
+		normalY[count] = ny;
+		depths[count] = depth;
+		pointX[count] = px;
+		pointY[count] = py;
+		count++;
+	}
+	/*
+	 * Append every contact in another list
+	 * @param ContactList other - The list to copy contacts from
+	 */
+	void addAll(ContactList other) {
+		if (count + other.count > bodiesA.length) {
+			grow(count + other.count);
+		}
+		System.arraycopy(other.bodiesA, 0, bodiesA, count, other.count);
+		System.arraycopy(other.bodiesB, 0, bodiesB, count, other.count);
+		System.arraycopy(other.normalX, 0, normalX, count, other.count);
+		System.arraycopy(other.normalY, 0, normalY, count, other.count);
+		System.arraycopy(other.depths, 0, depths, count, other.count);
+		System.arraycopy(other.pointX, 0, pointX, count, other.count);
+		System.arraycopy(other.pointY, 0, pointY, count, other.count);
+		count += other.count;
+	}
+	/*
+	 * Grow the arrays of this list to fit a number of contacts
+	 * @param int capacity - The number of contacts to fit
+	 */
+	private void grow(int capacity) {
+		capacity = Math.max(capacity, bodiesA.length * 2);
+		bodiesA = Arrays.copyOf(bodiesA, capacity);
+		bodiesB = Arrays.copyOf(bodiesB, capacity);
+		normalX = Arrays.copyOf(normalX, capacity);
+		normalY = Arrays.copyOf(normalY, capacity);
+		depths = Arrays.copyOf(depths, capacity);
+		pointX = Arrays.copyOf(pointX, capacity);
+		pointY = Arrays.copyOf(pointY, capacity);
+	}
+	
+	/*
+	 * Get the number of contacts in this list
+	 * @return int - The number of contacts
+	 */
+	public int getCount() {
+		return count;
+	}
+	/*
+	 * Get the first body of a contact
+	 * @param int index - The index of the contact
+	 * @return int - The identifier of the first body
+	 */
+	public int getBodyA(int index) {
+		return bodiesA[index];
+	}
+	/*
+	 * Get the second body of a contact
+	 * @param int index - The index of the contact
+	 * @return int - The identifier of the second body
+	 */
+	public int getBodyB(int index) {
+		return bodiesB[index];
+	}
+	/*
+	 * Get the x component of a contact's unit normal
+	 * @param int index - The index of the contact
+	 * @return double - The normal's x component
+	 */
+	public double getNormalX(int index) {
+		return normalX[index];
+	}
+	/*
+	 * Get the y component of a contact's unit normal
+	 * @param int index - The index of the contact
+	 * @return double - The normal's y component
+	 */
+	public double getNormalY(int index) {
+		return normalY[index];
+	}
+	/*
+	 * Read a contact's unit normal, pointing from the first body to the
+	 * second, into an existing vector
+	 * @param int index - The index of the contact
+	 * @param Vector2D result - The vector to write the normal to
+	 * @return Vector2D - The result vector
+	 */
+	public Vector2D getNormal(int index, Vector2D result) {
+		result.x = normalX[index];
+		result.y = normalY[index];
+		return result;
+	}
+	/*
+	 * Get the depth the bodies of a contact overlap by along its normal, moving
+	 * the second body this far along the normal separates them
+	 * @param int index - The index of the contact
+	 * @return double - The penetration depth
+	 */
+	public double getDepth(int index) {
+		return depths[index];
+	}
+	/*
+	 * Get the x coordinate of a contact's point
+	 * @param int index - The index of the contact
+	 * @return double - The point's x coordinate
+	 */
+	public double getPointX(int index) {
+		return pointX[index];
+	}
+	/*
+	 * Get the y coordinate of a contact's point
+	 * @param int index - The index of the contact
+	 * @return double - The point's y coordinate
+	 */
+	public double getPointY(int index) {
+		return pointY[index];
+	}
+	/*
+	 * Read a contact's point into an existing vector
+	 * @param int index - The index of the contact
+	 * @param Vector2D result - The vector to write the point to
+	 * @return Vector2D - The result vector
+	 */
+	public Vector2D getPoint(int index, Vector2D result) {
+		result.x = pointX[index];
+		result.y = pointY[index];
+		return result;
+	}
+	
+}
@@ -0,0 +1,39 @@
+/*
+ * File:		ShapeType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the shapes of bodies in a collision world
+ */
+
+package com.github.kmacdonald222.asclepiasfw.collision;
+
+// Enumeration of the shapes a body in a collision world can have
+public enum ShapeType {
+	
+	// Rectangle aligned with the x and y axes, described by its center and
+	// half of its width and height
+	BOX("Box"),
+	// Circle, described by its center and radius
+	CIRCLE("Circle");
+	
+	// The name of this shape type
+	private String name = "";
+	
+	/*
+	 * Construct a new shape type with a name
+	 * @param String name - The name of this shape type
+	 */
+	private ShapeType(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this shape type to its name to represent as a string
+	 * @return String - The string representation of this shape type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -8,8 +8,10 @@
 
 package com.github.kmacdonald222.asclepiasfw.data;
 
+import com.github.kmacdonald222.asclepiasfw.pooling.Poolable;
+
 // 2D floating-point vector class
-public class Vector2D {
+public class Vector2D implements Poolable {
 
 	// The first component of this vector
 	public double x = 0.0d;
@@ -33,6 +35,33 @@ public class Vector2D {
 		this.y = y;
 	}
 	
+	/*
+	 * Set this vector's components in place, for reusing pooled vectors
+	 * @param double x - The first component
+	 * @param double y - The second component
+	 * @return Vec2D - This vector
+	 */
+	public Vector2D set(double x, double y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+	/*
+	 * Copy another vector's components into this one in place
+	 * @param Vec2D vec - The vector to copy
+	 * @return Vec2D - This vector
+	 */
+	public Vector2D set(Vector2D vec) {
+		return set(vec.x, vec.y);
+	}
+	/*
+	 * Reset this vector to the zero-vector as it is returned to a pool
+	 */
+	@Override
+	public void reset() {
+		x = 0.0d;
+		y = 0.0d;
+	}
 	/*
 	 * Compute the sum of this vector with another one
 	 * @param Vec2D vec - The vector to add to this one
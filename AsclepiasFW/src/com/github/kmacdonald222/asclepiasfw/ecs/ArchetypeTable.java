@@ -0,0 +1,244 @@
+/*
+ * File:		ArchetypeTable.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a table storing the components of every entity with the
+ * 				same set of component types as primitive array columns
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+
+// Table of every entity with exactly the same set of component types (an
+// archetype), storing each component field as its own double array so systems
+// iterate over contiguous memory rather than chasing a reference per entity
+public class ArchetypeTable {
+	
+	// The number of rows a table has room for when created
+	private static final int InitialCapacity = 64;
+	
+	// The bits of the world's identifiers of the component types in this
+	// archetype
+	private long mask = 0L;
+	// The component types in this archetype in identifier order
+	private ComponentType[] types = null;
+	// The index of the first column of each component type in this archetype
+	private int[] firstColumns = null;
+	// The columns of component field values, one per field of each component
+	// type
+	private double[][] columns = null;
+	// The handle of the entity in each row
+	private int[] entities = null;
+	// The number of rows in use
+	private int size = 0;
+	
+	/*
+	 * Construct an empty archetype table
+	 * @param long mask - The bits of the identifiers of the component types in
+	 * the archetype
+	 * @param ComponentType[] types - The component types in the archetype in
+	 * identifier order
+	 */
+	ArchetypeTable(long mask, ComponentType[] types) {
+		this.mask = mask;
+		this.types = types;
+		firstColumns = new int[types.length];
+		int columnCount = 0;
+		for (int i = 0; i < types.length; i++) {
+			firstColumns[i] = columnCount;
+			columnCount += types[i].getFieldCount();
+		}
+		columns = new double[columnCount][InitialCapacity];
+		entities = new int[InitialCapacity];
+	}
+	
+	/*
+	 * Append a row for an entity with every field set to 0, growing the
+	 * columns if they are full
+	 * @param int entity - The handle of the entity
+	 * @return int - The index of the new row
+	 */
+	int addRow(int entity) {
+		if (size == entities.length) {
+			int capacity = entities.length * 2;
+			entities = Arrays.copyOf(entities, capacity);
+			for (int i = 0; i < columns.length; i++) {
+				columns[i] = Arrays.copyOf(columns[i], capacity);
+			}
+		}
+		int row = size++;
+		entities[row] = entity;
+		for (double[] column : columns) {
+			column[row] = 0.0d;
+		}
+		return row;
+	}
+	/*
+	 * Remove a row by moving the last row into its place
+	 * @param int row - The index of the row to remove
+	 * @return int - The handle of the entity moved into the row, or
+	 * EntityWorld.NullEntity if the removed row was the last
+	 */
+	int removeRow(int row) {
+		int last = --size;
+		if (row == last) {
+			return EntityWorld.NullEntity;
+		}
+		entities[row] = entities[last];
+		for (double[] column : columns) {
+			column[row] = column[last];
+		}
+		return entities[row];
+	}
+	/*
+	 * Copy the fields of every component type this table shares with another
+	 * into one of its rows
+	 * @param int row - The index of the row in this table to copy from
+	 * @param ArchetypeTable target - The table to copy into
+	 * @param int targetRow - The index of the row in the target table
+	 */
+	void copyRow(int row, ArchetypeTable target, int targetRow) {
+		for (int t = 0; t < types.length; t++) {
+			ComponentType type = types[t];
+			int targetColumn = target.getFirstColumn(type);
+			if (targetColumn < 0) {
+				continue;
+			}
+			int column = firstColumns[t];
+			for (int i = 0; i < type.getFieldCount(); i++) {
+				target.columns[targetColumn + i][targetRow] =
+						columns[column + i][row];
+			}
+		}
+	}
+	/*
+	 * Find the first column of a component type, archetypes hold few types so
+	 * searching them is cheap and leaves type identifiers to each world
+	 * @param ComponentType type - The component type
+	 * @return int - The index of the type's first column, or -1 if the
+	 * archetype does not include it
+	 */
+	private int getFirstColumn(ComponentType type) {
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == type) {
+				return firstColumns[i];
+			}
+		}
+		return -1;
+	}
+	
+	/*
+	 * Test whether this archetype includes a component type
+	 * @param ComponentType type - The component type
+	 * @return boolean - Whether entities in this table have the component
+	 */
+	public boolean hasComponent(ComponentType type) {
+		return getFirstColumn(type) >= 0;
+	}
+	/*
+	 * Get the column of values of one field of a component type, the array is
+	 * replaced when the table grows so it should be fetched again each update
+	 * rather than kept
+	 * @param ComponentType type - The component type
+	 * @param int field - The index of the field within the component type
+	 * @return double[] - The field's values indexed by row, only the first
+	 * getSize() of which are in use, or null if the archetype does not include
+	 * the component type
+	 */
+	public double[] getColumn(ComponentType type, int field) {
+		int column = getFirstColumn(type);
+		if (column < 0) {
+			return null;
+		}
+		return columns[column + field];
+	}
+	/*
+	 * Get the value of one field of a component in a row
+	 * @param int row - The index of the row
+	 * @param ComponentType type - The component type
+	 * @param int field - The index of the field within the component type
+	 * @return double - The field's value
+	 */
+	public double get(int row, ComponentType type, int field) {
+		return columns[getFirstColumn(type) + field][row];
+	}
+	/*
+	 * Set the value of one field of a component in a row
+	 * @param int row - The index of the row
+	 * @param ComponentType type - The component type
+	 * @param int field - The index of the field within the component type
+	 * @param double value - The field's new value
+	 */
+	public void set(int row, ComponentType type, int field, double value) {
+		columns[getFirstColumn(type) + field][row] = value;
+	}
+	/*
+	 * Read a vector component in a row into an existing vector
+	 * @param int row - The index of the row
+	 * @param ComponentType type - The vector component type
+	 * @param Vector2D result - The vector to write the component's x and y
+	 * fields to
+	 * @return Vector2D - The result vector
+	 */
+	public Vector2D getVector(int row, ComponentType type, Vector2D result) {
+		int column = getFirstColumn(type);
+		result.x = columns[column + ComponentType.X][row];
+		result.y = columns[column + ComponentType.Y][row];
+		return result;
+	}
+	/*
+	 * Set a vector component in a row
+	 * @param int row - The index of the row
+	 * @param ComponentType type - The vector component type
+	 * @param double x - The component's new x field
+	 * @param double y - The component's new y field
+	 */
+	public void setVector(int row, ComponentType type, double x, double y) {
+		int column = getFirstColumn(type);
+		columns[column + ComponentType.X][row] = x;
+		columns[column + ComponentType.Y][row] = y;
+	}
+	
+	/*
+	 * Get the bits of the world's identifiers of the component types in this
+	 * archetype
+	 * @return long - The archetype's mask
+	 */
+	public long getMask() {
+		return mask;
+	}
+	/*
+	 * Get the number of component types in this archetype
+	 * @return int - The number of component types
+	 */
+	public int getTypeCount() {
+		return types.length;
+	}
+	/*
+	 * Get one of the component types in this archetype
+	 * @param int index - The index of the component type in identifier order
+	 * @return ComponentType - The component type
+	 */
+	public ComponentType getType(int index) {
+		return types[index];
+	}
+	/*
+	 * Get the number of entities in this table
+	 * @return int - The number of rows in use
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the entity in a row
+	 * @param int row - The index of the row
+	 * @return int - The handle of the entity
+	 */
+	public int getEntity(int row) {
+		return entities[row];
+	}
+	
+}
@@ -0,0 +1,103 @@
+/*
+ * File:		ComponentType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a type of component which can be attached to entities in
+ * 				an entity world
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+// A type of component made of named double fields, each field is stored as its
+// own primitive array column in every archetype table holding the component (a
+// component type may be used by any number of entity worlds, each of which
+// gives the types it uses its own identifiers)
+public class ComponentType {
+	
+	// The maximum number of component types a single entity world can use, so
+	// the set of components in an archetype fits in the bits of a long
+	public static final int MaximumTypes = 64;
+	// The index of the x field of a vector component
+	public static final int X = 0;
+	// The index of the y field of a vector component
+	public static final int Y = 1;
+	
+	// The name of this component type
+	private String name = "";
+	// The names of this component type's fields
+	private String[] fieldNames = null;
+	
+	/*
+	 * Construct a new component type
+	 * @param String name - The name of the component type
+	 * @param String... fieldNames - The names of the component type's fields,
+	 * all stored as doubles
+	 */
+	public ComponentType(String name, String... fieldNames) {
+		this.name = name;
+		this.fieldNames = fieldNames.clone();
+	}
+	/*
+	 * Create a component type with x and y fields to use with the vector
+	 * operations in VectorColumns
+	 * @param String name - The name of the component type
+	 * @return ComponentType - The vector component type
+	 */
+	public static ComponentType CreateVector(String name) {
+		return new ComponentType(name, "x", "y");
+	}
+	/*
+	 * Create a component type with no fields to mark entities with
+	 * @param String name - The name of the component type
+	 * @return ComponentType - The tag component type
+	 */
+	public static ComponentType CreateTag(String name) {
+		return new ComponentType(name);
+	}
+	
+	/*
+	 * Get the name of this component type
+	 * @return String - The component type's name
+	 */
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get the number of fields in this component type
+	 * @return int - The number of fields
+	 */
+	public int getFieldCount() {
+		return fieldNames.length;
+	}
+	/*
+	 * Get the name of one of this component type's fields
+	 * @param int field - The index of the field
+	 * @return String - The field's name
+	 */
+	public String getFieldName(int field) {
+		return fieldNames[field];
+	}
+	/*
+	 * Find the index of one of this component type's fields by name
+	 * @param String fieldName - The name of the field
+	 * @return int - The field's index, or -1 if there is no such field
+	 */
+	public int getFieldIndex(String fieldName) {
+		for (int i = 0; i < fieldNames.length; i++) {
+			if (fieldNames[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/*
+	 * Convert this component type to its name to represent as a string
+	 * @return String - The string representation of this component type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
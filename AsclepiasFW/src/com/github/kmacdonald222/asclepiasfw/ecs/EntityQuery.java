@@ -0,0 +1,101 @@
+/*
+ * File:		EntityQuery.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a query for the archetype tables of an entity world
+ * 				holding a set of component types
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Query for the archetype tables whose entities have every required component
+// type and none of the excluded ones, the matching tables are cached and kept
+// up to date by the entity world as new archetypes are created so running a
+// query never searches
+public class EntityQuery {
+	
+	// The bits of the identifiers of the required component types
+	private long requiredMask = 0L;
+	// The bits of the identifiers of the excluded component types
+	private long excludedMask = 0L;
+	// The archetype tables matching this query
+	private List<ArchetypeTable> tables = new ArrayList<ArchetypeTable>();
+	
+	/*
+	 * Construct a query with no matching tables
+	 * @param long requiredMask - The bits of the required component types
+	 * @param long excludedMask - The bits of the excluded component types
+	 */
+	EntityQuery(long requiredMask, long excludedMask) {
+		this.requiredMask = requiredMask;
+		this.excludedMask = excludedMask;
+	}
+	
+	/*
+	 * Test whether an archetype matches this query
+	 * @param long mask - The bits of the archetype's component types
+	 * @return boolean - Whether the archetype has every required and no
+	 * excluded component type
+	 */
+	boolean matches(long mask) {
+		return (mask & requiredMask) == requiredMask
+				&& (mask & excludedMask) == 0L;
+	}
+	/*
+	 * Add a table to this query's matches if its archetype matches
+	 * @param ArchetypeTable table - The newly created table
+	 */
+	void offerTable(ArchetypeTable table) {
+		if (matches(table.getMask())) {
+			tables.add(table);
+		}
+	}
+	
+	/*
+	 * Get the bits of the identifiers of the component types this query
+	 * requires
+	 * @return long - The query's required mask
+	 */
+	public long getRequiredMask() {
+		return requiredMask;
+	}
+	/*
+	 * Get the bits of the identifiers of the component types this query
+	 * excludes
+	 * @return long - The query's excluded mask
+	 */
+	public long getExcludedMask() {
+		return excludedMask;
+	}
+	/*
+	 * Get the number of archetype tables matching this query, including empty
+	 * ones
+	 * @return int - The number of matching tables
+	 */
+	public int getTableCount() {
+		return tables.size();
+	}
+	/*
+	 * Get one of the archetype tables matching this query
+	 * @param int index - The index of the table
+	 * @return ArchetypeTable - The matching table
+	 */
+	public ArchetypeTable getTable(int index) {
+		return tables.get(index);
+	}
+	/*
+	 * Count the entities matching this query
+	 * @return int - The total number of rows in the matching tables
+	 */
+	public int getEntityCount() {
+		int count = 0;
+		for (int i = 0; i < tables.size(); i++) {
+			count += tables.get(i).getSize();
+		}
+		return count;
+	}
+	
+}
@@ -0,0 +1,26 @@
+/*
+ * File:		EntitySystem.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback interface for systems which update the
+ * 				entities matching a query each logic update
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+// Callback interface for a system, called with ranges of rows of each archetype
+// table matching the system's query
+public interface EntitySystem {
+	
+	/*
+	 * Update a range of rows of an archetype table, possibly concurrently with
+	 * other ranges of the same table if the system was added as parallel so
+	 * only the rows in the range should be written
+	 * @param ArchetypeTable table - The table to update
+	 * @param int start - The first row of the range (inclusive)
+	 * @param int end - The last row of the range (exclusive)
+	 * @param double delta - The number of logic updates advanced by
+	 */
+	public void update(ArchetypeTable table, int start, int end, double delta);
+	
+}
@@ -0,0 +1,703 @@
+/*
+ * File:		EntityWorld.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a world of entities whose components are stored in
+ * 				archetype tables and updated by systems
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.jobs.JobSystem;
+
+// World of entities grouped into archetype tables by their set of component
+// types, entities are integer handles which stay valid until destroyed and
+// systems are run over the tables matching their queries each update, usually
+// from a scene's timedUpdate (structural changes should be made from the
+// thread updating the world, while systems are running creating and destroying
+// entities and adding or removing components are deferred until every system
+// has finished), each world gives the component types it uses their own
+// identifiers so types may be shared between worlds
+public class EntityWorld {
+	
+	// Handle which refers to no entity
+	public static final int NullEntity = -1;
+	// The number of rows of a table in each chunk of a parallel system by
+	// default
+	public static final int DefaultGrainSize = 4096;
+	
+	// The number of bits of an entity handle holding its index
+	private static final int IndexBits = 24;
+	// The bits of an entity handle holding its index
+	private static final int IndexMask = (1 << IndexBits) - 1;
+	// The bits of an entity index's generation kept in its handle (leaving
+	// handles positive)
+	private static final int GenerationMask = 0x7F;
+	// The number of entity indices there is room for when a world is created
+	private static final int InitialCapacity = 256;
+	// Deferred operation destroying an entity
+	private static final byte DestroyOperation = 0;
+	// Deferred operation adding a component to an entity
+	private static final byte AddOperation = 1;
+	// Deferred operation removing a component from an entity
+	private static final byte RemoveOperation = 2;
+	// Deferred operation placing a created entity in its table
+	private static final byte CreateOperation = 3;
+	
+	// A system added to the world
+	private class SystemEntry {
+		
+		// The query selecting the tables the system updates
+		public EntityQuery query = null;
+		// The system
+		public EntitySystem system = null;
+		// Whether each table is split into chunks updated by the job system
+		public boolean parallel = false;
+		// The number of rows in each chunk when run in parallel
+		public int grainSize = DefaultGrainSize;
+		
+		/*
+		 * Construct a system entry
+		 * @param EntityQuery query - The query selecting the tables the system
+		 * updates
+		 * @param EntitySystem system - The system
+		 * @param boolean parallel - Whether tables are split into chunks
+		 * updated by the job system
+		 * @param int grainSize - The number of rows in each chunk
+		 */
+		public SystemEntry(EntityQuery query, EntitySystem system,
+				boolean parallel, int grainSize) {
+			this.query = query;
+			this.system = system;
+			this.parallel = parallel;
+			this.grainSize = grainSize;
+		}
+		
+	}
+	
+	// The job system parallel systems are run on (null to run every system on
+	// the updating thread)
+	private JobSystem jobs = null;
+	// The identifier this world gives each component type it uses
+	private Map<ComponentType, Integer> typeIDs =
+			new IdentityHashMap<ComponentType, Integer>();
+	// The archetype tables by the mask of their component types
+	private Map<Long, ArchetypeTable> tablesByMask =
+			new HashMap<Long, ArchetypeTable>();
+	// The archetype tables in the order they were created
+	private List<ArchetypeTable> tables = new ArrayList<ArchetypeTable>();
+	// The queries created for this world
+	private List<EntityQuery> queries = new ArrayList<EntityQuery>();
+	// The systems in the order they run
+	private List<SystemEntry> systems = new ArrayList<SystemEntry>();
+	// The table holding each entity index (null for free indices)
+	private ArchetypeTable[] locations = new ArchetypeTable[InitialCapacity];
+	// The row in its table of each entity index
+	private int[] rows = new int[InitialCapacity];
+	// The generation of each entity index, incremented when it is freed
+	private int[] generations = new int[InitialCapacity];
+	// Stack of freed entity indices to reuse
+	private int[] freeIndices = new int[InitialCapacity];
+	// The number of freed entity indices on the stack
+	private int freeCount = 0;
+	// The number of entity indices ever used
+	private int indexCount = 0;
+	// The number of live entities
+	private int entityCount = 0;
+	// Whether systems are currently running
+	private boolean updating = false;
+	// The deferred operations queued while systems were running
+	private byte[] pendingOperations = new byte[16];
+	// The entity of each deferred operation
+	private int[] pendingEntities = new int[16];
+	// The component type of each deferred operation (null for destroys and
+	// creations)
+	private ComponentType[] pendingTypes = new ComponentType[16];
+	// The component types of each deferred creation (null for other
+	// operations)
+	private ComponentType[][] pendingTypeSets = new ComponentType[16][];
+	// The number of deferred operations queued
+	private int pendingCount = 0;
+	
+	/*
+	 * Construct an empty entity world
+	 * @param JobSystem jobs - The job system to run parallel systems on (null
+	 * to run every system on the updating thread)
+	 */
+	public EntityWorld(JobSystem jobs) {
+		this.jobs = jobs;
+	}
+	
+	/*
+	 * Create an entity with a set of components, each with every field set to
+	 * 0 (while systems are running the handle is reserved immediately but the
+	 * entity is only alive once every system has finished)
+	 * @param ComponentType... types - The entity's component types
+	 * @return int - The new entity's handle, or NullEntity if the world has no
+	 * free entity indices or already uses the most component types
+	 */
+	public int createEntity(ComponentType... types) {
+		long mask = 0L;
+		for (ComponentType type : types) {
+			long typeMask = getTypeMask(type);
+			if (typeMask == 0L) {
+				return NullEntity;
+			}
+			mask |= typeMask;
+		}
+		if (updating) {
+			return deferCreation(types);
+		}
+		int index = reserveIndex();
+		if (index < 0) {
+			return NullEntity;
+		}
+		int entity = (generations[index] << IndexBits) | index;
+		placeEntity(index, entity, mask, types);
+		return entity;
+	}
+	/*
+	 * Destroy an entity, deferred until systems have finished if they are
+	 * running
+	 * @param int entity - The handle of the entity
+	 * @return boolean - Whether the entity was alive
+	 */
+	public boolean destroyEntity(int entity) {
+		if (!isAlive(entity)) {
+			return false;
+		}
+		if (updating) {
+			defer(DestroyOperation, entity, null, null);
+			return true;
+		}
+		int index = entity & IndexMask;
+		removeFromTable(index);
+		locations[index] = null;
+		generations[index] = (generations[index] + 1) & GenerationMask;
+		if (freeCount == freeIndices.length) {
+			freeIndices = Arrays.copyOf(freeIndices, freeIndices.length * 2);
+		}
+		freeIndices[freeCount++] = index;
+		entityCount--;
+		return true;
+	}
+	/*
+	 * Add a component to an entity with every field set to 0, moving the
+	 * entity to the table of its new archetype (deferred until systems have
+	 * finished if they are running)
+	 * @param int entity - The handle of the entity
+	 * @param ComponentType type - The component type to add
+	 * @return boolean - Whether the entity was alive and did not already have
+	 * the component
+	 */
+	public boolean addComponent(int entity, ComponentType type) {
+		long typeMask = getTypeMask(type);
+		if (typeMask == 0L || !isAlive(entity) || hasComponent(entity,
+				type)) {
+			return false;
+		}
+		if (updating) {
+			defer(AddOperation, entity, type, null);
+			return true;
+		}
+		int index = entity & IndexMask;
+		moveEntity(index, locations[index].getMask() | typeMask, type);
+		return true;
+	}
+	/*
+	 * Remove a component from an entity, moving the entity to the table of its
+	 * new archetype (deferred until systems have finished if they are running)
+	 * @param int entity - The handle of the entity
+	 * @param ComponentType type - The component type to remove
+	 * @return boolean - Whether the entity was alive and had the component
+	 */
+	public boolean removeComponent(int entity, ComponentType type) {
+		if (!isAlive(entity) || !hasComponent(entity, type)) {
+			return false;
+		}
+		if (updating) {
+			defer(RemoveOperation, entity, type, null);
+			return true;
+		}
+		int index = entity & IndexMask;
+		moveEntity(index, locations[index].getMask() & ~getTypeMask(type),
+				type);
+		return true;
+	}
+	/*
+	 * Create a query for the entities with a set of component types, queries
+	 * with the same component types are shared
+	 * @param ComponentType... required - The component types matching
+	 * entities must have
+	 * @return EntityQuery - The query
+	 */
+	public EntityQuery createQuery(ComponentType... required) {
+		return createQuery(required, new ComponentType[0]);
+	}
+	/*
+	 * Create a query for the entities with one set of component types and
+	 * without another, queries with the same component types are shared
+	 * @param ComponentType[] required - The component types matching entities
+	 * must have
+	 * @param ComponentType[] excluded - The component types matching entities
+	 * must not have
+	 * @return EntityQuery - The query, or null if the world already uses the
+	 * most component types
+	 */
+	public EntityQuery createQuery(ComponentType[] required,
+			ComponentType[] excluded) {
+		long requiredMask = 0L;
+		for (ComponentType type : required) {
+			long typeMask = getTypeMask(type);
+			if (typeMask == 0L) {
+				return null;
+			}
+			requiredMask |= typeMask;
+		}
+		long excludedMask = 0L;
+		for (ComponentType type : excluded) {
+			long typeMask = getTypeMask(type);
+			if (typeMask == 0L) {
+				return null;
+			}
+			excludedMask |= typeMask;
+		}
+		for (EntityQuery query : queries) {
+			if (query.getRequiredMask() == requiredMask
+					&& query.getExcludedMask() == excludedMask) {
+				return query;
+			}
+		}
+		EntityQuery query = new EntityQuery(requiredMask, excludedMask);
+		for (ArchetypeTable table : tables) {
+			query.offerTable(table);
+		}
+		queries.add(query);
+		return query;
+	}
+	/*
+	 * Add a system to run on the updating thread after those already added
+	 * @param EntityQuery query - The query selecting the tables the system
+	 * updates
+	 * @param EntitySystem system - The system
+	 */
+	public void addSystem(EntityQuery query, EntitySystem system) {
+		addSystem(query, system, false, DefaultGrainSize);
+	}
+	/*
+	 * Add a system to run after those already added
+	 * @param EntityQuery query - The query selecting the tables the system
+	 * updates
+	 * @param EntitySystem system - The system
+	 * @param boolean parallel - Whether tables larger than a chunk are split
+	 * into chunks of DefaultGrainSize rows updated by the job system
+	 */
+	public void addSystem(EntityQuery query, EntitySystem system,
+			boolean parallel) {
+		addSystem(query, system, parallel, DefaultGrainSize);
+	}
+	/*
+	 * Add a system to run after those already added
+	 * @param EntityQuery query - The query selecting the tables the system
+	 * updates
+	 * @param EntitySystem system - The system
+	 * @param boolean parallel - Whether tables larger than a chunk are split
+	 * into chunks updated by the job system
+	 * @param int grainSize - The number of rows in each chunk, tables are
+	 * always split into the same chunks regardless of the number of workers
+	 */
+	public void addSystem(EntityQuery query, EntitySystem system,
+			boolean parallel, int grainSize) {
+		systems.add(new SystemEntry(query, system, parallel,
+				Math.max(grainSize, 1)));
+	}
+	/*
+	 * Remove a system
+	 * @param EntitySystem system - The system to remove
+	 * @return boolean - Whether the system had been added
+	 */
+	public boolean removeSystem(EntitySystem system) {
+		for (int i = 0; i < systems.size(); i++) {
+			if (systems.get(i).system == system) {
+				systems.remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+	/*
+	 * Run every system in the order they were added over the tables matching
+	 * their queries, then apply the structural changes they deferred
+	 * @param double delta - The number of logic updates advanced by
+	 * @return boolean - Whether every parallel system finished without an
+	 * error
+	 */
+	public boolean update(double delta) {
+		boolean success = true;
+		updating = true;
+		for (int i = 0; i < systems.size(); i++) {
+			SystemEntry entry = systems.get(i);
+			EntitySystem system = entry.system;
+			for (int t = 0; t < entry.query.getTableCount(); t++) {
+				ArchetypeTable table = entry.query.getTable(t);
+				int size = table.getSize();
+				if (size == 0) {
+					continue;
+				}
+				if (entry.parallel && jobs != null && size > entry.grainSize) {
+					if (!jobs.parallelFor(0, size, entry.grainSize,
+							(start, end) -> system.update(table, start, end,
+							delta))) {
+						success = false;
+					}
+				} else {
+					system.update(table, 0, size, delta);
+				}
+			}
+		}
+		updating = false;
+		applyDeferred();
+		return success;
+	}
+	/*
+	 * Destroy every entity, table, query and system and forget the component
+	 * types used, advancing the generation of every index as destroying each
+	 * entity would so handles from before the clear stay invalid
+	 */
+	public void clear() {
+		typeIDs.clear();
+		tablesByMask.clear();
+		tables.clear();
+		queries.clear();
+		systems.clear();
+		Arrays.fill(locations, null);
+		for (int index = 0; index < indexCount; index++) {
+			generations[index] = (generations[index] + 1) & GenerationMask;
+		}
+		freeCount = 0;
+		indexCount = 0;
+		entityCount = 0;
+		Arrays.fill(pendingTypes, null);
+		Arrays.fill(pendingTypeSets, null);
+		pendingCount = 0;
+	}
+	
+	/*
+	 * Get the bit representing a component type in this world's archetype
+	 * masks, giving it the next identifier if the world has not used it yet
+	 * (safe to call from parallel systems)
+	 * @param ComponentType type - The component type
+	 * @return long - The component type's mask bit, or 0 if the type is null
+	 * or the world already uses the most component types
+	 */
+	private synchronized long getTypeMask(ComponentType type) {
+		if (type == null) {
+			return 0L;
+		}
+		Integer ID = typeIDs.get(type);
+		if (ID == null) {
+			if (typeIDs.size() == ComponentType.MaximumTypes) {
+				return 0L;
+			}
+			ID = typeIDs.size();
+			typeIDs.put(type, ID);
+		}
+		return 1L << ID;
+	}
+	/*
+	 * Take a free entity index, or the next unused one if none are free
+	 * @return int - The entity index, or -1 if every index is in use
+	 */
+	private int reserveIndex() {
+		if (freeCount > 0) {
+			return freeIndices[--freeCount];
+		}
+		if (indexCount > IndexMask) {
+			return -1;
+		}
+		int index = indexCount++;
+		if (index == locations.length) {
+			int capacity = locations.length * 2;
+			locations = Arrays.copyOf(locations, capacity);
+			rows = Arrays.copyOf(rows, capacity);
+			generations = Arrays.copyOf(generations, capacity);
+		}
+		return index;
+	}
+	/*
+	 * Add a row for an entity to the table of its archetype, making it alive
+	 * @param int index - The entity's index
+	 * @param int entity - The handle of the entity
+	 * @param long mask - The bits of the entity's component types
+	 * @param ComponentType[] types - The entity's component types
+	 */
+	private void placeEntity(int index, int entity, long mask,
+			ComponentType[] types) {
+		ArchetypeTable table = getOrCreateTable(mask, types);
+		locations[index] = table;
+		rows[index] = table.addRow(entity);
+		entityCount++;
+	}
+	/*
+	 * Reserve a handle for an entity created while systems are running and
+	 * queue placing it in its table, safe to call from parallel systems
+	 * @param ComponentType[] types - The entity's component types
+	 * @return int - The new entity's handle, or NullEntity if every index is in
+	 * use
+	 */
+	private synchronized int deferCreation(ComponentType[] types) {
+		int index = reserveIndex();
+		if (index < 0) {
+			return NullEntity;
+		}
+		int entity = (generations[index] << IndexBits) | index;
+		defer(CreateOperation, entity, null, types.clone());
+		return entity;
+	}
+	/*
+	 * Find the table of an archetype, creating it and offering it to every
+	 * query if it does not exist yet
+	 * @param long mask - The bits of the archetype's component types
+	 * @param ComponentType[] types - The archetype's component types in any
+	 * order, possibly with repeats or extra types outside the mask
+	 * @return ArchetypeTable - The archetype's table
+	 */
+	private ArchetypeTable getOrCreateTable(long mask, ComponentType[] types) {
+		ArchetypeTable table = tablesByMask.get(mask);
+		if (table != null) {
+			return table;
+		}
+		ComponentType[] sorted = new ComponentType[Long.bitCount(mask)];
+		for (ComponentType type : types) {
+			long typeMask = getTypeMask(type);
+			if ((mask & typeMask) != 0L) {
+				sorted[Long.bitCount(mask & (typeMask - 1L))] = type;
+			}
+		}
+		table = new ArchetypeTable(mask, sorted);
+		tablesByMask.put(mask, table);
+		tables.add(table);
+		for (EntityQuery query : queries) {
+			query.offerTable(table);
+		}
+		return table;
+	}
+	/*
+	 * Remove an entity index's row from its table, updating the row of the
+	 * entity moved into its place
+	 * @param int index - The entity index
+	 */
+	private void removeFromTable(int index) {
+		int moved = locations[index].removeRow(rows[index]);
+		if (moved != NullEntity) {
+			rows[moved & IndexMask] = rows[index];
+		}
+	}
+	/*
+	 * Move an entity index to the table of another archetype, keeping the
+	 * fields of the component types both archetypes share
+	 * @param int index - The entity index
+	 * @param long mask - The bits of the new archetype's component types
+	 * @param ComponentType type - The component type being added or removed
+	 */
+	private void moveEntity(int index, long mask, ComponentType type) {
+		ArchetypeTable source = locations[index];
+		ComponentType[] types = new ComponentType[source.getTypeCount() + 1];
+		for (int i = 0; i < source.getTypeCount(); i++) {
+			types[i] = source.getType(i);
+		}
+		types[types.length - 1] = type;
+		ArchetypeTable target = getOrCreateTable(mask, types);
+		int row = target.addRow(source.getEntity(rows[index]));
+		source.copyRow(rows[index], target, row);
+		removeFromTable(index);
+		locations[index] = target;
+		rows[index] = row;
+	}
+	/*
+	 * Queue a structural change to apply once systems have finished, safe to
+	 * call from parallel systems
+	 * @param byte operation - The kind of change
+	 * @param int entity - The handle of the entity to change
+	 * @param ComponentType type - The component type added or removed
+	 * @param ComponentType[] types - The component types of a created entity
+	 */
+	private synchronized void defer(byte operation, int entity,
+			ComponentType type, ComponentType[] types) {
+		if (pendingCount == pendingOperations.length) {
+			int capacity = pendingOperations.length * 2;
+			pendingOperations = Arrays.copyOf(pendingOperations, capacity);
+			pendingEntities = Arrays.copyOf(pendingEntities, capacity);
+			pendingTypes = Arrays.copyOf(pendingTypes, capacity);
+			pendingTypeSets = Arrays.copyOf(pendingTypeSets, capacity);
+		}
+		pendingOperations[pendingCount] = operation;
+		pendingEntities[pendingCount] = entity;
+		pendingTypes[pendingCount] = type;
+		pendingTypeSets[pendingCount] = types;
+		pendingCount++;
+	}
+	/*
+	 * Apply the structural changes queued while systems were running in the
+	 * order they were queued
+	 */
+	private void applyDeferred() {
+		for (int i = 0; i < pendingCount; i++) {
+			switch (pendingOperations[i]) {
+			case DestroyOperation:
+				destroyEntity(pendingEntities[i]);
+				break;
+			case AddOperation:
+				addComponent(pendingEntities[i], pendingTypes[i]);
+				break;
+			case RemoveOperation:
+				removeComponent(pendingEntities[i], pendingTypes[i]);
+				break;
+			case CreateOperation:
+				ComponentType[] types = pendingTypeSets[i];
+				long mask = 0L;
+				for (ComponentType type : types) {
+					mask |= getTypeMask(type);
+				}
+				placeEntity(pendingEntities[i] & IndexMask,
+						pendingEntities[i], mask, types);
+				break;
+			}
+			pendingTypes[i] = null;
+			pendingTypeSets[i] = null;
+		}
+		pendingCount = 0;
+	}
+	
+	/*
+	 * Test whether an entity handle refers to a live entity
+	 * @param int entity - The handle of the entity
+	 * @return boolean - Whether the entity exists and has not been destroyed
+	 */
+	public boolean isAlive(int entity) {
+		if (entity < 0) {
+			return false;
+		}
+		int index = entity & IndexMask;
+		return index < indexCount && locations[index] != null
+				&& generations[index] == entity >>> IndexBits;
+	}
+	/*
+	 * Test whether an entity has a component
+	 * @param int entity - The handle of the entity
+	 * @param ComponentType type - The component type
+	 * @return boolean - Whether the entity is alive and has the component
+	 */
+	public boolean hasComponent(int entity, ComponentType type) {
+		return isAlive(entity) && locations[entity & IndexMask]
+				.hasComponent(type);
+	}
+	/*
+	 * Get the table currently holding an entity, which changes when components
+	 * are added or removed
+	 * @param int entity - The handle of the entity
+	 * @return ArchetypeTable - The entity's table, or null if it is not alive
+	 */
+	public ArchetypeTable getTable(int entity) {
+		return isAlive(entity) ? locations[entity & IndexMask] : null;
+	}
+	/*
+	 * Get the row of an entity in its table, which changes when other
+	 * entities are removed from the table
+	 * @param int entity - The handle of the entity
+	 * @return int - The entity's row, or -1 if it is not alive
+	 */
+	public int getRow(int entity) {
+		return isAlive(entity) ? rows[entity & IndexMask] : -1;
+	}
+	/*
+	 * Get the value of one field of an entity's component
+	 * @param int entity - The handle of the entity, which must be alive and
+	 * have the component
+	 * @param ComponentType type - The component type
+	 * @param int field - The index of the field within the component type
+	 * @return double - The field's value
+	 */
+	public double get(int entity, ComponentType type, int field) {
+		int index = entity & IndexMask;
+		return locations[index].get(rows[index], type, field);
+	}
+	/*
+	 * Set the value of one field of an entity's component
+	 * @param int entity - The handle of the entity, which must be alive and
+	 * have the component
+	 * @param ComponentType type - The component type
+	 * @param int field - The index of the field within the component type
+	 * @param double value - The field's new value
+	 */
+	public void set(int entity, ComponentType type, int field, double value) {
+		int index = entity & IndexMask;
+		locations[index].set(rows[index], type, field, value);
+	}
+	/*
+	 * Read an entity's vector component into an existing vector
+	 * @param int entity - The handle of the entity, which must be alive and
+	 * have the component
+	 * @param ComponentType type - The vector component type
+	 * @param Vector2D result - The vector to write the component's x and y
+	 * fields to
+	 * @return Vector2D - The result vector
+	 */
+	public Vector2D getVector(int entity, ComponentType type,
+			Vector2D result) {
+		int index = entity & IndexMask;
+		return locations[index].getVector(rows[index], type, result);
+	}
+	/*
+	 * Set an entity's vector component
+	 * @param int entity - The handle of the entity, which must be alive and
+	 * have the component
+	 * @param ComponentType type - The vector component type
+	 * @param double x - The component's new x field
+	 * @param double y - The component's new y field
+	 */
+	public void setVector(int entity, ComponentType type, double x, double y) {
+		int index = entity & IndexMask;
+		locations[index].setVector(rows[index], type, x, y);
+	}
+	/*
+	 * Set an entity's vector component
+	 * @param int entity - The handle of the entity, which must be alive and
+	 * have the component
+	 * @param ComponentType type - The vector component type
+	 * @param Vector2D vec - The component's new value
+	 */
+	public void setVector(int entity, ComponentType type, Vector2D vec) {
+		setVector(entity, type, vec.x, vec.y);
+	}
+	/*
+	 * Get the number of live entities
+	 * @return int - The number of entities
+	 */
+	public int getEntityCount() {
+		return entityCount;
+	}
+	/*
+	 * Get the number of archetype tables created
+	 * @return int - The number of tables
+	 */
+	public int getTableCount() {
+		return tables.size();
+	}
+	/*
+	 * Get the number of systems added
+	 * @return int - The number of systems
+	 */
+	public int getSystemCount() {
+		return systems.size();
+	}
+	
+}
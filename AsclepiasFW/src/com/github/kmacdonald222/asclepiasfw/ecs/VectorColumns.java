@@ -0,0 +1,160 @@
+/*
+ * File:		VectorColumns.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines vector operations applied in place to the x and y
+ * 				columns of vector components in archetype tables
+ */
+
+package com.github.kmacdonald222.asclepiasfw.ecs;
+
+// Static Vector2D operations over ranges of rows of vector component columns,
+// giving systems the same arithmetic as Vector2D without an object per entity
+public final class VectorColumns {
+	
+	/*
+	 * Prevent construction of this collection of static operations
+	 */
+	private VectorColumns() {
+	}
+	
+	/*
+	 * Add one vector column pair to another (x += otherX, y += otherY)
+	 * @param double[] x - The x column to add to
+	 * @param double[] y - The y column to add to
+	 * @param double[] otherX - The x column to add
+	 * @param double[] otherY - The y column to add
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void Add(double[] x, double[] y, double[] otherX,
+			double[] otherY, int start, int end) {
+		for (int i = start; i < end; i++) {
+			x[i] += otherX[i];
+			y[i] += otherY[i];
+		}
+	}
+	/*
+	 * Add a scaled vector column pair to another (x += otherX * scalar, y +=
+	 * otherY * scalar), such as integrating velocity into position over a
+	 * logic update delta
+	 * @param double[] x - The x column to add to
+	 * @param double[] y - The y column to add to
+	 * @param double[] otherX - The x column to scale and add
+	 * @param double[] otherY - The y column to scale and add
+	 * @param double scalar - The value to scale the added vectors by
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void AddScaled(double[] x, double[] y, double[] otherX,
+			double[] otherY, double scalar, int start, int end) {
+		for (int i = start; i < end; i++) {
+			x[i] += otherX[i] * scalar;
+			y[i] += otherY[i] * scalar;
+		}
+	}
+	/*
+	 * Subtract one vector column pair from another (x -= otherX, y -= otherY)
+	 * @param double[] x - The x column to subtract from
+	 * @param double[] y - The y column to subtract from
+	 * @param double[] otherX - The x column to subtract
+	 * @param double[] otherY - The y column to subtract
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void Subtract(double[] x, double[] y, double[] otherX,
+			double[] otherY, int start, int end) {
+		for (int i = start; i < end; i++) {
+			x[i] -= otherX[i];
+			y[i] -= otherY[i];
+		}
+	}
+	/*
+	 * Scale a vector column pair
+	 * @param double[] x - The x column to scale
+	 * @param double[] y - The y column to scale
+	 * @param double scalar - The value to scale by
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void Scale(double[] x, double[] y, double scalar, int start,
+			int end) {
+		for (int i = start; i < end; i++) {
+			x[i] *= scalar;
+			y[i] *= scalar;
+		}
+	}
+	/*
+	 * Normalize a vector column pair, leaving zero vectors unchanged
+	 * @param double[] x - The x column to normalize
+	 * @param double[] y - The y column to normalize
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void Normalize(double[] x, double[] y, int start, int end) {
+		for (int i = start; i < end; i++) {
+			double magnitude = Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+			if (magnitude > 0.0d) {
+				x[i] /= magnitude;
+				y[i] /= magnitude;
+			}
+		}
+	}
+	/*
+	 * Rotate a vector column pair about the origin
+	 * @param double[] x - The x column to rotate
+	 * @param double[] y - The y column to rotate
+	 * @param double angle - The angle to rotate by in radians
+	 * @param int start - The first row (inclusive)
+	 * @param int end - The last row (exclusive)
+	 */
+	public static void Rotate(double[] x, double[] y, double angle, int start,
+			int end) {
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		for (int i = start; i < end; i++) {
+			double rotatedX = (x[i] * cos) - (y[i] * sin);
+			y[i] = (x[i] * sin) + (y[i] * cos);
+			x[i] = rotatedX;
+		}
+	}
+	/*
+	 * Compute the magnitude of one vector in a column pair
+	 * @param double[] x - The x column
+	 * @param double[] y - The y column
+	 * @param int row - The row of the vector
+	 * @return double - The vector's magnitude
+	 */
+	public static double Magnitude(double[] x, double[] y, int row) {
+		return Math.sqrt(x[row] * x[row] + y[row] * y[row]);
+	}
+	/*
+	 * Compute the dot product of two vectors in column pairs
+	 * @param double[] x - The first x column
+	 * @param double[] y - The first y column
+	 * @param double[] otherX - The second x column
+	 * @param double[] otherY - The second y column
+	 * @param int row - The row of the vectors
+	 * @return double - The dot product of the vectors
+	 */
+	public static double Dot(double[] x, double[] y, double[] otherX,
+			double[] otherY, int row) {
+		return x[row] * otherX[row] + y[row] * otherY[row];
+	}
+	/*
+	 * Compute the distance between two vectors in column pairs
+	 * @param double[] x - The first x column
+	 * @param double[] y - The first y column
+	 * @param double[] otherX - The second x column
+	 * @param double[] otherY - The second y column
+	 * @param int row - The row of the vectors
+	 * @return double - The distance between the vectors
+	 */
+	public static double Distance(double[] x, double[] y, double[] otherX,
+			double[] otherY, int row) {
+		double dx = x[row] - otherX[row];
+		double dy = y[row] - otherY[row];
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+	
+}
@@ -0,0 +1,89 @@
+/*
+ * File:		EventBus.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the Asclepias Framework's event bus of typed event
+ * 				channels
+ */
+
+package com.github.kmacdonald222.asclepiasfw.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bus of event channels, one per event type, which the framework's managers
+// publish input and network events into and scenes and other systems
+// subscribe to (publishers should keep the channel of their event type rather
+// than looking it up for each event)
+public class EventBus {
+	
+	// The channel of each event type, created when first requested
+	private Map<Class<?>, EventChannel<?>> channels =
+			new ConcurrentHashMap<Class<?>, EventChannel<?>>();
+			
+	/*
+	 * Get the channel of an event type, creating it if it does not exist
+	 * @param Class<E> type - The type of event
+	 * @return EventChannel<E> - The channel delivering the event type
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> EventChannel<E> getChannel(Class<E> type) {
+		return (EventChannel<E>)channels.computeIfAbsent(type,
+				key -> new EventChannel<E>(type));
+	}
+	/*
+	 * Deliver an event to the subscribers of its type's channel
+	 * @param E event - The event to publish
+	 * @return boolean - Whether a subscriber consumed the event
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> boolean publish(E event) {
+		EventChannel<E> channel = (EventChannel<E>)channels.get(
+				event.getClass());
+		if (channel == null) {
+			return false;
+		}
+		return channel.publish(event);
+	}
+	/*
+	 * Subscribe a handler to an event type's channel
+	 * @param Class<E> type - The type of event to receive
+	 * @param EventHandler<? super E> handler - The handler to subscribe
+	 * @param int priority - The handler's priority, higher priorities receive
+	 * events first
+	 * @return boolean - Whether the handler was subscribed, false if it
+	 * already was
+	 */
+	public <E> boolean subscribe(Class<E> type,
+			EventHandler<? super E> handler, int priority) {
+		return getChannel(type).subscribe(handler, priority);
+	}
+	/*
+	 * Unsubscribe a handler from an event type's channel
+	 * @param Class<E> type - The type of event no longer to receive
+	 * @param EventHandler<? super E> handler - The handler to unsubscribe
+	 * @return boolean - Whether the handler was unsubscribed, false if it was
+	 * not subscribed
+	 */
+	public <E> boolean unsubscribe(Class<E> type,
+			EventHandler<? super E> handler) {
+		return getChannel(type).unsubscribe(handler);
+	}
+	/*
+	 * Unsubscribe all handlers from every channel
+	 */
+	public void clear() {
+		for (EventChannel<?> channel : channels.values()) {
+			channel.clear();
+		}
+	}
+	
+	/*
+	 * Get the number of channels on this bus
+	 * @return int - The number of event types with a channel
+	 */
+	public int getChannelCount() {
+		return channels.size();
+	}
+	
+}
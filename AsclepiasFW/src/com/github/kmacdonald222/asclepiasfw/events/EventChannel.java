@@ -0,0 +1,170 @@
+/*
+ * File:		EventChannel.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a channel of an event bus delivering one type of event
+ * 				to its subscribers in priority order
+ */
+
+package com.github.kmacdonald222.asclepiasfw.events;
+
+import java.util.Arrays;
+
+// Channel delivering one type of event to its subscribers from the highest
+// priority to the lowest, subscribers of equal priority in the order they
+// subscribed, with the subscriber arrays replaced rather than modified so
+// that publishing never allocates and subscribers may unsubscribe mid-dispatch
+public class EventChannel<E> {
+	
+	// The type of event this channel delivers
+	private Class<E> type = null;
+	// The subscribers of this channel in dispatch order
+	private volatile EventHandler<? super E>[] handlers = null;
+	// The priority of each subscriber, in the same order as the subscribers
+	private volatile int[] priorities = new int[0];
+	// The number of events published on this channel
+	private long publishedCount = 0L;
+	// The number of events consumed by a subscriber on this channel
+	private long consumedCount = 0L;
+	
+	/*
+	 * Construct an empty event channel
+	 * @param Class<E> type - The type of event the channel delivers
+	 */
+	@SuppressWarnings("unchecked")
+	public EventChannel(Class<E> type) {
+		this.type = type;
+		handlers = (EventHandler<? super E>[])new EventHandler<?>[0];
+	}
+	
+	/*
+	 * Deliver an event to this channel's subscribers in priority order until
+	 * one consumes it
+	 * @param E event - The event to publish
+	 * @return boolean - Whether a subscriber consumed the event
+	 */
+	public boolean publish(E event) {
+		EventHandler<? super E>[] handlers = this.handlers;
+		publishedCount++;
+		for (int i = 0; i < handlers.length; i++) {
+			if (handlers[i].handleEvent(event)) {
+				consumedCount++;
+				return true;
+			}
+		}
+		return false;
+	}
+	/*
+	 * Subscribe a handler to this channel
+	 * @param EventHandler<? super E> handler - The handler to subscribe
+	 * @param int priority - The handler's priority, higher priorities receive
+	 * events first
+	 * @return boolean - Whether the handler was subscribed, false if it
+	 * already was
+	 */
+	public synchronized boolean subscribe(EventHandler<? super E> handler,
+			int priority) {
+		if (indexOf(handler) >= 0) {
+			return false;
+		}
+		int index = 0;
+		while (index < priorities.length && priorities[index] >= priority) {
+			index++;
+		}
+		EventHandler<? super E>[] newHandlers = Arrays.copyOf(handlers,
+				handlers.length + 1);
+		int[] newPriorities = Arrays.copyOf(priorities,
+				priorities.length + 1);
+		System.arraycopy(handlers, index, newHandlers, index + 1,
+				handlers.length - index);
+		System.arraycopy(priorities, index, newPriorities, index + 1,
+				priorities.length - index);
+		newHandlers[index] = handler;
+		newPriorities[index] = priority;
+		priorities = newPriorities;
+		handlers = newHandlers;
+		return true;
+	}
+	/*
+	 * Unsubscribe a handler from this channel
+	 * @param EventHandler<? super E> handler - The handler to unsubscribe
+	 * @return boolean - Whether the handler was unsubscribed, false if it was
+	 * not subscribed
+	 */
+	public synchronized boolean unsubscribe(EventHandler<? super E> handler) {
+		int index = indexOf(handler);
+		if (index < 0) {
+			return false;
+		}
+		EventHandler<? super E>[] newHandlers = Arrays.copyOf(handlers,
+				handlers.length - 1);
+		int[] newPriorities = Arrays.copyOf(priorities,
+				priorities.length - 1);
+		System.arraycopy(handlers, index + 1, newHandlers, index,
+				handlers.length - index - 1);
+		System.arraycopy(priorities, index + 1, newPriorities, index,
+				priorities.length - index - 1);
+		priorities = newPriorities;
+		handlers = newHandlers;
+		return true;
+	}
+	/*
+	 * Unsubscribe all handlers from this channel
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized void clear() {
+		priorities = new int[0];
+		handlers = (EventHandler<? super E>[])new EventHandler<?>[0];
+	}
+	/*
+	 * Find the index of a handler in the dispatch order
+	 * @param EventHandler<? super E> handler - The handler to find
+	 * @return int - The handler's index, or -1 if it is not subscribed
+	 */
+	private int indexOf(EventHandler<? super E> handler) {
+		for (int i = 0; i < handlers.length; i++) {
+			if (handlers[i] == handler) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/*
+	 * Get the type of event this channel delivers
+	 * @return Class<E> - The channel's event type
+	 */
+	public Class<E> getType() {
+		return type;
+	}
+	/*
+	 * Test whether a handler is subscribed to this channel
+	 * @param EventHandler<? super E> handler - The handler to test
+	 * @return boolean - Whether the handler is subscribed
+	 */
+	public boolean isSubscribed(EventHandler<? super E> handler) {
+		return indexOf(handler) >= 0;
+	}
+	/*
+	 * Get the number of handlers subscribed to this channel
+	 * @return int - The number of subscribers
+	 */
+	public int getSubscriberCount() {
+		return handlers.length;
+	}
+	/*
+	 * Get the number of events published on this channel
+	 * @return long - The number of events published
+	 */
+	public long getPublishedCount() {
+		return publishedCount;
+	}
+	/*
+	 * Get the number of events consumed by a subscriber on this channel
+	 * @return long - The number of events consumed
+	 */
+	public long getConsumedCount() {
+		return consumedCount;
+	}
+	
+}
@@ -0,0 +1,23 @@
+/*
+ * File:		EventHandler.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback function of event bus subscribers
+ */
+
+package com.github.kmacdonald222.asclepiasfw.events;
+
+// Interface for subscribers to an event bus channel, called on the thread
+// publishing the event (the main thread for all framework events)
+public interface EventHandler<E> {
+	
+	/*
+	 * An event has been published on a subscribed channel
+	 * @param E event - The event published (reused by its publisher, so it
+	 * must not be kept after returning)
+	 * @return boolean - Whether the event was consumed, stopping it reaching
+	 * subscribers of lower priority
+	 */
+	public boolean handleEvent(E event);
+	
+}
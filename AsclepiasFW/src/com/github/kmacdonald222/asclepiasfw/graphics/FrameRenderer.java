@@ -0,0 +1,24 @@
+/*
+ * File:		FrameRenderer.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the drawing function of frames presented through the
+ * 				window's buffer strategy
+ */
+
+package com.github.kmacdonald222.asclepiasfw.graphics;
+
+import java.awt.Graphics2D;
+
+// Interface for drawing a frame presented to the window with active rendering
+public interface FrameRenderer {
+	
+	/*
+	 * Draw a frame to the window's back buffer, called again for the same
+	 * frame if the buffer's contents were lost before it could be shown
+	 * @param Graphics2D graphics - The graphics context of the back buffer,
+	 * already cleared to black
+	 */
+	public void renderFrame(Graphics2D graphics);
+	
+}
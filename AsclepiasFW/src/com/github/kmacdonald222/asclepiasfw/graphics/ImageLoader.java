@@ -0,0 +1,277 @@
+/*
+ * File:		ImageLoader.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a static loader/cache utility for images converted to
+ * 				the format of the window's monitor
+ */
+
+package com.github.kmacdonald222.asclepiasfw.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.profiling.AssetLoadEvent;
+import com.github.kmacdonald222.asclepiasfw.profiling.FlightRecording;
+
+// Static loader/cache utility class for images, which converts every image
+// read from the disk to one compatible with the window's monitor (or to an
+// integer RGB image when headless) so Java2D can cache it in video memory and
+// draw it without converting its pixels, and frees the least recently used
+// images once the cache holds more than its byte budget, safe to use from
+// background loading threads
+public class ImageLoader {
+	
+	// The images in memory mapped to files loaded from, in order from least
+	// to most recently used (loaded or retrieved with LoadImage)
+	private static Map<String, BufferedImage> Images = null;
+	// The number of bytes of pixel data of each image in memory mapped to
+	// files loaded from, kept apart so reading sizes does not count as use
+	private static Map<String, Long> Sizes = null;
+	// The number of bytes of pixel data in memory
+	private static long TotalBytes = 0L;
+	// The number of bytes of pixel data to keep in memory, or 0 for no limit
+	private static long ByteBudget = 0L;
+	// The number of images freed to stay within the byte budget
+	private static long EvictionCount = 0L;
+	
+	/*
+	 * Retrieve an image if already in memory or load it into memory from the
+	 * disk, which may free the least recently used images to stay within the
+	 * byte budget
+	 * @param String fileName - The file to load the image from
+	 * @return BufferedImage - The image contained in the file or null if an
+	 * error occurred
+	 */
+	public static synchronized BufferedImage LoadImage(String fileName) {
+		if (Images == null) {
+			Images = new LinkedHashMap<String, BufferedImage>(16, 0.75f,
+					true);
+			Sizes = new HashMap<String, Long>();
+		}
+		BufferedImage image = Images.get(fileName);
+		if (image != null) {
+			return image;
+		}
+		AssetLoadEvent event = FlightRecording.IsRecorderRunning()
+				? new AssetLoadEvent() : null;
+		if (event != null) {
+			event.begin();
+		}
+		image = ReadImage(fileName);
+		if (event != null && event.shouldCommit()) {
+			event.assetType = "Image";
+			event.fileName = fileName;
+			event.bytes = image == null ? 0L : GetBytes(image);
+			event.success = image != null;
+			event.commit();
+		}
+		if (image == null) {
+			return null;
+		}
+		long bytes = GetBytes(image);
+		Images.put(fileName, image);
+		Sizes.put(fileName, bytes);
+		TotalBytes += bytes;
+		Evict(fileName);
+		return image;
+	}
+	/*
+	 * Free an image from memory by its file name
+	 * @param String fileName - The file name to free
+	 * @return boolean - Whether the image was successfully found and freed
+	 */
+	public static synchronized boolean FreeImage(String fileName) {
+		if (Images == null || !Images.containsKey(fileName)) {
+			return false;
+		}
+		Images.remove(fileName);
+		TotalBytes -= Sizes.remove(fileName);
+		return true;
+	}
+	/*
+	 * Free every image from memory
+	 */
+	public static synchronized void FreeImages() {
+		if (Images != null) {
+			Images.clear();
+			Sizes.clear();
+		}
+		TotalBytes = 0L;
+	}
+	/*
+	 * Get the number of bytes of pixel data an image in memory uses, without
+	 * counting as a use of the image for eviction
+	 * @param String fileName - The file name the image was loaded from
+	 * @return long - The image's size in bytes, or -1 if it is not in memory
+	 */
+	public static synchronized long GetImageBytes(String fileName) {
+		if (Sizes == null) {
+			return -1L;
+		}
+		Long bytes = Sizes.get(fileName);
+		return bytes == null ? -1L : bytes;
+	}
+	/*
+	 * Get the number of bytes of pixel data of every image in memory
+	 * @return long - The total size of the images in memory in bytes
+	 */
+	public static synchronized long GetTotalBytes() {
+		return TotalBytes;
+	}
+	/*
+	 * Get the number of images in memory
+	 * @return int - The number of images in memory
+	 */
+	public static synchronized int GetImageCount() {
+		return Images == null ? 0 : Images.size();
+	}
+	/*
+	 * Get the number of images freed to stay within the byte budget
+	 * @return long - The number of images evicted
+	 */
+	public static synchronized long GetEvictionCount() {
+		return EvictionCount;
+	}
+	/*
+	 * Get the number of bytes of pixel data kept in memory
+	 * @return long - The byte budget, or 0 if there is no limit
+	 */
+	public static synchronized long GetByteBudget() {
+		return ByteBudget;
+	}
+	/*
+	 * Set the number of bytes of pixel data to keep in memory, freeing the
+	 * least recently used images if the cache already holds more
+	 * @param long byteBudget - The byte budget, or 0 for no limit
+	 * @return boolean - Whether the budget was set, false if it was negative
+	 */
+	public static synchronized boolean SetByteBudget(long byteBudget) {
+		if (byteBudget < 0L) {
+			App.Log.write(LogSource.Images, LogPriority.Warning, "Image ",
+					"byte budget must not be negative");
+			return false;
+		}
+		ByteBudget = byteBudget;
+		Evict(null);
+		return true;
+	}
+	
+	/*
+	 * Free the least recently used images until the cache is within the byte
+	 * budget
+	 * @param String keptFileName - The file name of an image to keep even if
+	 * it alone exceeds the budget, or null
+	 */
+	private static void Evict(String keptFileName) {
+		if (ByteBudget == 0L || Images == null) {
+			return;
+		}
+		Iterator<Map.Entry<String, BufferedImage>> entries
+				= Images.entrySet().iterator();
+		while (TotalBytes > ByteBudget && entries.hasNext()) {
+			Map.Entry<String, BufferedImage> entry = entries.next();
+			if (entry.getKey().equals(keptFileName)) {
+				continue;
+			}
+			App.Log.write(LogSource.Images, LogPriority.Info, "Evicting ",
+					"image \"", entry.getKey(), "\"");
+			TotalBytes -= Sizes.remove(entry.getKey());
+			entries.remove();
+			EvictionCount++;
+		}
+	}
+	/*
+	 * Get the number of bytes of pixel data an image stores, counting the
+	 * padding of pixels packed into wider elements
+	 * @param BufferedImage image - The image
+	 * @return long - The image's size in bytes
+	 */
+	private static long GetBytes(BufferedImage image) {
+		DataBuffer buffer = image.getRaster().getDataBuffer();
+		return (long)buffer.getSize() * buffer.getNumBanks()
+				* DataBuffer.getDataTypeSize(buffer.getDataType()) / 8L;
+	}
+	/*
+	 * Read an image from the disk and convert it to the window's format
+	 * @param String fileName - The file to load the image from
+	 * @return BufferedImage - The converted image contained in the file or
+	 * null if an error occurred
+	 */
+	private static BufferedImage ReadImage(String fileName) {
+		App.Log.write(LogSource.Images, LogPriority.Info, "Loading image ",
+				"from \"", fileName, "\"");
+		File imageFile = new File(fileName);
+		if (!imageFile.exists()) {
+			App.Log.write(LogSource.Images, LogPriority.Warning, "Image ",
+					"file \"", fileName, "\" does not exist");
+			return null;
+		}
+		if (!imageFile.canRead()) {
+			App.Log.write(LogSource.Images, LogPriority.Warning, "Image ",
+					"file \"", fileName, "\" is not readable");
+			return null;
+		}
+		BufferedImage image = null;
+		try {
+			image = ImageIO.read(imageFile);
+		} catch (IOException e) {
+			App.Log.write(LogSource.Images, LogPriority.Warning, "Failed ",
+					"to read image file \"", fileName, "\"");
+			return null;
+		}
+		if (image == null) {
+			App.Log.write(LogSource.Images, LogPriority.Warning, "Image ",
+					"file \"", fileName, "\" contains invalid format");
+			return null;
+		}
+		return ConvertImage(image);
+	}
+	/*
+	 * Copy an image into one compatible with the window's monitor, or into an
+	 * integer RGB image if there is no window, keeping its transparency
+	 * @param BufferedImage image - The image as read from the disk
+	 * @return BufferedImage - The converted image, or the original image if it
+	 * already has the right format
+	 */
+	private static BufferedImage ConvertImage(BufferedImage image) {
+		int transparency = image.getColorModel().getTransparency();
+		BufferedImage converted = null;
+		if (App.Window != null) {
+			GraphicsConfiguration configuration
+					= App.Window.getGraphicsConfiguration();
+			if (image.getColorModel().equals(configuration.getColorModel(
+					transparency))) {
+				return image;
+			}
+			converted = configuration.createCompatibleImage(image.getWidth(),
+					image.getHeight(), transparency);
+		} else {
+			int type = transparency == Transparency.OPAQUE
+					? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+			if (image.getType() == type) {
+				return image;
+			}
+			converted = new BufferedImage(image.getWidth(), image.getHeight(),
+					type);
+		}
+		Graphics2D graphics = converted.createGraphics();
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return converted;
+	}
+	
+}
@@ -0,0 +1,14 @@
+/*
+ * File:		RenderSnapshot.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the marker interface for scene state handed from the
+ * 				logic thread to the render thread
+ */
+
+package com.github.kmacdonald222.asclepiasfw.graphics;
+
+// Marker interface for the copy of a scene's drawable state which the logic
+// thread publishes and the render thread draws from
+public interface RenderSnapshot {
+}
@@ -0,0 +1,245 @@
+/*
+ * File:		RenderThread.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the dedicated render thread which draws scene snapshots
+ * 				published by the main application loop
+ */
+
+package com.github.kmacdonald222.asclepiasfw.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Dedicated render thread which draws the latest scene snapshot published by
+// the main application loop while the next logic update runs, exchanging
+// snapshots through a lock-free triple buffer and presenting them through the
+// window's buffer strategy with active rendering
+public class RenderThread {
+	
+	// One slot of the triple buffer holding a published snapshot
+	private class Frame {
+		
+		// The scene which produced the snapshot
+		public AppScene scene = null;
+		// The scene's snapshot
+		public RenderSnapshot snapshot = null;
+		// The interpolation alpha when the snapshot was published
+		public double alpha = 0.0d;
+		
+	}
+	
+	// Flag set on the shared slot index when it holds an unread frame
+	private static final int Fresh = 4;
+	// Mask of the slot index within the shared slot value
+	private static final int IndexMask = 3;
+	// The longest the render thread parks for before checking if it should
+	// stop in nanoseconds
+	private static final long IdleNanoseconds = 1000000L;
+	
+	// Whether the render thread has been initialized
+	private boolean initialized = false;
+	// The window to present rendered frames to
+	private WindowManager window = null;
+	// The three slots of the triple buffer
+	private Frame[] frames = null;
+	// The index of the slot owned by the logic thread
+	private int back = 0;
+	// The index and fresh flag of the slot shared between the threads
+	private AtomicInteger middle = null;
+	// The index of the slot owned by the render thread
+	private int front = 2;
+	// The Java thread drawing snapshots
+	private Thread thread = null;
+	// Whether the render thread should keep running
+	private volatile boolean running = false;
+	// The image frames are drawn to before being presented to the window with
+	// passive rendering
+	private BufferedImage frameBuffer = null;
+	// Function drawing the frame in the render thread's slot to the window's
+	// back buffer with active rendering
+	private FrameRenderer frameRenderer = this::drawFrame;
+	// The number of frames the render thread has presented
+	private volatile long renderedFrameCount = 0L;
+	// The number of published frames replaced before the render thread could
+	// draw them
+	private volatile long droppedFrameCount = 0L;
+	
+	/*
+	 * Initialize the render thread's memory and start drawing to a window
+	 * @param WindowManager window - The window to present frames to
+	 * @return boolean - Whether the render thread was started successfully
+	 */
+	public boolean initialize(WindowManager window) {
+		if (initialized) {
+			return false;
+		}
+		this.window = window;
+		frames = new Frame[3];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = new Frame();
+		}
+		back = 0;
+		middle = new AtomicInteger(1);
+		front = 2;
+		renderedFrameCount = 0L;
+		droppedFrameCount = 0L;
+		App.Log.write(LogSource.Window, LogPriority.Info, "Initialized ",
+				"render snapshot buffers");
+		running = true;
+		thread = new Thread(this::render, "Asclepias Render Thread");
+		thread.start();
+		App.Log.write(LogSource.Window, LogPriority.Info, "Started render ",
+				"thread");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Have a scene produce a snapshot of its drawable state into the logic
+	 * thread's slot and hand it to the render thread (logic thread only)
+	 * @param AppScene scene - The scene to snapshot
+	 * @param double alpha - The current interpolation alpha
+	 */
+	public void publish(AppScene scene, double alpha) {
+		Frame frame = frames[back];
+		// Only recycle a snapshot the same scene produced, since scenes may
+		// use their own snapshot types
+		frame.snapshot = scene.produceSnapshot(frame.scene == scene
+				? frame.snapshot : null);
+		frame.scene = scene;
+		frame.alpha = alpha;
+		int previous = middle.getAndSet(back | Fresh);
+		if ((previous & Fresh) != 0) {
+			droppedFrameCount++;
+		}
+		back = previous & IndexMask;
+		LockSupport.unpark(thread);
+	}
+	/*
+	 * Stop the render thread and free its memory
+	 * @return boolean - Whether the render thread was destroyed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		boolean success = true;
+		App.Log.write(LogSource.Window, LogPriority.Info, "Stopping render ",
+				"thread");
+		running = false;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			App.Log.write(LogSource.Window, LogPriority.Warning, "Failed to ",
+					"join render thread");
+			success = false;
+		}
+		thread = null;
+		App.Log.write(LogSource.Window, LogPriority.Info, "Freeing render ",
+				"snapshot buffers");
+		frames = null;
+		middle = null;
+		frameBuffer = null;
+		window = null;
+		initialized = false;
+		return success;
+	}
+	
+	/*
+	 * Draw each fresh snapshot published by the logic thread and present it to
+	 * the window until the render thread is stopped
+	 */
+	private void render() {
+		while (running) {
+			if ((middle.get() & Fresh) == 0) {
+				LockSupport.parkNanos(IdleNanoseconds);
+				continue;
+			}
+			front = middle.getAndSet(front) & IndexMask;
+			Frame frame = frames[front];
+			if (frame.scene == null || frame.snapshot == null) {
+				continue;
+			}
+			if (window.isActiveRendering()) {
+				if (window.present(frameRenderer)) {
+					renderedFrameCount++;
+				}
+				continue;
+			}
+			Graphics2D graphics = getFrameBuffer().createGraphics();
+			graphics.setColor(Color.BLACK);
+			graphics.fillRect(0, 0, frameBuffer.getWidth(),
+					frameBuffer.getHeight());
+			frame.scene.consumeSnapshot(frame.snapshot, graphics, frame.alpha);
+			graphics.dispose();
+			if (window.present(frameBuffer)) {
+				renderedFrameCount++;
+			}
+		}
+	}
+	/*
+	 * Draw the snapshot in the render thread's slot to the window's back
+	 * buffer
+	 * @param Graphics2D graphics - The graphics context of the back buffer
+	 */
+	private void drawFrame(Graphics2D graphics) {
+		Frame frame = frames[front];
+		frame.scene.consumeSnapshot(frame.snapshot, graphics, frame.alpha);
+	}
+	/*
+	 * Get the image to draw frames to, recreating it if the window has been
+	 * resized
+	 * @return BufferedImage - The image to draw the next frame to
+	 */
+	private BufferedImage getFrameBuffer() {
+		int width = Math.max((int)window.getDimensions().x, 1);
+		int height = Math.max((int)window.getDimensions().y, 1);
+		if (frameBuffer == null || frameBuffer.getWidth() != width
+				|| frameBuffer.getHeight() != height) {
+			GraphicsConfiguration configuration = window.getWindowHandle()
+					.getGraphicsConfiguration();
+			if (configuration != null) {
+				frameBuffer = configuration.createCompatibleImage(width,
+						height);
+			} else {
+				frameBuffer = new BufferedImage(width, height,
+						BufferedImage.TYPE_INT_RGB);
+			}
+		}
+		return frameBuffer;
+	}
+	
+	/*
+	 * Test whether the render thread is currently running
+	 * @return boolean - Whether the render thread is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+	/*
+	 * Get the number of frames the render thread has presented
+	 * @return long - The number of frames rendered
+	 */
+	public long getRenderedFrameCount() {
+		return renderedFrameCount;
+	}
+	/*
+	 * Get the number of published snapshots replaced by newer ones before the
+	 * render thread could draw them
+	 * @return long - The number of dropped snapshots
+	 */
+	public long getDroppedFrameCount() {
+		return droppedFrameCount;
+	}
+	
+}
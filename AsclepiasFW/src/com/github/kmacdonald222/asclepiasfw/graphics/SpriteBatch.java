@@ -0,0 +1,449 @@
+/*
+ * File:		SpriteBatch.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a batch of sprite draw commands sorted to minimize
+ * 				Java2D state changes before being drawn
+ */
+
+package com.github.kmacdonald222.asclepiasfw.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+// Batch recording sprite draw commands into flat arrays between begin and end,
+// culling those outside the view as they are recorded, then sorting the rest
+// by layer, image and composite with a stable radix sort and drawing them with
+// as few composite changes and image switches as possible (sprites on the same
+// layer are drawn grouped by image rather than in the order they were
+// recorded, so sprites which must overlap in order belong on separate layers),
+// a batch is usually drawn from a scene's render hook and should be used from
+// one thread
+public class SpriteBatch {
+	
+	// The lowest layer a sprite may be drawn on
+	public static final int MinimumLayer = Short.MIN_VALUE;
+	// The highest layer a sprite may be drawn on
+	public static final int MaximumLayer = Short.MAX_VALUE;
+	// The most distinct images which may be drawn in one batch
+	public static final int MaximumImages = 1 << 20;
+	// The most distinct composites which may be drawn in one batch
+	public static final int MaximumComposites = 1 << 8;
+	
+	// The number of bits of a sort key holding the composite
+	private static final int CompositeBits = 8;
+	// The number of bits of a sort key holding the image
+	private static final int ImageBits = 20;
+	// The number of bits of a sort key holding the layer
+	private static final int LayerBits = 16;
+	// The number of bits of a sort key
+	private static final int KeyBits = CompositeBits + ImageBits + LayerBits;
+	// The number of bits of a sort key sorted by each radix sort pass
+	private static final int DigitBits = 11;
+	// The bits of a sort key sorted by one radix sort pass
+	private static final int DigitMask = (1 << DigitBits) - 1;
+	// The number of commands there is room for when a batch is created
+	private static final int InitialCapacity = 1024;
+	
+	// The graphics context the current batch is drawn to (null outside begin
+	// and end)
+	private Graphics2D graphics = null;
+	// The width of the view sprites are culled against
+	private double viewWidth = 0.0d;
+	// The height of the view sprites are culled against
+	private double viewHeight = 0.0d;
+	// The x coordinate of each command's destination
+	private double[] x = null;
+	// The y coordinate of each command's destination
+	private double[] y = null;
+	// The width of each command's destination
+	private double[] width = null;
+	// The height of each command's destination
+	private double[] height = null;
+	// The x coordinate, y coordinate, width and height of each command's
+	// source rectangle in its image, 4 per command
+	private int[] sources = null;
+	// Whether each recorded sprite draws a whole image at its own size
+	private boolean[] unscaled = null;
+	// The layer, image and composite sort key of each command
+	private long[] keys = null;
+	// The commands in drawing order once sorted
+	private int[] order = null;
+	// Scratch space for the radix sort
+	private int[] scratch = null;
+	// The number of keys with each digit value in a radix sort pass
+	private int[] digitCounts = null;
+	// The number of commands recorded in the current batch
+	private int count = 0;
+	// The identifier of each image drawn in the current batch
+	private IdentityHashMap<Image, Integer> imageIDs = null;
+	// The images drawn in the current batch by identifier
+	private Image[] images = null;
+	// The number of distinct images drawn in the current batch
+	private int imageCount = 0;
+	// Boxed identifiers reused between batches
+	private Integer[] boxedIDs = null;
+	// The composites drawn in the current batch by identifier
+	private Composite[] composites = null;
+	// The number of distinct composites drawn in the current batch
+	private int compositeCount = 0;
+	// The number of sprites drawn by the last batch
+	private int drawnCount = 0;
+	// The number of sprites culled from the last batch
+	private int culledCount = 0;
+	// The number of sprites culled from the current batch
+	private int culledThisBatch = 0;
+	// The number of composite changes made drawing the last batch
+	private int compositeChangeCount = 0;
+	// The number of times the last batch switched to drawing another image
+	private int imageSwitchCount = 0;
+	
+	/*
+	 * Construct a new, empty sprite batch
+	 */
+	public SpriteBatch() {
+		x = new double[InitialCapacity];
+		y = new double[InitialCapacity];
+		width = new double[InitialCapacity];
+		height = new double[InitialCapacity];
+		sources = new int[InitialCapacity * 4];
+		unscaled = new boolean[InitialCapacity];
+		keys = new long[InitialCapacity];
+		order = new int[InitialCapacity];
+		scratch = new int[InitialCapacity];
+		digitCounts = new int[1 << DigitBits];
+		imageIDs = new IdentityHashMap<Image, Integer>();
+		images = new Image[64];
+		boxedIDs = new Integer[64];
+		composites = new Composite[MaximumComposites];
+	}
+	
+	/*
+	 * Start recording a batch of sprites
+	 * @param Graphics2D graphics - The graphics context to draw the batch to,
+	 * such as the one passed to a scene's render hook
+	 * @param double viewWidth - The width of the visible area from the origin
+	 * of the graphics context's coordinate space
+	 * @param double viewHeight - The height of the visible area from the
+	 * origin of the graphics context's coordinate space
+	 * @return boolean - Whether the batch was started, false if a batch is
+	 * already being recorded
+	 */
+	public boolean begin(Graphics2D graphics, double viewWidth,
+			double viewHeight) {
+		if (this.graphics != null || graphics == null) {
+			return false;
+		}
+		this.graphics = graphics;
+		this.viewWidth = viewWidth;
+		this.viewHeight = viewHeight;
+		count = 0;
+		culledThisBatch = 0;
+		return true;
+	}
+	/*
+	 * Record a sprite drawing a whole image at its own size on layer 0 with
+	 * the source over composite
+	 * @param Image image - The image to draw
+	 * @param double x - The x coordinate of the sprite's top-left corner
+	 * @param double y - The y coordinate of the sprite's top-left corner
+	 * @return boolean - Whether the sprite was recorded or culled
+	 */
+	public boolean draw(Image image, double x, double y) {
+		if (image == null) {
+			return false;
+		}
+		int imageWidth = image.getWidth(null);
+		int imageHeight = image.getHeight(null);
+		return draw(image, 0, 0, imageWidth, imageHeight, x, y, imageWidth,
+				imageHeight, 0, AlphaComposite.SrcOver);
+	}
+	/*
+	 * Record a sprite drawing a whole image scaled to a size on a layer with
+	 * the source over composite
+	 * @param Image image - The image to draw
+	 * @param double x - The x coordinate of the sprite's top-left corner
+	 * @param double y - The y coordinate of the sprite's top-left corner
+	 * @param double width - The width to draw the sprite at
+	 * @param double height - The height to draw the sprite at
+	 * @param int layer - The sprite's layer, lower layers are drawn first
+	 * @return boolean - Whether the sprite was recorded or culled
+	 */
+	public boolean draw(Image image, double x, double y, double width,
+			double height, int layer) {
+		if (image == null) {
+			return false;
+		}
+		return draw(image, 0, 0, image.getWidth(null), image.getHeight(null),
+				x, y, width, height, layer, AlphaComposite.SrcOver);
+	}
+	/*
+	 * Record a sprite drawing a region of an image, such as a frame of a
+	 * sprite sheet
+	 * @param Image image - The image to draw
+	 * @param int sourceX - The x coordinate of the region in the image
+	 * @param int sourceY - The y coordinate of the region in the image
+	 * @param int sourceWidth - The width of the region
+	 * @param int sourceHeight - The height of the region
+	 * @param double x - The x coordinate of the sprite's top-left corner
+	 * @param double y - The y coordinate of the sprite's top-left corner
+	 * @param double width - The width to draw the sprite at
+	 * @param double height - The height to draw the sprite at
+	 * @param int layer - The sprite's layer, lower layers are drawn first
+	 * @param Composite composite - The composite to draw the sprite with
+	 * @return boolean - Whether the sprite was recorded or culled, false if no
+	 * batch is being recorded, the arguments were invalid or the batch already
+	 * holds the most distinct images or composites
+	 */
+	public boolean draw(Image image, int sourceX, int sourceY,
+			int sourceWidth, int sourceHeight, double x, double y,
+			double width, double height, int layer, Composite composite) {
+		if (graphics == null || image == null || composite == null
+				|| sourceWidth <= 0 || sourceHeight <= 0 || !(width > 0.0d)
+				|| !(height > 0.0d) || layer < MinimumLayer
+				|| layer > MaximumLayer) {
+			return false;
+		}
+		if (x + width <= 0.0d || y + height <= 0.0d || x >= viewWidth
+				|| y >= viewHeight) {
+			culledThisBatch++;
+			return true;
+		}
+		int imageID = getImageID(image);
+		int compositeID = getCompositeID(composite);
+		if (imageID < 0 || compositeID < 0) {
+			return false;
+		}
+		if (count == keys.length) {
+			grow(keys.length * 2);
+		}
+		int i = count++;
+		this.x[i] = x;
+		this.y[i] = y;
+		this.width[i] = width;
+		this.height[i] = height;
+		sources[i * 4] = sourceX;
+		sources[i * 4 + 1] = sourceY;
+		sources[i * 4 + 2] = sourceX + sourceWidth;
+		sources[i * 4 + 3] = sourceY + sourceHeight;
+		unscaled[i] = sourceX == 0 && sourceY == 0 && width == sourceWidth
+				&& height == sourceHeight && sourceWidth == image.getWidth(null)
+				&& sourceHeight == image.getHeight(null);
+		keys[i] = ((long)(layer - MinimumLayer) << (ImageBits + CompositeBits))
+				| ((long)imageID << CompositeBits) | compositeID;
+		return true;
+	}
+	/*
+	 * Sort the recorded sprites, draw them to the graphics context and restore
+	 * its composite
+	 * @return int - The number of sprites drawn, or -1 if no batch was being
+	 * recorded
+	 */
+	public int end() {
+		if (graphics == null) {
+			return -1;
+		}
+		int[] sorted = sort();
+		Composite originalComposite = graphics.getComposite();
+		Composite currentComposite = originalComposite;
+		Image currentImage = null;
+		compositeChangeCount = 0;
+		imageSwitchCount = 0;
+		for (int n = 0; n < count; n++) {
+			int i = sorted[n];
+			long key = keys[i];
+			Composite composite = composites[(int)key & (MaximumComposites
+					- 1)];
+			if (composite != currentComposite) {
+				graphics.setComposite(composite);
+				currentComposite = composite;
+				compositeChangeCount++;
+			}
+			Image image = images[(int)(key >>> CompositeBits)
+					& (MaximumImages - 1)];
+			if (image != currentImage) {
+				currentImage = image;
+				imageSwitchCount++;
+			}
+			int left = (int)Math.floor(x[i]);
+			int top = (int)Math.floor(y[i]);
+			// Whole images at their own size take Java2D's plain blit path
+			if (unscaled[i]) {
+				graphics.drawImage(image, left, top, null);
+			} else {
+				graphics.drawImage(image, left, top, (int)Math.floor(x[i]
+						+ width[i]), (int)Math.floor(y[i] + height[i]),
+						sources[i * 4], sources[i * 4 + 1], sources[i * 4 + 2],
+						sources[i * 4 + 3], null);
+			}
+		}
+		if (currentComposite != originalComposite) {
+			graphics.setComposite(originalComposite);
+		}
+		drawnCount = count;
+		culledCount = culledThisBatch;
+		clear();
+		return drawnCount;
+	}
+	
+	/*
+	 * Get the identifier of an image in the current batch, assigning the next
+	 * one if it has not been drawn yet
+	 * @param Image image - The image
+	 * @return int - The image's identifier, or -1 if the batch already holds
+	 * the most distinct images
+	 */
+	private int getImageID(Image image) {
+		Integer ID = imageIDs.get(image);
+		if (ID != null) {
+			return ID;
+		}
+		if (imageCount == MaximumImages) {
+			return -1;
+		}
+		if (imageCount == images.length) {
+			images = Arrays.copyOf(images, images.length * 2);
+			boxedIDs = Arrays.copyOf(boxedIDs, boxedIDs.length * 2);
+		}
+		if (boxedIDs[imageCount] == null) {
+			boxedIDs[imageCount] = imageCount;
+		}
+		images[imageCount] = image;
+		imageIDs.put(image, boxedIDs[imageCount]);
+		return imageCount++;
+	}
+	/*
+	 * Get the identifier of a composite in the current batch, assigning the
+	 * next one if it has not been drawn yet
+	 * @param Composite composite - The composite
+	 * @return int - The composite's identifier, or -1 if the batch already
+	 * holds the most distinct composites
+	 */
+	private int getCompositeID(Composite composite) {
+		for (int i = compositeCount - 1; i >= 0; i--) {
+			if (composites[i] == composite) {
+				return i;
+			}
+		}
+		if (compositeCount == MaximumComposites) {
+			return -1;
+		}
+		composites[compositeCount] = composite;
+		return compositeCount++;
+	}
+	/*
+	 * Sort the recorded commands by key with a least significant digit radix
+	 * sort, which keeps commands with equal keys in the order they were
+	 * recorded and skips passes over digits every key shares
+	 * @return int[] - The commands in drawing order
+	 */
+	private int[] sort() {
+		int[] source = order;
+		int[] destination = scratch;
+		for (int i = 0; i < count; i++) {
+			source[i] = i;
+		}
+		for (int shift = 0; shift < KeyBits && count > 1;
+				shift += DigitBits) {
+			Arrays.fill(digitCounts, 0);
+			for (int i = 0; i < count; i++) {
+				digitCounts[(int)(keys[i] >>> shift) & DigitMask]++;
+			}
+			if (digitCounts[(int)(keys[0] >>> shift) & DigitMask] == count) {
+				continue;
+			}
+			int position = 0;
+			for (int digit = 0; digit < digitCounts.length; digit++) {
+				int digitCount = digitCounts[digit];
+				digitCounts[digit] = position;
+				position += digitCount;
+			}
+			for (int n = 0; n < count; n++) {
+				int i = source[n];
+				destination[digitCounts[(int)(keys[i] >>> shift)
+						& DigitMask]++] = i;
+			}
+			int[] swap = source;
+			source = destination;
+			destination = swap;
+		}
+		return source;
+	}
+	/*
+	 * Grow the command arrays
+	 * @param int capacity - The number of commands to make room for
+	 */
+	private void grow(int capacity) {
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		width = Arrays.copyOf(width, capacity);
+		height = Arrays.copyOf(height, capacity);
+		sources = Arrays.copyOf(sources, capacity * 4);
+		unscaled = Arrays.copyOf(unscaled, capacity);
+		keys = Arrays.copyOf(keys, capacity);
+		order = Arrays.copyOf(order, capacity);
+		scratch = Arrays.copyOf(scratch, capacity);
+	}
+	/*
+	 * Forget the current batch's commands, images and composites
+	 */
+	private void clear() {
+		graphics = null;
+		count = 0;
+		imageIDs.clear();
+		Arrays.fill(images, 0, imageCount, null);
+		imageCount = 0;
+		Arrays.fill(composites, 0, compositeCount, null);
+		compositeCount = 0;
+	}
+	
+	/*
+	 * Test whether a batch is being recorded
+	 * @return boolean - Whether begin has been called without end
+	 */
+	public boolean isRecording() {
+		return graphics != null;
+	}
+	/*
+	 * Get the number of sprites recorded in the current batch, not counting
+	 * culled sprites
+	 * @return int - The number of sprites recorded
+	 */
+	public int getCommandCount() {
+		return count;
+	}
+	/*
+	 * Get the number of sprites drawn by the last batch
+	 * @return int - The number of sprites drawn
+	 */
+	public int getDrawnCount() {
+		return drawnCount;
+	}
+	/*
+	 * Get the number of sprites culled from the last batch for lying outside
+	 * the view
+	 * @return int - The number of sprites culled
+	 */
+	public int getCulledCount() {
+		return culledCount;
+	}
+	/*
+	 * Get the number of composite changes made drawing the last batch
+	 * @return int - The number of composite changes
+	 */
+	public int getCompositeChangeCount() {
+		return compositeChangeCount;
+	}
+	/*
+	 * Get the number of times the last batch switched to drawing another image
+	 * @return int - The number of image switches
+	 */
+	public int getImageSwitchCount() {
+		return imageSwitchCount;
+	}
+	
+}
@@ -8,12 +8,22 @@
 
 package com.github.kmacdonald222.asclepiasfw.graphics;
 
+import java.awt.BorderLayout;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
+import java.awt.Image;
 import java.awt.Rectangle;
+import java.awt.Toolkit;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
@@ -26,12 +36,30 @@ import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
 // applications
 public class WindowManager {
 
+	// The fewest buffers of the canvas's buffer strategy with active rendering
+	private static final int MinimumBufferCount = 2;
+	// The most buffers of the canvas's buffer strategy with active rendering
+	private static final int MaximumBufferCount = 3;
+	// The number of times a frame is drawn before it is skipped while its back
+	// buffer's contents keep being lost
+	private static final int MaximumPresentAttempts = 3;
+	
 	// Whether the window management system has been initialized
 	private boolean initialized = false;
 	// Java Swing handle for the application's window
 	private JFrame windowHandle = null;
 	// Java Swing handle for the content pane of the application's window
 	private JPanel contentPanel = null;
+	// Java AWT canvas filling the content pane which frames are drawn to with
+	// active rendering (null with passive rendering)
+	private Canvas canvas = null;
+	// The canvas's buffer strategy (null with passive rendering)
+	private BufferStrategy bufferStrategy = null;
+	// The number of frames presented through the buffer strategy
+	private volatile long presentedFrameCount = 0L;
+	// The number of times a frame was drawn again because its back buffer's
+	// contents were lost or restored
+	private volatile long redrawnFrameCount = 0L;
 	// Whether the window's close button has been clicked
 	private boolean windowClosing = false;
 	// The current title of the window
@@ -46,7 +74,8 @@ public class WindowManager {
 	private int monitorIndex = 0;
 	
 	/*
-	 * Open a window and set its content pane and attributes
+	 * Open a window with passive rendering and set its content pane and
+	 * attributes
 	 * @param String title - The initial title for the window
 	 * @param Vec2D dimensions - The initial dimensions for the window
 	 * @param boolean fullscreen - Whether the window should initially appear in
@@ -57,6 +86,23 @@ public class WindowManager {
 	 */
 	public boolean initialize(String title, Vector2D dimensions,
 			boolean fullscreen, int monitorIndex) {
+		return initialize(title, dimensions, fullscreen, monitorIndex, 0);
+	}
+	/*
+	 * Open a window and set its content pane and attributes, with a canvas
+	 * presenting frames through a buffer strategy for active rendering
+	 * @param String title - The initial title for the window
+	 * @param Vec2D dimensions - The initial dimensions for the window
+	 * @param boolean fullscreen - Whether the window should initially appear in
+	 * fullscreen mode
+	 * @param int monitorIndex - The index of the monitor the window should
+	 * initially appear on
+	 * @param int bufferCount - The number of buffers of the canvas's buffer
+	 * strategy (2 or 3), or 0 for passive rendering without a canvas
+	 * @return boolean - Whether the window was successfully opened
+	 */
+	public boolean initialize(String title, Vector2D dimensions,
+			boolean fullscreen, int monitorIndex, int bufferCount) {
 		if (initialized) {
 			return false;
 		}
@@ -71,6 +117,14 @@ public class WindowManager {
 		});
 		windowHandle.setResizable(false);
 		contentPanel = new JPanel();
+		if (bufferCount > 0) {
+			canvas = new Canvas();
+			canvas.setIgnoreRepaint(true);
+			canvas.setFocusable(false);
+			contentPanel.setLayout(new BorderLayout());
+			contentPanel.add(canvas, BorderLayout.CENTER);
+			windowHandle.setIgnoreRepaint(true);
+		}
 		windowHandle.setContentPane(contentPanel);
 		windowHandle.setVisible(true);
 		App.Log.write(LogSource.Window, LogPriority.Info, "Opened new window");
@@ -85,6 +139,9 @@ public class WindowManager {
 		}
 		App.Log.write(LogSource.Window, LogPriority.Info, "Set initial window ",
 				"attributes");
+		if (canvas != null && !createBufferStrategy(bufferCount)) {
+			return false;
+		}
 		initialized = true;
 		return initialized;
 	}
@@ -98,6 +155,14 @@ public class WindowManager {
 			return false;
 		}
 		boolean success = true;
+		if (bufferStrategy != null) {
+			App.Log.write(LogSource.Window, LogPriority.Info, "Disposing of ",
+					"buffer strategy after presenting ", presentedFrameCount,
+					" frames (", redrawnFrameCount, " redrawn)");
+			bufferStrategy.dispose();
+			bufferStrategy = null;
+		}
+		canvas = null;
 		App.Log.write(LogSource.Window, LogPriority.Info, "Disposing of ",
 				"window handle");
 		contentPanel = null;
@@ -114,6 +179,86 @@ public class WindowManager {
 		initialized = false;
 		return success;
 	}
+	/*
+	 * Draw a frame to the back buffer of the canvas's buffer strategy and show
+	 * it, drawing it again whenever the buffer's contents are restored or lost
+	 * before they could be shown (active rendering only, from a single thread
+	 * other than the Swing event thread)
+	 * @param FrameRenderer renderer - The function drawing the frame
+	 * @return boolean - Whether the frame was presented successfully
+	 */
+	public boolean present(FrameRenderer renderer) {
+		if (!initialized || bufferStrategy == null) {
+			return false;
+		}
+		for (int attempt = 0; attempt < MaximumPresentAttempts; attempt++) {
+			Graphics2D graphics = (Graphics2D)bufferStrategy.getDrawGraphics();
+			graphics.setColor(Color.BLACK);
+			graphics.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+			renderer.renderFrame(graphics);
+			graphics.dispose();
+			if (bufferStrategy.contentsRestored()) {
+				redrawnFrameCount++;
+				continue;
+			}
+			bufferStrategy.show();
+			Toolkit.getDefaultToolkit().sync();
+			if (!bufferStrategy.contentsLost()) {
+				presentedFrameCount++;
+				return true;
+			}
+			redrawnFrameCount++;
+		}
+		return false;
+	}
+	/*
+	 * Draw a finished frame directly onto the window's content pane (safe to
+	 * call from threads other than the Swing event thread)
+	 * @param Image frame - The frame to present
+	 * @return boolean - Whether the frame was presented successfully
+	 */
+	public boolean present(Image frame) {
+		if (!initialized) {
+			return false;
+		}
+		Graphics graphics = contentPanel.getGraphics();
+		if (graphics == null) {
+			return false;
+		}
+		graphics.drawImage(frame, 0, 0, null);
+		graphics.dispose();
+		Toolkit.getDefaultToolkit().sync();
+		return true;
+	}
+	/*
+	 * Create the canvas's buffer strategy once the window is displayable
+	 * @param int bufferCount - The requested number of buffers, clamped to 2
+	 * or 3
+	 * @return boolean - Whether the buffer strategy was created successfully
+	 */
+	private boolean createBufferStrategy(int bufferCount) {
+		bufferCount = Math.min(Math.max(bufferCount, MinimumBufferCount),
+				MaximumBufferCount);
+		if (!canvas.isDisplayable()) {
+			App.Log.write(LogSource.Window, LogPriority.Error, "Failed to ",
+					"create buffer strategy, canvas is not displayable");
+			return false;
+		}
+		canvas.createBufferStrategy(bufferCount);
+		bufferStrategy = canvas.getBufferStrategy();
+		if (bufferStrategy == null) {
+			App.Log.write(LogSource.Window, LogPriority.Error, "Failed to ",
+					"create buffer strategy");
+			return false;
+		}
+		presentedFrameCount = 0L;
+		redrawnFrameCount = 0L;
+		App.Log.write(LogSource.Window, LogPriority.Info, "Created buffer ",
+				"strategy with ", bufferCount, " buffers using ",
+				bufferStrategy.getCapabilities().isPageFlipping()
+				? "page flipping" : "blitting");
+		return true;
+	}
 	/*
 	 * Center the window on its monitor
 	 */
@@ -139,6 +284,37 @@ public class WindowManager {
 	public JFrame getWindowHandle() {
 		return windowHandle;
 	}
+	/*
+	 * Get the component covering the window's content area, which receives
+	 * its mouse input
+	 * @return Component - The canvas with active rendering, otherwise the
+	 * content pane
+	 */
+	public Component getDrawingSurface() {
+		return canvas != null ? canvas : contentPanel;
+	}
+	/*
+	 * Test whether frames are presented through the canvas's buffer strategy
+	 * @return boolean - Whether active rendering is enabled
+	 */
+	public boolean isActiveRendering() {
+		return bufferStrategy != null;
+	}
+	/*
+	 * Get the number of frames presented through the buffer strategy
+	 * @return long - The number of frames presented
+	 */
+	public long getPresentedFrameCount() {
+		return presentedFrameCount;
+	}
+	/*
+	 * Get the number of times a frame was drawn again because its back
+	 * buffer's contents were lost or restored
+	 * @return long - The number of redrawn frames
+	 */
+	public long getRedrawnFrameCount() {
+		return redrawnFrameCount;
+	}
 	/*
 	 * Get the current title of the window
 	 * @return String - The current title of the window
@@ -304,6 +480,17 @@ public class WindowManager {
 				= monitors[monitorIndex].getDefaultConfiguration().getBounds();
 		return new Vector2D(bounds.width, bounds.height);
 	}
+	/*
+	 * Get the default graphics configuration of the window's current monitor,
+	 * which images should match to be drawn to the window quickly
+	 * @return GraphicsConfiguration - The current monitor's configuration
+	 */
+	public GraphicsConfiguration getGraphicsConfiguration() {
+		GraphicsEnvironment environment
+				= GraphicsEnvironment.getLocalGraphicsEnvironment();
+		GraphicsDevice[] monitors = environment.getScreenDevices();
+		return monitors[monitorIndex].getDefaultConfiguration();
+	}
 	/*
 	 * Get the index of the window's current monitor
 	 * @return int - The index of the window's current monitor
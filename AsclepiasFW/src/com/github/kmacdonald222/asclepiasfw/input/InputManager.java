@@ -9,6 +9,7 @@
 package com.github.kmacdonald222.asclepiasfw.input;
 
 import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
 
@@ -24,17 +25,18 @@ public class InputManager {
 	
 	/*
 	 * Initialize all user input management systems
+	 * @param EventBus events - The event bus to publish input events to
 	 * @return boolean - Whether the user input management systems were
 	 * successfully initialized
 	 */
-	public boolean initialize() {
+	public boolean initialize(EventBus events) {
 		if (initialized) {
 			return false;
 		}
 		App.Log.write(LogSource.Input, LogPriority.Info, "Initializing ",
 				"keyboard input management system");
 		keyboard = new KeyboardManager();
-		if (!keyboard.initialize()) {
+		if (!keyboard.initialize(events)) {
 			App.Log.write(LogSource.Input, LogPriority.Error, "Failed to ",
 					"initialize keyboard input management system");
 			return false;
@@ -42,7 +44,7 @@ public class InputManager {
 		App.Log.write(LogSource.Input, LogPriority.Info, "Initializing ",
 				"mouse input management system");
 		mouse = new MouseManager();
-		if (!mouse.initialize()) {
+		if (!mouse.initialize(events)) {
 			App.Log.write(LogSource.Input, LogPriority.Error, "Failed to ",
 					"initialize mouse input management system");
 			return false;
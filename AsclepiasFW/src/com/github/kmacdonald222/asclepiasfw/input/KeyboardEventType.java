@@ -0,0 +1,41 @@
+/*
+ * File:		KeyboardEventType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the kinds of keyboard input events published to
+ * 				the event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.input;
+
+// Enumeration of the kinds of keyboard input event
+public enum KeyboardEventType {
+	
+	// A key has been pressed
+	KEY_PRESSED("Key Pressed"),
+	// A key has been released
+	KEY_RELEASED("Key Released"),
+	// A character has been typed
+	CHARACTER_TYPED("Character Typed");
+	
+	// The name of this keyboard event type
+	private String name = "";
+	
+	/*
+	 * Construct a new keyboard event type with a name
+	 * @param String name - The name of this keyboard event type
+	 */
+	private KeyboardEventType(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this keyboard event type to its name to represent as a string
+	 * @return String - The string representation of this keyboard event type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -0,0 +1,79 @@
+/*
+ * File:		KeyboardInputEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the keyboard input event published to the event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.input;
+
+import com.github.kmacdonald222.asclepiasfw.pooling.Poolable;
+
+// Keyboard input event published to the event bus, taken from its publisher's
+// pool for each event and returned once dispatched so that dispatching input
+// never allocates (subscribers must not keep the event)
+public class KeyboardInputEvent implements Poolable {
+	
+	// The kind of keyboard event
+	private KeyboardEventType type = KeyboardEventType.KEY_PRESSED;
+	// The key pressed or released
+	private KeyboardKey key = KeyboardKey.UNKNOWN;
+	// The character typed
+	private char character = '\0';
+	
+	/*
+	 * Set this event to a key being pressed or released
+	 * @param KeyboardEventType type - KEY_PRESSED or KEY_RELEASED
+	 * @param KeyboardKey key - The key pressed or released
+	 * @return KeyboardInputEvent - This event
+	 */
+	public KeyboardInputEvent set(KeyboardEventType type, KeyboardKey key) {
+		this.type = type;
+		this.key = key;
+		character = '\0';
+		return this;
+	}
+	/*
+	 * Set this event to a character being typed
+	 * @param char character - The character typed
+	 * @return KeyboardInputEvent - This event
+	 */
+	public KeyboardInputEvent set(char character) {
+		type = KeyboardEventType.CHARACTER_TYPED;
+		key = KeyboardKey.UNKNOWN;
+		this.character = character;
+		return this;
+	}
+	/*
+	 * Reset this event as it is returned to its pool
+	 */
+	@Override
+	public void reset() {
+		type = KeyboardEventType.KEY_PRESSED;
+		key = KeyboardKey.UNKNOWN;
+		character = '\0';
+	}
+	
+	/*
+	 * Get the kind of this keyboard event
+	 * @return KeyboardEventType - The event's kind
+	 */
+	public KeyboardEventType getType() {
+		return type;
+	}
+	/*
+	 * Get the key pressed or released
+	 * @return KeyboardKey - The event's key (UNKNOWN for typed characters)
+	 */
+	public KeyboardKey getKey() {
+		return key;
+	}
+	/*
+	 * Get the character typed
+	 * @return char - The event's character (0 for pressed and released keys)
+	 */
+	public char getCharacter() {
+		return character;
+	}
+	
+}
@@ -129,6 +129,10 @@ public enum KeyboardKey {
 	SCROLL_LOCK(KeyEvent.VK_SCROLL_LOCK, "Scroll Lock"),
 	UNKNOWN(-1, "Unknown");
 	
+	// Every key, cached so that looking keys up does not copy the values
+	// array
+	private static final KeyboardKey[] Keys = values();
+	
 	// The Java key ID code of this key
 	private int keyCode = 0;
 	// The common name or symbol of this key
@@ -150,9 +154,9 @@ public enum KeyboardKey {
 	 * @return KeyboardKey - The keyboard key with the given ID code or UNKNOWN
 	 */
 	public static KeyboardKey fromKeyCode(int keyCode) {
-		for (int i = 0; i < values().length; i++) {
-			if (values()[i].keyCode == keyCode) {
-				return values()[i];
+		for (int i = 0; i < Keys.length; i++) {
+			if (Keys[i].keyCode == keyCode) {
+				return Keys[i];
 			}
 		}
 		return UNKNOWN;
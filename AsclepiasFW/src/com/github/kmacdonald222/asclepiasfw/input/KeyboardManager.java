@@ -12,13 +12,14 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 
 import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventChannel;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.pooling.ObjectPool;
 
 // The keyboard input management system for Asclepias Framework applications
 public class KeyboardManager implements KeyListener {
@@ -51,16 +52,25 @@ public class KeyboardManager implements KeyListener {
 	private LinkedBlockingQueue<KeyEvent> keyEvents = null;
 	// The set of key states mapped to their codes
 	private Map<Integer, KeyState> keyStates = null;
-	// The set of classes subscribed to keyboard input event callbacks
-	private List<KeyboardListener> listeners = null;
+	// The event bus channel keyboard input events are published to
+	private EventChannel<KeyboardInputEvent> channel = null;
+	// The pool of keyboard input events published
+	private ObjectPool<KeyboardInputEvent> eventPool =
+			new ObjectPool<KeyboardInputEvent>("Keyboard input events",
+			KeyboardInputEvent::new);
+	// Whether events from the application's window are processed, disabled
+	// while a replay injects recorded events instead
+	private boolean liveInputEnabled = true;
 	
 	/*
 	 * Initialize the keyboard input management system's memory and attach it to
 	 * the application's window
+	 * @param EventBus events - The event bus to publish keyboard input events
+	 * to
 	 * @return boolean - Whether the keyboard input management system was
 	 * successfully initialized
 	 */
-	public boolean initialize() {
+	public boolean initialize(EventBus events) {
 		if (initialized) {
 			return false;
 		}
@@ -72,8 +82,8 @@ public class KeyboardManager implements KeyListener {
 		keyEvents = new LinkedBlockingQueue<KeyEvent>();
 		keyStates = new HashMap<Integer, KeyState>();
 		App.Log.write(LogSource.Keyboard, LogPriority.Info, "Initializing ",
-				"keyboard input listeners set");
-		listeners = new ArrayList<KeyboardListener>();
+				"keyboard input event channel");
+		channel = events.getChannel(KeyboardInputEvent.class);
 		initialized = true;
 		return initialized;
 	}
@@ -86,6 +96,9 @@ public class KeyboardManager implements KeyListener {
 		}
 		KeyEvent event = null;
 		while ((event = keyEvents.poll()) != null) {
+			if (!liveInputEnabled) {
+				continue;
+			}
 			switch (event.getID()) {
 			case KeyEvent.KEY_PRESSED:
 				pressKey(event);
@@ -113,23 +126,29 @@ public class KeyboardManager implements KeyListener {
 		}
 	}
 	/*
-	 * Update a key's state to pressed and notify input listeners
+	 * Update a key's state to pressed and publish input events
 	 * @param KeyEvent event - The event data passed by the application's window
 	 */
 	private void pressKey(KeyEvent event) {
-		KeyboardKey key = KeyboardKey.fromKeyCode(event.getKeyCode());
+		pressKey(event.getKeyCode());
+	}
+	/*
+	 * Update a key's state to pressed and publish input events
+	 * @param int keyCode - The Java code of the key pressed
+	 */
+	private void pressKey(int keyCode) {
+		KeyboardKey key = KeyboardKey.fromKeyCode(keyCode);
 		if (key == KeyboardKey.UNKNOWN) {
 			return;
 		}
-		if (keyStates.containsKey(event.getKeyCode())) {
-			keyStates.get(event.getKeyCode()).state = true;
+		if (keyStates.containsKey(keyCode)) {
+			keyStates.get(keyCode).state = true;
 		} else {
-			keyStates.put(event.getKeyCode(), new KeyState(true, false));
+			keyStates.put(keyCode, new KeyState(true, false));
 		}
 		if (!wasKeyDown(key)) {
-			for (KeyboardListener listener : listeners) {
-				listener.keyboardKeyPressed(key);
-			}
+			publish(eventPool.acquire().set(KeyboardEventType.KEY_PRESSED,
+					key));
 		}
 	}
 	/*
@@ -146,23 +165,29 @@ public class KeyboardManager implements KeyListener {
 		}
 	}
 	/*
-	 * Update a key's state to released and notify input listeners
+	 * Update a key's state to released and publish input events
 	 * @param KeyEvent event - The event data passed by the application's window
 	 */
 	public void releaseKey(KeyEvent event) {
-		KeyboardKey key = KeyboardKey.fromKeyCode(event.getKeyCode());
+		releaseKey(event.getKeyCode());
+	}
+	/*
+	 * Update a key's state to released and publish input events
+	 * @param int keyCode - The Java code of the key released
+	 */
+	private void releaseKey(int keyCode) {
+		KeyboardKey key = KeyboardKey.fromKeyCode(keyCode);
 		if (key == KeyboardKey.UNKNOWN) {
 			return;
 		}
-		if (keyStates.containsKey(event.getKeyCode())) {
-			keyStates.get(event.getKeyCode()).state = false;
+		if (keyStates.containsKey(keyCode)) {
+			keyStates.get(keyCode).state = false;
 		} else {
-			keyStates.put(event.getKeyCode(), new KeyState(false, true));
+			keyStates.put(keyCode, new KeyState(false, true));
 		}
 		if (!isKeyDown(key)) {
-			for (KeyboardListener listener : listeners) {
-				listener.keyboardKeyReleased(key);
-			}
+			publish(eventPool.acquire().set(KeyboardEventType.KEY_RELEASED,
+					key));
 		}
 	}
 	/*
@@ -179,13 +204,51 @@ public class KeyboardManager implements KeyListener {
 		}
 	}
 	/*
-	 * Notify input listeners of a character typed
+	 * Publish an input event of a character typed
 	 * @param KeyEvent event - The event data passed by the application's window
 	 */
 	private void typeCharacter(KeyEvent event) {
-		for (KeyboardListener listener : listeners) {
-			listener.characterTyped(event.getKeyChar());
-		}
+		typeCharacter(event.getKeyChar());
+	}
+	/*
+	 * Publish an input event of a character typed
+	 * @param char character - The character typed
+	 */
+	private void typeCharacter(char character) {
+		publish(eventPool.acquire().set(character));
+	}
+	/*
+	 * Publish a keyboard input event and return it to the event pool once
+	 * every subscriber has handled it
+	 * @param KeyboardInputEvent event - The event to publish
+	 */
+	private void publish(KeyboardInputEvent event) {
+		channel.publish(event);
+		eventPool.release(event);
+	}
+	/*
+	 * Press a key as if it came from the application's window, for replaying
+	 * recorded input during the current logic update
+	 * @param KeyboardKey key - The key to press
+	 */
+	public void injectKeyPressed(KeyboardKey key) {
+		pressKey(key.getKeyCode());
+	}
+	/*
+	 * Release a key as if it came from the application's window, for
+	 * replaying recorded input during the current logic update
+	 * @param KeyboardKey key - The key to release
+	 */
+	public void injectKeyReleased(KeyboardKey key) {
+		releaseKey(key.getKeyCode());
+	}
+	/*
+	 * Type a character as if it came from the application's window, for
+	 * replaying recorded input during the current logic update
+	 * @param char character - The character to type
+	 */
+	public void injectCharacterTyped(char character) {
+		typeCharacter(character);
 	}
 	/*
 	 * Disconnect the keyboard input management system from the application's
@@ -207,10 +270,7 @@ public class KeyboardManager implements KeyListener {
 		keyEvents = null;
 		keyStates.clear();
 		keyStates = null;
-		App.Log.write(LogSource.Keyboard, LogPriority.Info, "Clearing ",
-				"keyboard input listeners");
-		listeners.clear();
-		listeners = null;
+		channel = null;
 		initialized = false;
 		return success;
 	}
@@ -254,42 +314,28 @@ public class KeyboardManager implements KeyListener {
 		return !isKeyDown(key) && wasKeyDown(key);
 	}
 	/*
-	 * Get the current set of listeners subscribed to the keyboard input
-	 * management system
-	 * @return List<KeyboardListener> - The current set of listeners
+	 * Test whether events from the application's window are processed
+	 * @return boolean - Whether live keyboard input is enabled
 	 */
-	public List<KeyboardListener> getListeners() {
-		return listeners;
+	public boolean isLiveInputEnabled() {
+		return liveInputEnabled;
 	}
 	/*
-	 * Add a listener to the set subscribed to the keyboard input management
-	 * system
-	 * @param KeyboardListener listener - The listener to add
-	 * @return boolean - Whether the listener was added successfully
+	 * Set whether events from the application's window are processed, events
+	 * arriving while disabled are discarded
+	 * @param boolean liveInputEnabled - Whether live keyboard input should be
+	 * enabled
 	 */
-	public boolean addListener(KeyboardListener listener) {
-		if (listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.Keyboard, LogPriority.Info, "Adding keyboard ",
-				"input listener");
-		listeners.add(listener);
-		return true;
+	public void setLiveInputEnabled(boolean liveInputEnabled) {
+		this.liveInputEnabled = liveInputEnabled;
 	}
 	/*
-	 * Remove a listener from the set subscribed to the keyboard input
-	 * management system
-	 * @param KeyboardListener listener - The listener to remove
-	 * @return boolean - Whether the listener was removed successfully
+	 * Get the pool keyboard input events are taken from, for reporting its
+	 * statistics or enabling leak detection
+	 * @return ObjectPool<KeyboardInputEvent> - The keyboard input event pool
 	 */
-	public boolean removeListener(KeyboardListener listener) {
-		if (!listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.Keyboard, LogPriority.Info, "Removing ",
-				"keyboard input listener");
-		listeners.remove(listener);
-		return true;
+	public ObjectPool<KeyboardInputEvent> getEventPool() {
+		return eventPool;
 	}
 
-}
\ No newline at end of file
+}
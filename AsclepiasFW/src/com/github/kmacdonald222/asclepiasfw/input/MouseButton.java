@@ -19,6 +19,10 @@ public enum MouseButton {
 	RIGHT(MouseEvent.BUTTON3, "Right"),
 	UNKNOWN(-1, "Unknown");
 	
+	// Every button, cached so that looking buttons up does not copy the values
+	// array
+	private static final MouseButton[] Buttons = values();
+	
 	// The Java button ID code of this button
 	private int buttonCode = 0;
 	// The name of this button
@@ -40,9 +44,9 @@ public enum MouseButton {
 	 * @return MouseButton - The mouse button with the give ID code or UNKNOWN
 	 */
 	public static MouseButton fromButtonCode(int buttonCode) {
-		for (int i = 0; i < values().length; i++) {
-			if (values()[i].buttonCode == buttonCode) {
-				return values()[i];
+		for (int i = 0; i < Buttons.length; i++) {
+			if (Buttons[i].buttonCode == buttonCode) {
+				return Buttons[i];
 			}
 		}
 		return UNKNOWN;
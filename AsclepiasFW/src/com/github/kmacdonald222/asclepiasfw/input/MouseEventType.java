@@ -0,0 +1,43 @@
+/*
+ * File:		MouseEventType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the kinds of mouse input events published to the
+ * 				event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.input;
+
+// Enumeration of the kinds of mouse input event
+public enum MouseEventType {
+	
+	// A button has been pressed
+	BUTTON_PRESSED("Button Pressed"),
+	// A button has been released
+	BUTTON_RELEASED("Button Released"),
+	// The scroll wheel has moved
+	SCROLL_WHEEL_MOVED("Scroll Wheel Moved"),
+	// The cursor has moved on the application's window
+	CURSOR_MOVED("Cursor Moved");
+	
+	// The name of this mouse event type
+	private String name = "";
+	
+	/*
+	 * Construct a new mouse event type with a name
+	 * @param String name - The name of this mouse event type
+	 */
+	private MouseEventType(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this mouse event type to its name to represent as a string
+	 * @return String - The string representation of this mouse event type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
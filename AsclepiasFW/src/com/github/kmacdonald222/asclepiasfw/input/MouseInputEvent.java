@@ -0,0 +1,129 @@
+/*
+ * File:		MouseInputEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the mouse input event published to the event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.input;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.pooling.Poolable;
+
+// Mouse input event published to the event bus, taken from its publisher's
+// pool for each event and returned once dispatched so that dispatching input
+// never allocates (subscribers must not keep the event or its cursor positions)
+public class MouseInputEvent implements Poolable {
+	
+	// The kind of mouse event
+	private MouseEventType type = MouseEventType.BUTTON_PRESSED;
+	// The button pressed or released
+	private MouseButton button = MouseButton.UNKNOWN;
+	// The distance the scroll wheel moved
+	private double scrollDistance = 0.0d;
+	// The distance the scroll wheel moved in the last logic update
+	private double previousScrollDistance = 0.0d;
+	// The new position of the mouse cursor
+	private Vector2D cursorPosition = null;
+	// The previous position of the mouse cursor
+	private Vector2D previousCursorPosition = null;
+	
+	/*
+	 * Set this event to a button being pressed or released
+	 * @param MouseEventType type - BUTTON_PRESSED or BUTTON_RELEASED
+	 * @param MouseButton button - The button pressed or released
+	 * @return MouseInputEvent - This event
+	 */
+	public MouseInputEvent set(MouseEventType type, MouseButton button) {
+		this.type = type;
+		this.button = button;
+		return this;
+	}
+	/*
+	 * Set this event to the scroll wheel moving
+	 * @param double scrollDistance - The distance the scroll wheel moved
+	 * @param double previousScrollDistance - The distance the scroll wheel
+	 * moved in the last logic update
+	 * @return MouseInputEvent - This event
+	 */
+	public MouseInputEvent set(double scrollDistance,
+			double previousScrollDistance) {
+		type = MouseEventType.SCROLL_WHEEL_MOVED;
+		button = MouseButton.UNKNOWN;
+		this.scrollDistance = scrollDistance;
+		this.previousScrollDistance = previousScrollDistance;
+		return this;
+	}
+	/*
+	 * Set this event to the cursor moving
+	 * @param Vector2D cursorPosition - The new position of the mouse cursor
+	 * @param Vector2D previousCursorPosition - The previous position of the
+	 * mouse cursor
+	 * @return MouseInputEvent - This event
+	 */
+	public MouseInputEvent set(Vector2D cursorPosition,
+			Vector2D previousCursorPosition) {
+		type = MouseEventType.CURSOR_MOVED;
+		button = MouseButton.UNKNOWN;
+		this.cursorPosition = cursorPosition;
+		this.previousCursorPosition = previousCursorPosition;
+		return this;
+	}
+	/*
+	 * Reset this event as it is returned to its pool
+	 */
+	@Override
+	public void reset() {
+		type = MouseEventType.BUTTON_PRESSED;
+		button = MouseButton.UNKNOWN;
+		scrollDistance = 0.0d;
+		previousScrollDistance = 0.0d;
+		cursorPosition = null;
+		previousCursorPosition = null;
+	}
+	
+	/*
+	 * Get the kind of this mouse event
+	 * @return MouseEventType - The event's kind
+	 */
+	public MouseEventType getType() {
+		return type;
+	}
+	/*
+	 * Get the button pressed or released
+	 * @return MouseButton - The event's button (UNKNOWN for wheel and cursor
+	 * movement)
+	 */
+	public MouseButton getButton() {
+		return button;
+	}
+	/*
+	 * Get the distance the scroll wheel moved
+	 * @return double - The scroll distance
+	 */
+	public double getScrollDistance() {
+		return scrollDistance;
+	}
+	/*
+	 * Get the distance the scroll wheel moved in the last logic update
+	 * @return double - The previous scroll distance
+	 */
+	public double getPreviousScrollDistance() {
+		return previousScrollDistance;
+	}
+	/*
+	 * Get the new position of the mouse cursor
+	 * @return Vector2D - The cursor's position
+	 */
+	public Vector2D getCursorPosition() {
+		return cursorPosition;
+	}
+	/*
+	 * Get the previous position of the mouse cursor
+	 * @return Vector2D - The cursor's previous position
+	 */
+	public Vector2D getPreviousCursorPosition() {
+		return previousCursorPosition;
+	}
+	
+}
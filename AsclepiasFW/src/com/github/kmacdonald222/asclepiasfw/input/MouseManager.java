@@ -12,16 +12,17 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import com.github.kmacdonald222.asclepiasfw.app.App;
 import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventChannel;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.pooling.ObjectPool;
 
 // The mouse input management system for Asclepias Framework applications
 public class MouseManager implements java.awt.event.MouseListener,
@@ -59,42 +60,52 @@ public class MouseManager implements java.awt.event.MouseListener,
 	private double scrollDistance = 0.0d;
 	// The distance the mouse scroll wheel moved before the last logic update
 	private double previousScrollDistance = 0.0d;
+	// The two vectors the cursor position is written into, alternating so the
+	// previous position is kept when the cursor moves
+	private Vector2D[] cursorVectors = null;
 	// The current position of the mouse cursor on the application's window
 	private Vector2D cursorPosition = null;
 	// The position of the mouse cursor on the application's window before the
 	// last logic update
 	private Vector2D previousCursorPosition = null;
-	// The set of classes subscribed to mouse input event callbacks
-	private List<MouseListener> listeners = null;
+	// The event bus channel mouse input events are published to
+	private EventChannel<MouseInputEvent> channel = null;
+	// The pool of mouse input events published
+	private ObjectPool<MouseInputEvent> eventPool =
+			new ObjectPool<MouseInputEvent>("Mouse input events",
+			MouseInputEvent::new);
+	// Whether events from the application's window are processed, disabled
+	// while a replay injects recorded events instead
+	private boolean liveInputEnabled = true;
 	
 	/*
 	 * Initialize the mouse input management system's memory and attach it to
 	 * the application's window
+	 * @param EventBus events - The event bus to publish mouse input events to
 	 * @return boolean - Whether the mouse input management system was
 	 * successfully initialized
 	 */
-	public boolean initialize() {
+	public boolean initialize(EventBus events) {
 		if (initialized) {
 			return false;
 		}
 		App.Log.write(LogSource.Mouse, LogPriority.Info, "Attaching as mouse ",
 				"listener to window handle");
-		App.Window.getWindowHandle().getContentPane().addMouseListener(this);
-		App.Window.getWindowHandle().getContentPane()
-				.addMouseWheelListener(this);
-		App.Window.getWindowHandle().getContentPane()
-				.addMouseMotionListener(this);
+		App.Window.getDrawingSurface().addMouseListener(this);
+		App.Window.getDrawingSurface().addMouseWheelListener(this);
+		App.Window.getDrawingSurface().addMouseMotionListener(this);
 		App.Log.write(LogSource.Mouse, LogPriority.Info, "Initializing mouse ",
 				"state memory");
 		mouseEvents = new LinkedBlockingQueue<MouseEvent>();
 		buttonStates = new HashMap<Integer, ButtonState>();
 		scrollDistance = 0.0d;
 		previousScrollDistance = 0.0d;
-		cursorPosition = new Vector2D();
-		previousCursorPosition = new Vector2D();
+		cursorVectors = new Vector2D[] { new Vector2D(), new Vector2D() };
+		cursorPosition = cursorVectors[0];
+		previousCursorPosition = cursorVectors[1];
 		App.Log.write(LogSource.Mouse, LogPriority.Info, "Initializing mouse ",
-				"input listeners set");
-		listeners = new ArrayList<MouseListener>();
+				"input event channel");
+		channel = events.getChannel(MouseInputEvent.class);
 		initialized = true;
 		return initialized;
 	}
@@ -112,6 +123,9 @@ public class MouseManager implements java.awt.event.MouseListener,
 		previousCursorPosition = cursorPosition;
 		MouseEvent event = null;
 		while ((event = mouseEvents.poll()) != null) {
+			if (!liveInputEnabled) {
+				continue;
+			}
 			switch (event.getID()) {
 			case MouseEvent.MOUSE_PRESSED:
 				pressMouse(event);
@@ -154,19 +168,25 @@ public class MouseManager implements java.awt.event.MouseListener,
 	 * @param MouseEvent event - The event data
 	 */
 	private void pressMouse(MouseEvent event) {
-		MouseButton button = MouseButton.fromButtonCode(event.getButton());
+		pressMouse(event.getButton());
+	}
+	/*
+	 * Update the state of a mouse button to pressed
+	 * @param int buttonCode - The Java code of the button pressed
+	 */
+	private void pressMouse(int buttonCode) {
+		MouseButton button = MouseButton.fromButtonCode(buttonCode);
 		if (button == MouseButton.UNKNOWN) {
 			return;
 		}
-		if (buttonStates.containsKey(event.getButton())) {
-			buttonStates.get(event.getButton()).state = true;
+		if (buttonStates.containsKey(buttonCode)) {
+			buttonStates.get(buttonCode).state = true;
 		} else {
-			buttonStates.put(event.getButton(), new ButtonState(true, false));
+			buttonStates.put(buttonCode, new ButtonState(true, false));
 		}
 		if (!wasButtonDown(button)) {
-			for (MouseListener listener : listeners) {
-				listener.mouseButtonPressed(button);
-			}
+			publish(eventPool.acquire().set(MouseEventType.BUTTON_PRESSED,
+					button));
 		}
 	}
 	/*
@@ -187,19 +207,25 @@ public class MouseManager implements java.awt.event.MouseListener,
 	 * @param MouseEvent event - The event data
 	 */
 	private void releaseMouse(MouseEvent event) {
-		MouseButton button = MouseButton.fromButtonCode(event.getButton());
+		releaseMouse(event.getButton());
+	}
+	/*
+	 * Update the state of a mouse button to released
+	 * @param int buttonCode - The Java code of the button released
+	 */
+	private void releaseMouse(int buttonCode) {
+		MouseButton button = MouseButton.fromButtonCode(buttonCode);
 		if (button == MouseButton.UNKNOWN) { 
 			return;
 		}
-		if (buttonStates.containsKey(event.getButton())) {
-			buttonStates.get(event.getButton()).state = false;
+		if (buttonStates.containsKey(buttonCode)) {
+			buttonStates.get(buttonCode).state = false;
 		} else {
-			buttonStates.put(event.getButton(), new ButtonState(false, true));
+			buttonStates.put(buttonCode, new ButtonState(false, true));
 		}
 		if (!isButtonDown(button)) {
-			for (MouseListener listener : listeners) {
-				listener.mouseButtonReleased(button);
-			}
+			publish(eventPool.acquire().set(MouseEventType.BUTTON_RELEASED,
+					button));
 		}
 	}
 	/*
@@ -247,12 +273,16 @@ public class MouseManager implements java.awt.event.MouseListener,
 	 * @param MouseWheelEvent event - The event data
 	 */
 	private void moveMouseWheel(MouseWheelEvent event) {
-		double scrollDistance = -event.getPreciseWheelRotation();
+		moveMouseWheel(-event.getPreciseWheelRotation());
+	}
+	/*
+	 * Update the movement distance of the mouse's scroll wheel
+	 * @param double scrollDistance - The distance the wheel moved
+	 */
+	private void moveMouseWheel(double scrollDistance) {
 		this.scrollDistance = scrollDistance;
-		for (MouseListener listener : listeners) {
-			listener.mouseScrollWheelMoved(scrollDistance,
-					previousScrollDistance);
-		}
+		publish(eventPool.acquire().set(scrollDistance,
+				previousScrollDistance));
 	}
 	/*
 	 * The mouse cursor has moved on the application's window
@@ -272,12 +302,64 @@ public class MouseManager implements java.awt.event.MouseListener,
 	 * @param MouseEvent event - The event data
 	 */
 	private void moveMouse(MouseEvent event) {
-		Vector2D cursorPosition = new Vector2D(event.getX(),
-				App.Window.getDimensions().y - event.getY());
-		this.cursorPosition = cursorPosition;
-		for (MouseListener listener : listeners) {
-			listener.mouseCursorMoved(cursorPosition, previousCursorPosition);
+		moveMouse(event.getX(), App.Window.getDimensions().y - event.getY());
+	}
+	/*
+	 * Update the position of the mouse cursor, writing the new position into
+	 * whichever of the cursor vectors does not hold the previous position
+	 * @param double x - The new horizontal position of the cursor
+	 * @param double y - The new vertical position of the cursor
+	 */
+	private void moveMouse(double x, double y) {
+		if (cursorPosition == previousCursorPosition) {
+			cursorPosition = cursorVectors[0] == previousCursorPosition
+					? cursorVectors[1] : cursorVectors[0];
 		}
+		cursorPosition.set(x, y);
+		publish(eventPool.acquire().set(cursorPosition,
+				previousCursorPosition));
+	}
+	/*
+	 * Publish a mouse input event and return it to the event pool once every
+	 * subscriber has handled it
+	 * @param MouseInputEvent event - The event to publish
+	 */
+	private void publish(MouseInputEvent event) {
+		channel.publish(event);
+		eventPool.release(event);
+	}
+	/*
+	 * Press a mouse button as if it came from the application's window, for
+	 * replaying recorded input during the current logic update
+	 * @param MouseButton button - The button to press
+	 */
+	public void injectButtonPressed(MouseButton button) {
+		pressMouse(button.getButtonCode());
+	}
+	/*
+	 * Release a mouse button as if it came from the application's window, for
+	 * replaying recorded input during the current logic update
+	 * @param MouseButton button - The button to release
+	 */
+	public void injectButtonReleased(MouseButton button) {
+		releaseMouse(button.getButtonCode());
+	}
+	/*
+	 * Move the mouse's scroll wheel as if it came from the application's
+	 * window, for replaying recorded input during the current logic update
+	 * @param double scrollDistance - The distance the wheel moved
+	 */
+	public void injectScrollWheelMoved(double scrollDistance) {
+		moveMouseWheel(scrollDistance);
+	}
+	/*
+	 * Move the mouse cursor as if it came from the application's window, for
+	 * replaying recorded input during the current logic update
+	 * @param Vector2D cursorPosition - The new position of the cursor, copied
+	 * so the caller may reuse it
+	 */
+	public void injectCursorMoved(Vector2D cursorPosition) {
+		moveMouse(cursorPosition.x, cursorPosition.y);
 	}
 	/*
 	 * Disconnect the mouse input management system from the application's
@@ -292,11 +374,9 @@ public class MouseManager implements java.awt.event.MouseListener,
 		boolean success = true;
 		App.Log.write(LogSource.Mouse, LogPriority.Info, "Detaching from ",
 				"window handle as mouse input listener");
-		App.Window.getWindowHandle().getContentPane().removeMouseListener(this);
-		App.Window.getWindowHandle().getContentPane()
-				.removeMouseWheelListener(this);
-		App.Window.getWindowHandle().getContentPane()
-				.removeMouseMotionListener(this);
+		App.Window.getDrawingSurface().removeMouseListener(this);
+		App.Window.getDrawingSurface().removeMouseWheelListener(this);
+		App.Window.getDrawingSurface().removeMouseMotionListener(this);
 		App.Log.write(LogSource.Mouse, LogPriority.Info, "Clearing mouse ",
 				"state information");
 		mouseEvents.clear();
@@ -305,12 +385,10 @@ public class MouseManager implements java.awt.event.MouseListener,
 		buttonStates = null;
 		scrollDistance = 0.0d;
 		previousScrollDistance = 0.0d;
+		cursorVectors = null;
 		cursorPosition = null;
 		previousCursorPosition = null;
-		App.Log.write(LogSource.Mouse, LogPriority.Info, "Clearing mouse ",
-				"input listeners");
-		listeners.clear();
-		listeners = null;
+		channel = null;
 		initialized = false;
 		return success;
 	}
@@ -385,7 +463,10 @@ public class MouseManager implements java.awt.event.MouseListener,
 		return cursorPosition != previousCursorPosition;
 	}
 	/*
-	 * Get the current position of the mouse cursor on the application's window
+	 * Get the current position of the mouse cursor on the application's
+	 * window, the returned vector is owned by the mouse input management
+	 * system and overwritten in place by later movement, so it must not be
+	 * modified and should be copied to keep
 	 * @return Vec2D - The current position of the mouse cursor
 	 */
 	public Vector2D getCursorPosition() {
@@ -393,48 +474,37 @@ public class MouseManager implements java.awt.event.MouseListener,
 	}
 	/*
 	 * Get the position of the mouse cursor on the application's window in the
-	 * last logic update
+	 * last logic update, the returned vector is owned by the mouse input
+	 * management system and overwritten in place by later movement, so it must
+	 * not be modified and should be copied to keep
 	 * @return Vec2D - The previous position of the mouse cursor
 	 */
 	public Vector2D getPreviousCursorPosition() {
 		return previousCursorPosition;
 	}
 	/*
-	 * Get the current set of listeners subscribed to the mouse input management
-	 * system
-	 * @return List<MouseListener> - The current set of listeners
+	 * Test whether events from the application's window are processed
+	 * @return boolean - Whether live mouse input is enabled
 	 */
-	public List<MouseListener> getListeners() {
-		return listeners;
+	public boolean isLiveInputEnabled() {
+		return liveInputEnabled;
 	}
 	/*
-	 * Add a listener to the set subscribed to the mouse input management system
-	 * @param MouseListener listener - The listener to add
-	 * @return boolean - Whether the listener was added successfully
+	 * Set whether events from the application's window are processed, events
+	 * arriving while disabled are discarded
+	 * @param boolean liveInputEnabled - Whether live mouse input should be
+	 * enabled
 	 */
-	public boolean addListener(MouseListener listener) {
-		if (listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.Mouse, LogPriority.Info, "Adding mouse input ",
-				"listener");
-		listeners.add(listener);
-		return true;
+	public void setLiveInputEnabled(boolean liveInputEnabled) {
+		this.liveInputEnabled = liveInputEnabled;
 	}
 	/*
-	 * Remove a listener from the set subscribed to the mouse input management
-	 * system
-	 * @param MouseListener listener - The listener to remove
-	 * @return boolean - Whether the listener was removed successfully
+	 * Get the pool mouse input events are taken from, for reporting its
+	 * statistics or enabling leak detection
+	 * @return ObjectPool<MouseInputEvent> - The mouse input event pool
 	 */
-	public boolean removeListener(MouseListener listener) {
-		if (!listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.Mouse, LogPriority.Info, "Removing mouse ",
-				"input listener");
-		listeners.remove(listener);
-		return true;
+	public ObjectPool<MouseInputEvent> getEventPool() {
+		return eventPool;
 	}
 
 }
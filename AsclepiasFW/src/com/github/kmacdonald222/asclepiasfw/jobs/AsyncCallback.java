@@ -0,0 +1,26 @@
+/*
+ * File:		AsyncCallback.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the completion callback functions of asynchronous tasks
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+// Interface for the completion callbacks of asynchronous tasks, which are
+// always called on the main thread
+public interface AsyncCallback<T> {
+	
+	/*
+	 * An asynchronous task has finished successfully
+	 * @param T result - The result of the task
+	 */
+	public void asyncCompleted(T result);
+	/*
+	 * An asynchronous task has stopped with an exception or error
+	 * @param Throwable error - The error which stopped the task
+	 */
+	public default void asyncFailed(Throwable error) {
+	}
+	
+}
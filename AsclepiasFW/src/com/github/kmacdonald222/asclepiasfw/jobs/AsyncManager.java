@@ -0,0 +1,194 @@
+/*
+ * File:		AsyncManager.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the manager of virtual-thread asynchronous tasks and the
+ * 				main thread continuation queue
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Manager running blocking tasks on virtual threads and queueing work, such as
+// their completion callbacks, to run on the main thread at a fixed point in
+// each frame
+public class AsyncManager {
+	
+	// Whether the asynchronous task manager has been initialized, read by
+	// tasks finishing on their virtual threads
+	private volatile boolean initialized = false;
+	// The log for the manager to write messages to
+	private LogManager log = null;
+	// Java executor starting a virtual thread for each task
+	private ExecutorService executor = null;
+	// Thread-safe queue of work to run on the main thread, kept allocated
+	// after destruction so late tasks find it empty rather than missing
+	private ConcurrentLinkedQueue<Runnable> mainThreadQueue =
+			new ConcurrentLinkedQueue<Runnable>();
+	// The longest the main thread queue may run for each frame in nanoseconds
+	private long budgetNanoseconds = 0L;
+	
+	/*
+	 * Initialize the asynchronous task manager's memory
+	 * @param LogManager log - Copy of a log for the manager to write messages
+	 * to
+	 * @param long budgetMicroseconds - The longest the main thread queue may
+	 * run for each frame in microseconds
+	 * @return boolean - Whether the manager was initialized successfully
+	 */
+	public boolean initialize(LogManager log, long budgetMicroseconds) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		log.write(LogSource.Jobs, LogPriority.Info, "Initializing ",
+				"virtual thread executor and main thread queue");
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		mainThreadQueue.clear();
+		setBudgetMicroseconds(budgetMicroseconds);
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Run a blocking task on a new virtual thread and queue its completion
+	 * callback to run on the main thread
+	 * @param AsyncTask<T> task - The blocking work to run
+	 * @param AsyncCallback<T> callback - The callback for the task's result,
+	 * or null
+	 * @return boolean - Whether the task was started successfully, false once
+	 * the manager has been destroyed
+	 */
+	public <T> boolean runAsync(AsyncTask<T> task, AsyncCallback<T> callback) {
+		if (!initialized) {
+			return false;
+		}
+		try {
+			executor.execute(() -> {
+				T result = null;
+				try {
+					result = task.run();
+				} catch (Throwable e) {
+					log.write(LogSource.Jobs, LogPriority.Warning,
+							"Asynchronous task failed with ", e);
+					if (callback != null) {
+						runOnMainThread(() -> callback.asyncFailed(e));
+					}
+					return;
+				}
+				if (callback != null) {
+					T completedResult = result;
+					runOnMainThread(() -> callback.asyncCompleted(
+							completedResult));
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.write(LogSource.Jobs, LogPriority.Warning, "Failed to ",
+					"start asynchronous task");
+			return false;
+		}
+		return true;
+	}
+	/*
+	 * Queue work to run on the main thread the next time the queue is drained
+	 * (safe to call from any thread)
+	 * @param Runnable work - The work to run
+	 * @return boolean - Whether the work was queued successfully, false once
+	 * the manager has been destroyed
+	 */
+	public boolean runOnMainThread(Runnable work) {
+		if (work == null || !initialized) {
+			return false;
+		}
+		return mainThreadQueue.offer(work);
+	}
+	/*
+	 * Run queued work on the main thread until the queue is empty or the
+	 * per-frame budget has been spent, leaving the rest for the next frame,
+	 * logging any item which throws rather than letting it stop the frame
+	 * @return int - The number of queued items run
+	 */
+	public int update() {
+		long deadline = System.nanoTime() + budgetNanoseconds;
+		int count = 0;
+		Runnable work = null;
+		while ((work = mainThreadQueue.poll()) != null) {
+			try {
+				work.run();
+			} catch (Throwable e) {
+				log.write(LogSource.Jobs, LogPriority.Error, "Main thread ",
+						"queue item failed with ", e);
+			}
+			count++;
+			if (System.nanoTime() - deadline >= 0L) {
+				break;
+			}
+		}
+		return count;
+	}
+	/*
+	 * Stop accepting tasks and queued work, wait briefly for running tasks to
+	 * finish and clear the main thread queue (tasks still running afterwards
+	 * find their completion callbacks refused)
+	 * @return boolean - Whether the manager was destroyed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		initialized = false;
+		boolean success = true;
+		log.write(LogSource.Jobs, LogPriority.Info, "Stopping virtual ",
+				"thread executor");
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(5L, TimeUnit.SECONDS)) {
+				log.write(LogSource.Jobs, LogPriority.Warning, "Timed out ",
+						"waiting for asynchronous tasks, interrupting them");
+				executor.shutdownNow();
+				success = false;
+			}
+		} catch (InterruptedException e) {
+			log.write(LogSource.Jobs, LogPriority.Warning, "Interrupted ",
+					"waiting for asynchronous tasks");
+			success = false;
+		}
+		log.write(LogSource.Jobs, LogPriority.Info, "Clearing main ",
+				"thread queue with ", mainThreadQueue.size(), " items left");
+		mainThreadQueue.clear();
+		return success;
+	}
+	
+	/*
+	 * Get the number of items waiting in the main thread queue
+	 * @return int - The number of queued items
+	 */
+	public int getQueuedCount() {
+		return mainThreadQueue.size();
+	}
+	/*
+	 * Get the longest the main thread queue may run for each frame
+	 * @return long - The per-frame budget in microseconds
+	 */
+	public long getBudgetMicroseconds() {
+		return budgetNanoseconds / 1000L;
+	}
+	/*
+	 * Set the longest the main thread queue may run for each frame, at least
+	 * one queued item always runs per frame
+	 * @param long budgetMicroseconds - The new per-frame budget in
+	 * microseconds
+	 */
+	public void setBudgetMicroseconds(long budgetMicroseconds) {
+		budgetNanoseconds = Math.max(budgetMicroseconds, 0L) * 1000L;
+	}
+	
+}
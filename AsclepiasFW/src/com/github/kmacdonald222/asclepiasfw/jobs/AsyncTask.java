@@ -0,0 +1,22 @@
+/*
+ * File:		AsyncTask.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the interface for blocking work run off the main thread
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+// Interface for blocking work (file loads, network requests, database access)
+// run on a virtual thread away from the main application loop
+public interface AsyncTask<T> {
+	
+	/*
+	 * Perform the blocking work, called on a virtual thread so application
+	 * state should not be touched until the completion callback
+	 * @return T - The result of the work
+	 * @throws Exception - Any error which stopped the work
+	 */
+	public T run() throws Exception;
+	
+}
@@ -0,0 +1,75 @@
+/*
+ * File:		Job.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a handle to work submitted to the job system
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Handle to work submitted to the job system, which other jobs can depend on
+// and which can be awaited
+public class Job {
+	
+	// The Java future completed when this job's work has finished
+	private CompletableFuture<Void> future = null;
+	// The log to write job failures to
+	private LogManager log = null;
+	
+	/*
+	 * Construct a job handle around a Java future (for use by the JobSystem
+	 * class only)
+	 * @param LogManager log - The log to write job failures to
+	 * @param CompletableFuture<Void> future - The future of the job's work
+	 */
+	Job(LogManager log, CompletableFuture<Void> future) {
+		this.log = log;
+		this.future = future;
+	}
+	
+	/*
+	 * Block until this job and all jobs it depends on have finished
+	 * @return boolean - Whether the job finished without an error
+	 */
+	public boolean await() {
+		try {
+			future.join();
+		} catch (CompletionException e) {
+			log.write(LogSource.Jobs, LogPriority.Warning, "Job failed ",
+					"with ", e.getCause());
+			return false;
+		}
+		return true;
+	}
+	
+	/*
+	 * Test whether this job has finished, successfully or not
+	 * @return boolean - Whether this job is done
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+	/*
+	 * Test whether this job finished with an error
+	 * @return boolean - Whether this job failed
+	 */
+	public boolean isFailed() {
+		return future.isCompletedExceptionally();
+	}
+	/*
+	 * Get the Java future completed when this job's work has finished (for
+	 * use by the JobSystem class only)
+	 * @return CompletableFuture<Void> - This job's future
+	 */
+	CompletableFuture<Void> getFuture() {
+		return future;
+	}
+	
+}
@@ -0,0 +1,240 @@
+/*
+ * File:		JobSystem.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the main class of the fork/join job system for
+ * 				Asclepias Framework applications
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// The fork/join job system for Asclepias Framework applications, running
+// parallel-for ranges and dependent jobs on a work-stealing thread pool
+public class JobSystem {
+	
+	// Fork/join action processing a grain-aligned part of a parallel-for range
+	private class RangeAction extends RecursiveAction {
+		
+		// Serial version identifier
+		private static final long serialVersionUID = 1L;
+		
+		// The body to call for each chunk (actions are never serialized)
+		private transient RangeTask task = null;
+		// The first index of this part of the range (inclusive)
+		private int start = 0;
+		// The last index of this part of the range (exclusive)
+		private int end = 0;
+		// The number of elements in each chunk
+		private int grainSize = 0;
+		
+		/*
+		 * Construct an action over part of a parallel-for range
+		 * @param RangeTask task - The body to call for each chunk
+		 * @param int start - The first index of this part (inclusive)
+		 * @param int end - The last index of this part (exclusive)
+		 * @param int grainSize - The number of elements in each chunk
+		 */
+		public RangeAction(RangeTask task, int start, int end,
+				int grainSize) {
+			this.task = task;
+			this.start = start;
+			this.end = end;
+			this.grainSize = grainSize;
+		}
+		
+		/*
+		 * Split this part of the range in half on a chunk boundary until a
+		 * single chunk remains, then call the body on it
+		 */
+		@Override
+		protected void compute() {
+			int chunks = GetChunkCount(start, end, grainSize);
+			if (chunks == 0) {
+				return;
+			}
+			if (chunks == 1) {
+				task.execute(start, end);
+				return;
+			}
+			int middle = (int)Math.min((long)start + (long)(chunks / 2)
+					* grainSize, end);
+			invokeAll(new RangeAction(task, start, middle, grainSize),
+					new RangeAction(task, middle, end, grainSize));
+		}
+		
+	}
+	
+	// Whether the job system has been initialized
+	private boolean initialized = false;
+	// The log for the job system to write messages to
+	private LogManager log = null;
+	// The Java work-stealing thread pool running jobs
+	private ForkJoinPool pool = null;
+	
+	/*
+	 * Initialize the job system's thread pool
+	 * @param LogManager log - Copy of a log for the job system to write
+	 * messages to
+	 * @param int workerCount - The number of worker threads (0 or less to use
+	 * the number of available cores)
+	 * @return boolean - Whether the job system was initialized successfully
+	 */
+	public boolean initialize(LogManager log, int workerCount) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		if (workerCount <= 0) {
+			workerCount = Runtime.getRuntime().availableProcessors();
+		}
+		log.write(LogSource.Jobs, LogPriority.Info, "Starting ",
+				workerCount, " job worker threads");
+		pool = new ForkJoinPool(workerCount);
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Submit a job to run once all of its dependencies have finished
+	 * @param Runnable work - The work to run
+	 * @param Job... dependencies - The jobs which must finish first
+	 * @return Job - A handle to the submitted job
+	 */
+	public Job submit(Runnable work, Job... dependencies) {
+		if (dependencies.length == 0) {
+			return new Job(log, CompletableFuture.runAsync(work, pool));
+		}
+		CompletableFuture<?>[] futures
+				= new CompletableFuture<?>[dependencies.length];
+		for (int i = 0; i < dependencies.length; i++) {
+			futures[i] = dependencies[i].getFuture();
+		}
+		return new Job(log, CompletableFuture.allOf(futures).thenRunAsync(
+				work, pool));
+	}
+	/*
+	 * Submit a parallel-for job over a range to run once all of its
+	 * dependencies have finished
+	 * @param int start - The first index of the range (inclusive)
+	 * @param int end - The last index of the range (exclusive)
+	 * @param int grainSize - The number of elements in each chunk
+	 * @param RangeTask task - The body to call for each chunk
+	 * @param Job... dependencies - The jobs which must finish first
+	 * @return Job - A handle to the submitted job
+	 */
+	public Job submitParallelFor(int start, int end, int grainSize,
+			RangeTask task, Job... dependencies) {
+		return submit(() -> runRange(start, end, grainSize, task),
+				dependencies);
+	}
+	/*
+	 * Run a parallel-for over a range and block until every chunk has been
+	 * processed, the range is always split into the same chunks regardless of
+	 * the number of worker threads
+	 * @param int start - The first index of the range (inclusive)
+	 * @param int end - The last index of the range (exclusive)
+	 * @param int grainSize - The number of elements in each chunk
+	 * @param RangeTask task - The body to call for each chunk
+	 * @return boolean - Whether every chunk was processed without an error
+	 */
+	public boolean parallelFor(int start, int end, int grainSize,
+			RangeTask task) {
+		try {
+			pool.invoke(new RangeAction(task, start, end,
+					Math.max(grainSize, 1)));
+		} catch (RuntimeException e) {
+			log.write(LogSource.Jobs, LogPriority.Warning, "Parallel-for ",
+					"failed with ", e);
+			return false;
+		}
+		return true;
+	}
+	/*
+	 * Block until a set of jobs have all finished
+	 * @param Job... jobs - The jobs to wait for
+	 * @return boolean - Whether every job finished without an error
+	 */
+	public boolean awaitAll(Job... jobs) {
+		boolean success = true;
+		for (Job job : jobs) {
+			if (!job.await()) {
+				success = false;
+			}
+		}
+		return success;
+	}
+	/*
+	 * Stop the job system's worker threads once queued jobs have finished
+	 * @return boolean - Whether the job system was destroyed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		boolean success = true;
+		log.write(LogSource.Jobs, LogPriority.Info, "Stopping job worker ",
+				"threads");
+		pool.shutdown();
+		try {
+			if (!pool.awaitTermination(5L, TimeUnit.SECONDS)) {
+				log.write(LogSource.Jobs, LogPriority.Warning, "Timed out ",
+						"waiting for jobs to finish");
+				pool.shutdownNow();
+				success = false;
+			}
+		} catch (InterruptedException e) {
+			log.write(LogSource.Jobs, LogPriority.Warning, "Interrupted ",
+					"waiting for jobs to finish");
+			success = false;
+		}
+		pool = null;
+		initialized = false;
+		return success;
+	}
+	
+	/*
+	 * Process a parallel-for range inside an already running job
+	 * @param int start - The first index of the range (inclusive)
+	 * @param int end - The last index of the range (exclusive)
+	 * @param int grainSize - The number of elements in each chunk
+	 * @param RangeTask task - The body to call for each chunk
+	 */
+	private void runRange(int start, int end, int grainSize, RangeTask task) {
+		new RangeAction(task, start, end, Math.max(grainSize, 1)).invoke();
+	}
+	
+	/*
+	 * Get the number of worker threads running jobs
+	 * @return int - The number of worker threads
+	 */
+	public int getWorkerCount() {
+		return pool.getParallelism();
+	}
+	/*
+	 * Get the number of chunks a range is split into for a parallel-for, for
+	 * sizing per-chunk result arrays which are combined in a fixed order
+	 * (computed without overflow, so a grain size larger than the range gives
+	 * a single chunk)
+	 * @param int start - The first index of the range (inclusive)
+	 * @param int end - The last index of the range (exclusive)
+	 * @param int grainSize - The number of elements in each chunk
+	 * @return int - The number of chunks
+	 */
+	public static int GetChunkCount(int start, int end, int grainSize) {
+		long length = (long)end - start;
+		if (length <= 0L) {
+			return 0;
+		}
+		return (int)Math.min((length - 1L) / Math.max(grainSize, 1) + 1L,
+				Integer.MAX_VALUE);
+	}
+	
+}
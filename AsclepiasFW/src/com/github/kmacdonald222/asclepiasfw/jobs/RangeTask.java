@@ -0,0 +1,23 @@
+/*
+ * File:		RangeTask.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback interface for the body of a parallel-for
+ * 				job
+ */
+
+package com.github.kmacdonald222.asclepiasfw.jobs;
+
+// Callback interface for the body of a parallel-for job, called once for each
+// chunk of the range
+public interface RangeTask {
+	
+	/*
+	 * Process one chunk of a parallel-for range, possibly concurrently with
+	 * other chunks so only the elements in the chunk should be written
+	 * @param int start - The first index of the chunk (inclusive)
+	 * @param int end - The last index of the chunk (exclusive)
+	 */
+	public void execute(int start, int end);
+	
+}
@@ -18,7 +18,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-// The main class of the logging system for Asclepias Framework applications
+// The main class of the logging system for Asclepias Framework applications,
+// synchronized so the render, job and asynchronous task threads may log
+// alongside the main thread
 public class LogManager {
 	
 	// Whether the logging system has been initialized
@@ -45,6 +47,10 @@ public class LogManager {
 		outputFileWriters = new HashMap<String, FileWriter>();
 		for (int i = 0; i < outputFileNames.size(); i++) {
 			if (!addOutputFileName(outputFileNames.get(i))) {
+				// Close the files already opened so a failed log leaks none
+				for (String outputFileName : getOutputFileNames()) {
+					removeOutputFileName(outputFileName);
+				}
 				return false;
 			}
 		}
@@ -52,12 +58,14 @@ public class LogManager {
 		return initialized;
 	}
 	/*
-	 * Write a set of objects to the log with source and priority flags
+	 * Write a set of objects to the log with source and priority flags (safe to
+	 * call from any thread)
 	 * @param LogSource source - The source flag for this log
 	 * @param LogPriority priority - The priority flag for this log
 	 * @param Object... data - The set of objects to write
 	 */
-	public void write(LogSource source, LogPriority priority, Object... data) {
+	public synchronized void write(LogSource source, LogPriority priority,
+			Object... data) {
 		String output = getTimestamp() + " - [" + source.toString() + "] ["
 				+ priority.toString() + "] ";
 		for (int i = 0; i < data.length; i++) {
@@ -84,7 +92,7 @@ public class LogManager {
 	 * Free the logging system's memory and close all output files
 	 * @return boolean - Whether the logging system was destroyed successfully
 	 */
-	public boolean destroy() {
+	public synchronized boolean destroy() {
 		if (!initialized) {
 			return false;
 		}
@@ -120,7 +128,7 @@ public class LogManager {
 	 * Test whether the logging system is set to write output to the console
 	 * @return boolean - Whether the logging system writes output to the console
 	 */
-	public boolean isConsoleOutputEnabled() {
+	public synchronized boolean isConsoleOutputEnabled() {
 		return consoleOutputEnabled;
 	}
 	/*
@@ -128,14 +136,15 @@ public class LogManager {
 	 * @param boolean consoleOutputEnabled - Whether the logging system should
 	 * write output to the console
 	 */
-	public void setConsoleOutputEnabled(boolean consoleOutputEnabled) {
+	public synchronized void setConsoleOutputEnabled(
+			boolean consoleOutputEnabled) {
 		this.consoleOutputEnabled = consoleOutputEnabled;
 	}
 	/*
 	 * Get the set of file names the logging system is set to write output to
 	 * @return List<String> - The logging system's set of output file names
 	 */
-	public List<String> getOutputFileNames() {
+	public synchronized List<String> getOutputFileNames() {
 		return new ArrayList<String>(outputFileWriters.keySet());
 	}
 	/*
@@ -144,7 +153,7 @@ public class LogManager {
 	 * should write output to
 	 * @return boolean - Whether the new file name was added successfully
 	 */
-	public boolean addOutputFileName(String outputFileName) {
+	public synchronized boolean addOutputFileName(String outputFileName) {
 		if (getOutputFileNames().contains(outputFileName)) {
 			return false;
 		}
@@ -172,7 +181,8 @@ public class LogManager {
 	 * system
 	 * @return boolean - Whether the file name was successfully removed
 	 */
-	public boolean removeOutputFileName(String outputFileName) {
+	public synchronized boolean removeOutputFileName(
+			String outputFileName) {
 		if (!getOutputFileNames().contains(outputFileName)) {
 			return false;
 		}
@@ -38,6 +38,14 @@ public class LogSource {
 	public static LogSource NetServer = new LogSource("Network Server");
 	// Network server listener source log flag
 	public static LogSource NetListener = new LogSource("Network Listener");
+	// Job system source log flag
+	public static LogSource Jobs = new LogSource("Jobs");
+	// Replay recording and playback source log flag
+	public static LogSource Replay = new LogSource("Replay");
+	// Object pooling source log flag
+	public static LogSource Pooling = new LogSource("Pooling");
+	// Image loading source log flag
+	public static LogSource Images = new LogSource("Images");
 	
 	// The name of this source flag
 	private String name = "";
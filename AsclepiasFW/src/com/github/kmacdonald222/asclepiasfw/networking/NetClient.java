@@ -8,12 +8,12 @@
 
 package com.github.kmacdonald222.asclepiasfw.networking;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventChannel;
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.pooling.ObjectPool;
 
 // The main class of the client side of the Asclepias Framework's networking
 // system
@@ -21,35 +21,48 @@ public class NetClient implements NetListener {
 
 	// Whether this network client has been initialized
 	private boolean initialized = false;
-	// The set of listeners for the network client to publish network events to
-	private List<NetListener> listeners = null;
+	// The log for this network client to write messages to
+	private LogManager log = null;
+	// The event bus channel network events are published to
+	private EventChannel<NetEvent> channel = null;
+	// The pool of network events published
+	private ObjectPool<NetEvent> eventPool = new ObjectPool<NetEvent>(
+			"Network events", NetEvent::new);
 	// This network client's connection
 	private NetConnection connection = null;
 	// The maximum number of incoming messages this client will publish
 	// callbacks for each logic update
 	private int maximumMessagesPerUpdate = 0;
+	// Whether messages and events from the connection are processed, disabled
+	// while a replay injects recorded events instead
+	private boolean liveNetworkEnabled = true;
 	
 	/*
 	 * Initialize this network client's memory
+	 * @param LogManager log - Copy of a log for this network client to write
+	 * messages to
+	 * @param EventBus events - The event bus to publish network events to
 	 * @param int maximumMessagesPerUpdate - The maximum number of incoming
 	 * messages to process per logic update
 	 * @return boolean - Whether the network client was initialized successfully
 	 */
-	public boolean initialize(int maximumMessagesPerUpdate) {
+	public boolean initialize(LogManager log, EventBus events,
+			int maximumMessagesPerUpdate) {
 		if (initialized) {
 			return false;
 		}
-		listeners = new ArrayList<NetListener>();
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Initialized ",
-				"network listeners set");
+		this.log = log;
+		channel = events.getChannel(NetEvent.class);
+		log.write(LogSource.NetClient, LogPriority.Info, "Initialized ",
+				"network event channel");
 		connection = new NetConnection();
-		if (!connection.initialize(App.Log, this, 0)) {
-			App.Log.write(LogSource.NetClient, LogPriority.Error, "Failed to ",
+		if (!connection.initialize(log, this, 0)) {
+			log.write(LogSource.NetClient, LogPriority.Error, "Failed to ",
 					"initialize network connection");
 			return false;
 		}
 		this.maximumMessagesPerUpdate = maximumMessagesPerUpdate;
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Initialized ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Initialized ",
 				"network connection");
 		initialized = true;
 		return initialized;
@@ -63,7 +76,7 @@ public class NetClient implements NetListener {
 	 * milliseconds
 	 */
 	public void connect(String address, int port, int timeout) {
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Attempting ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Attempting ",
 				"connection to ", address, ":", port, " with timeout ",
 				timeout);
 		connection.connectToServer(address, port, timeout);
@@ -72,6 +85,9 @@ public class NetClient implements NetListener {
 	 * Update this network client's connection and process messages and events
 	 */
 	public void update() {
+		if (!liveNetworkEnabled) {
+			return;
+		}
 		connection.update(maximumMessagesPerUpdate);
 	}
 	/*
@@ -82,61 +98,68 @@ public class NetClient implements NetListener {
 	 */
 	public boolean send(NetMessage message) {
 		if (!connection.send(message)) {
-			App.Log.write(LogSource.NetClient, LogPriority.Warning, "Failed ",
+			log.write(LogSource.NetClient, LogPriority.Warning, "Failed ",
 					"to send message to host");
 			return false;
 		}
 		return true;
 	}
 	/*
-	 * Notify all network listeners that a remote server has been connected to
+	 * Publish an event that a remote server has been connected to
 	 * @param int ID - The unique identifier of the network connection connected
 	 * to by the server (unused by clients)
-	 * @return boolean - Whether all listeners accepted the connection
+	 * @return boolean - Whether no subscriber rejected the connection
 	 */
 	@Override
 	public boolean netConnected(int ID) {
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Received ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Received ",
 				"response on network connection ", ID);
-		for (NetListener listener : listeners) {
-			if (!listener.netConnected(ID)) {
-				App.Log.write(LogSource.NetClient, LogPriority.Warning,
-						"Connection ", ID, " rejected by network listener");
-				return false;
-			}
+		NetEvent event = eventPool.acquire().set(NetEventType.CONNECTED, ID);
+		channel.publish(event);
+		boolean accepted = event.isAccepted();
+		eventPool.release(event);
+		if (!accepted) {
+			log.write(LogSource.NetClient, LogPriority.Warning, "Connection ",
+					ID, " rejected by network event subscriber");
+			return false;
 		}
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Accepted ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Accepted ",
 				"connection ", ID);
 		return true;
 	}
 	/*
-	 * Notify all network listeners that a remote server has sent a message
+	 * Publish an event that a remote server has sent a message
 	 * @param NetMessage message - The message received
 	 */
 	@Override
 	public void netMessageReceived(NetMessage message) {
-		for (NetListener listener : listeners) {
-			listener.netMessageReceived(message);
-		}
+		publish(eventPool.acquire().set(message));
 	}
 	/*
-	 * Notify all network listeners that a remote server has disconnected
+	 * Publish an event that a remote server has disconnected
 	 * @param int ID - The unique identifier of the network connection
 	 * disconnected from by the server
 	 */
 	@Override
 	public void netDisconnected(int ID) {
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Network ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Network ",
 				"connection ", ID, " disconnected");
-		for (NetListener listener : listeners) {
-			listener.netDisconnected(ID);
-		}
+		publish(eventPool.acquire().set(NetEventType.DISCONNECTED, ID));
+	}
+	/*
+	 * Publish a network event and return it to the event pool once every
+	 * subscriber has handled it
+	 * @param NetEvent event - The event to publish
+	 */
+	private void publish(NetEvent event) {
+		channel.publish(event);
+		eventPool.release(event);
 	}
 	/*
 	 * Disconnect this network client from any currently connected remote server
 	 */
 	public void disconnect() {
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Disconnecting ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Disconnecting ",
 				"from server");
 		connection.disconnect();
 	}
@@ -150,56 +173,17 @@ public class NetClient implements NetListener {
 			return false;
 		}
 		boolean success = true;
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Destroying ",
+		log.write(LogSource.NetClient, LogPriority.Info, "Destroying ",
 				"network connection");
 		if (!connection.destroy()) {
 			success = false;
 		}
 		connection = null;
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Clearing ",
-				"network listeners set");
-		listeners.clear();
-		listeners = null;
+		channel = null;
 		initialized = false;
 		return success;
 	}
 	
-	/*
-	 * Get the set of network listeners attached to this network client
-	 * @return List<NetListener> - This network client's current set of network
-	 * listeners
-	 */
-	public List<NetListener> getListeners() {
-		return listeners;
-	}
-	/*
-	 * Add a network listener to this network client
-	 * @param NetListener listener - The network listener to add
-	 * @return boolean - Whether the network listener was added successfully
-	 */
-	public boolean addListener(NetListener listener) {
-		if (listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Adding network ",
-				"listener");
-		listeners.add(listener);
-		return true;
-	}
-	/*
-	 * Remove a network listener from this network client
-	 * @param NetListener listener - The network listener to remove
-	 * @return boolean - Whether the network listener was removed successfully
-	 */
-	public boolean removeListener(NetListener listener) {
-		if (!listeners.contains(listener)) {
-			return false;
-		}
-		App.Log.write(LogSource.NetClient, LogPriority.Info, "Removing ",
-				"network listener");
-		listeners.remove(listener);
-		return true;
-	}
 	/*
 	 * Get the network connection this network client uses to connect to servers
 	 * @return NetConnection - This network client's network connection
@@ -231,5 +215,30 @@ public class NetClient implements NetListener {
 	public void setMaximumMessagesPerUpdate(int maximumMessagesPerUpdate) {
 		this.maximumMessagesPerUpdate = maximumMessagesPerUpdate;
 	}
+	/*
+	 * Test whether messages and events from this network client's connection
+	 * are processed
+	 * @return boolean - Whether live networking is enabled
+	 */
+	public boolean isLiveNetworkEnabled() {
+		return liveNetworkEnabled;
+	}
+	/*
+	 * Set whether messages and events from this network client's connection
+	 * are processed, while disabled they stay queued on the connection
+	 * @param boolean liveNetworkEnabled - Whether live networking should be
+	 * enabled
+	 */
+	public void setLiveNetworkEnabled(boolean liveNetworkEnabled) {
+		this.liveNetworkEnabled = liveNetworkEnabled;
+	}
+	/*
+	 * Get the pool network events are taken from, for reporting its
+	 * statistics or enabling leak detection
+	 * @return ObjectPool<NetEvent> - The network event pool
+	 */
+	public ObjectPool<NetEvent> getEventPool() {
+		return eventPool;
+	}
 
 }
@@ -8,9 +8,13 @@
 
 package com.github.kmacdonald222.asclepiasfw.networking;
 
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -18,11 +22,110 @@ import java.util.concurrent.LinkedBlockingQueue;
 import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
 import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
 import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.profiling.FlightRecording;
+import com.github.kmacdonald222.asclepiasfw.profiling.NetReadEvent;
+import com.github.kmacdonald222.asclepiasfw.profiling.NetWriteEvent;
 
 // Network connection bridge/interface class between client and server sides of
 // the Asclepias Framework's networking system
 public class NetConnection {
 	
+	// Input stream counting the bytes read from a socket, for recording the
+	// size of each message
+	private class CountingInputStream extends FilterInputStream {
+		
+		// The number of bytes read (used by the input thread only)
+		public long count = 0L;
+		
+		/*
+		 * Construct a counting input stream
+		 * @param InputStream in - The stream to read from
+		 */
+		public CountingInputStream(InputStream in) {
+			super(in);
+		}
+		
+		/*
+		 * Read a byte and count it
+		 * @return int - The byte read, or -1 at the end of the stream
+		 */
+		@Override
+		public int read() throws IOException {
+			int value = in.read();
+			if (value >= 0) {
+				count++;
+			}
+			return value;
+		}
+		/*
+		 * Read bytes into part of an array and count them
+		 * @param byte[] bytes - The array to read into
+		 * @param int offset - The index to start writing to in the array
+		 * @param int length - The most bytes to read
+		 * @return int - The number of bytes read, or -1 at the end of the
+		 * stream
+		 */
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+				throws IOException {
+			int read = in.read(bytes, offset, length);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+		/*
+		 * Skip bytes and count them
+		 * @param long length - The most bytes to skip
+		 * @return long - The number of bytes skipped
+		 */
+		@Override
+		public long skip(long length) throws IOException {
+			long skipped = in.skip(length);
+			count += skipped;
+			return skipped;
+		}
+		
+	}
+	// Output stream counting the bytes written to a socket, for recording the
+	// size of each message
+	private class CountingOutputStream extends FilterOutputStream {
+		
+		// The number of bytes written (used by the output thread only)
+		public long count = 0L;
+		
+		/*
+		 * Construct a counting output stream
+		 * @param OutputStream out - The stream to write to
+		 */
+		public CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+		
+		/*
+		 * Write a byte and count it
+		 * @param int value - The byte to write
+		 */
+		@Override
+		public void write(int value) throws IOException {
+			out.write(value);
+			count++;
+		}
+		/*
+		 * Write part of an array of bytes and count them
+		 * @param byte[] bytes - The array to write from
+		 * @param int offset - The index to start reading from in the array
+		 * @param int length - The number of bytes to write
+		 */
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+				throws IOException {
+			out.write(bytes, offset, length);
+			count += length;
+		}
+		
+	}
+	
 	// Whether this network connection has been initialized
 	private boolean initialized = false;
 	// The log for this network connection to write messages to
@@ -52,12 +155,16 @@ public class NetConnection {
 	private LinkedBlockingQueue<Boolean> connectEvents = null;
 	// Input stream for reading messages from remote host
 	private ObjectInputStream input = null;
+	// Counter of the bytes read from the remote host
+	private CountingInputStream inputCounter = null;
 	// Thread for reading messages from remote host when connected
 	private Thread inputThread = null;
 	// Thread-safe queue of incoming messages for callback functions
 	private LinkedBlockingQueue<NetMessage> messagesIn = null;
 	// Output stream for writing messages to remote host
 	private ObjectOutputStream output = null;
+	// Counter of the bytes written to the remote host
+	private CountingOutputStream outputCounter = null;
 	// Thread for writing messages to remote host when connected and messages
 	// are present
 	private Thread outputThread = null;
@@ -134,7 +241,8 @@ public class NetConnection {
 		log.write(LogSource.NetConnection, LogPriority.Info, "Initiating ",
 				"connection to client ", ID, " at ", address);
 		try {
-			input = new ObjectInputStream(socket.getInputStream());
+			inputCounter = new CountingInputStream(socket.getInputStream());
+			input = new ObjectInputStream(inputCounter);
 		} catch (IOException e) {
 			log.write(LogSource.NetConnection, LogPriority.Warning, "Failed ",
 					"to open input stream from client ", ID);
@@ -142,7 +250,9 @@ public class NetConnection {
 			return false;
 		}
 		try {
-			output = new ObjectOutputStream(socket.getOutputStream());
+			outputCounter = new CountingOutputStream(
+					socket.getOutputStream());
+			output = new ObjectOutputStream(outputCounter);
 			output.flush();
 		} catch (IOException e) {
 			log.write(LogSource.NetConnection, LogPriority.Warning, "Failed ",
@@ -232,6 +342,7 @@ public class NetConnection {
 			}
 		}
 		output = null;
+		outputCounter = null;
 		log.write(LogSource.NetConnection, LogPriority.Info, "Destroyed ",
 				"output stream");
 		if (outputThread != null) {
@@ -257,6 +368,7 @@ public class NetConnection {
 			}
 		}
 		input = null;
+		inputCounter = null;
 		log.write(LogSource.NetConnection, LogPriority.Info, "Destroyed input ",
 				"stream");
 		if (inputThread != null) {
@@ -361,7 +473,9 @@ public class NetConnection {
 		log.write(LogSource.NetConnection, LogPriority.Info, "Opening output ",
 				"stream to server");
 		try {
-			output = new ObjectOutputStream(socket.getOutputStream());
+			outputCounter = new CountingOutputStream(
+					socket.getOutputStream());
+			output = new ObjectOutputStream(outputCounter);
 			output.flush();
 		} catch (IOException e) {
 			log.write(LogSource.NetConnection, LogPriority.Warning, "Failed ",
@@ -372,7 +486,8 @@ public class NetConnection {
 		log.write(LogSource.NetConnection, LogPriority.Info, "Opening input ",
 				"stream from server");
 		try {
-			input = new ObjectInputStream(socket.getInputStream());
+			inputCounter = new CountingInputStream(socket.getInputStream());
+			input = new ObjectInputStream(inputCounter);
 		} catch (IOException e) {
 			log.write(LogSource.NetConnection, LogPriority.Warning, "Failed ",
 					"to open input stream from server");
@@ -399,8 +514,10 @@ public class NetConnection {
 	private void read() {
 		log.write(LogSource.NetConnection, LogPriority.Info, "Starting ",
 				"message input thread");
+		CountingInputStream counter = inputCounter;
 		while (true) {
 			NetMessage message = null;
+			long startCount = counter.count;
 			try {
 				message = (NetMessage)input.readObject();
 			} catch (ClassNotFoundException e) {
@@ -413,6 +530,15 @@ public class NetConnection {
 				break;
 			}
 			message.setReceiverID(ID);
+			if (FlightRecording.IsRecorderRunning()) {
+				NetReadEvent event = new NetReadEvent();
+				if (event != null && event.shouldCommit()) {
+					event.connectionID = ID;
+					event.messageType = message.getClass().getName();
+					event.bytes = counter.count - startCount;
+					event.commit();
+				}
+			}
 			try {
 				messagesIn.put(message);
 			} catch (InterruptedException e) {
@@ -433,11 +559,24 @@ public class NetConnection {
 	 * queue is empty or, on connection failure, disconnect
 	 */
 	private void write() {
+		CountingOutputStream counter = outputCounter;
 		while (!messagesOut.isEmpty()) {
 			NetMessage message = messagesOut.poll();
+			NetWriteEvent event = FlightRecording.IsRecorderRunning()
+					? new NetWriteEvent() : null;
+			if (event != null) {
+				event.begin();
+			}
+			long startCount = counter.count;
 			try {
 				output.writeObject(message);
 				output.flush();
+				if (event.shouldCommit()) {
+					event.connectionID = ID;
+					event.messageType = message.getClass().getName();
+					event.bytes = counter.count - startCount;
+					event.commit();
+				}
 			} catch (IOException e) {
 				log.write(LogSource.NetConnection, LogPriority.Warning,
 						"Failed to write message, ", message, ", disconnected");
@@ -0,0 +1,98 @@
+/*
+ * File:		NetEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the network client event published to the event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.networking;
+
+import com.github.kmacdonald222.asclepiasfw.pooling.Poolable;
+
+// Network client event published to the event bus, taken from its publisher's
+// pool for each event and returned once dispatched so that dispatching messages
+// never allocates (subscribers must not keep the event, only its message)
+public class NetEvent implements Poolable {
+	
+	// The kind of network event
+	private NetEventType type = NetEventType.CONNECTED;
+	// The unique identifier of the network connection
+	private int ID = 0;
+	// The message received
+	private NetMessage message = null;
+	// Whether every subscriber so far accepted the connection
+	private boolean accepted = true;
+	
+	/*
+	 * Set this event to a connection being made or closed
+	 * @param NetEventType type - CONNECTED or DISCONNECTED
+	 * @param int ID - The unique identifier of the network connection
+	 * @return NetEvent - This event
+	 */
+	public NetEvent set(NetEventType type, int ID) {
+		this.type = type;
+		this.ID = ID;
+		message = null;
+		accepted = true;
+		return this;
+	}
+	/*
+	 * Set this event to a message being received
+	 * @param NetMessage message - The message received
+	 * @return NetEvent - This event
+	 */
+	public NetEvent set(NetMessage message) {
+		type = NetEventType.MESSAGE_RECEIVED;
+		ID = message.getReceiverID();
+		this.message = message;
+		accepted = true;
+		return this;
+	}
+	/*
+	 * Reject the connection of a CONNECTED event, which should then be
+	 * consumed so no later subscriber sees it
+	 */
+	public void reject() {
+		accepted = false;
+	}
+	/*
+	 * Reset this event as it is returned to its pool
+	 */
+	@Override
+	public void reset() {
+		type = NetEventType.CONNECTED;
+		ID = 0;
+		message = null;
+		accepted = true;
+	}
+	
+	/*
+	 * Get the kind of this network event
+	 * @return NetEventType - The event's kind
+	 */
+	public NetEventType getType() {
+		return type;
+	}
+	/*
+	 * Get the unique identifier of the network connection
+	 * @return int - The connection's identifier
+	 */
+	public int getID() {
+		return ID;
+	}
+	/*
+	 * Get the message received
+	 * @return NetMessage - The event's message (null unless MESSAGE_RECEIVED)
+	 */
+	public NetMessage getMessage() {
+		return message;
+	}
+	/*
+	 * Test whether the connection of a CONNECTED event has been accepted
+	 * @return boolean - Whether no subscriber rejected the connection
+	 */
+	public boolean isAccepted() {
+		return accepted;
+	}
+	
+}
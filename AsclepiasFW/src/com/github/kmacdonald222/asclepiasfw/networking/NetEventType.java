@@ -0,0 +1,41 @@
+/*
+ * File:		NetEventType.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the kinds of network client events published to
+ * 				the event bus
+ */
+
+package com.github.kmacdonald222.asclepiasfw.networking;
+
+// Enumeration of the kinds of network client event
+public enum NetEventType {
+	
+	// A remote server has been connected to
+	CONNECTED("Connected"),
+	// A remote server has sent a message
+	MESSAGE_RECEIVED("Message Received"),
+	// A remote server has disconnected
+	DISCONNECTED("Disconnected");
+	
+	// The name of this network event type
+	private String name = "";
+	
+	/*
+	 * Construct a new network event type with a name
+	 * @param String name - The name of this network event type
+	 */
+	private NetEventType(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this network event type to its name to represent as a string
+	 * @return String - The string representation of this network event type
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
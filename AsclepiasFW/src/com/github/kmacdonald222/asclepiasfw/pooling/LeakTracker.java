@@ -0,0 +1,88 @@
+/*
+ * File:		LeakTracker.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a record of where the objects in use from a pool were
+ * 				acquired
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Record of the stack trace each object in use from a pool was acquired with,
+// so objects never released can be traced back to their users and objects
+// released twice can be refused (safe to use from any thread)
+class LeakTracker {
+	
+	// The most leaked objects to write the acquisition sites of in a report
+	private static final int MaximumReportedLeaks = 8;
+	
+	// The acquisition stack trace of each object in use, by identity
+	private Map<Object, Throwable> acquisitions =
+			new IdentityHashMap<Object, Throwable>();
+	
+	/*
+	 * Record that an object has been acquired by the calling code
+	 * @param Object object - The object acquired
+	 */
+	public synchronized void track(Object object) {
+		acquisitions.put(object, new Throwable("Acquired"));
+	}
+	/*
+	 * Record that an object has been released
+	 * @param Object object - The object released
+	 * @return boolean - Whether the object was in use
+	 */
+	public synchronized boolean untrack(Object object) {
+		return acquisitions.remove(object) != null;
+	}
+	/*
+	 * Write the acquisition site of each object still in use to a log
+	 * @param LogManager log - The log to write to
+	 * @param String poolName - The name of the pool the objects came from
+	 */
+	public synchronized void writeReport(LogManager log, String poolName) {
+		if (acquisitions.isEmpty()) {
+			return;
+		}
+		log.write(LogSource.Pooling, LogPriority.Warning, "Pool ", poolName,
+				": ", acquisitions.size(), " objects not released");
+		int reported = 0;
+		for (Throwable acquisition : acquisitions.values()) {
+			if (reported++ == MaximumReportedLeaks) {
+				break;
+			}
+			log.write(LogSource.Pooling, LogPriority.Warning, "Pool ",
+					poolName, ": object acquired at ", getCaller(acquisition));
+		}
+	}
+	/*
+	 * Find the first stack frame of an acquisition outside the pooling package
+	 * @param Throwable acquisition - The acquisition's stack trace
+	 * @return String - The calling frame, or "unknown" if there is none
+	 */
+	private static String getCaller(Throwable acquisition) {
+		String poolingPackage = LeakTracker.class.getPackageName() + ".";
+		for (StackTraceElement frame : acquisition.getStackTrace()) {
+			if (!frame.getClassName().startsWith(poolingPackage)) {
+				return frame.toString();
+			}
+		}
+		return "unknown";
+	}
+	
+	/*
+	 * Get the number of objects in use
+	 * @return int - The number of objects recorded as acquired
+	 */
+	public synchronized int getCount() {
+		return acquisitions.size();
+	}
+	
+}
@@ -0,0 +1,258 @@
+/*
+ * File:		ObjectPool.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines an object pool shared between threads
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Object pool shared between threads, keeping released objects on a stack so
+// the most recently used (and most likely cached) object is handed out next,
+// every operation is synchronized so a pool used heavily from several threads
+// at once is better replaced with a ThreadLocalPool (pooling small, short-lived
+// objects is usually slower per update than allocating them, since recycled
+// objects are scattered in memory where new ones are contiguous, so pools suit
+// objects which are costly to create or loads where avoiding collection pauses
+// matters more than throughput)
+public class ObjectPool<T> implements Pool<T> {
+	
+	// The most released objects a bounded pool keeps by default
+	public static final int DefaultMaximumSize = 1024;
+	
+	// The name of this pool used in reports
+	private String name = "";
+	// The factory creating this pool's objects
+	private PoolFactory<T> factory = null;
+	// This pool's growth policy
+	private PoolGrowth growth = PoolGrowth.UNBOUNDED;
+	// The most released objects this pool keeps if it is bounded
+	private int maximumSize = DefaultMaximumSize;
+	// The objects available to acquire
+	private Object[] available = null;
+	// The number of objects available to acquire
+	private int availableCount = 0;
+	// The number of acquisitions satisfied by a pooled object
+	private long hitCount = 0L;
+	// The number of acquisitions which found this pool empty
+	private long missCount = 0L;
+	// The number of released objects this pool did not keep
+	private long droppedCount = 0L;
+	// The number of objects acquired and not yet released
+	private int outstandingCount = 0;
+	// The largest number of objects which have been in use at once
+	private int highWaterMark = 0;
+	// The acquisition sites of the objects in use (null unless leak detection
+	// is enabled)
+	private LeakTracker leaks = null;
+	
+	/*
+	 * Construct an empty, unbounded object pool
+	 * @param String name - The name of the pool used in reports
+	 * @param PoolFactory<T> factory - The factory creating the pool's objects
+	 */
+	public ObjectPool(String name, PoolFactory<T> factory) {
+		this(name, factory, 0, DefaultMaximumSize, PoolGrowth.UNBOUNDED);
+	}
+	/*
+	 * Construct an object pool filled with new objects
+	 * @param String name - The name of the pool used in reports
+	 * @param PoolFactory<T> factory - The factory creating the pool's objects
+	 * @param int initialSize - The number of objects to fill the pool with
+	 * @param int maximumSize - The most released objects the pool keeps if it
+	 * is bounded
+	 * @param PoolGrowth growth - The pool's growth policy
+	 */
+	public ObjectPool(String name, PoolFactory<T> factory, int initialSize,
+			int maximumSize, PoolGrowth growth) {
+		this.name = name;
+		this.factory = factory;
+		this.growth = growth;
+		this.maximumSize = Math.max(maximumSize, 1);
+		initialSize = Math.max(initialSize, 0);
+		available = new Object[Math.max(initialSize, 16)];
+		for (int i = 0; i < initialSize; i++) {
+			available[availableCount++] = factory.create();
+		}
+	}
+	
+	/*
+	 * Take an object from this pool, creating one if none are available and
+	 * the pool is not fixed
+	 * @return T - The object, or null if the pool is fixed and empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized T acquire() {
+		T object = null;
+		if (availableCount > 0) {
+			object = (T)available[--availableCount];
+			available[availableCount] = null;
+			hitCount++;
+		} else {
+			missCount++;
+			if (growth == PoolGrowth.FIXED) {
+				return null;
+			}
+			object = factory.create();
+		}
+		outstandingCount++;
+		highWaterMark = Math.max(highWaterMark, outstandingCount);
+		if (leaks != null) {
+			leaks.track(object);
+		}
+		return object;
+	}
+	/*
+	 * Reset an object if it is poolable and return it to this pool, unless the
+	 * pool is bounded and already holds its maximum size
+	 * @param T object - The object to return
+	 * @return boolean - Whether the object was accepted
+	 */
+	@Override
+	public synchronized boolean release(T object) {
+		if (object == null || (leaks != null && !leaks.untrack(object))) {
+			return false;
+		}
+		outstandingCount--;
+		if (object instanceof Poolable) {
+			((Poolable)object).reset();
+		}
+		if (availableCount == available.length) {
+			if (growth == PoolGrowth.BOUNDED
+					&& availableCount >= maximumSize) {
+				droppedCount++;
+				return true;
+			}
+			int capacity = available.length * 2;
+			if (growth == PoolGrowth.BOUNDED) {
+				capacity = Math.min(capacity, maximumSize);
+			}
+			available = Arrays.copyOf(available, capacity);
+		}
+		available[availableCount++] = object;
+		return true;
+	}
+	/*
+	 * Set whether this pool records where each object in use was acquired,
+	 * objects already in use when it is enabled are not tracked
+	 * @param boolean enabled - Whether leak detection is enabled
+	 */
+	@Override
+	public synchronized void setLeakDetection(boolean enabled) {
+		if (enabled && leaks == null) {
+			leaks = new LeakTracker();
+		} else if (!enabled) {
+			leaks = null;
+		}
+	}
+	/*
+	 * Test whether this pool records where each object in use was acquired
+	 * @return boolean - Whether leak detection is enabled
+	 */
+	@Override
+	public synchronized boolean isLeakDetectionEnabled() {
+		return leaks != null;
+	}
+	/*
+	 * Write this pool's statistics, and the acquisition sites of objects still
+	 * in use if leak detection is enabled, to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	@Override
+	public synchronized void writeReport(LogManager log) {
+		long acquisitions = hitCount + missCount;
+		log.write(LogSource.Pooling, LogPriority.Info, "Pool ", name, " (",
+				growth, "): ", hitCount, " hits, ", missCount, " misses (",
+				acquisitions == 0L ? 100L : hitCount * 100L / acquisitions,
+				"% hit rate), high-water mark ", highWaterMark, ", ",
+				outstandingCount, " in use, ", availableCount, " available, ",
+				droppedCount, " dropped");
+		if (leaks != null) {
+			leaks.writeReport(log, name);
+		}
+	}
+	
+	/*
+	 * Get the name of this pool used in reports
+	 * @return String - The pool's name
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get this pool's growth policy
+	 * @return PoolGrowth - The growth policy
+	 */
+	@Override
+	public PoolGrowth getGrowth() {
+		return growth;
+	}
+	/*
+	 * Get the number of acquisitions satisfied by a pooled object
+	 * @return long - The number of hits
+	 */
+	@Override
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+	/*
+	 * Get the number of acquisitions which found this pool empty
+	 * @return long - The number of misses
+	 */
+	@Override
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+	/*
+	 * Get the largest number of objects which have been in use at once
+	 * @return int - The high-water mark
+	 */
+	@Override
+	public synchronized int getHighWaterMark() {
+		return highWaterMark;
+	}
+	/*
+	 * Get the number of objects acquired and not yet released
+	 * @return int - The number of objects in use
+	 */
+	@Override
+	public synchronized int getOutstandingCount() {
+		return outstandingCount;
+	}
+	/*
+	 * Get the number of objects waiting in this pool
+	 * @return int - The number of available objects
+	 */
+	@Override
+	public synchronized int getAvailableCount() {
+		return availableCount;
+	}
+	/*
+	 * Get the number of objects released which this pool did not keep because
+	 * it was full
+	 * @return long - The number of dropped objects
+	 */
+	@Override
+	public synchronized long getDroppedCount() {
+		return droppedCount;
+	}
+	/*
+	 * Get the number of objects in use whose acquisition was recorded by leak
+	 * detection
+	 * @return int - The number of possible leaks, 0 if leak detection is
+	 * disabled
+	 */
+	@Override
+	public synchronized int getLeakCount() {
+		return leaks == null ? 0 : leaks.getCount();
+	}
+	
+}
@@ -0,0 +1,99 @@
+/*
+ * File:		Pool.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the interface shared by object pools
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+
+// Interface for a pool of reusable objects, objects are acquired instead of
+// created and released once no longer used instead of being left to the
+// garbage collector, objects implementing Poolable are reset as they are
+// released
+public interface Pool<T> {
+	
+	/*
+	 * Take an object from the pool, creating one if none are available and
+	 * the pool's growth policy allows it
+	 * @return T - The object, or null if the pool is fixed and empty
+	 */
+	public T acquire();
+	/*
+	 * Return an object to the pool, which must not be used again by the
+	 * caller
+	 * @param T object - The object to return
+	 * @return boolean - Whether the object was accepted, false for null and,
+	 * with leak detection enabled, for objects not acquired from the pool or
+	 * already released
+	 */
+	public boolean release(T object);
+	/*
+	 * Set whether the pool records where each object in use was acquired, for
+	 * reporting objects never released (slow, intended for debugging)
+	 * @param boolean enabled - Whether leak detection is enabled
+	 */
+	public void setLeakDetection(boolean enabled);
+	/*
+	 * Test whether the pool records where each object in use was acquired
+	 * @return boolean - Whether leak detection is enabled
+	 */
+	public boolean isLeakDetectionEnabled();
+	/*
+	 * Write the pool's statistics, and the acquisition sites of objects still
+	 * in use if leak detection is enabled, to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	public void writeReport(LogManager log);
+	/*
+	 * Get the name of the pool used in reports
+	 * @return String - The pool's name
+	 */
+	public String getName();
+	/*
+	 * Get the pool's growth policy
+	 * @return PoolGrowth - The growth policy
+	 */
+	public PoolGrowth getGrowth();
+	/*
+	 * Get the number of acquisitions satisfied by a pooled object
+	 * @return long - The number of hits
+	 */
+	public long getHitCount();
+	/*
+	 * Get the number of acquisitions which found the pool empty
+	 * @return long - The number of misses
+	 */
+	public long getMissCount();
+	/*
+	 * Get the largest number of objects which have been in use at once
+	 * @return int - The high-water mark
+	 */
+	public int getHighWaterMark();
+	/*
+	 * Get the number of objects acquired and not yet released
+	 * @return int - The number of objects in use
+	 */
+	public int getOutstandingCount();
+	/*
+	 * Get the number of objects waiting in the pool
+	 * @return int - The number of available objects
+	 */
+	public int getAvailableCount();
+	/*
+	 * Get the number of objects released which the pool did not keep because
+	 * it was full
+	 * @return long - The number of dropped objects
+	 */
+	public long getDroppedCount();
+	/*
+	 * Get the number of objects in use whose acquisition was recorded by leak
+	 * detection
+	 * @return int - The number of possible leaks, 0 if leak detection is
+	 * disabled
+	 */
+	public int getLeakCount();
+	
+}
@@ -0,0 +1,20 @@
+/*
+ * File:		PoolFactory.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback interface pools use to create new objects
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+// Callback interface for creating the objects a pool hands out when it has
+// none available
+public interface PoolFactory<T> {
+	
+	/*
+	 * Create a new object for a pool
+	 * @return T - The new object
+	 */
+	public T create();
+	
+}
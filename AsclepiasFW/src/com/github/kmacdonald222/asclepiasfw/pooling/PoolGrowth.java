@@ -0,0 +1,44 @@
+/*
+ * File:		PoolGrowth.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the ways object pools can grow
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+// Enumeration of the ways an object pool can grow when more objects are in use
+// than it holds
+public enum PoolGrowth {
+	
+	// Create objects whenever the pool is empty and keep every object released
+	UNBOUNDED("Unbounded"),
+	// Create objects whenever the pool is empty but keep no more than the
+	// pool's maximum size of released objects, leaving the rest to the garbage
+	// collector
+	BOUNDED("Bounded"),
+	// Never create objects beyond those the pool was filled with, acquiring
+	// from an empty pool returns null
+	FIXED("Fixed");
+	
+	// The name of this pool growth policy
+	private String name = "";
+	
+	/*
+	 * Construct a new pool growth policy with a name
+	 * @param String name - The name of this pool growth policy
+	 */
+	private PoolGrowth(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this pool growth policy to its name to represent as a string
+	 * @return String - The string representation of this pool growth policy
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
@@ -0,0 +1,114 @@
+/*
+ * File:		PoolRegistry.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a registry of the object pools used by an application
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+
+// Registry of the object pools used by an application, so their statistics
+// can be reported together and leak detection switched on for all of them in
+// debug builds (safe to use from any thread)
+public class PoolRegistry {
+	
+	// The pools registered, in the order they were registered
+	private List<Pool<?>> pools = new ArrayList<Pool<?>>();
+	// Whether leak detection is enabled for every registered pool
+	private boolean leakDetection = false;
+	
+	/*
+	 * Register a pool, enabling leak detection for it if the registry has it
+	 * enabled
+	 * @param Pool<?> pool - The pool to register
+	 * @return boolean - Whether the pool was not already registered
+	 */
+	public synchronized boolean register(Pool<?> pool) {
+		if (pools.contains(pool)) {
+			return false;
+		}
+		pools.add(pool);
+		if (leakDetection) {
+			pool.setLeakDetection(true);
+		}
+		return true;
+	}
+	/*
+	 * Unregister a pool
+	 * @param Pool<?> pool - The pool to unregister
+	 * @return boolean - Whether the pool was registered
+	 */
+	public synchronized boolean unregister(Pool<?> pool) {
+		return pools.remove(pool);
+	}
+	/*
+	 * Unregister every pool
+	 */
+	public synchronized void clear() {
+		pools.clear();
+	}
+	/*
+	 * Set whether every registered pool, and every pool registered later,
+	 * records where each object in use was acquired
+	 * @param boolean enabled - Whether leak detection is enabled
+	 */
+	public synchronized void setLeakDetection(boolean enabled) {
+		leakDetection = enabled;
+		for (Pool<?> pool : pools) {
+			pool.setLeakDetection(enabled);
+		}
+	}
+	/*
+	 * Write the report of every registered pool to a log
+	 * @param LogManager log - The log to write the reports to
+	 */
+	public synchronized void writeReport(LogManager log) {
+		for (Pool<?> pool : pools) {
+			pool.writeReport(log);
+		}
+	}
+	
+	/*
+	 * Test whether leak detection is enabled for every registered pool
+	 * @return boolean - Whether leak detection is enabled
+	 */
+	public synchronized boolean isLeakDetectionEnabled() {
+		return leakDetection;
+	}
+	/*
+	 * Get the number of pools registered
+	 * @return int - The number of pools
+	 */
+	public synchronized int getPoolCount() {
+		return pools.size();
+	}
+	/*
+	 * Get one of the pools registered
+	 * @param int index - The index of the pool in the order they were
+	 * registered
+	 * @return Pool<?> - The pool
+	 */
+	public synchronized Pool<?> getPool(int index) {
+		return pools.get(index);
+	}
+	/*
+	 * Find a registered pool by name
+	 * @param String name - The name of the pool
+	 * @return Pool<?> - The first pool registered with the name, or null if
+	 * there is none
+	 */
+	public synchronized Pool<?> getPool(String name) {
+		for (Pool<?> pool : pools) {
+			if (pool.getName().equals(name)) {
+				return pool;
+			}
+		}
+		return null;
+	}
+	
+}
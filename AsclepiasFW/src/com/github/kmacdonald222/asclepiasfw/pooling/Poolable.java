@@ -0,0 +1,21 @@
+/*
+ * File:		Poolable.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the interface for objects which are reset when they
+ * 				are returned to a pool
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+// Interface for pooled objects which clear their state when returned to a
+// pool, so that the next user starts from a known state and the pool does not
+// keep other objects reachable
+public interface Poolable {
+	
+	/*
+	 * Clear this object's state as it is returned to its pool
+	 */
+	public void reset();
+	
+}
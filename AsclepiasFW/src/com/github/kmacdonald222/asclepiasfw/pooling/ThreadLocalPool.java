@@ -0,0 +1,394 @@
+/*
+ * File:		ThreadLocalPool.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines an object pool keeping a separate stack of objects for
+ * 				each thread
+ */
+
+package com.github.kmacdonald222.asclepiasfw.pooling;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Object pool keeping a separate stack of released objects for each thread so
+// that acquiring and releasing never synchronize, suited to short-lived
+// temporaries used from job workers as well as the main thread (objects may be
+// released on a different thread to the one that acquired them, and the growth
+// policy and maximum size apply to each thread's stack separately), statistics
+// are the sums over every thread's stack and are only approximate while other
+// threads are using the pool (the stacks of threads which have ended, such as
+// the virtual threads of asynchronous tasks, are discarded the next time a
+// thread first uses the pool or statistics are read, keeping their counts)
+public class ThreadLocalPool<T> implements Pool<T> {
+	
+	// The objects pooled for one thread
+	private class LocalPool {
+		
+		// The thread using this stack, weakly held so the stack does not keep
+		// an ended thread reachable
+		public WeakReference<Thread> owner = new WeakReference<Thread>(
+				Thread.currentThread());
+		// The objects available to acquire on the thread
+		public Object[] available = new Object[16];
+		// The number of objects available to acquire on the thread
+		public int availableCount = 0;
+		// The number of acquisitions on the thread satisfied by a pooled
+		// object
+		public long hitCount = 0L;
+		// The number of acquisitions on the thread which found its stack empty
+		public long missCount = 0L;
+		// The number of objects released on the thread which were not kept
+		public long droppedCount = 0L;
+		// The number of objects acquired minus the number released on the
+		// thread
+		public int outstandingCount = 0;
+		// The largest number of objects which have been in use at once on the
+		// thread
+		public int highWaterMark = 0;
+		
+	}
+	
+	// The name of this pool used in reports
+	private String name = "";
+	// The factory creating this pool's objects
+	private PoolFactory<T> factory = null;
+	// This pool's growth policy
+	private PoolGrowth growth = PoolGrowth.UNBOUNDED;
+	// The number of objects each thread's stack is filled with
+	private int initialSize = 0;
+	// The most released objects each thread's stack keeps if it is bounded
+	private int maximumSize = ObjectPool.DefaultMaximumSize;
+	// The stack of objects for each thread
+	private ThreadLocal<LocalPool> localPools = ThreadLocal.withInitial(
+			this::createLocalPool);
+	// Every live thread's stack, for statistics
+	private List<LocalPool> allLocalPools = new ArrayList<LocalPool>();
+	// The hits of the stacks of threads which have ended
+	private long retiredHitCount = 0L;
+	// The misses of the stacks of threads which have ended
+	private long retiredMissCount = 0L;
+	// The objects dropped by the stacks of threads which have ended
+	private long retiredDroppedCount = 0L;
+	// The objects still in use from the stacks of threads which have ended
+	private int retiredOutstandingCount = 0;
+	// The high-water marks of the stacks of threads which have ended
+	private int retiredHighWaterMark = 0;
+	// The acquisition sites of the objects in use (null unless leak detection
+	// is enabled)
+	private volatile LeakTracker leaks = null;
+	
+	/*
+	 * Construct an empty, unbounded thread-local object pool
+	 * @param String name - The name of the pool used in reports
+	 * @param PoolFactory<T> factory - The factory creating the pool's objects
+	 */
+	public ThreadLocalPool(String name, PoolFactory<T> factory) {
+		this(name, factory, 0, ObjectPool.DefaultMaximumSize,
+				PoolGrowth.UNBOUNDED);
+	}
+	/*
+	 * Construct a thread-local object pool
+	 * @param String name - The name of the pool used in reports
+	 * @param PoolFactory<T> factory - The factory creating the pool's objects
+	 * @param int initialSize - The number of objects to fill each thread's
+	 * stack with the first time the thread uses the pool
+	 * @param int maximumSize - The most released objects each thread's stack
+	 * keeps if the pool is bounded
+	 * @param PoolGrowth growth - The pool's growth policy
+	 */
+	public ThreadLocalPool(String name, PoolFactory<T> factory,
+			int initialSize, int maximumSize, PoolGrowth growth) {
+		this.name = name;
+		this.factory = factory;
+		this.growth = growth;
+		this.initialSize = Math.max(initialSize, 0);
+		this.maximumSize = Math.max(maximumSize, 1);
+	}
+	
+	/*
+	 * Take an object from the calling thread's stack, creating one if none
+	 * are available and the pool is not fixed
+	 * @return T - The object, or null if the pool is fixed and the calling
+	 * thread's stack is empty
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		LocalPool local = localPools.get();
+		T object = null;
+		if (local.availableCount > 0) {
+			object = (T)local.available[--local.availableCount];
+			local.available[local.availableCount] = null;
+			local.hitCount++;
+		} else {
+			local.missCount++;
+			if (growth == PoolGrowth.FIXED) {
+				return null;
+			}
+			object = factory.create();
+		}
+		local.outstandingCount++;
+		local.highWaterMark = Math.max(local.highWaterMark,
+				local.outstandingCount);
+		LeakTracker leaks = this.leaks;
+		if (leaks != null) {
+			leaks.track(object);
+		}
+		return object;
+	}
+	/*
+	 * Reset an object if it is poolable and return it to the calling thread's
+	 * stack, unless the pool is bounded and the stack already holds its
+	 * maximum size
+	 * @param T object - The object to return
+	 * @return boolean - Whether the object was accepted
+	 */
+	@Override
+	public boolean release(T object) {
+		LeakTracker leaks = this.leaks;
+		if (object == null || (leaks != null && !leaks.untrack(object))) {
+			return false;
+		}
+		LocalPool local = localPools.get();
+		local.outstandingCount--;
+		if (object instanceof Poolable) {
+			((Poolable)object).reset();
+		}
+		if (local.availableCount == local.available.length) {
+			if (growth == PoolGrowth.BOUNDED
+					&& local.availableCount >= maximumSize) {
+				local.droppedCount++;
+				return true;
+			}
+			int capacity = local.available.length * 2;
+			if (growth == PoolGrowth.BOUNDED) {
+				capacity = Math.min(capacity, maximumSize);
+			}
+			local.available = Arrays.copyOf(local.available, capacity);
+		}
+		local.available[local.availableCount++] = object;
+		return true;
+	}
+	/*
+	 * Set whether this pool records where each object in use was acquired,
+	 * objects already in use when it is enabled are not tracked
+	 * @param boolean enabled - Whether leak detection is enabled
+	 */
+	@Override
+	public synchronized void setLeakDetection(boolean enabled) {
+		if (enabled && leaks == null) {
+			leaks = new LeakTracker();
+		} else if (!enabled) {
+			leaks = null;
+		}
+	}
+	/*
+	 * Test whether this pool records where each object in use was acquired
+	 * @return boolean - Whether leak detection is enabled
+	 */
+	@Override
+	public boolean isLeakDetectionEnabled() {
+		return leaks != null;
+	}
+	/*
+	 * Write this pool's statistics summed over every thread, and the
+	 * acquisition sites of objects still in use if leak detection is enabled,
+	 * to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	@Override
+	public void writeReport(LogManager log) {
+		long hitCount = getHitCount();
+		long missCount = getMissCount();
+		long acquisitions = hitCount + missCount;
+		int threadCount = 0;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			threadCount = allLocalPools.size();
+		}
+		log.write(LogSource.Pooling, LogPriority.Info, "Pool ", name, " (",
+				growth, ", ", threadCount, " threads): ", hitCount, " hits, ",
+				missCount, " misses (", acquisitions == 0L ? 100L : hitCount
+				* 100L / acquisitions, "% hit rate), high-water mark ",
+				getHighWaterMark(), ", ", getOutstandingCount(), " in use, ",
+				getAvailableCount(), " available, ", getDroppedCount(),
+				" dropped");
+		LeakTracker leaks = this.leaks;
+		if (leaks != null) {
+			leaks.writeReport(log, name);
+		}
+	}
+	
+	/*
+	 * Create and fill the stack for a thread using this pool for the first
+	 * time
+	 * @return LocalPool - The thread's stack
+	 */
+	private LocalPool createLocalPool() {
+		LocalPool local = new LocalPool();
+		local.available = new Object[Math.max(initialSize, 16)];
+		for (int i = 0; i < initialSize; i++) {
+			local.available[local.availableCount++] = factory.create();
+		}
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			allLocalPools.add(local);
+		}
+		return local;
+	}
+	/*
+	 * Discard the stacks of threads which have ended, adding their counts to
+	 * the retired totals (called with the list of stacks locked)
+	 */
+	private void pruneLocalPools() {
+		Iterator<LocalPool> iterator = allLocalPools.iterator();
+		while (iterator.hasNext()) {
+			LocalPool local = iterator.next();
+			Thread owner = local.owner.get();
+			if (owner != null && owner.isAlive()) {
+				continue;
+			}
+			retiredHitCount += local.hitCount;
+			retiredMissCount += local.missCount;
+			retiredDroppedCount += local.droppedCount;
+			retiredOutstandingCount += local.outstandingCount;
+			retiredHighWaterMark += local.highWaterMark;
+			iterator.remove();
+		}
+	}
+	
+	/*
+	 * Get the name of this pool used in reports
+	 * @return String - The pool's name
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+	/*
+	 * Get this pool's growth policy
+	 * @return PoolGrowth - The growth policy
+	 */
+	@Override
+	public PoolGrowth getGrowth() {
+		return growth;
+	}
+	/*
+	 * Get the number of acquisitions satisfied by a pooled object on any
+	 * thread
+	 * @return long - The number of hits
+	 */
+	@Override
+	public long getHitCount() {
+		long hitCount = 0L;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			hitCount = retiredHitCount;
+			for (LocalPool local : allLocalPools) {
+				hitCount += local.hitCount;
+			}
+		}
+		return hitCount;
+	}
+	/*
+	 * Get the number of acquisitions which found their thread's stack empty
+	 * @return long - The number of misses
+	 */
+	@Override
+	public long getMissCount() {
+		long missCount = 0L;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			missCount = retiredMissCount;
+			for (LocalPool local : allLocalPools) {
+				missCount += local.missCount;
+			}
+		}
+		return missCount;
+	}
+	/*
+	 * Get the sum of the largest number of objects which have been in use at
+	 * once on each thread
+	 * @return int - The high-water mark
+	 */
+	@Override
+	public int getHighWaterMark() {
+		int highWaterMark = 0;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			highWaterMark = retiredHighWaterMark;
+			for (LocalPool local : allLocalPools) {
+				highWaterMark += local.highWaterMark;
+			}
+		}
+		return highWaterMark;
+	}
+	/*
+	 * Get the number of objects acquired and not yet released on any thread
+	 * @return int - The number of objects in use
+	 */
+	@Override
+	public int getOutstandingCount() {
+		int outstandingCount = 0;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			outstandingCount = retiredOutstandingCount;
+			for (LocalPool local : allLocalPools) {
+				outstandingCount += local.outstandingCount;
+			}
+		}
+		return outstandingCount;
+	}
+	/*
+	 * Get the number of objects waiting in every thread's stack
+	 * @return int - The number of available objects
+	 */
+	@Override
+	public int getAvailableCount() {
+		int availableCount = 0;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			for (LocalPool local : allLocalPools) {
+				availableCount += local.availableCount;
+			}
+		}
+		return availableCount;
+	}
+	/*
+	 * Get the number of objects released which were not kept because their
+	 * thread's stack was full
+	 * @return long - The number of dropped objects
+	 */
+	@Override
+	public long getDroppedCount() {
+		long droppedCount = 0L;
+		synchronized (allLocalPools) {
+			pruneLocalPools();
+			droppedCount = retiredDroppedCount;
+			for (LocalPool local : allLocalPools) {
+				droppedCount += local.droppedCount;
+			}
+		}
+		return droppedCount;
+	}
+	/*
+	 * Get the number of objects in use whose acquisition was recorded by leak
+	 * detection
+	 * @return int - The number of possible leaks, 0 if leak detection is
+	 * disabled
+	 */
+	@Override
+	public int getLeakCount() {
+		LeakTracker leaks = this.leaks;
+		return leaks == null ? 0 : leaks.getCount();
+	}
+	
+}
@@ -0,0 +1,44 @@
+/*
+ * File:		AssetLoadEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of an asset being loaded
+ * 				from the disk
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight recorder event spanning an asset loader reading an asset from the
+// disk, recorded only when the asset was not already cached
+@Name(AssetLoadEvent.Name)
+@Label("Asset Load")
+@Category({ "Asclepias Framework", "Assets" })
+@Description("An asset read from the disk by an asset loader")
+public class AssetLoadEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".AssetLoad";
+			
+	// The kind of asset loaded
+	@Label("Asset Type")
+	public String assetType = "";
+	// The file name the asset was loaded from
+	@Label("File Name")
+	public String fileName = "";
+	// The size of the asset's data in memory
+	@Label("Size")
+	@DataAmount
+	public long bytes = 0L;
+	// Whether the asset was loaded successfully
+	@Label("Success")
+	public boolean success = false;
+	
+}
@@ -0,0 +1,38 @@
+/*
+ * File:		AudioClipEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of an audio clip being
+ * 				created for a sound effect
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight recorder event spanning the creation and opening of an audio system
+// clip to play a sound effect
+@Name(AudioClipEvent.Name)
+@Label("Audio Clip Creation")
+@Category({ "Asclepias Framework", "Audio" })
+@Description("An audio system clip created and opened for a sound effect")
+public class AudioClipEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".AudioClip";
+			
+	// The file name of the sound effect
+	@Label("File Name")
+	public String fileName = "";
+	// The size of the audio data the clip was opened with
+	@Label("Size")
+	@DataAmount
+	public long bytes = 0L;
+	
+}
@@ -0,0 +1,171 @@
+/*
+ * File:		FlightRecording.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a flight recording of an application started and
+ * 				stopped by the framework
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Flight recording of an application using the JDK's default settings combined
+// with the framework's preset, written to a file when stopped (recordings can
+// also be started from the command line with the preset instead)
+public class FlightRecording {
+	
+	// The name of the framework's flight recorder settings resource, next to
+	// this class
+	public static final String SettingsFileName = "asclepiasfw.jfc";
+	
+	// Whether the flight recording has been initialized
+	private boolean initialized = false;
+	// The log for the flight recording to write messages to
+	private LogManager log = null;
+	// The name of the file the recording is written to
+	private String fileName = "";
+	// The JDK recording
+	private Recording recording = null;
+	
+	/*
+	 * Start recording with the JDK's default settings and the framework's
+	 * preset
+	 * @param LogManager log - Copy of a log for the flight recording to write
+	 * messages to
+	 * @param String fileName - The name of the file to write the recording to
+	 * @return boolean - Whether recording was started successfully
+	 */
+	public boolean initialize(LogManager log, String fileName) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		this.fileName = fileName;
+		Map<String, String> settings = GetSettings(log);
+		if (settings == null) {
+			return false;
+		}
+		try {
+			recording = new Recording(settings);
+			recording.setName("Asclepias Framework");
+			recording.setToDisk(true);
+			recording.setDestination(Path.of(fileName));
+			recording.start();
+		} catch (IOException | IllegalStateException | SecurityException e) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to start ",
+					"flight recording to \"", fileName, "\": ",
+					e.getMessage());
+			if (recording != null) {
+				recording.close();
+				recording = null;
+			}
+			return false;
+		}
+		log.write(LogSource.App, LogPriority.Info, "Started flight ",
+				"recording to \"", fileName, "\"");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Stop recording and write the recording to its file
+	 * @return boolean - Whether the recording was written successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		boolean success = true;
+		try {
+			recording.stop();
+			log.write(LogSource.App, LogPriority.Info, "Wrote flight ",
+					"recording to \"", fileName, "\"");
+		} catch (IllegalStateException e) {
+			log.write(LogSource.App, LogPriority.Warning, "Failed to stop ",
+					"flight recording: ", e.getMessage());
+			success = false;
+		}
+		recording.close();
+		recording = null;
+		initialized = false;
+		return success;
+	}
+	
+	/*
+	 * Get the JDK's default flight recorder settings combined with the
+	 * framework's preset
+	 * @param LogManager log - The log to write errors to
+	 * @return Map<String, String> - The combined settings, or null if either
+	 * could not be read
+	 */
+	public static Map<String, String> GetSettings(LogManager log) {
+		Map<String, String> settings = new HashMap<String, String>();
+		try {
+			settings.putAll(Configuration.getConfiguration("default")
+					.getSettings());
+		} catch (IOException | ParseException e) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to read the ",
+					"JDK's default flight recorder settings: ",
+					e.getMessage());
+			return null;
+		}
+		InputStream stream = FlightRecording.class.getResourceAsStream(
+				SettingsFileName);
+		if (stream == null) {
+			log.write(LogSource.App, LogPriority.Error, "Flight recorder ",
+					"settings \"", SettingsFileName, "\" not found");
+			return null;
+		}
+		try (InputStreamReader reader = new InputStreamReader(stream,
+				StandardCharsets.UTF_8)) {
+			settings.putAll(Configuration.create(reader).getSettings());
+		} catch (IOException | ParseException e) {
+			log.write(LogSource.App, LogPriority.Error, "Failed to read ",
+					"flight recorder settings \"", SettingsFileName, "\": ",
+					e.getMessage());
+			return null;
+		}
+		return settings;
+	}
+	/*
+	 * Test whether the JDK's flight recorder has been started, by a flight
+	 * recording or from the command line, checked before creating events as
+	 * loading the first event class starts the recorder's machinery (which
+	 * takes hundreds of milliseconds) even when nothing is recording
+	 * @return boolean - Whether events could be recorded
+	 */
+	public static boolean IsRecorderRunning() {
+		return FlightRecorder.isInitialized();
+	}
+	
+	/*
+	 * Test whether the flight recording is in progress
+	 * @return boolean - Whether the flight recording is running
+	 */
+	public boolean isRecording() {
+		return recording != null;
+	}
+	/*
+	 * Get the name of the file the recording is written to
+	 * @return String - The recording's file name
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+	
+}
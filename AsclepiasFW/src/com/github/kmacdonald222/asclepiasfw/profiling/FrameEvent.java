@@ -0,0 +1,112 @@
+/*
+ * File:		FrameEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of a frame of the main
+ * 				application loop
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Flight recorder event spanning one frame of the main application loop with
+// the time spent in each of its phases, committed by the frame profiler
+@Name(FrameEvent.Name)
+@Label("Frame")
+@Category({ "Asclepias Framework", "Main Loop" })
+@Description("A frame of the main application loop and the time spent in "
+		+ "each of its phases")
+@StackTrace(false)
+public class FrameEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".Frame";
+			
+	// The number of frames begun before this one
+	@Label("Frame Number")
+	public long frameNumber = 0L;
+	// The time spent in the current scene's processInput call
+	@Label("Scene Input")
+	@Timespan(Timespan.NANOSECONDS)
+	public long sceneInput = 0L;
+	// The time spent updating the user input management systems
+	@Label("Input Update")
+	@Timespan(Timespan.NANOSECONDS)
+	public long inputUpdate = 0L;
+	// The time spent updating the audio management systems
+	@Label("Audio Update")
+	@Timespan(Timespan.NANOSECONDS)
+	public long audioUpdate = 0L;
+	// The time spent updating the network client
+	@Label("Network Update")
+	@Timespan(Timespan.NANOSECONDS)
+	public long networkUpdate = 0L;
+	// The time spent running work queued for the main thread
+	@Label("Main Thread Queue")
+	@Timespan(Timespan.NANOSECONDS)
+	public long mainThreadQueue = 0L;
+	// The time spent in timed updates
+	@Label("Timed Updates")
+	@Timespan(Timespan.NANOSECONDS)
+	public long timedUpdates = 0L;
+	// The time spent publishing the current scene's render snapshot
+	@Label("Snapshot")
+	@Timespan(Timespan.NANOSECONDS)
+	public long snapshot = 0L;
+	// The time spent drawing and showing the current scene
+	@Label("Render")
+	@Timespan(Timespan.NANOSECONDS)
+	public long render = 0L;
+	// The time spent waiting for the next frame
+	@Label("Pacing")
+	@Timespan(Timespan.NANOSECONDS)
+	public long pacing = 0L;
+	
+	/*
+	 * Add the time spent in a phase of the frame to this event
+	 * @param FramePhase phase - The phase which finished
+	 * @param long nanoseconds - The time spent in the phase
+	 */
+	void record(FramePhase phase, long nanoseconds) {
+		switch (phase) {
+		case SCENE_INPUT:
+			sceneInput += nanoseconds;
+			break;
+		case INPUT_UPDATE:
+			inputUpdate += nanoseconds;
+			break;
+		case AUDIO_UPDATE:
+			audioUpdate += nanoseconds;
+			break;
+		case NETWORK_UPDATE:
+			networkUpdate += nanoseconds;
+			break;
+		case MAIN_THREAD_QUEUE:
+			mainThreadQueue += nanoseconds;
+			break;
+		case TIMED_UPDATES:
+			timedUpdates += nanoseconds;
+			break;
+		case SNAPSHOT:
+			snapshot += nanoseconds;
+			break;
+		case RENDER:
+			render += nanoseconds;
+			break;
+		case PACING:
+			pacing += nanoseconds;
+			break;
+		case FRAME:
+			break;
+		}
+	}
+	
+}
@@ -0,0 +1,57 @@
+/*
+ * File:		FramePhase.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Enumerates the phases of a frame of the main application loop
+ * 				measured by the frame profiler
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+// Enumeration of the measured phases of a frame of the main application loop
+public enum FramePhase {
+	
+	// The current scene's processInput call
+	SCENE_INPUT("Scene Input"),
+	// The user input management systems' update
+	INPUT_UPDATE("Input Update"),
+	// The audio management systems' update
+	AUDIO_UPDATE("Audio Update"),
+	// The network client's update
+	NETWORK_UPDATE("Network Update"),
+	// Running work queued for the main thread, such as asynchronous task
+	// completion callbacks
+	MAIN_THREAD_QUEUE("Main Thread Queue"),
+	// Every timed update performed in the frame, including catch-up updates
+	TIMED_UPDATES("Timed Updates"),
+	// Producing and publishing the current scene's render snapshot
+	SNAPSHOT("Snapshot"),
+	// Drawing the current scene to the window's back buffer and showing it
+	// (active rendering without pipelined rendering only)
+	RENDER("Render"),
+	// Waiting for the next frame in the frame pacer
+	PACING("Pacing"),
+	// The whole frame from start to finish
+	FRAME("Frame");
+	
+	// The name of this frame phase
+	private String name = "";
+	
+	/*
+	 * Construct a new frame phase with a name
+	 * @param String name - The name of this frame phase
+	 */
+	private FramePhase(String name) {
+		this.name = name;
+	}
+	
+	/*
+	 * Convert this frame phase to its name to represent as a string
+	 * @return String - The string representation of this frame phase
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+}
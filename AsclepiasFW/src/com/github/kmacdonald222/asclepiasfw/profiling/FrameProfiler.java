@@ -0,0 +1,188 @@
+/*
+ * File:		FrameProfiler.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the per-phase frame timing profiler of the main
+ * 				application loop
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Per-phase frame timing profiler feeding a rolling histogram for each phase of
+// the main application loop without allocating, and committing a flight
+// recorder event for each frame while one is being recorded
+public class FrameProfiler {
+	
+	// Whether this frame profiler records samples
+	private volatile boolean enabled = true;
+	// The rolling histograms of each frame phase indexed by ordinal
+	private RollingHistogram[] phases = null;
+	// The number of frames whose catch-up updates were clamped by the maximum
+	// number of logic updates per frame
+	private long clampCount = 0L;
+	// The number of frames begun
+	private long frameCount = 0L;
+	// The flight recorder event of the current frame (null unless frames are
+	// being recorded)
+	private FrameEvent frameEvent = null;
+	
+	/*
+	 * Construct a frame profiler
+	 * @param boolean enabled - Whether the profiler should record samples
+	 * @param int sampleCount - The number of recent samples to hold per phase
+	 */
+	public FrameProfiler(boolean enabled, int sampleCount) {
+		this.enabled = enabled;
+		phases = new RollingHistogram[FramePhase.values().length];
+		for (int i = 0; i < phases.length; i++) {
+			phases[i] = new RollingHistogram(sampleCount);
+		}
+	}
+	
+	/*
+	 * Start timing a phase
+	 * @return long - The current System.nanoTime value
+	 */
+	public long begin() {
+		return System.nanoTime();
+	}
+	/*
+	 * Start timing a frame, beginning its flight recorder event if frames are
+	 * being recorded
+	 * @return long - The current System.nanoTime value
+	 */
+	public long beginFrame() {
+		frameEvent = null;
+		if (FlightRecording.IsRecorderRunning()) {
+			frameEvent = new FrameEvent();
+			if (frameEvent.isEnabled()) {
+				frameEvent.frameNumber = frameCount;
+				frameEvent.begin();
+			} else {
+				frameEvent = null;
+			}
+		}
+		frameCount++;
+		return System.nanoTime();
+	}
+	/*
+	 * Record the time elapsed in a phase which started at a given time, ending
+	 * the frame's flight recorder event if the phase is the whole frame
+	 * @param FramePhase phase - The phase which finished
+	 * @param long startTime - The System.nanoTime value the phase started at
+	 * @return long - The current System.nanoTime value, for timing the next
+	 * phase
+	 */
+	public long record(FramePhase phase, long startTime) {
+		long endTime = System.nanoTime();
+		if (enabled) {
+			phases[phase.ordinal()].record(endTime - startTime);
+		}
+		if (frameEvent != null) {
+			if (phase == FramePhase.FRAME) {
+				frameEvent.commit();
+				frameEvent = null;
+			} else {
+				frameEvent.record(phase, endTime - startTime);
+			}
+		}
+		return endTime;
+	}
+	/*
+	 * Count a frame whose catch-up updates were clamped by the maximum number
+	 * of logic updates per frame
+	 */
+	public void recordClamp() {
+		if (enabled) {
+			clampCount++;
+		}
+	}
+	/*
+	 * Clear all samples and counters from this frame profiler
+	 */
+	public void reset() {
+		for (int i = 0; i < phases.length; i++) {
+			phases[i].reset();
+		}
+		clampCount = 0L;
+	}
+	/*
+	 * Write the median, 99th percentile and maximum of each phase and the clamp
+	 * count to a log
+	 * @param LogManager log - The log to write the report to
+	 */
+	public void writeReport(LogManager log) {
+		for (FramePhase phase : FramePhase.values()) {
+			RollingHistogram histogram = getHistogram(phase);
+			log.write(LogSource.App, LogPriority.Info, phase, ": p50=",
+					histogram.getMedian() / 1000L, "us, p99=",
+					histogram.getPercentile(99.0d) / 1000L, "us, max=",
+					histogram.getMaximum() / 1000L, "us over ",
+					histogram.getCount(), " samples");
+		}
+		log.write(LogSource.App, LogPriority.Info, "Catch-up updates clamped ",
+				"in ", clampCount, " of ", getHistogram(FramePhase.FRAME)
+				.getCount(), " frames");
+	}
+	
+	/*
+	 * Test whether this frame profiler records samples
+	 * @return boolean - Whether this frame profiler is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+	/*
+	 * Set whether this frame profiler records samples
+	 * @param boolean enabled - Whether this frame profiler should be enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+	/*
+	 * Get the rolling histogram of a phase
+	 * @param FramePhase phase - The phase to get the histogram of
+	 * @return RollingHistogram - The phase's histogram of times in nanoseconds
+	 */
+	public RollingHistogram getHistogram(FramePhase phase) {
+		return phases[phase.ordinal()];
+	}
+	/*
+	 * Get a percentile of the recent times of a phase
+	 * @param FramePhase phase - The phase to query
+	 * @param double percentile - The percentile to find (0.0 - 100.0)
+	 * @return long - The phase's time at the percentile in nanoseconds
+	 */
+	public long getPercentile(FramePhase phase, double percentile) {
+		return getHistogram(phase).getPercentile(percentile);
+	}
+	/*
+	 * Get the longest time of a phase since the last reset
+	 * @param FramePhase phase - The phase to query
+	 * @return long - The phase's maximum time in nanoseconds
+	 */
+	public long getMaximum(FramePhase phase) {
+		return getHistogram(phase).getMaximum();
+	}
+	/*
+	 * Get the number of frames whose catch-up updates were clamped by the
+	 * maximum number of logic updates per frame since the last reset
+	 * @return long - The number of clamped frames
+	 */
+	public long getClampCount() {
+		return clampCount;
+	}
+	/*
+	 * Get the number of frames begun since this frame profiler was created,
+	 * which is not cleared by a reset
+	 * @return long - The number of frames
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+	
+}
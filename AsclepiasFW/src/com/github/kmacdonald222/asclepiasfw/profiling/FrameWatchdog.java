@@ -0,0 +1,329 @@
+/*
+ * File:		FrameWatchdog.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the watchdog which samples the main thread's stack
+ * 				while a frame of the main application loop runs too long
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+// Watchdog thread which notices frames of the main application loop running
+// past a threshold and samples the main thread's stack until they finish, then
+// writes the most common stacks, thread states and garbage collection time to
+// the log (while frames are fast the main thread only writes two volatile
+// fields per frame and the watchdog wakes about once per threshold)
+public class FrameWatchdog {
+	
+	// The number of innermost stack frames samples are grouped by
+	private static final int StackDepth = 6;
+	// The number of most common stacks written in each report
+	private static final int ReportedStacks = 3;
+	// The number of samples after which a frame still running is reported and
+	// sampling starts over, bounding the memory used by a hung main thread
+	private static final int MaximumSamples = 10000;
+	
+	// Whether the watchdog has been initialized
+	private boolean initialized = false;
+	// The log for the watchdog to write reports to
+	private LogManager log = null;
+	// The time a frame must run for before it is sampled in nanoseconds
+	private long thresholdNanoseconds = 0L;
+	// The time between stack samples of a long frame in nanoseconds
+	private long sampleNanoseconds = 0L;
+	// The Java thread watching frames
+	private Thread thread = null;
+	// Whether the watchdog thread should keep running
+	private volatile boolean running = false;
+	// The thread running the frames being watched (null while not watching)
+	private volatile Thread target = null;
+	// The number of frames begun
+	private volatile long frameNumber = 0L;
+	// The System.nanoTime value the current frame began at (0 between frames)
+	private volatile long frameStartTime = 0L;
+	// The System.nanoTime value the last frame ended at
+	private volatile long frameEndTime = 0L;
+	// The number of frames which ran past the threshold
+	private volatile long stallCount = 0L;
+	// The longest frame which ran past the threshold in nanoseconds
+	private volatile long longestStallNanoseconds = 0L;
+	
+	/*
+	 * Initialize the watchdog and start its thread
+	 * @param LogManager log - Copy of a log for the watchdog to write reports
+	 * to
+	 * @param long thresholdMilliseconds - The time a frame must run for before
+	 * it is sampled
+	 * @param long sampleMicroseconds - The time between stack samples of a
+	 * long frame
+	 * @return boolean - Whether the watchdog was started successfully
+	 */
+	public boolean initialize(LogManager log, long thresholdMilliseconds,
+			long sampleMicroseconds) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		thresholdNanoseconds = Math.max(thresholdMilliseconds, 1L) * 1000000L;
+		sampleNanoseconds = Math.max(sampleMicroseconds, 1L) * 1000L;
+		target = null;
+		frameNumber = 0L;
+		frameStartTime = 0L;
+		frameEndTime = 0L;
+		stallCount = 0L;
+		longestStallNanoseconds = 0L;
+		running = true;
+		thread = new Thread(this::watch, "Asclepias Frame Watchdog");
+		thread.setDaemon(true);
+		thread.start();
+		log.write(LogSource.App, LogPriority.Info, "Started frame watchdog ",
+				"with a ", thresholdMilliseconds, "ms threshold");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Start or stop watching the frames run by a thread
+	 * @param Thread target - The thread running the main loop, or null to stop
+	 * watching
+	 */
+	public void watch(Thread target) {
+		frameStartTime = 0L;
+		this.target = target;
+		LockSupport.unpark(thread);
+	}
+	/*
+	 * Mark the start of a frame (watched thread only)
+	 */
+	public void begin() {
+		frameNumber++;
+		frameStartTime = System.nanoTime();
+	}
+	/*
+	 * Mark the end of the busy part of a frame, before any time spent waiting
+	 * for the next frame (watched thread only)
+	 */
+	public void end() {
+		frameEndTime = System.nanoTime();
+		frameStartTime = 0L;
+	}
+	/*
+	 * Stop the watchdog thread
+	 * @return boolean - Whether the watchdog was destroyed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		boolean success = true;
+		log.write(LogSource.App, LogPriority.Info, "Stopping frame watchdog");
+		running = false;
+		target = null;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			log.write(LogSource.App, LogPriority.Warning, "Failed to join ",
+					"frame watchdog thread");
+			success = false;
+		}
+		thread = null;
+		initialized = false;
+		return success;
+	}
+	
+	/*
+	 * Sleep until the current frame would pass the threshold, sampling it if
+	 * it does, until the watchdog is stopped
+	 */
+	private void watch() {
+		while (running) {
+			Thread target = this.target;
+			long number = frameNumber;
+			long startTime = frameStartTime;
+			if (number != frameNumber) {
+				continue;
+			}
+			if (target == null || startTime == 0L) {
+				LockSupport.parkNanos(thresholdNanoseconds);
+				continue;
+			}
+			long remaining = startTime + thresholdNanoseconds
+					- System.nanoTime();
+			if (remaining > 0L) {
+				LockSupport.parkNanos(remaining);
+				continue;
+			}
+			sample(target, number, startTime);
+		}
+	}
+	/*
+	 * Sample the stack of the watched thread until the current frame ends and
+	 * write a report of it
+	 * @param Thread target - The watched thread
+	 * @param long number - The number of the frame being sampled
+	 * @param long startTime - The System.nanoTime value the frame began at
+	 */
+	private void sample(Thread target, long number, long startTime) {
+		Map<List<StackTraceElement>, int[]> stacks
+				= new HashMap<List<StackTraceElement>, int[]>();
+		int[] states = new int[Thread.State.values().length];
+		int sampleCount = 0;
+		long collectionTime = GetCollectionTime();
+		while (running && isRunning(number)) {
+			StackTraceElement[] trace = target.getStackTrace();
+			Thread.State state = target.getState();
+			if (!isRunning(number)) {
+				break;
+			}
+			List<StackTraceElement> stack = Arrays.asList(Arrays.copyOf(trace,
+					Math.min(trace.length, StackDepth)));
+			int[] count = stacks.get(stack);
+			if (count == null) {
+				stacks.put(stack, new int[] { 1 });
+			} else {
+				count[0]++;
+			}
+			states[state.ordinal()]++;
+			sampleCount++;
+			if (sampleCount == MaximumSamples) {
+				writeReport(number, System.nanoTime() - startTime, false,
+						GetCollectionTime() - collectionTime, sampleCount,
+						stacks, states);
+				stacks.clear();
+				Arrays.fill(states, 0);
+				sampleCount = 0;
+				collectionTime = GetCollectionTime();
+			}
+			LockSupport.parkNanos(sampleNanoseconds);
+		}
+		long endTime = frameEndTime;
+		if (frameNumber != number || frameStartTime != 0L) {
+			endTime = System.nanoTime();
+		}
+		long duration = endTime - startTime;
+		stallCount++;
+		longestStallNanoseconds = Math.max(longestStallNanoseconds, duration);
+		writeReport(number, duration, true, GetCollectionTime()
+				- collectionTime, sampleCount, stacks, states);
+	}
+	/*
+	 * Test whether a frame is still running
+	 * @param long number - The number of the frame
+	 * @return boolean - Whether the frame has not ended
+	 */
+	private boolean isRunning(long number) {
+		return frameNumber == number && frameStartTime != 0L;
+	}
+	/*
+	 * Write a report of the samples taken of a long frame to the log as a
+	 * single entry, listing the most common stacks innermost frame first
+	 * @param long number - The number of the frame
+	 * @param long duration - The time the frame has run for in nanoseconds
+	 * @param boolean finished - Whether the frame has ended
+	 * @param long collectionTime - The time spent in garbage collection while
+	 * sampling in milliseconds
+	 * @param int sampleCount - The number of samples taken
+	 * @param Map<List<StackTraceElement>, int[]> stacks - The number of
+	 * samples of each stack
+	 * @param int[] states - The number of samples in each thread state
+	 */
+	private void writeReport(long number, long duration, boolean finished,
+			long collectionTime, int sampleCount,
+			Map<List<StackTraceElement>, int[]> stacks, int[] states) {
+		StringBuilder stateSummary = new StringBuilder();
+		for (Thread.State state : Thread.State.values()) {
+			if (states[state.ordinal()] == 0) {
+				continue;
+			}
+			stateSummary.append(stateSummary.length() == 0 ? "" : ", ")
+					.append(state).append(' ').append(GetPercentage(
+					states[state.ordinal()], sampleCount)).append('%');
+		}
+		List<Map.Entry<List<StackTraceElement>, int[]>> hottest
+				= new ArrayList<Map.Entry<List<StackTraceElement>, int[]>>(
+				stacks.entrySet());
+		hottest.sort((a, b) -> Integer.compare(b.getValue()[0],
+				a.getValue()[0]));
+		StringBuilder stackSummary = new StringBuilder();
+		for (int i = 0; i < Math.min(hottest.size(), ReportedStacks); i++) {
+			stackSummary.append(i == 0 ? "" : "; ").append(GetPercentage(
+					hottest.get(i).getValue()[0], sampleCount)).append("% at ");
+			List<StackTraceElement> stack = hottest.get(i).getKey();
+			for (int j = 0; j < stack.size(); j++) {
+				stackSummary.append(j == 0 ? "" : " <- ").append(stack.get(j));
+			}
+		}
+		log.write(LogSource.App, LogPriority.Warning, "Frame ", number,
+				finished ? " ran for " : " still running after ",
+				duration / 1000000L, "ms (threshold ", thresholdNanoseconds
+				/ 1000000L, "ms), ", sampleCount, " samples, ",
+				collectionTime, "ms in garbage collection", sampleCount == 0
+				? "" : ", thread " + stateSummary, stackSummary.length() == 0
+				? "" : ", hottest stacks: " + stackSummary);
+	}
+	
+	/*
+	 * Get the share of samples a count represents
+	 * @param int count - The number of samples
+	 * @param int sampleCount - The total number of samples
+	 * @return long - The percentage of samples
+	 */
+	private static long GetPercentage(int count, int sampleCount) {
+		return sampleCount == 0 ? 0L : (long)count * 100L / sampleCount;
+	}
+	/*
+	 * Get the total time spent in garbage collection by the JVM
+	 * @return long - The collection time in milliseconds
+	 */
+	private static long GetCollectionTime() {
+		long time = 0L;
+		for (GarbageCollectorMXBean collector
+				: ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(collector.getCollectionTime(), 0L);
+		}
+		return time;
+	}
+	
+	/*
+	 * Test whether the watchdog thread is running
+	 * @return boolean - Whether the watchdog is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+	/*
+	 * Get the time a frame must run for before it is sampled
+	 * @return long - The threshold in nanoseconds
+	 */
+	public long getThresholdNanoseconds() {
+		return thresholdNanoseconds;
+	}
+	/*
+	 * Get the number of frames which ran past the threshold
+	 * @return long - The number of long frames reported
+	 */
+	public long getStallCount() {
+		return stallCount;
+	}
+	/*
+	 * Get the longest frame which ran past the threshold
+	 * @return long - The longest frame's time in nanoseconds
+	 */
+	public long getLongestStallNanoseconds() {
+		return longestStallNanoseconds;
+	}
+	
+}
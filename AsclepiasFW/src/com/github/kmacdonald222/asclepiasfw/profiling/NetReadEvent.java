@@ -0,0 +1,44 @@
+/*
+ * File:		NetReadEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of a network message being
+ * 				read from a connection
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flight recorder event of a network message having been read from a
+// connection, recorded as an instant when the message arrives since the read
+// itself spends most of its time waiting for the remote host
+@Name(NetReadEvent.Name)
+@Label("Network Message Read")
+@Category({ "Asclepias Framework", "Networking" })
+@Description("A network message read from a connection")
+@StackTrace(false)
+public class NetReadEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".NetRead";
+			
+	// The unique identifier of the network connection
+	@Label("Connection")
+	public int connectionID = 0;
+	// The class name of the message read
+	@Label("Message Type")
+	public String messageType = "";
+	// The number of bytes read from the socket for the message
+	@Label("Size")
+	@DataAmount
+	public long bytes = 0L;
+	
+}
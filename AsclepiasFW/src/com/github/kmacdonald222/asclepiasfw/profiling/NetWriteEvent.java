@@ -0,0 +1,43 @@
+/*
+ * File:		NetWriteEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of a network message being
+ * 				written to a connection
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flight recorder event spanning the serialization and flushing of a network
+// message to a connection
+@Name(NetWriteEvent.Name)
+@Label("Network Message Write")
+@Category({ "Asclepias Framework", "Networking" })
+@Description("A network message written to a connection")
+@StackTrace(false)
+public class NetWriteEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".NetWrite";
+			
+	// The unique identifier of the network connection
+	@Label("Connection")
+	public int connectionID = 0;
+	// The class name of the message written
+	@Label("Message Type")
+	public String messageType = "";
+	// The number of bytes written to the socket for the message
+	@Label("Size")
+	@DataAmount
+	public long bytes = 0L;
+	
+}
@@ -0,0 +1,133 @@
+/*
+ * File:		RollingHistogram.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a fixed-size rolling window of timing samples with
+ * 				percentile queries
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import java.util.Arrays;
+
+// Fixed-size rolling window of timing samples which records without allocating
+// and answers percentile queries over the most recent samples
+public class RollingHistogram {
+	
+	// Ring buffer of the most recent samples
+	private long[] samples = null;
+	// Sorted copy of the samples, rebuilt lazily when queried
+	private long[] sorted = null;
+	// The index in the ring buffer the next sample will be written to
+	private int next = 0;
+	// The number of samples currently held in the ring buffer
+	private int size = 0;
+	// The total number of samples ever recorded
+	private long count = 0L;
+	// The largest sample ever recorded
+	private long maximum = 0L;
+	// Whether samples have been recorded since the sorted copy was built
+	private boolean dirty = false;
+	
+	/*
+	 * Construct a rolling histogram holding a number of recent samples
+	 * @param int capacity - The number of recent samples to hold
+	 */
+	public RollingHistogram(int capacity) {
+		capacity = Math.max(capacity, 1);
+		samples = new long[capacity];
+		sorted = new long[capacity];
+	}
+	
+	/*
+	 * Record a new sample, overwriting the oldest one if the window is full
+	 * @param long sample - The sample to record
+	 */
+	public void record(long sample) {
+		samples[next] = sample;
+		next++;
+		if (next == samples.length) {
+			next = 0;
+		}
+		if (size < samples.length) {
+			size++;
+		}
+		count++;
+		if (sample > maximum) {
+			maximum = sample;
+		}
+		dirty = true;
+	}
+	/*
+	 * Clear all samples from this rolling histogram
+	 */
+	public void reset() {
+		next = 0;
+		size = 0;
+		count = 0L;
+		maximum = 0L;
+		dirty = false;
+	}
+	
+	/*
+	 * Get a percentile of the samples currently in the window
+	 * @param double percentile - The percentile to find (0.0 - 100.0)
+	 * @return long - The sample at the percentile, or 0 if there are none
+	 */
+	public long getPercentile(double percentile) {
+		if (size == 0) {
+			return 0L;
+		}
+		if (dirty) {
+			System.arraycopy(samples, 0, sorted, 0, size);
+			Arrays.sort(sorted, 0, size);
+			dirty = false;
+		}
+		percentile = Math.min(Math.max(percentile, 0.0d), 100.0d);
+		int index = (int)Math.ceil(percentile / 100.0d * (double)size) - 1;
+		return sorted[Math.max(index, 0)];
+	}
+	/*
+	 * Get the median of the samples currently in the window
+	 * @return long - The 50th percentile sample
+	 */
+	public long getMedian() {
+		return getPercentile(50.0d);
+	}
+	/*
+	 * Get the largest sample currently in the window
+	 * @return long - The largest sample in the window
+	 */
+	public long getWindowMaximum() {
+		return getPercentile(100.0d);
+	}
+	/*
+	 * Get the largest sample ever recorded since the last reset
+	 * @return long - The largest sample recorded
+	 */
+	public long getMaximum() {
+		return maximum;
+	}
+	/*
+	 * Get the total number of samples recorded since the last reset
+	 * @return long - The number of samples recorded
+	 */
+	public long getCount() {
+		return count;
+	}
+	/*
+	 * Get the number of samples currently held in the window
+	 * @return int - The number of samples in the window
+	 */
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the number of recent samples this rolling histogram can hold
+	 * @return int - The capacity of the window
+	 */
+	public int getCapacity() {
+		return samples.length;
+	}
+	
+}
@@ -0,0 +1,51 @@
+/*
+ * File:		SceneTransitionEvent.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the flight recorder event of a change of an
+ * 				application's current scene
+ */
+
+package com.github.kmacdonald222.asclepiasfw.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight recorder event spanning a change of an application's current scene,
+// including initializing the next scene if it was not preloaded
+@Name(SceneTransitionEvent.Name)
+@Label("Scene Transition")
+@Category({ "Asclepias Framework", "Scenes" })
+@Description("A change of the application's current scene")
+public class SceneTransitionEvent extends Event {
+	
+	// The name the event is recorded under
+	public static final String Name = "com.github.kmacdonald222.asclepiasfw"
+			+ ".SceneTransition";
+			
+	// The class name of the scene left (empty if there was none)
+	@Label("Previous Scene")
+	public String previousScene = "";
+	// The class name of the scene entered (empty if there was none)
+	@Label("Next Scene")
+	public String nextScene = "";
+	// Whether the next scene had to be initialized during the transition
+	@Label("Initialized Scene")
+	public boolean initializedScene = false;
+	// Whether the transition succeeded
+	@Label("Success")
+	public boolean success = false;
+	
+	/*
+	 * Get the name a scene is recorded under
+	 * @param Object scene - The scene, or null
+	 * @return String - The scene's class name, or empty if there is no scene
+	 */
+	public static String GetSceneName(Object scene) {
+		return scene == null ? "" : scene.getClass().getName();
+	}
+	
+}
@@ -0,0 +1,60 @@
+/*
+ * File:		ReplayFormat.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the constants of the binary replay file format shared by
+ * 				the replay recorder and player
+ */
+
+package com.github.kmacdonald222.asclepiasfw.replay;
+
+// Constants of the replay file format, a header (magic number, version and
+// starting updates per second) followed by one-byte record tags with their
+// payloads, with every frame ending in a FrameEnd record
+final class ReplayFormat {
+	
+	// The number identifying a replay file ("ASRP")
+	static final int Magic = 0x41535250;
+	// The version of the replay file format
+	static final int Version = 1;
+	
+	// End of the replay (no payload)
+	static final byte End = 0;
+	// Keyboard key pressed (int key code)
+	static final byte KeyPressed = 1;
+	// Keyboard key released (int key code)
+	static final byte KeyReleased = 2;
+	// Character typed (char character)
+	static final byte CharacterTyped = 3;
+	// Mouse button pressed (int button code)
+	static final byte ButtonPressed = 4;
+	// Mouse button released (int button code)
+	static final byte ButtonReleased = 5;
+	// Mouse scroll wheel moved (double distance, double previous distance)
+	static final byte ScrollWheelMoved = 6;
+	// Mouse cursor moved (double x, double y, double previous x, double
+	// previous y)
+	static final byte CursorMoved = 7;
+	// Network connection accepted (int connection identifier)
+	static final byte NetConnected = 8;
+	// Network message received (int length, serialized message bytes)
+	static final byte NetMessageReceived = 9;
+	// Network connection closed (int connection identifier)
+	static final byte NetDisconnected = 10;
+	// Timed update with a partial delta (double delta)
+	static final byte Update = 11;
+	// Timed update with a delta of exactly one update (no payload)
+	static final byte UpdateOne = 12;
+	// Target number of logic updates per second changed (int updates per
+	// second)
+	static final byte TickRate = 13;
+	// End of a frame (long frame duration in nanoseconds)
+	static final byte FrameEnd = 14;
+	
+	/*
+	 * Prevent construction of this constants class
+	 */
+	private ReplayFormat() {
+	}
+	
+}
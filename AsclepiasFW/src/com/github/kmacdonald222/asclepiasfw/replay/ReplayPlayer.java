@@ -0,0 +1,391 @@
+/*
+ * File:		ReplayPlayer.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a player of binary replay files which feeds recorded
+ * 				input and network events back into an application frame by
+ * 				frame
+ */
+
+package com.github.kmacdonald222.asclepiasfw.replay;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventChannel;
+import com.github.kmacdonald222.asclepiasfw.input.InputManager;
+import com.github.kmacdonald222.asclepiasfw.input.KeyboardEventType;
+import com.github.kmacdonald222.asclepiasfw.input.KeyboardInputEvent;
+import com.github.kmacdonald222.asclepiasfw.input.KeyboardKey;
+import com.github.kmacdonald222.asclepiasfw.input.MouseButton;
+import com.github.kmacdonald222.asclepiasfw.input.MouseEventType;
+import com.github.kmacdonald222.asclepiasfw.input.MouseInputEvent;
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.networking.NetClient;
+import com.github.kmacdonald222.asclepiasfw.networking.NetMessage;
+
+// Player of replay files written by the replay recorder, which injects each
+// frame's recorded events into the application's managers and exposes the
+// frame's recorded timed update deltas for the main loop to perform
+public class ReplayPlayer {
+	
+	// Whether this replay player has been initialized
+	private boolean initialized = false;
+	// The log for this replay player to write messages to
+	private LogManager log = null;
+	// The event bus channel recorded keyboard input is published to when
+	// there is no keyboard input management system (running headless)
+	private EventChannel<KeyboardInputEvent> keyboardChannel = null;
+	// The event bus channel recorded mouse input is published to when there is
+	// no mouse input management system (running headless)
+	private EventChannel<MouseInputEvent> mouseChannel = null;
+	// The keyboard input event reused for every event published
+	private KeyboardInputEvent keyboardEvent = new KeyboardInputEvent();
+	// The mouse input event reused for every event published
+	private MouseInputEvent mouseEvent = new MouseInputEvent();
+	// The recorded cursor position reused for every cursor movement played
+	private Vector2D cursorPosition = new Vector2D();
+	// The recorded previous cursor position reused for every cursor movement
+	// played
+	private Vector2D previousCursorPosition = new Vector2D();
+	// The name of the replay file being read
+	private String fileName = "";
+	// The stream reading the replay file (null once playback finished)
+	private DataInputStream input = null;
+	// The target number of logic updates per second of the current frame
+	private int updatesPerSecond = 0;
+	// The timed update deltas of the current frame
+	private double[] updates = new double[16];
+	// The number of timed update deltas in the current frame
+	private int updateCount = 0;
+	// The recorded duration of the current frame in nanoseconds
+	private long frameNanoseconds = 0L;
+	// The number of frames played
+	private long frameCount = 0L;
+	// The number of input and network events played
+	private long eventCount = 0L;
+	
+	/*
+	 * Initialize this replay player and read the replay file's header
+	 * @param LogManager log - Copy of a log for this replay player to write
+	 * messages to
+	 * @param EventBus events - The event bus to publish recorded input to when
+	 * running headless
+	 * @param String fileName - The name of the replay file to read
+	 * @return boolean - Whether the replay player was initialized successfully
+	 */
+	public boolean initialize(LogManager log, EventBus events,
+			String fileName) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		keyboardChannel = events.getChannel(KeyboardInputEvent.class);
+		mouseChannel = events.getChannel(MouseInputEvent.class);
+		this.fileName = fileName;
+		try {
+			input = new DataInputStream(new BufferedInputStream(
+					new FileInputStream(fileName)));
+			int magic = input.readInt();
+			int version = input.readInt();
+			if (magic != ReplayFormat.Magic
+					|| version != ReplayFormat.Version) {
+				log.write(LogSource.Replay, LogPriority.Error, "File \"",
+						fileName, "\" is not a version ", ReplayFormat.Version,
+						" replay");
+				input.close();
+				input = null;
+				return false;
+			}
+			updatesPerSecond = input.readInt();
+		} catch (IOException e) {
+			log.write(LogSource.Replay, LogPriority.Error, "Failed to open ",
+					"replay file \"", fileName, "\" for playback: ",
+					e.getMessage());
+			input = null;
+			return false;
+		}
+		updateCount = 0;
+		frameNanoseconds = 0L;
+		frameCount = 0L;
+		eventCount = 0L;
+		log.write(LogSource.Replay, LogPriority.Info, "Playing replay from ",
+				"\"", fileName, "\" at ", updatesPerSecond,
+				" updates per second");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Read the next frame of the replay, injecting its input events into the
+	 * user input management system (or publishing them straight to the event
+	 * bus when running headless) and its network events into the network
+	 * client, and keeping its timed update deltas for the main loop
+	 * @param InputManager input - The application's user input management
+	 * system (null when headless)
+	 * @param NetClient network - The application's network client
+	 * @return boolean - Whether a frame was read, false once the replay ended
+	 */
+	public boolean playFrame(InputManager input, NetClient network) {
+		updateCount = 0;
+		frameNanoseconds = 0L;
+		if (this.input == null) {
+			return false;
+		}
+		try {
+			while (true) {
+				byte tag = this.input.readByte();
+				switch (tag) {
+				case ReplayFormat.End:
+					finish("Finished");
+					return false;
+				case ReplayFormat.FrameEnd:
+					frameNanoseconds = this.input.readLong();
+					frameCount++;
+					return true;
+				case ReplayFormat.Update:
+					addUpdate(this.input.readDouble());
+					break;
+				case ReplayFormat.UpdateOne:
+					addUpdate(1.0d);
+					break;
+				case ReplayFormat.TickRate:
+					updatesPerSecond = this.input.readInt();
+					break;
+				default:
+					playEvent(tag, input, network);
+					eventCount++;
+					break;
+				}
+			}
+		} catch (EOFException e) {
+			finish("Reached the end of");
+		} catch (IOException | ClassNotFoundException e) {
+			log.write(LogSource.Replay, LogPriority.Warning, "Stopped ",
+					"playing replay \"", fileName, "\" after read error: ",
+					e.getMessage());
+			finish("Stopped");
+		}
+		return false;
+	}
+	/*
+	 * Read the payload of an input or network event and deliver it
+	 * @param byte tag - The event's record tag
+	 * @param InputManager input - The application's user input management
+	 * system (null when headless)
+	 * @param NetClient network - The application's network client
+	 * @throws IOException - If the replay file could not be read or holds an
+	 * unknown record
+	 * @throws ClassNotFoundException - If a recorded network message's class
+	 * is not available
+	 */
+	private void playEvent(byte tag, InputManager input, NetClient network)
+			throws IOException, ClassNotFoundException {
+		switch (tag) {
+		case ReplayFormat.KeyPressed: {
+			KeyboardKey key = KeyboardKey.fromKeyCode(this.input.readInt());
+			if (input != null) {
+				input.keyboard.injectKeyPressed(key);
+			} else {
+				keyboardChannel.publish(keyboardEvent.set(
+						KeyboardEventType.KEY_PRESSED, key));
+			}
+			break;
+		}
+		case ReplayFormat.KeyReleased: {
+			KeyboardKey key = KeyboardKey.fromKeyCode(this.input.readInt());
+			if (input != null) {
+				input.keyboard.injectKeyReleased(key);
+			} else {
+				keyboardChannel.publish(keyboardEvent.set(
+						KeyboardEventType.KEY_RELEASED, key));
+			}
+			break;
+		}
+		case ReplayFormat.CharacterTyped: {
+			char character = this.input.readChar();
+			if (input != null) {
+				input.keyboard.injectCharacterTyped(character);
+			} else {
+				keyboardChannel.publish(keyboardEvent.set(character));
+			}
+			break;
+		}
+		case ReplayFormat.ButtonPressed: {
+			MouseButton button = MouseButton.fromButtonCode(
+					this.input.readInt());
+			if (input != null) {
+				input.mouse.injectButtonPressed(button);
+			} else {
+				mouseChannel.publish(mouseEvent.set(
+						MouseEventType.BUTTON_PRESSED, button));
+			}
+			break;
+		}
+		case ReplayFormat.ButtonReleased: {
+			MouseButton button = MouseButton.fromButtonCode(
+					this.input.readInt());
+			if (input != null) {
+				input.mouse.injectButtonReleased(button);
+			} else {
+				mouseChannel.publish(mouseEvent.set(
+						MouseEventType.BUTTON_RELEASED, button));
+			}
+			break;
+		}
+		case ReplayFormat.ScrollWheelMoved: {
+			double scrollDistance = this.input.readDouble();
+			double previousScrollDistance = this.input.readDouble();
+			if (input != null) {
+				input.mouse.injectScrollWheelMoved(scrollDistance);
+			} else {
+				mouseChannel.publish(mouseEvent.set(scrollDistance,
+						previousScrollDistance));
+			}
+			break;
+		}
+		case ReplayFormat.CursorMoved: {
+			cursorPosition.set(this.input.readDouble(),
+					this.input.readDouble());
+			previousCursorPosition.set(this.input.readDouble(),
+					this.input.readDouble());
+			if (input != null) {
+				input.mouse.injectCursorMoved(cursorPosition);
+			} else {
+				mouseChannel.publish(mouseEvent.set(cursorPosition,
+						previousCursorPosition));
+			}
+			break;
+		}
+		case ReplayFormat.NetConnected:
+			network.netConnected(this.input.readInt());
+			break;
+		case ReplayFormat.NetMessageReceived: {
+			byte[] bytes = new byte[this.input.readInt()];
+			this.input.readFully(bytes);
+			ObjectInputStream objectInput = new ObjectInputStream(
+					new ByteArrayInputStream(bytes));
+			NetMessage message = (NetMessage)objectInput.readObject();
+			objectInput.close();
+			network.netMessageReceived(message);
+			break;
+		}
+		case ReplayFormat.NetDisconnected:
+			network.netDisconnected(this.input.readInt());
+			break;
+		default:
+			throw new IOException("Unknown replay record " + tag);
+		}
+	}
+	/*
+	 * Add a timed update delta to the current frame
+	 * @param double delta - The number of logic updates advanced by
+	 */
+	private void addUpdate(double delta) {
+		if (updateCount == updates.length) {
+			updates = Arrays.copyOf(updates, updates.length * 2);
+		}
+		updates[updateCount++] = delta;
+	}
+	/*
+	 * Close the replay file once playback has finished
+	 * @param String reason - How playback finished, for the log message
+	 */
+	private void finish(String reason) {
+		log.write(LogSource.Replay, LogPriority.Info, reason, " replay \"",
+				fileName, "\" after ", frameCount, " frames and ", eventCount,
+				" events");
+		try {
+			input.close();
+		} catch (IOException e) {
+		}
+		input = null;
+	}
+	/*
+	 * Close the replay file if playback has not finished
+	 * @return boolean - Whether the replay player was destroyed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		if (input != null) {
+			finish("Stopped");
+		}
+		updateCount = 0;
+		keyboardChannel = null;
+		mouseChannel = null;
+		initialized = false;
+		return true;
+	}
+	
+	/*
+	 * Test whether this replay player has frames left to play
+	 * @return boolean - Whether playback is in progress
+	 */
+	public boolean isPlaying() {
+		return input != null;
+	}
+	/*
+	 * Get the name of the replay file this replay player reads
+	 * @return String - The replay file's name
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+	/*
+	 * Get the recorded target number of logic updates per second at the end
+	 * of the current frame, which applies from the next frame's updates
+	 * @return int - The recorded updates per second
+	 */
+	public int getUpdatesPerSecond() {
+		return updatesPerSecond;
+	}
+	/*
+	 * Get the number of timed updates recorded in the current frame
+	 * @return int - The number of timed updates to perform
+	 */
+	public int getUpdateCount() {
+		return updateCount;
+	}
+	/*
+	 * Get a recorded timed update delta of the current frame
+	 * @param int index - The index of the timed update in the frame
+	 * @return double - The number of logic updates to advance by
+	 */
+	public double getUpdate(int index) {
+		return updates[index];
+	}
+	/*
+	 * Get the recorded duration of the current frame
+	 * @return long - The frame's duration in nanoseconds
+	 */
+	public long getFrameNanoseconds() {
+		return frameNanoseconds;
+	}
+	/*
+	 * Get the number of frames this replay player has played
+	 * @return long - The number of frames played
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+	/*
+	 * Get the number of input and network events this replay player has
+	 * played
+	 * @return long - The number of events played
+	 */
+	public long getEventCount() {
+		return eventCount;
+	}
+	
+}
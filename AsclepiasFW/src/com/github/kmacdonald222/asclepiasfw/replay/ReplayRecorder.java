@@ -0,0 +1,349 @@
+/*
+ * File:		ReplayRecorder.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a recorder of the input and network events delivered
+ * 				to an application each frame into a compact binary replay file
+ */
+
+package com.github.kmacdonald222.asclepiasfw.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import com.github.kmacdonald222.asclepiasfw.events.EventBus;
+import com.github.kmacdonald222.asclepiasfw.events.EventHandler;
+import com.github.kmacdonald222.asclepiasfw.input.KeyboardInputEvent;
+import com.github.kmacdonald222.asclepiasfw.input.MouseEventType;
+import com.github.kmacdonald222.asclepiasfw.input.MouseInputEvent;
+import com.github.kmacdonald222.asclepiasfw.logging.LogManager;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.networking.NetEvent;
+
+// Recorder of the keyboard, mouse and network events and the timed update
+// deltas of each frame, subscribed to the event bus ahead of every other
+// subscriber so that a replay player can feed them back in the same order
+public class ReplayRecorder {
+	
+	// The event bus priority the recorder subscribes with, above all others so
+	// it sees every event before any subscriber can consume it
+	public static final int EventPriority = Integer.MAX_VALUE;
+	
+	// Whether this replay recorder has been initialized
+	private boolean initialized = false;
+	// The log for this replay recorder to write messages to
+	private LogManager log = null;
+	// The event bus this replay recorder is subscribed to
+	private EventBus events = null;
+	// Handler recording keyboard input events
+	private EventHandler<KeyboardInputEvent> keyboardHandler =
+			this::recordKeyboardEvent;
+	// Handler recording mouse input events
+	private EventHandler<MouseInputEvent> mouseHandler =
+			this::recordMouseEvent;
+	// Handler recording network events
+	private EventHandler<NetEvent> netHandler = this::recordNetEvent;
+	// The name of the replay file being written
+	private String fileName = "";
+	// The stream writing the replay file (null once recording stopped)
+	private DataOutputStream output = null;
+	// The target number of logic updates per second last written
+	private int updatesPerSecond = 0;
+	// The System.nanoTime value the current frame started at
+	private long frameStartTime = 0L;
+	// The number of frames recorded
+	private long frameCount = 0L;
+	// The number of input and network events recorded
+	private long eventCount = 0L;
+	
+	/*
+	 * Initialize this replay recorder, write the replay file's header and
+	 * subscribe to the event bus
+	 * @param LogManager log - Copy of a log for this replay recorder to write
+	 * messages to
+	 * @param EventBus events - The event bus to record events from
+	 * @param String fileName - The name of the replay file to write
+	 * @param int updatesPerSecond - The application's starting target number
+	 * of logic updates per second
+	 * @return boolean - Whether the replay recorder was initialized
+	 * successfully
+	 */
+	public boolean initialize(LogManager log, EventBus events,
+			String fileName, int updatesPerSecond) {
+		if (initialized) {
+			return false;
+		}
+		this.log = log;
+		this.fileName = fileName;
+		try {
+			output = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(fileName)));
+			output.writeInt(ReplayFormat.Magic);
+			output.writeInt(ReplayFormat.Version);
+			output.writeInt(updatesPerSecond);
+		} catch (IOException e) {
+			log.write(LogSource.Replay, LogPriority.Error, "Failed to open ",
+					"replay file \"", fileName, "\" for recording: ",
+					e.getMessage());
+			output = null;
+			return false;
+		}
+		this.events = events;
+		events.subscribe(KeyboardInputEvent.class, keyboardHandler,
+				EventPriority);
+		events.subscribe(MouseInputEvent.class, mouseHandler, EventPriority);
+		events.subscribe(NetEvent.class, netHandler, EventPriority);
+		this.updatesPerSecond = updatesPerSecond;
+		frameStartTime = System.nanoTime();
+		frameCount = 0L;
+		eventCount = 0L;
+		log.write(LogSource.Replay, LogPriority.Info, "Recording replay to ",
+				"\"", fileName, "\"");
+		initialized = true;
+		return initialized;
+	}
+	/*
+	 * Record a timed update performed by the main loop
+	 * @param double delta - The number of logic updates advanced by
+	 */
+	public void recordUpdate(double delta) {
+		if (output == null) {
+			return;
+		}
+		try {
+			if (delta == 1.0d) {
+				output.writeByte(ReplayFormat.UpdateOne);
+			} else {
+				output.writeByte(ReplayFormat.Update);
+				output.writeDouble(delta);
+			}
+		} catch (IOException e) {
+			stopRecording(e);
+		}
+	}
+	/*
+	 * Record the end of a frame of the main loop, along with any change to the
+	 * target number of logic updates per second made during it
+	 * @param int updatesPerSecond - The application's current target number of
+	 * logic updates per second
+	 */
+	public void endFrame(int updatesPerSecond) {
+		if (output == null) {
+			return;
+		}
+		long currentTime = System.nanoTime();
+		try {
+			if (updatesPerSecond != this.updatesPerSecond) {
+				output.writeByte(ReplayFormat.TickRate);
+				output.writeInt(updatesPerSecond);
+				this.updatesPerSecond = updatesPerSecond;
+			}
+			output.writeByte(ReplayFormat.FrameEnd);
+			output.writeLong(currentTime - frameStartTime);
+		} catch (IOException e) {
+			stopRecording(e);
+		}
+		frameStartTime = currentTime;
+		frameCount++;
+	}
+	/*
+	 * Record a keyboard input event
+	 * @param KeyboardInputEvent event - The event published
+	 * @return boolean - Always false, leaving the event to the application
+	 */
+	private boolean recordKeyboardEvent(KeyboardInputEvent event) {
+		switch (event.getType()) {
+		case KEY_PRESSED:
+			writeCode(ReplayFormat.KeyPressed, event.getKey().getKeyCode());
+			break;
+		case KEY_RELEASED:
+			writeCode(ReplayFormat.KeyReleased, event.getKey().getKeyCode());
+			break;
+		case CHARACTER_TYPED:
+			if (output == null) {
+				break;
+			}
+			try {
+				output.writeByte(ReplayFormat.CharacterTyped);
+				output.writeChar(event.getCharacter());
+				eventCount++;
+			} catch (IOException e) {
+				stopRecording(e);
+			}
+			break;
+		}
+		return false;
+	}
+	/*
+	 * Record a mouse input event
+	 * @param MouseInputEvent event - The event published
+	 * @return boolean - Always false, leaving the event to the application
+	 */
+	private boolean recordMouseEvent(MouseInputEvent event) {
+		switch (event.getType()) {
+		case BUTTON_PRESSED:
+			writeCode(ReplayFormat.ButtonPressed,
+					event.getButton().getButtonCode());
+			return false;
+		case BUTTON_RELEASED:
+			writeCode(ReplayFormat.ButtonReleased,
+					event.getButton().getButtonCode());
+			return false;
+		default:
+			break;
+		}
+		if (output == null) {
+			return false;
+		}
+		try {
+			if (event.getType() == MouseEventType.SCROLL_WHEEL_MOVED) {
+				output.writeByte(ReplayFormat.ScrollWheelMoved);
+				output.writeDouble(event.getScrollDistance());
+				output.writeDouble(event.getPreviousScrollDistance());
+			} else {
+				output.writeByte(ReplayFormat.CursorMoved);
+				output.writeDouble(event.getCursorPosition().x);
+				output.writeDouble(event.getCursorPosition().y);
+				output.writeDouble(event.getPreviousCursorPosition().x);
+				output.writeDouble(event.getPreviousCursorPosition().y);
+			}
+			eventCount++;
+		} catch (IOException e) {
+			stopRecording(e);
+		}
+		return false;
+	}
+	/*
+	 * Record a network event, serializing received messages in full
+	 * @param NetEvent event - The event published
+	 * @return boolean - Always false, leaving the event to the application
+	 */
+	private boolean recordNetEvent(NetEvent event) {
+		switch (event.getType()) {
+		case CONNECTED:
+			writeCode(ReplayFormat.NetConnected, event.getID());
+			break;
+		case DISCONNECTED:
+			writeCode(ReplayFormat.NetDisconnected, event.getID());
+			break;
+		case MESSAGE_RECEIVED:
+			if (output == null) {
+				break;
+			}
+			try {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				ObjectOutputStream objectOutput = new ObjectOutputStream(
+						bytes);
+				objectOutput.writeObject(event.getMessage());
+				objectOutput.close();
+				output.writeByte(ReplayFormat.NetMessageReceived);
+				output.writeInt(bytes.size());
+				bytes.writeTo(output);
+				eventCount++;
+			} catch (IOException e) {
+				stopRecording(e);
+			}
+			break;
+		}
+		return false;
+	}
+	/*
+	 * Write a record holding a single integer code
+	 * @param byte tag - The record's tag
+	 * @param int code - The record's key code, button code or identifier
+	 */
+	private void writeCode(byte tag, int code) {
+		if (output == null) {
+			return;
+		}
+		try {
+			output.writeByte(tag);
+			output.writeInt(code);
+			eventCount++;
+		} catch (IOException e) {
+			stopRecording(e);
+		}
+	}
+	/*
+	 * Stop recording after the replay file could not be written, keeping the
+	 * application running
+	 * @param IOException e - The error writing the replay file
+	 */
+	private void stopRecording(IOException e) {
+		log.write(LogSource.Replay, LogPriority.Warning, "Stopped recording ",
+				"replay to \"", fileName, "\" after write error: ",
+				e.getMessage());
+		try {
+			output.close();
+		} catch (IOException closeError) {
+		}
+		output = null;
+	}
+	/*
+	 * Unsubscribe from the event bus, write the end of the replay and close the
+	 * replay file
+	 * @return boolean - Whether the replay file was completed successfully
+	 */
+	public boolean destroy() {
+		if (!initialized) {
+			return false;
+		}
+		events.unsubscribe(KeyboardInputEvent.class, keyboardHandler);
+		events.unsubscribe(MouseInputEvent.class, mouseHandler);
+		events.unsubscribe(NetEvent.class, netHandler);
+		events = null;
+		boolean success = output != null;
+		if (output != null) {
+			try {
+				output.writeByte(ReplayFormat.End);
+				output.close();
+			} catch (IOException e) {
+				log.write(LogSource.Replay, LogPriority.Warning, "Failed to ",
+						"complete replay file \"", fileName, "\": ",
+						e.getMessage());
+				success = false;
+			}
+			output = null;
+		}
+		log.write(LogSource.Replay, LogPriority.Info, "Recorded ", frameCount,
+				" frames and ", eventCount, " events to \"", fileName, "\"");
+		initialized = false;
+		return success;
+	}
+	
+	/*
+	 * Test whether this replay recorder is still writing its replay file
+	 * @return boolean - Whether recording is in progress
+	 */
+	public boolean isRecording() {
+		return output != null;
+	}
+	/*
+	 * Get the name of the replay file this replay recorder writes
+	 * @return String - The replay file's name
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+	/*
+	 * Get the number of frames this replay recorder has recorded
+	 * @return long - The number of frames recorded
+	 */
+	public long getFrameCount() {
+		return frameCount;
+	}
+	/*
+	 * Get the number of input and network events this replay recorder has
+	 * recorded
+	 * @return long - The number of events recorded
+	 */
+	public long getEventCount() {
+		return eventCount;
+	}
+	
+}
@@ -0,0 +1,514 @@
+/*
+ * File:		LooseQuadtree.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a spatial index storing points in a loose quadtree
+ */
+
+package com.github.kmacdonald222.asclepiasfw.spatial;
+
+import java.util.Arrays;
+
+// Spatial index recursively dividing a square region into quadrants where
+// crowded, each node accepting points anywhere within twice its size so that
+// points moving a short way rarely change node, nodes and the linked lists of
+// points in them are kept in primitive arrays, best for clustered points or
+// queries of widely varying size
+public class LooseQuadtree implements SpatialIndex {
+	
+	// The number of points a node holds before it is divided by default
+	public static final int DefaultNodeCapacity = 8;
+	// The greatest depth a node may be divided to by default
+	public static final int DefaultMaximumDepth = 12;
+	
+	// The number of point identifiers and nodes there is room for when a tree
+	// is created
+	private static final int InitialCapacity = 256;
+	// The index of the root node
+	private static final int Root = 0;
+	
+	// The number of points a node holds before it is divided
+	private int nodeCapacity = DefaultNodeCapacity;
+	// The greatest depth a node may be divided to
+	private int maximumDepth = DefaultMaximumDepth;
+	// The x coordinate of the center of each node
+	private double[] nodeCenterX = new double[InitialCapacity];
+	// The y coordinate of the center of each node
+	private double[] nodeCenterY = new double[InitialCapacity];
+	// Half the width of each node's quadrant, points up to twice this far from
+	// the center on each axis belong in the node
+	private double[] nodeHalfSizes = new double[InitialCapacity];
+	// The depth of each node below the root
+	private int[] nodeDepths = new int[InitialCapacity];
+	// The first of each node's four consecutive children (-1 for leaves)
+	private int[] nodeChildren = new int[InitialCapacity];
+	// The first point in each node (-1 for empty nodes)
+	private int[] nodeHeads = new int[InitialCapacity];
+	// The number of points in each node
+	private int[] nodePointCounts = new int[InitialCapacity];
+	// The number of nodes in use
+	private int nodeCount = 0;
+	// The x coordinate of each point
+	private double[] pointX = new double[InitialCapacity];
+	// The y coordinate of each point
+	private double[] pointY = new double[InitialCapacity];
+	// The node holding each point (-1 for identifiers not in the tree)
+	private int[] pointNodes = new int[InitialCapacity];
+	// The next point in each point's node (-1 at the end)
+	private int[] nextPoints = new int[InitialCapacity];
+	// The previous point in each point's node (-1 at the start)
+	private int[] previousPoints = new int[InitialCapacity];
+	// The number of points in the tree
+	private int size = 0;
+	// Stack of nodes still to visit during a query
+	private int[] stack = new int[64];
+	
+	/*
+	 * Construct an empty loose quadtree with the default node capacity and
+	 * maximum depth
+	 * @param double centerX - The x coordinate of the center of the region
+	 * points are expected in
+	 * @param double centerY - The y coordinate of the center of the region
+	 * points are expected in
+	 * @param double halfSize - Half the width of the square region points are
+	 * expected in (points outside it are still accepted but kept in the root)
+	 */
+	public LooseQuadtree(double centerX, double centerY, double halfSize) {
+		this(centerX, centerY, halfSize, DefaultNodeCapacity,
+				DefaultMaximumDepth);
+	}
+	/*
+	 * Construct an empty loose quadtree
+	 * @param double centerX - The x coordinate of the center of the region
+	 * points are expected in
+	 * @param double centerY - The y coordinate of the center of the region
+	 * points are expected in
+	 * @param double halfSize - Half the width of the square region points are
+	 * expected in (points outside it are still accepted but kept in the root)
+	 * @param int nodeCapacity - The number of points a node holds before it is
+	 * divided
+	 * @param int maximumDepth - The greatest depth a node may be divided to
+	 */
+	public LooseQuadtree(double centerX, double centerY, double halfSize,
+			int nodeCapacity, int maximumDepth) {
+		this.nodeCapacity = Math.max(nodeCapacity, 1);
+		this.maximumDepth = Math.max(maximumDepth, 0);
+		Arrays.fill(pointNodes, -1);
+		addNode(centerX, centerY, halfSize, 0);
+	}
+	
+	/*
+	 * Add a point to the tree
+	 * @param int ID - The point's identifier, which must not already be in the
+	 * tree
+	 * @param double x - The point's x coordinate
+	 * @param double y - The point's y coordinate
+	 * @return boolean - Whether the point was added
+	 */
+	@Override
+	public boolean insert(int ID, double x, double y) {
+		if (ID < 0 || contains(ID)) {
+			return false;
+		}
+		if (ID >= pointNodes.length) {
+			growPoints(ID);
+		}
+		pointX[ID] = x;
+		pointY[ID] = y;
+		link(ID, findNode(x, y));
+		size++;
+		return true;
+	}
+	/*
+	 * Change the position of a point in the tree, only relinking it if it
+	 * leaves its node's loose bounds
+	 * @param int ID - The point's identifier
+	 * @param double x - The point's new x coordinate
+	 * @param double y - The point's new y coordinate
+	 * @return boolean - Whether the point was in the tree
+	 */
+	@Override
+	public boolean move(int ID, double x, double y) {
+		if (!contains(ID)) {
+			return false;
+		}
+		pointX[ID] = x;
+		pointY[ID] = y;
+		int node = pointNodes[ID];
+		if (node != Root && containsLoosely(node, x, y)) {
+			return true;
+		}
+		unlink(ID);
+		link(ID, findNode(x, y));
+		return true;
+	}
+	/*
+	 * Remove a point from the tree
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point was in the tree
+	 */
+	@Override
+	public boolean remove(int ID) {
+		if (!contains(ID)) {
+			return false;
+		}
+		unlink(ID);
+		pointNodes[ID] = -1;
+		size--;
+		return true;
+	}
+	/*
+	 * Remove every point from the tree, keeping only the root node
+	 */
+	@Override
+	public void clear() {
+		nodeCount = 1;
+		nodeChildren[Root] = -1;
+		nodeHeads[Root] = -1;
+		nodePointCounts[Root] = 0;
+		Arrays.fill(pointNodes, -1);
+		size = 0;
+	}
+	/*
+	 * Find the points inside an axis-aligned rectangle (edges inclusive)
+	 * @param double minimumX - The rectangle's smallest x coordinate
+	 * @param double minimumY - The rectangle's smallest y coordinate
+	 * @param double maximumX - The rectangle's largest x coordinate
+	 * @param double maximumY - The rectangle's largest y coordinate
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found
+	 * @return int - The number of points found
+	 */
+	@Override
+	public int queryRange(double minimumX, double minimumY, double maximumX,
+			double maximumY, SpatialResults results) {
+		results.clear();
+		int stackSize = push(0, Root);
+		while (stackSize > 0) {
+			int node = stack[--stackSize];
+			if (node != Root && !overlapsLoosely(node, minimumX, minimumY,
+					maximumX, maximumY)) {
+				continue;
+			}
+			for (int i = nodeHeads[node]; i >= 0; i = nextPoints[i]) {
+				double x = pointX[i];
+				double y = pointY[i];
+				if (x >= minimumX && x <= maximumX && y >= minimumY
+						&& y <= maximumY) {
+					results.add(i, 0.0d);
+				}
+			}
+			stackSize = pushChildren(stackSize, node, 0);
+		}
+		return results.getCount();
+	}
+	/*
+	 * Find the points within a distance of a center (inclusive)
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param double radius - The distance to search within
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found and their squared distances
+	 * @return int - The number of points found
+	 */
+	@Override
+	public int queryRadius(double x, double y, double radius,
+			SpatialResults results) {
+		results.clear();
+		double radiusSquared = radius * radius;
+		int stackSize = push(0, Root);
+		while (stackSize > 0) {
+			int node = stack[--stackSize];
+			if (node != Root && getLooseDistanceSquared(node, x, y)
+					> radiusSquared) {
+				continue;
+			}
+			for (int i = nodeHeads[node]; i >= 0; i = nextPoints[i]) {
+				double dx = pointX[i] - x;
+				double dy = pointY[i] - y;
+				double distanceSquared = dx * dx + dy * dy;
+				if (distanceSquared <= radiusSquared) {
+					results.add(i, distanceSquared);
+				}
+			}
+			stackSize = pushChildren(stackSize, node, 0);
+		}
+		return results.getCount();
+	}
+	/*
+	 * Find the points nearest to a center, visiting the nearest quadrants first
+	 * and skipping nodes further than the furthest point kept
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found, sorted nearest first
+	 * @return int - The number of points found, less than count only if the
+	 * tree holds fewer points
+	 */
+	@Override
+	public int queryNearest(double x, double y, int count,
+			SpatialResults results) {
+		results.clear();
+		count = Math.min(count, size);
+		if (count <= 0) {
+			return 0;
+		}
+		int stackSize = push(0, Root);
+		while (stackSize > 0) {
+			int node = stack[--stackSize];
+			if (node != Root && getLooseDistanceSquared(node, x, y)
+					> results.getSearchDistance(count)) {
+				continue;
+			}
+			for (int i = nodeHeads[node]; i >= 0; i = nextPoints[i]) {
+				double dx = pointX[i] - x;
+				double dy = pointY[i] - y;
+				results.offerNearest(i, dx * dx + dy * dy, count);
+			}
+			stackSize = pushChildren(stackSize, node, getQuadrant(node, x,
+					y));
+		}
+		return results.getCount();
+	}
+	
+	/*
+	 * Find the deepest node a new point belongs in, descending through the
+	 * quadrants holding it while they loosely contain it
+	 * @param double x - The point's x coordinate
+	 * @param double y - The point's y coordinate
+	 * @return int - The index of the node
+	 */
+	private int findNode(double x, double y) {
+		int node = Root;
+		while (nodeChildren[node] >= 0) {
+			int child = nodeChildren[node] + getQuadrant(node, x, y);
+			if (!containsLoosely(child, x, y)) {
+				break;
+			}
+			node = child;
+		}
+		return node;
+	}
+	/*
+	 * Add a point to a node, dividing the node if it is over capacity
+	 * @param int ID - The point's identifier
+	 * @param int node - The index of the node
+	 */
+	private void link(int ID, int node) {
+		int head = nodeHeads[node];
+		nextPoints[ID] = head;
+		previousPoints[ID] = -1;
+		if (head >= 0) {
+			previousPoints[head] = ID;
+		}
+		nodeHeads[node] = ID;
+		pointNodes[ID] = node;
+		nodePointCounts[node]++;
+		if (nodeChildren[node] < 0 && nodePointCounts[node] > nodeCapacity
+				&& nodeDepths[node] < maximumDepth) {
+			divide(node);
+		}
+	}
+	/*
+	 * Remove a point from its node
+	 * @param int ID - The point's identifier
+	 */
+	private void unlink(int ID) {
+		int node = pointNodes[ID];
+		int next = nextPoints[ID];
+		int previous = previousPoints[ID];
+		if (previous >= 0) {
+			nextPoints[previous] = next;
+		} else {
+			nodeHeads[node] = next;
+		}
+		if (next >= 0) {
+			previousPoints[next] = previous;
+		}
+		nodePointCounts[node]--;
+	}
+	/*
+	 * Divide a leaf node into four quadrants and move each of its points into
+	 * the quadrant holding it if the quadrant loosely contains it
+	 * @param int node - The index of the node
+	 */
+	private void divide(int node) {
+		double quarterSize = nodeHalfSizes[node] * 0.5d;
+		int depth = nodeDepths[node] + 1;
+		int firstChild = nodeCount;
+		for (int quadrant = 0; quadrant < 4; quadrant++) {
+			addNode(nodeCenterX[node] + ((quadrant & 1) == 0 ? -quarterSize
+					: quarterSize), nodeCenterY[node] + ((quadrant & 2) == 0
+					? -quarterSize : quarterSize), quarterSize, depth);
+		}
+		nodeChildren[node] = firstChild;
+		int i = nodeHeads[node];
+		while (i >= 0) {
+			int next = nextPoints[i];
+			int child = firstChild + getQuadrant(node, pointX[i], pointY[i]);
+			if (containsLoosely(child, pointX[i], pointY[i])) {
+				unlink(i);
+				link(i, child);
+			}
+			i = next;
+		}
+	}
+	/*
+	 * Append a leaf node with no points
+	 * @param double centerX - The x coordinate of the node's center
+	 * @param double centerY - The y coordinate of the node's center
+	 * @param double halfSize - Half the width of the node's quadrant
+	 * @param int depth - The node's depth below the root
+	 */
+	private void addNode(double centerX, double centerY, double halfSize,
+			int depth) {
+		if (nodeCount == nodeChildren.length) {
+			int capacity = nodeChildren.length * 2;
+			nodeCenterX = Arrays.copyOf(nodeCenterX, capacity);
+			nodeCenterY = Arrays.copyOf(nodeCenterY, capacity);
+			nodeHalfSizes = Arrays.copyOf(nodeHalfSizes, capacity);
+			nodeDepths = Arrays.copyOf(nodeDepths, capacity);
+			nodeChildren = Arrays.copyOf(nodeChildren, capacity);
+			nodeHeads = Arrays.copyOf(nodeHeads, capacity);
+			nodePointCounts = Arrays.copyOf(nodePointCounts, capacity);
+		}
+		nodeCenterX[nodeCount] = centerX;
+		nodeCenterY[nodeCount] = centerY;
+		nodeHalfSizes[nodeCount] = halfSize;
+		nodeDepths[nodeCount] = depth;
+		nodeChildren[nodeCount] = -1;
+		nodeHeads[nodeCount] = -1;
+		nodePointCounts[nodeCount] = 0;
+		nodeCount++;
+	}
+	/*
+	 * Push a node onto the query stack, growing the stack if it is full
+	 * @param int stackSize - The number of nodes on the stack
+	 * @param int node - The index of the node
+	 * @return int - The new number of nodes on the stack
+	 */
+	private int push(int stackSize, int node) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stack.length * 2);
+		}
+		stack[stackSize] = node;
+		return stackSize + 1;
+	}
+	/*
+	 * Push a node's children onto the query stack so that one quadrant is
+	 * visited first and the opposite quadrant last
+	 * @param int stackSize - The number of nodes on the stack
+	 * @param int node - The index of the node
+	 * @param int first - The quadrant to visit first
+	 * @return int - The new number of nodes on the stack
+	 */
+	private int pushChildren(int stackSize, int node, int first) {
+		int firstChild = nodeChildren[node];
+		if (firstChild < 0) {
+			return stackSize;
+		}
+		stackSize = push(stackSize, firstChild + (first ^ 3));
+		stackSize = push(stackSize, firstChild + (first ^ 1));
+		stackSize = push(stackSize, firstChild + (first ^ 2));
+		return push(stackSize, firstChild + first);
+	}
+	/*
+	 * Find which quadrant of a node holds a position
+	 * @param int node - The index of the node
+	 * @param double x - The position's x coordinate
+	 * @param double y - The position's y coordinate
+	 * @return int - The quadrant, with bit 0 set for the right half and bit 1
+	 * set for the top half
+	 */
+	private int getQuadrant(int node, double x, double y) {
+		return (x >= nodeCenterX[node] ? 1 : 0)
+				| (y >= nodeCenterY[node] ? 2 : 0);
+	}
+	/*
+	 * Test whether a position is within a node's loose bounds
+	 * @param int node - The index of the node
+	 * @param double x - The position's x coordinate
+	 * @param double y - The position's y coordinate
+	 * @return boolean - Whether the position belongs in the node
+	 */
+	private boolean containsLoosely(int node, double x, double y) {
+		double looseSize = nodeHalfSizes[node] * 2.0d;
+		return Math.abs(x - nodeCenterX[node]) <= looseSize
+				&& Math.abs(y - nodeCenterY[node]) <= looseSize;
+	}
+	/*
+	 * Test whether a rectangle overlaps a node's loose bounds
+	 * @param int node - The index of the node
+	 * @param double minimumX - The rectangle's smallest x coordinate
+	 * @param double minimumY - The rectangle's smallest y coordinate
+	 * @param double maximumX - The rectangle's largest x coordinate
+	 * @param double maximumY - The rectangle's largest y coordinate
+	 * @return boolean - Whether the node may hold points in the rectangle
+	 */
+	private boolean overlapsLoosely(int node, double minimumX,
+			double minimumY, double maximumX, double maximumY) {
+		double looseSize = nodeHalfSizes[node] * 2.0d;
+		return maximumX >= nodeCenterX[node] - looseSize
+				&& minimumX <= nodeCenterX[node] + looseSize
+				&& maximumY >= nodeCenterY[node] - looseSize
+				&& minimumY <= nodeCenterY[node] + looseSize;
+	}
+	/*
+	 * Compute the squared distance from a position to the nearest point of a
+	 * node's loose bounds
+	 * @param int node - The index of the node
+	 * @param double x - The position's x coordinate
+	 * @param double y - The position's y coordinate
+	 * @return double - The squared distance, 0 if the position is inside
+	 */
+	private double getLooseDistanceSquared(int node, double x, double y) {
+		double looseSize = nodeHalfSizes[node] * 2.0d;
+		double dx = Math.max(Math.abs(x - nodeCenterX[node]) - looseSize,
+				0.0d);
+		double dy = Math.max(Math.abs(y - nodeCenterY[node]) - looseSize,
+				0.0d);
+		return dx * dx + dy * dy;
+	}
+	/*
+	 * Grow the per-point arrays to fit an identifier
+	 * @param int ID - The identifier to fit
+	 */
+	private void growPoints(int ID) {
+		int previousCapacity = pointNodes.length;
+		int capacity = Math.max(previousCapacity * 2, ID + 1);
+		pointX = Arrays.copyOf(pointX, capacity);
+		pointY = Arrays.copyOf(pointY, capacity);
+		pointNodes = Arrays.copyOf(pointNodes, capacity);
+		Arrays.fill(pointNodes, previousCapacity, capacity, -1);
+		nextPoints = Arrays.copyOf(nextPoints, capacity);
+		previousPoints = Arrays.copyOf(previousPoints, capacity);
+	}
+	
+	/*
+	 * Test whether a point is in the tree
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point is in the tree
+	 */
+	@Override
+	public boolean contains(int ID) {
+		return ID >= 0 && ID < pointNodes.length && pointNodes[ID] >= 0;
+	}
+	/*
+	 * Get the number of points in the tree
+	 * @return int - The number of points
+	 */
+	@Override
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the number of nodes in the tree, nodes are not merged when points
+	 * are removed until the tree is cleared
+	 * @return int - The number of nodes
+	 */
+	public int getNodeCount() {
+		return nodeCount;
+	}
+	
+}
@@ -0,0 +1,453 @@
+/*
+ * File:		SpatialHashGrid.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a spatial index hashing points into a uniform grid of
+ * 				cells
+ */
+
+package com.github.kmacdonald222.asclepiasfw.spatial;
+
+import java.util.Arrays;
+
+// Spatial index dividing space into an unbounded uniform grid of square cells,
+// hashed into a fixed number of buckets each holding a linked list of points
+// threaded through primitive arrays, best for points spread evenly with
+// queries about the size of a cell
+public class SpatialHashGrid implements SpatialIndex {
+	
+	// The number of point identifiers there is room for when a grid is created
+	private static final int InitialCapacity = 256;
+	
+	// The width and height of each cell
+	private double cellSize = 1.0d;
+	// The reciprocal of the cell size
+	private double inverseCellSize = 1.0d;
+	// The first point in each bucket (-1 for empty buckets)
+	private int[] bucketHeads = null;
+	// The mask selecting a bucket from a cell's hash
+	private int bucketMask = 0;
+	// The x coordinate of each point
+	private double[] pointX = new double[InitialCapacity];
+	// The y coordinate of each point
+	private double[] pointY = new double[InitialCapacity];
+	// The column of the cell holding each point
+	private int[] pointCellX = new int[InitialCapacity];
+	// The row of the cell holding each point
+	private int[] pointCellY = new int[InitialCapacity];
+	// The next point in each point's bucket (-1 at the end)
+	private int[] nextPoints = new int[InitialCapacity];
+	// The previous point in each point's bucket (-1 at the start)
+	private int[] previousPoints = new int[InitialCapacity];
+	// Whether each identifier is in the grid
+	private boolean[] present = new boolean[InitialCapacity];
+	// The number of points in the grid
+	private int size = 0;
+	// The smallest column any point has been in since the grid was last empty
+	private int minimumCellX = 0;
+	// The smallest row any point has been in since the grid was last empty
+	private int minimumCellY = 0;
+	// The largest column any point has been in since the grid was last empty
+	private int maximumCellX = 0;
+	// The largest row any point has been in since the grid was last empty
+	private int maximumCellY = 0;
+	
+	/*
+	 * Construct an empty spatial hash grid
+	 * @param double cellSize - The width and height of each cell, ideally
+	 * about the radius of the most common queries
+	 * @param int bucketCount - The number of buckets cells are hashed into,
+	 * rounded up to a power of 2 (about the number of points expected works
+	 * well)
+	 */
+	public SpatialHashGrid(double cellSize, int bucketCount) {
+		this.cellSize = cellSize;
+		inverseCellSize = 1.0d / cellSize;
+		int buckets = Integer.highestOneBit(Math.max(bucketCount, 1));
+		if (buckets < bucketCount) {
+			buckets <<= 1;
+		}
+		bucketHeads = new int[buckets];
+		Arrays.fill(bucketHeads, -1);
+		bucketMask = buckets - 1;
+	}
+	
+	/*
+	 * Add a point to the grid
+	 * @param int ID - The point's identifier, which must not already be in the
+	 * grid
+	 * @param double x - The point's x coordinate
+	 * @param double y - The point's y coordinate
+	 * @return boolean - Whether the point was added
+	 */
+	@Override
+	public boolean insert(int ID, double x, double y) {
+		if (ID < 0 || contains(ID)) {
+			return false;
+		}
+		if (ID >= present.length) {
+			grow(ID);
+		}
+		pointX[ID] = x;
+		pointY[ID] = y;
+		present[ID] = true;
+		link(ID, toCell(x), toCell(y));
+		size++;
+		return true;
+	}
+	/*
+	 * Change the position of a point in the grid, only relinking it if it
+	 * changes cell
+	 * @param int ID - The point's identifier
+	 * @param double x - The point's new x coordinate
+	 * @param double y - The point's new y coordinate
+	 * @return boolean - Whether the point was in the grid
+	 */
+	@Override
+	public boolean move(int ID, double x, double y) {
+		if (!contains(ID)) {
+			return false;
+		}
+		pointX[ID] = x;
+		pointY[ID] = y;
+		int cellX = toCell(x);
+		int cellY = toCell(y);
+		if (cellX != pointCellX[ID] || cellY != pointCellY[ID]) {
+			unlink(ID);
+			link(ID, cellX, cellY);
+		}
+		return true;
+	}
+	/*
+	 * Remove a point from the grid
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point was in the grid
+	 */
+	@Override
+	public boolean remove(int ID) {
+		if (!contains(ID)) {
+			return false;
+		}
+		unlink(ID);
+		present[ID] = false;
+		size--;
+		return true;
+	}
+	/*
+	 * Remove every point from the grid
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(bucketHeads, -1);
+		Arrays.fill(present, false);
+		size = 0;
+	}
+	/*
+	 * Find the points inside an axis-aligned rectangle (edges inclusive)
+	 * @param double minimumX - The rectangle's smallest x coordinate
+	 * @param double minimumY - The rectangle's smallest y coordinate
+	 * @param double maximumX - The rectangle's largest x coordinate
+	 * @param double maximumY - The rectangle's largest y coordinate
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found
+	 * @return int - The number of points found
+	 */
+	@Override
+	public int queryRange(double minimumX, double minimumY, double maximumX,
+			double maximumY, SpatialResults results) {
+		results.clear();
+		if (size == 0) {
+			return 0;
+		}
+		int startX = Math.max(toCell(minimumX), minimumCellX);
+		int startY = Math.max(toCell(minimumY), minimumCellY);
+		int endX = Math.min(toCell(maximumX), maximumCellX);
+		int endY = Math.min(toCell(maximumY), maximumCellY);
+		if (endX < startX || endY < startY) {
+			return 0;
+		}
+		if ((long)(endX - startX + 1) * (long)(endY - startY + 1)
+				> bucketHeads.length) {
+			for (int bucket = 0; bucket < bucketHeads.length; bucket++) {
+				for (int i = bucketHeads[bucket]; i >= 0; i = nextPoints[i]) {
+					addIfInRange(i, minimumX, minimumY, maximumX, maximumY,
+							results);
+				}
+			}
+			return results.getCount();
+		}
+		for (int cellY = startY; cellY <= endY; cellY++) {
+			for (int cellX = startX; cellX <= endX; cellX++) {
+				for (int i = bucketHeads[getBucket(cellX, cellY)]; i >= 0;
+						i = nextPoints[i]) {
+					if (pointCellX[i] == cellX && pointCellY[i] == cellY) {
+						addIfInRange(i, minimumX, minimumY, maximumX,
+								maximumY, results);
+					}
+				}
+			}
+		}
+		return results.getCount();
+	}
+	/*
+	 * Find the points within a distance of a center (inclusive)
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param double radius - The distance to search within
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found and their squared distances
+	 * @return int - The number of points found
+	 */
+	@Override
+	public int queryRadius(double x, double y, double radius,
+			SpatialResults results) {
+		queryRange(x - radius, y - radius, x + radius, y + radius, results);
+		double radiusSquared = radius * radius;
+		int count = results.getCount();
+		results.clear();
+		for (int i = 0; i < count; i++) {
+			int ID = results.getID(i);
+			double dx = pointX[ID] - x;
+			double dy = pointY[ID] - y;
+			double distanceSquared = dx * dx + dy * dy;
+			if (distanceSquared <= radiusSquared) {
+				results.add(ID, distanceSquared);
+			}
+		}
+		return results.getCount();
+	}
+	/*
+	 * Find the points nearest to a center, searching rings of cells outward
+	 * until no unsearched cell can hold a nearer point
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found, sorted nearest first
+	 * @return int - The number of points found, less than count only if the
+	 * grid holds fewer points
+	 */
+	@Override
+	public int queryNearest(double x, double y, int count,
+			SpatialResults results) {
+		results.clear();
+		count = Math.min(count, size);
+		if (count <= 0) {
+			return 0;
+		}
+		int centerX = toCell(x);
+		int centerY = toCell(y);
+		for (int ring = 0; ; ring++) {
+			int startX = Math.max(centerX - ring, minimumCellX);
+			int endX = Math.min(centerX + ring, maximumCellX);
+			if (centerY - ring >= minimumCellY) {
+				offerRow(centerY - ring, startX, endX, x, y, count, results);
+			}
+			if (ring > 0 && centerY + ring <= maximumCellY) {
+				offerRow(centerY + ring, startX, endX, x, y, count, results);
+			}
+			int startY = Math.max(centerY - ring + 1, minimumCellY);
+			int endY = Math.min(centerY + ring - 1, maximumCellY);
+			if (ring > 0 && centerX - ring >= minimumCellX) {
+				offerColumn(centerX - ring, startY, endY, x, y, count,
+						results);
+			}
+			if (ring > 0 && centerX + ring <= maximumCellX) {
+				offerColumn(centerX + ring, startY, endY, x, y, count,
+						results);
+			}
+			double reached = ring * cellSize;
+			if (results.getSearchDistance(count) <= reached * reached) {
+				break;
+			}
+			if (centerX - ring <= minimumCellX && centerX + ring
+					>= maximumCellX && centerY - ring <= minimumCellY
+					&& centerY + ring >= maximumCellY) {
+				break;
+			}
+		}
+		return results.getCount();
+	}
+	
+	/*
+	 * Add a point to its cell's bucket and widen the occupied cell bounds to
+	 * include it
+	 * @param int ID - The point's identifier
+	 * @param int cellX - The column of the point's cell
+	 * @param int cellY - The row of the point's cell
+	 */
+	private void link(int ID, int cellX, int cellY) {
+		pointCellX[ID] = cellX;
+		pointCellY[ID] = cellY;
+		int bucket = getBucket(cellX, cellY);
+		int head = bucketHeads[bucket];
+		nextPoints[ID] = head;
+		previousPoints[ID] = -1;
+		if (head >= 0) {
+			previousPoints[head] = ID;
+		}
+		bucketHeads[bucket] = ID;
+		if (size == 0) {
+			minimumCellX = cellX;
+			minimumCellY = cellY;
+			maximumCellX = cellX;
+			maximumCellY = cellY;
+		} else {
+			minimumCellX = Math.min(minimumCellX, cellX);
+			minimumCellY = Math.min(minimumCellY, cellY);
+			maximumCellX = Math.max(maximumCellX, cellX);
+			maximumCellY = Math.max(maximumCellY, cellY);
+		}
+	}
+	/*
+	 * Remove a point from its cell's bucket
+	 * @param int ID - The point's identifier
+	 */
+	private void unlink(int ID) {
+		int next = nextPoints[ID];
+		int previous = previousPoints[ID];
+		if (previous >= 0) {
+			nextPoints[previous] = next;
+		} else {
+			bucketHeads[getBucket(pointCellX[ID], pointCellY[ID])] = next;
+		}
+		if (next >= 0) {
+			previousPoints[next] = previous;
+		}
+	}
+	/*
+	 * Offer the points in a row of cells to a nearest neighbour query
+	 * @param int cellY - The row of the cells
+	 * @param int startX - The first column (inclusive)
+	 * @param int endX - The last column (inclusive)
+	 * @param double x - The query's center x coordinate
+	 * @param double y - The query's center y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The query's results
+	 */
+	private void offerRow(int cellY, int startX, int endX, double x, double y,
+			int count, SpatialResults results) {
+		for (int cellX = startX; cellX <= endX; cellX++) {
+			offerCell(cellX, cellY, x, y, count, results);
+		}
+	}
+	/*
+	 * Offer the points in a column of cells to a nearest neighbour query
+	 * @param int cellX - The column of the cells
+	 * @param int startY - The first row (inclusive)
+	 * @param int endY - The last row (inclusive)
+	 * @param double x - The query's center x coordinate
+	 * @param double y - The query's center y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The query's results
+	 */
+	private void offerColumn(int cellX, int startY, int endY, double x,
+			double y, int count, SpatialResults results) {
+		for (int cellY = startY; cellY <= endY; cellY++) {
+			offerCell(cellX, cellY, x, y, count, results);
+		}
+	}
+	/*
+	 * Offer the points in a cell to a nearest neighbour query
+	 * @param int cellX - The column of the cell
+	 * @param int cellY - The row of the cell
+	 * @param double x - The query's center x coordinate
+	 * @param double y - The query's center y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The query's results
+	 */
+	private void offerCell(int cellX, int cellY, double x, double y,
+			int count, SpatialResults results) {
+		for (int i = bucketHeads[getBucket(cellX, cellY)]; i >= 0;
+				i = nextPoints[i]) {
+			if (pointCellX[i] == cellX && pointCellY[i] == cellY) {
+				double dx = pointX[i] - x;
+				double dy = pointY[i] - y;
+				results.offerNearest(i, dx * dx + dy * dy, count);
+			}
+		}
+	}
+	/*
+	 * Add a point to a query's results if it is inside a rectangle
+	 * @param int ID - The point's identifier
+	 * @param double minimumX - The rectangle's smallest x coordinate
+	 * @param double minimumY - The rectangle's smallest y coordinate
+	 * @param double maximumX - The rectangle's largest x coordinate
+	 * @param double maximumY - The rectangle's largest y coordinate
+	 * @param SpatialResults results - The query's results
+	 */
+	private void addIfInRange(int ID, double minimumX, double minimumY,
+			double maximumX, double maximumY, SpatialResults results) {
+		double x = pointX[ID];
+		double y = pointY[ID];
+		if (x >= minimumX && x <= maximumX && y >= minimumY && y <= maximumY) {
+			results.add(ID, 0.0d);
+		}
+	}
+	/*
+	 * Convert a coordinate to the index of the column or row of cells holding
+	 * it
+	 * @param double coordinate - The x or y coordinate
+	 * @return int - The cell column or row
+	 */
+	private int toCell(double coordinate) {
+		return (int)Math.floor(coordinate * inverseCellSize);
+	}
+	/*
+	 * Hash a cell to the bucket holding its points
+	 * @param int cellX - The column of the cell
+	 * @param int cellY - The row of the cell
+	 * @return int - The index of the cell's bucket
+	 */
+	private int getBucket(int cellX, int cellY) {
+		int hash = (cellX * 0x9E3779B1) ^ (cellY * 0x85EBCA77);
+		return (hash ^ (hash >>> 16)) & bucketMask;
+	}
+	/*
+	 * Grow the per-point arrays to fit an identifier
+	 * @param int ID - The identifier to fit
+	 */
+	private void grow(int ID) {
+		int capacity = Math.max(present.length * 2, ID + 1);
+		pointX = Arrays.copyOf(pointX, capacity);
+		pointY = Arrays.copyOf(pointY, capacity);
+		pointCellX = Arrays.copyOf(pointCellX, capacity);
+		pointCellY = Arrays.copyOf(pointCellY, capacity);
+		nextPoints = Arrays.copyOf(nextPoints, capacity);
+		previousPoints = Arrays.copyOf(previousPoints, capacity);
+		present = Arrays.copyOf(present, capacity);
+	}
+	
+	/*
+	 * Test whether a point is in the grid
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point is in the grid
+	 */
+	@Override
+	public boolean contains(int ID) {
+		return ID >= 0 && ID < present.length && present[ID];
+	}
+	/*
+	 * Get the number of points in the grid
+	 * @return int - The number of points
+	 */
+	@Override
+	public int getSize() {
+		return size;
+	}
+	/*
+	 * Get the width and height of each cell
+	 * @return double - The cell size
+	 */
+	public double getCellSize() {
+		return cellSize;
+	}
+	/*
+	 * Get the number of buckets cells are hashed into
+	 * @return int - The number of buckets
+	 */
+	public int getBucketCount() {
+		return bucketHeads.length;
+	}
+	
+}
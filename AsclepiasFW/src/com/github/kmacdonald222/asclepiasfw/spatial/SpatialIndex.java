@@ -0,0 +1,149 @@
+/*
+ * File:		SpatialIndex.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the interface shared by spatial indices of points
+ */
+
+package com.github.kmacdonald222.asclepiasfw.spatial;
+
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+
+// Interface for an index of points identified by non-negative integers (such
+// as entity indices or positions in a list) answering proximity queries
+// without testing every point, queries write into a caller-owned result
+// buffer and do not allocate, indices are not safe to use from several threads
+// at once
+public interface SpatialIndex {
+	
+	/*
+	 * Add a point to the index
+	 * @param int ID - The point's identifier, which must not already be in the
+	 * index
+	 * @param double x - The point's x coordinate
+	 * @param double y - The point's y coordinate
+	 * @return boolean - Whether the point was added
+	 */
+	public boolean insert(int ID, double x, double y);
+	/*
+	 * Add a point to the index
+	 * @param int ID - The point's identifier, which must not already be in the
+	 * index
+	 * @param Vector2D position - The point's position
+	 * @return boolean - Whether the point was added
+	 */
+	public default boolean insert(int ID, Vector2D position) {
+		return insert(ID, position.x, position.y);
+	}
+	/*
+	 * Change the position of a point in the index
+	 * @param int ID - The point's identifier
+	 * @param double x - The point's new x coordinate
+	 * @param double y - The point's new y coordinate
+	 * @return boolean - Whether the point was in the index
+	 */
+	public boolean move(int ID, double x, double y);
+	/*
+	 * Change the position of a point in the index
+	 * @param int ID - The point's identifier
+	 * @param Vector2D position - The point's new position
+	 * @return boolean - Whether the point was in the index
+	 */
+	public default boolean move(int ID, Vector2D position) {
+		return move(ID, position.x, position.y);
+	}
+	/*
+	 * Remove a point from the index
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point was in the index
+	 */
+	public boolean remove(int ID);
+	/*
+	 * Remove every point from the index
+	 */
+	public void clear();
+	/*
+	 * Find the points inside an axis-aligned rectangle (edges inclusive)
+	 * @param double minimumX - The rectangle's smallest x coordinate
+	 * @param double minimumY - The rectangle's smallest y coordinate
+	 * @param double maximumX - The rectangle's largest x coordinate
+	 * @param double maximumY - The rectangle's largest y coordinate
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found
+	 * @return int - The number of points found
+	 */
+	public int queryRange(double minimumX, double minimumY, double maximumX,
+			double maximumY, SpatialResults results);
+	/*
+	 * Find the points inside an axis-aligned rectangle (edges inclusive)
+	 * @param Vector2D minimum - The rectangle's smallest corner
+	 * @param Vector2D maximum - The rectangle's largest corner
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found
+	 * @return int - The number of points found
+	 */
+	public default int queryRange(Vector2D minimum, Vector2D maximum,
+			SpatialResults results) {
+		return queryRange(minimum.x, minimum.y, maximum.x, maximum.y, results);
+	}
+	/*
+	 * Find the points within a distance of a center (inclusive)
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param double radius - The distance to search within
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found and their squared distances
+	 * @return int - The number of points found
+	 */
+	public int queryRadius(double x, double y, double radius,
+			SpatialResults results);
+	/*
+	 * Find the points within a distance of a center (inclusive)
+	 * @param Vector2D center - The center
+	 * @param double radius - The distance to search within
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found and their squared distances
+	 * @return int - The number of points found
+	 */
+	public default int queryRadius(Vector2D center, double radius,
+			SpatialResults results) {
+		return queryRadius(center.x, center.y, radius, results);
+	}
+	/*
+	 * Find the points nearest to a center
+	 * @param double x - The center's x coordinate
+	 * @param double y - The center's y coordinate
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found, sorted nearest first
+	 * @return int - The number of points found, less than count only if the
+	 * index holds fewer points
+	 */
+	public int queryNearest(double x, double y, int count,
+			SpatialResults results);
+	/*
+	 * Find the points nearest to a center
+	 * @param Vector2D center - The center
+	 * @param int count - The number of points to find
+	 * @param SpatialResults results - The buffer to replace the contents of
+	 * with the points found, sorted nearest first
+	 * @return int - The number of points found, less than count only if the
+	 * index holds fewer points
+	 */
+	public default int queryNearest(Vector2D center, int count,
+			SpatialResults results) {
+		return queryNearest(center.x, center.y, count, results);
+	}
+	/*
+	 * Test whether a point is in the index
+	 * @param int ID - The point's identifier
+	 * @return boolean - Whether the point is in the index
+	 */
+	public boolean contains(int ID);
+	/*
+	 * Get the number of points in the index
+	 * @return int - The number of points
+	 */
+	public int getSize();
+	
+}
@@ -0,0 +1,140 @@
+/*
+ * File:		SpatialResults.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines a reusable buffer of the points found by a spatial
+ * 				index query
+ */
+
+package com.github.kmacdonald222.asclepiasfw.spatial;
+
+import java.util.Arrays;
+
+// Buffer of the identifiers of the points found by a spatial query and their
+// squared distances from the query's center, reused between queries so that
+// queries do not allocate once the buffer has grown to fit their results
+public class SpatialResults {
+	
+	// The identifier of each point found
+	private int[] IDs = null;
+	// The squared distance of each point found from the query's center (0 for
+	// range queries)
+	private double[] distances = null;
+	// The number of points found
+	private int count = 0;
+	
+	/*
+	 * Construct an empty result buffer with room for 64 points
+	 */
+	public SpatialResults() {
+		this(64);
+	}
+	/*
+	 * Construct an empty result buffer
+	 * @param int capacity - The number of points there is room for before the
+	 * buffer grows
+	 */
+	public SpatialResults(int capacity) {
+		IDs = new int[Math.max(capacity, 1)];
+		distances = new double[IDs.length];
+	}
+	
+	/*
+	 * Remove every point from this buffer, keeping its capacity
+	 */
+	public void clear() {
+		count = 0;
+	}
+	/*
+	 * Append a point found by a query
+	 * @param int ID - The identifier of the point
+	 * @param double distanceSquared - The squared distance of the point from
+	 * the query's center
+	 */
+	void add(int ID, double distanceSquared) {
+		if (count == IDs.length) {
+			grow();
+		}
+		IDs[count] = ID;
+		distances[count] = distanceSquared;
+		count++;
+	}
+	/*
+	 * Offer a point to a nearest neighbour query, keeping the points sorted by
+	 * distance and no more than a limit of them
+	 * @param int ID - The identifier of the point
+	 * @param double distanceSquared - The squared distance of the point from
+	 * the query's center
+	 * @param int limit - The number of nearest points to keep
+	 */
+	void offerNearest(int ID, double distanceSquared, int limit) {
+		if (count == limit && distanceSquared >= distances[count - 1]) {
+			return;
+		}
+		if (count < limit) {
+			if (count == IDs.length) {
+				grow();
+			}
+			count++;
+		}
+		int i = count - 1;
+		while (i > 0 && distances[i - 1] > distanceSquared) {
+			IDs[i] = IDs[i - 1];
+			distances[i] = distances[i - 1];
+			i--;
+		}
+		IDs[i] = ID;
+		distances[i] = distanceSquared;
+	}
+	/*
+	 * Get the largest squared distance a nearest neighbour query still has to
+	 * search within
+	 * @param int limit - The number of nearest points being kept
+	 * @return double - The squared distance of the furthest point kept once
+	 * the limit is reached, or positive infinity until then
+	 */
+	double getSearchDistance(int limit) {
+		return count < limit ? Double.POSITIVE_INFINITY : distances[count - 1];
+	}
+	/*
+	 * Double the capacity of this buffer
+	 */
+	private void grow() {
+		IDs = Arrays.copyOf(IDs, IDs.length * 2);
+		distances = Arrays.copyOf(distances, IDs.length);
+	}
+	
+	/*
+	 * Get the number of points found
+	 * @return int - The number of points
+	 */
+	public int getCount() {
+		return count;
+	}
+	/*
+	 * Get the identifier of a point found, nearest neighbour results are
+	 * sorted nearest first while other results are in no particular order
+	 * @param int index - The index of the result
+	 * @return int - The point's identifier
+	 */
+	public int getID(int index) {
+		return IDs[index];
+	}
+	/*
+	 * Get the squared distance of a point found from the query's center
+	 * @param int index - The index of the result
+	 * @return double - The point's squared distance, or 0 for range queries
+	 */
+	public double getDistanceSquared(int index) {
+		return distances[index];
+	}
+	/*
+	 * Get the distance of a point found from the query's center
+	 * @param int index - The index of the result
+	 * @return double - The point's distance, or 0 for range queries
+	 */
+	public double getDistance(int index) {
+		return Math.sqrt(distances[index]);
+	}
+	
+}
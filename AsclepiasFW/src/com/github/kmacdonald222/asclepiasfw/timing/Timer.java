@@ -0,0 +1,85 @@
+/*
+ * File:		Timer.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the handle to a timer scheduled with the timer service
+ */
+
+package com.github.kmacdonald222.asclepiasfw.timing;
+
+// Handle to a timer scheduled with the timer service, also used as the timer's
+// node in the doubly-linked list of its timing wheel slot
+public class Timer {
+	
+	// The timer service this timer was scheduled with
+	TimerService service = null;
+	// The callback run when this timer fires
+	TimerCallback callback = null;
+	// The tick this timer fires on next
+	long deadline = 0L;
+	// The number of ticks between repeats (0 for a one-shot timer)
+	long period = 0L;
+	// The previous timer in this timer's slot list
+	Timer previous = null;
+	// The next timer in this timer's slot list
+	Timer next = null;
+	
+	/*
+	 * Construct a new unscheduled timer (for use by the TimerService class
+	 * only)
+	 */
+	Timer() {
+		previous = this;
+		next = this;
+	}
+	
+	/*
+	 * Remove this timer from its slot list
+	 */
+	void unlink() {
+		previous.next = next;
+		next.previous = previous;
+		previous = this;
+		next = this;
+	}
+	/*
+	 * Stop this timer from firing again
+	 * @return boolean - Whether the timer was pending and has been cancelled
+	 */
+	public boolean cancel() {
+		if (service == null) {
+			return false;
+		}
+		return service.cancel(this);
+	}
+	
+	/*
+	 * Test whether this timer is waiting to fire
+	 * @return boolean - Whether this timer is pending
+	 */
+	public boolean isPending() {
+		return next != this;
+	}
+	/*
+	 * Test whether this timer repeats after firing
+	 * @return boolean - Whether this timer repeats
+	 */
+	public boolean isRepeating() {
+		return period > 0L;
+	}
+	/*
+	 * Get the tick this timer fires on next
+	 * @return long - The timer's deadline tick
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+	/*
+	 * Get the number of ticks between this timer's repeats
+	 * @return long - The timer's period in ticks (0 for a one-shot timer)
+	 */
+	public long getPeriod() {
+		return period;
+	}
+	
+}
@@ -0,0 +1,22 @@
+/*
+ * File:		TimerCallback.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the callback function of timers scheduled with the timer
+ * 				service
+ */
+
+package com.github.kmacdonald222.asclepiasfw.timing;
+
+// Interface for work run when a timer scheduled with the timer service fires
+public interface TimerCallback {
+	
+	/*
+	 * A timer has reached its deadline tick, called on the main thread during
+	 * the timed update of that tick
+	 * @param Timer timer - The timer which fired, which may be cancelled to
+	 * stop it repeating
+	 */
+	public void timerFired(Timer timer);
+	
+}
@@ -0,0 +1,285 @@
+/*
+ * File:		TimerService.java
+ * Author:		Keegan MacDonald (KMacDonald222)
+ * Created:		2026.10.17
+ * Purpose:		Defines the tick-driven timer and scheduling service of
+ * 				Asclepias Framework applications
+ */
+
+package com.github.kmacdonald222.asclepiasfw.timing;
+
+// Timer and scheduling service driven by the application's tick counter and
+// backed by a hierarchical timing wheel, so scheduling and cancelling timers
+// take constant time and each tick only visits the timers which fire on it
+public class TimerService {
+	
+	// The number of bits of the deadline tick indexing each wheel level
+	private static final int SlotBits = 8;
+	// The number of slots in each wheel level
+	private static final int SlotCount = 1 << SlotBits;
+	// Mask selecting a slot index from a shifted deadline tick
+	private static final int SlotMask = SlotCount - 1;
+	// The number of wheel levels, covering deadlines up to 2^32 ticks ahead
+	// before the overflow list is used
+	private static final int LevelCount = 4;
+	
+	// Sentinel nodes of the slot lists of each wheel level
+	private Timer[][] wheels = null;
+	// Sentinel node of the list of timers too far ahead for the wheels
+	private Timer overflow = null;
+	// Sentinel node of the list of timers firing on the current tick
+	private Timer firing = null;
+	// The timer whose callback is currently running, or null
+	private Timer running = null;
+	// The last tick the timer service has advanced to
+	private long currentTick = 0L;
+	// The number of timers waiting to fire
+	private int pendingCount = 0;
+	// The number of times timers have fired
+	private long firedCount = 0L;
+	
+	/*
+	 * Construct a new timer service with no pending timers
+	 * @param long startTick - The tick the service starts at
+	 */
+	public TimerService(long startTick) {
+		wheels = new Timer[LevelCount][SlotCount];
+		for (int level = 0; level < LevelCount; level++) {
+			for (int slot = 0; slot < SlotCount; slot++) {
+				wheels[level][slot] = new Timer();
+			}
+		}
+		overflow = new Timer();
+		firing = new Timer();
+		currentTick = startTick;
+	}
+	
+	/*
+	 * Schedule a one-shot timer
+	 * @param long delayTicks - The number of ticks until the timer fires (at
+	 * least 1)
+	 * @param TimerCallback callback - The callback to run when the timer fires
+	 * @return Timer - A handle to the scheduled timer, or null if the arguments
+	 * were invalid
+	 */
+	public Timer schedule(long delayTicks, TimerCallback callback) {
+		return scheduleRepeating(delayTicks, 0L, callback);
+	}
+	/*
+	 * Schedule a timer which repeats after it fires until it is cancelled
+	 * @param long delayTicks - The number of ticks until the timer first fires
+	 * (at least 1)
+	 * @param long periodTicks - The number of ticks between repeats (0 for a
+	 * one-shot timer)
+	 * @param TimerCallback callback - The callback to run each time the timer
+	 * fires
+	 * @return Timer - A handle to the scheduled timer, or null if the arguments
+	 * were invalid
+	 */
+	public Timer scheduleRepeating(long delayTicks, long periodTicks,
+			TimerCallback callback) {
+		if (callback == null || delayTicks < 0L || periodTicks < 0L) {
+			return null;
+		}
+		Timer timer = new Timer();
+		timer.service = this;
+		timer.callback = callback;
+		timer.deadline = currentTick + Math.max(delayTicks, 1L);
+		timer.period = periodTicks;
+		insert(timer);
+		pendingCount++;
+		return timer;
+	}
+	/*
+	 * Stop a timer from firing again, cancelling a repeating timer from its
+	 * own callback stops its repeats
+	 * @param Timer timer - The timer to cancel
+	 * @return boolean - Whether the timer was pending and has been cancelled
+	 */
+	public boolean cancel(Timer timer) {
+		if (timer == null || timer.service != this) {
+			return false;
+		}
+		if (timer == running) {
+			boolean repeating = timer.period > 0L;
+			timer.period = 0L;
+			return repeating;
+		}
+		if (!timer.isPending()) {
+			return false;
+		}
+		timer.unlink();
+		pendingCount--;
+		return true;
+	}
+	/*
+	 * Advance the timer service to a tick, firing every timer whose deadline
+	 * has been reached in deadline order (if a callback throws, the other
+	 * timers of its tick still fire and the exception is thrown again, leaving
+	 * later ticks for the next advance)
+	 * @param long tick - The tick to advance to
+	 * @return int - The number of timers fired
+	 */
+	public int advance(long tick) {
+		int fired = 0;
+		while (currentTick < tick) {
+			currentTick++;
+			cascade();
+			fired += fire(wheels[0][(int)currentTick & SlotMask]);
+		}
+		return fired;
+	}
+	/*
+	 * Cancel every pending timer
+	 */
+	public void clear() {
+		for (int level = 0; level < LevelCount; level++) {
+			for (int slot = 0; slot < SlotCount; slot++) {
+				clear(wheels[level][slot]);
+			}
+		}
+		clear(overflow);
+		pendingCount = 0;
+	}
+	/*
+	 * Place a timer in the slot list of the lowest wheel level whose span
+	 * around the current tick contains its deadline
+	 * @param Timer timer - The timer to place
+	 */
+	private void insert(Timer timer) {
+		long deadline = timer.deadline;
+		for (int level = 0; level < LevelCount; level++) {
+			int shift = SlotBits * (level + 1);
+			if ((deadline >>> shift) == (currentTick >>> shift)) {
+				link(wheels[level][(int)(deadline >>> (shift - SlotBits))
+						& SlotMask], timer);
+				return;
+			}
+		}
+		link(overflow, timer);
+	}
+	/*
+	 * Move the timers of every higher wheel slot which has come due at the
+	 * current tick down to lower levels, highest level first
+	 */
+	private void cascade() {
+		int level = 0;
+		while (level < LevelCount && (currentTick & ((1L << (SlotBits
+				* (level + 1))) - 1L)) == 0L) {
+			level++;
+		}
+		for (; level > 0; level--) {
+			if (level == LevelCount) {
+				reinsert(overflow);
+			} else {
+				reinsert(wheels[level][(int)(currentTick >>> (SlotBits
+						* level)) & SlotMask]);
+			}
+		}
+	}
+	/*
+	 * Place every timer of a slot list again relative to the current tick
+	 * @param Timer sentinel - The sentinel node of the slot list
+	 */
+	private void reinsert(Timer sentinel) {
+		while (sentinel.next != sentinel) {
+			Timer timer = sentinel.next;
+			timer.unlink();
+			insert(timer);
+		}
+	}
+	/*
+	 * Fire every timer of a level 0 slot list, rescheduling repeating timers
+	 * which were not cancelled by their callbacks, a callback which throws
+	 * does not stop the rest of the list firing and the first exception is
+	 * thrown again once the list is done (with any later ones suppressed)
+	 * @param Timer sentinel - The sentinel node of the slot list
+	 * @return int - The number of timers fired
+	 */
+	private int fire(Timer sentinel) {
+		if (sentinel.next == sentinel) {
+			return 0;
+		}
+		firing.next = sentinel.next;
+		firing.previous = sentinel.previous;
+		firing.next.previous = firing;
+		firing.previous.next = firing;
+		sentinel.next = sentinel;
+		sentinel.previous = sentinel;
+		int fired = 0;
+		Throwable error = null;
+		while (firing.next != firing) {
+			Timer timer = firing.next;
+			timer.unlink();
+			pendingCount--;
+			running = timer;
+			try {
+				timer.callback.timerFired(timer);
+			} catch (Throwable e) {
+				if (error == null) {
+					error = e;
+				} else {
+					error.addSuppressed(e);
+				}
+			} finally {
+				running = null;
+			}
+			fired++;
+			firedCount++;
+			if (timer.period > 0L) {
+				timer.deadline += timer.period;
+				insert(timer);
+				pendingCount++;
+			}
+		}
+		if (error instanceof RuntimeException) {
+			throw (RuntimeException)error;
+		} else if (error != null) {
+			throw (Error)error;
+		}
+		return fired;
+	}
+	/*
+	 * Append a timer to a slot list
+	 * @param Timer sentinel - The sentinel node of the slot list
+	 * @param Timer timer - The timer to append
+	 */
+	private static void link(Timer sentinel, Timer timer) {
+		timer.previous = sentinel.previous;
+		timer.next = sentinel;
+		sentinel.previous.next = timer;
+		sentinel.previous = timer;
+	}
+	/*
+	 * Remove every timer from a slot list
+	 * @param Timer sentinel - The sentinel node of the slot list
+	 */
+	private static void clear(Timer sentinel) {
+		while (sentinel.next != sentinel) {
+			sentinel.next.unlink();
+		}
+	}
+	
+	/*
+	 * Get the last tick the timer service has advanced to
+	 * @return long - The timer service's current tick
+	 */
+	public long getCurrentTick() {
+		return currentTick;
+	}
+	/*
+	 * Get the number of timers waiting to fire
+	 * @return int - The number of pending timers
+	 */
+	public int getPendingCount() {
+		return pendingCount;
+	}
+	/*
+	 * Get the number of times timers have fired since the service started
+	 * @return long - The number of timer firings
+	 */
+	public long getFiredCount() {
+		return firedCount;
+	}
+	
+}
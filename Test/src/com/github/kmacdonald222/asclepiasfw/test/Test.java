@@ -1,9 +1,26 @@
 package com.github.kmacdonald222.asclepiasfw.test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import com.github.kmacdonald222.asclepiasfw.app.App;
 import com.github.kmacdonald222.asclepiasfw.app.AppConfig;
+import com.github.kmacdonald222.asclepiasfw.app.AppContext;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.CollisionBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.EcsBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.JobBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.MatchScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.PoolBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.SpatialBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.SpriteBenchmarkScene;
 import com.github.kmacdonald222.asclepiasfw.test.scenes.TestScene1;
 import com.github.kmacdonald222.asclepiasfw.test.scenes.TestScene2;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.TimerBenchmarkScene;
+import com.github.kmacdonald222.asclepiasfw.test.scenes.TweenBenchmarkScene;
 
 public class Test {
 	
@@ -11,17 +28,113 @@ public class Test {
 	public static TestScene2 Scene2 = null;
 	
 	public static void main(String[] args) {
+		if (args.length > 0 && args[0].equals("contexts")) {
+			System.exit(RunContexts(32) ? 0 : 1);
+		}
 		Scene1 = new TestScene1();
 		Scene2 = new TestScene2();
 		AppConfig config = new AppConfig(Scene1);
+		if (args.length > 0 && args[0].equals("headless")) {
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+			config.headless.maximumTicks = 60L * 60L;
+		}
+		if (args.length > 0 && args[0].equals("jobs")) {
+			config.initialScene = new JobBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("timers")) {
+			config.initialScene = new TimerBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("ecs")) {
+			config.initialScene = new EcsBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("spatial")) {
+			config.initialScene = new SpatialBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("collision")) {
+			config.initialScene = new CollisionBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("pools")) {
+			config.initialScene = new PoolBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("sprites")) {
+			config.initialScene = new SpriteBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
+		if (args.length > 0 && args[0].equals("tweens")) {
+			config.initialScene = new TweenBenchmarkScene();
+			config.headless.enabled = true;
+			config.headless.realTime = false;
+		}
 		if (!App.Initialize(config)) {
 			System.exit(1);
 		}
 		App.Run();
+		App.GetFrameProfiler().writeReport(App.Log);
+		App.GetOverloadGovernor().writeReport(App.Log);
+		App.GetSceneCache().writeReport(App.Log);
 		if (!App.Destroy()) {
 			System.exit(2);
 		}
 		System.exit(0);
 	}
 	
+	private static boolean RunContexts(int count) {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		List<Future<Long>> results = new ArrayList<Future<Long>>();
+		long startTime = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			long seed = i;
+			results.add(pool.submit(() -> RunMatch(seed)));
+		}
+		boolean success = true;
+		for (int i = 0; i < count; i++) {
+			try {
+				System.out.println("Match " + i + " checksum: "
+						+ results.get(i).get());
+			} catch (InterruptedException | ExecutionException e) {
+				System.out.println("Match " + i + " failed: " + e);
+				success = false;
+			}
+		}
+		pool.shutdown();
+		System.out.println("Ran " + count + " matches on " + threads
+				+ " threads in " + (System.nanoTime() - startTime) / 1000000L
+				+ "ms");
+		return success;
+	}
+	private static long RunMatch(long seed) {
+		MatchScene scene = new MatchScene(seed);
+		AppConfig config = new AppConfig(scene);
+		config.log.consoleOutputEnabled = false;
+		config.log.outputFileNames = new ArrayList<String>();
+		config.headless.enabled = true;
+		config.headless.realTime = false;
+		config.headless.maximumTicks = 60L * 60L;
+		config.jobs.workerCount = 1;
+		AppContext context = new AppContext();
+		if (!context.initialize(config)) {
+			throw new IllegalStateException("Failed to initialize match "
+					+ seed);
+		}
+		context.run();
+		long checksum = scene.getChecksum();
+		context.destroy();
+		return checksum;
+	}
+	
 }
\ No newline at end of file
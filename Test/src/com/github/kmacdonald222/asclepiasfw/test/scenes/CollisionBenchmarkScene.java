@@ -0,0 +1,142 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.collision.CollisionWorld;
+import com.github.kmacdonald222.asclepiasfw.collision.ContactList;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class CollisionBenchmarkScene extends AppScene {
+	
+	private static final int BodyCount = 5000;
+	private static final int Ticks = 60;
+	private static final double WorldSize = 1000.0d;
+	private static final double Speed = 2.0d;
+	
+	private double[] x = new double[BodyCount];
+	private double[] y = new double[BodyCount];
+	private double[] vx = new double[BodyCount];
+	private double[] vy = new double[BodyCount];
+	private double[] radii = new double[BodyCount];
+	private CollisionWorld serial = null;
+	private CollisionWorld parallel = null;
+	private long naiveNanoseconds = 0L;
+	private long serialNanoseconds = 0L;
+	private long parallelNanoseconds = 0L;
+	private boolean matching = true;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Initializing ",
+				"collision benchmark scene with ", BodyCount, " bodies");
+		Random random = new Random(BodyCount);
+		serial = new CollisionWorld(App.Jobs);
+		parallel = new CollisionWorld(App.Jobs);
+		parallel.setParallel(true);
+		parallel.setGrainSize(512);
+		for (int i = 0; i < BodyCount; i++) {
+			x[i] = random.nextDouble() * WorldSize;
+			y[i] = random.nextDouble() * WorldSize;
+			vx[i] = (random.nextDouble() - 0.5d) * Speed;
+			vy[i] = (random.nextDouble() - 0.5d) * Speed;
+			radii[i] = 2.0d + random.nextDouble() * 4.0d;
+			if (i % 2 == 0) {
+				serial.addCircle(i, x[i], y[i], radii[i]);
+				parallel.addCircle(i, x[i], y[i], radii[i]);
+			} else {
+				serial.addBox(i, x[i], y[i], radii[i], radii[i]);
+				parallel.addBox(i, x[i], y[i], radii[i], radii[i]);
+			}
+		}
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		for (int i = 0; i < BodyCount; i++) {
+			x[i] += vx[i] * delta;
+			y[i] += vy[i] * delta;
+			if (x[i] < 0.0d || x[i] > WorldSize) {
+				vx[i] = -vx[i];
+			}
+			if (y[i] < 0.0d || y[i] > WorldSize) {
+				vy[i] = -vy[i];
+			}
+			serial.move(i, x[i], y[i]);
+			parallel.move(i, x[i], y[i]);
+		}
+		long startTime = System.nanoTime();
+		int naiveCount = countNaive();
+		long naiveTime = System.nanoTime();
+		ContactList serialContacts = serial.detect();
+		long serialTime = System.nanoTime();
+		ContactList parallelContacts = parallel.detect();
+		long endTime = System.nanoTime();
+		naiveNanoseconds += naiveTime - startTime;
+		serialNanoseconds += serialTime - naiveTime;
+		parallelNanoseconds += endTime - serialTime;
+		matching &= naiveCount == serialContacts.getCount()
+				&& naiveCount == parallelContacts.getCount();
+		ticks++;
+		if (ticks == Ticks) {
+			App.Log.write(LogSource.Scene, LogPriority.Info, "Naive pairwise ",
+					"checks: ", naiveNanoseconds / Ticks / 1000L, "us/tick, ",
+					"sweep-and-prune: ", serialNanoseconds / Ticks / 1000L,
+					"us/tick, parallel sweep-and-prune: ", parallelNanoseconds
+					/ Ticks / 1000L, "us/tick, ", serialContacts.getCount(),
+					" contacts from ", serial.getPairCount(), " pairs, ",
+					"matching=", matching);
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		serial.clear();
+		parallel.clear();
+		return true;
+	}
+	
+	private int countNaive() {
+		int count = 0;
+		for (int a = 0; a < BodyCount; a++) {
+			for (int b = a + 1; b < BodyCount; b++) {
+				if (touching(a, b)) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+	private boolean touching(int a, int b) {
+		if (a % 2 == 0 && b % 2 == 0) {
+			double dx = x[b] - x[a];
+			double dy = y[b] - y[a];
+			double radius = radii[a] + radii[b];
+			return dx * dx + dy * dy <= radius * radius;
+		}
+		if (a % 2 == 1 && b % 2 == 1) {
+			return Math.abs(x[b] - x[a]) <= radii[a] + radii[b]
+					&& Math.abs(y[b] - y[a]) <= radii[a] + radii[b];
+		}
+		int box = a % 2 == 1 ? a : b;
+		int circle = a % 2 == 1 ? b : a;
+		double dx = x[circle] - Math.max(x[box] - radii[box],
+				Math.min(x[circle], x[box] + radii[box]));
+		double dy = y[circle] - Math.max(y[box] - radii[box],
+				Math.min(y[circle], y[box] + radii[box]));
+		return dx * dx + dy * dy <= radii[circle] * radii[circle];
+	}
+	
+}
@@ -0,0 +1,162 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.ecs.ArchetypeTable;
+import com.github.kmacdonald222.asclepiasfw.ecs.ComponentType;
+import com.github.kmacdonald222.asclepiasfw.ecs.EntityWorld;
+import com.github.kmacdonald222.asclepiasfw.ecs.VectorColumns;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class EcsBenchmarkScene extends AppScene {
+	
+	private static final int EntityCount = 100000;
+	private static final int Ticks = 300;
+	private static final double Bounds = 500.0d;
+	
+	private class Body {
+		
+		public Vector2D position = null;
+		public Vector2D velocity = null;
+		
+		public Body(Vector2D position, Vector2D velocity) {
+			this.position = position;
+			this.velocity = velocity;
+		}
+		
+	}
+	
+	private ComponentType position = ComponentType.CreateVector("Position");
+	private ComponentType velocity = ComponentType.CreateVector("Velocity");
+	private ComponentType tag = ComponentType.CreateTag("Tagged");
+	private List<Body> bodies = null;
+	private EntityWorld serial = null;
+	private EntityWorld parallel = null;
+	private long objectNanoseconds = 0L;
+	private long serialNanoseconds = 0L;
+	private long parallelNanoseconds = 0L;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Initializing ECS ",
+				"benchmark scene with ", EntityCount, " entities");
+		bodies = new ArrayList<Body>();
+		for (int i = 0; i < EntityCount; i++) {
+			bodies.add(new Body(new Vector2D(getX(i), getY(i)),
+					new Vector2D(Math.sin(i), Math.cos(i))));
+		}
+		serial = createWorld(false);
+		parallel = createWorld(true);
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Entering ECS ",
+				"benchmark scene with ", App.Jobs.getWorkerCount(), " workers");
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		long startTime = System.nanoTime();
+		for (int i = 0; i < bodies.size(); i++) {
+			Body body = bodies.get(i);
+			body.position = body.position.add(body.velocity.scale(delta));
+			if (Math.abs(body.position.x) > Bounds) {
+				body.velocity = new Vector2D(-body.velocity.x,
+						body.velocity.y);
+			}
+			if (Math.abs(body.position.y) > Bounds) {
+				body.velocity = new Vector2D(body.velocity.x,
+						-body.velocity.y);
+			}
+		}
+		long objectTime = System.nanoTime();
+		serial.update(delta);
+		long serialTime = System.nanoTime();
+		parallel.update(delta);
+		long endTime = System.nanoTime();
+		objectNanoseconds += objectTime - startTime;
+		serialNanoseconds += serialTime - objectTime;
+		parallelNanoseconds += endTime - serialTime;
+		ticks++;
+		if (ticks == Ticks) {
+			App.Log.write(LogSource.Scene, LogPriority.Info, "Object list ",
+					"update: ", objectNanoseconds / Ticks / 1000L, "us/tick, ",
+					"ECS update: ", serialNanoseconds / Ticks / 1000L,
+					"us/tick, parallel ECS update: ", parallelNanoseconds
+					/ Ticks / 1000L, "us/tick, identical results=",
+					checkResults());
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		bodies = null;
+		serial.clear();
+		parallel.clear();
+		return true;
+	}
+	
+	private EntityWorld createWorld(boolean parallel) {
+		EntityWorld world = new EntityWorld(App.Jobs);
+		for (int i = 0; i < EntityCount; i++) {
+			int entity = i % 2 == 0 ? world.createEntity(position, velocity)
+					: world.createEntity(position, velocity, tag);
+			world.setVector(entity, position, getX(i), getY(i));
+			world.setVector(entity, velocity, Math.sin(i), Math.cos(i));
+		}
+		world.addSystem(world.createQuery(position, velocity),
+				this::updateMovement, parallel);
+		return world;
+	}
+	private void updateMovement(ArchetypeTable table, int start, int end,
+			double delta) {
+		double[] x = table.getColumn(position, ComponentType.X);
+		double[] y = table.getColumn(position, ComponentType.Y);
+		double[] vx = table.getColumn(velocity, ComponentType.X);
+		double[] vy = table.getColumn(velocity, ComponentType.Y);
+		VectorColumns.AddScaled(x, y, vx, vy, delta, start, end);
+		for (int i = start; i < end; i++) {
+			if (Math.abs(x[i]) > Bounds) {
+				vx[i] = -vx[i];
+			}
+			if (Math.abs(y[i]) > Bounds) {
+				vy[i] = -vy[i];
+			}
+		}
+	}
+	private boolean checkResults() {
+		Vector2D serialPosition = new Vector2D();
+		Vector2D parallelPosition = new Vector2D();
+		for (int i = 0; i < EntityCount; i++) {
+			serial.getVector(i, position, serialPosition);
+			parallel.getVector(i, position, parallelPosition);
+			Vector2D objectPosition = bodies.get(i).position;
+			if (serialPosition.x != parallelPosition.x
+					|| serialPosition.y != parallelPosition.y
+					|| serialPosition.x != objectPosition.x
+					|| serialPosition.y != objectPosition.y) {
+				return false;
+			}
+		}
+		return true;
+	}
+	private static double getX(int i) {
+		return (i % 1000) - 500.0d;
+	}
+	private static double getY(int i) {
+		return (i / 1000) - 50.0d;
+	}
+	
+}
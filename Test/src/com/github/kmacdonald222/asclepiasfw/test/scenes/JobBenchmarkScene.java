@@ -0,0 +1,98 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.util.Arrays;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class JobBenchmarkScene extends AppScene {
+	
+	private static final int EntityCount = 200000;
+	private static final int GrainSize = 4096;
+	private static final int Ticks = 300;
+	
+	private double[][] serial = null;
+	private double[][] parallel = null;
+	private long serialNanoseconds = 0L;
+	private long parallelNanoseconds = 0L;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Initializing job ",
+				"benchmark scene with ", EntityCount, " entities");
+		serial = createEntities();
+		parallel = createEntities();
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Entering job ",
+				"benchmark scene with ", App.Jobs.getWorkerCount(), " workers");
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		long startTime = System.nanoTime();
+		updateEntities(serial, 0, EntityCount, delta);
+		long middleTime = System.nanoTime();
+		App.Jobs.parallelFor(0, EntityCount, GrainSize,
+				(start, end) -> updateEntities(parallel, start, end, delta));
+		long endTime = System.nanoTime();
+		serialNanoseconds += middleTime - startTime;
+		parallelNanoseconds += endTime - middleTime;
+		ticks++;
+		if (ticks == Ticks) {
+			boolean identical = true;
+			for (int i = 0; i < serial.length; i++) {
+				identical &= Arrays.equals(serial[i], parallel[i]);
+			}
+			App.Log.write(LogSource.Scene, LogPriority.Info, "Single-threaded ",
+					"update: ", serialNanoseconds / Ticks / 1000L, "us/tick, ",
+					"parallel update: ", parallelNanoseconds / Ticks / 1000L,
+					"us/tick, speedup=", (double)serialNanoseconds
+					/ (double)parallelNanoseconds, ", identical results=",
+					identical);
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		serial = null;
+		parallel = null;
+		return true;
+	}
+	
+	private double[][] createEntities() {
+		double[][] entities = new double[4][EntityCount];
+		for (int i = 0; i < EntityCount; i++) {
+			entities[0][i] = (i % 1000) - 500.0d;
+			entities[1][i] = (i / 1000) - 100.0d;
+			entities[2][i] = Math.sin(i);
+			entities[3][i] = Math.cos(i);
+		}
+		return entities;
+	}
+	private void updateEntities(double[][] entities, int start, int end,
+			double delta) {
+		double[] x = entities[0];
+		double[] y = entities[1];
+		double[] vx = entities[2];
+		double[] vy = entities[3];
+		for (int i = start; i < end; i++) {
+			double distance = Math.sqrt((x[i] * x[i]) + (y[i] * y[i])) + 1.0d;
+			vx[i] -= x[i] / (distance * distance * distance) * delta;
+			vy[i] -= y[i] / (distance * distance * distance) * delta;
+			x[i] += vx[i] * delta;
+			y[i] += vy[i] * delta;
+		}
+	}
+	
+}
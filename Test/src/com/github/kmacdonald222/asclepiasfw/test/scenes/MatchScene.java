@@ -0,0 +1,76 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class MatchScene extends AppScene {
+	
+	private static final int PlayerCount = 64;
+	
+	private long seed = 0L;
+	private double[] x = null;
+	private double[] y = null;
+	private double[] vx = null;
+	private double[] vy = null;
+	private long checksum = 0L;
+	
+	public MatchScene(long seed) {
+		this.seed = seed;
+	}
+	
+	@Override
+	public boolean initialize() {
+		x = new double[PlayerCount];
+		y = new double[PlayerCount];
+		vx = new double[PlayerCount];
+		vy = new double[PlayerCount];
+		for (int i = 0; i < PlayerCount; i++) {
+			x[i] = (seed * 31L + i * 17L) % 200L;
+			y[i] = (seed * 13L + i * 29L) % 200L;
+			vx[i] = Math.sin(seed + i);
+			vy[i] = Math.cos(seed + i);
+		}
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+		getContext().getLog().write(LogSource.Scene, LogPriority.Info,
+				"Starting match ", seed, " on ", Thread.currentThread()
+				.getName());
+	}
+	@Override
+	public boolean processInput() {
+		return true;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		for (int i = 0; i < PlayerCount; i++) {
+			x[i] += vx[i] * delta;
+			y[i] += vy[i] * delta;
+			if (x[i] < 0.0d || x[i] > 200.0d) {
+				vx[i] = -vx[i];
+			}
+			if (y[i] < 0.0d || y[i] > 200.0d) {
+				vy[i] = -vy[i];
+			}
+			checksum = checksum * 31L + (long)x[i] + (long)y[i];
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		x = null;
+		y = null;
+		vx = null;
+		vy = null;
+		return true;
+	}
+	
+	public long getChecksum() {
+		return checksum;
+	}
+	
+}
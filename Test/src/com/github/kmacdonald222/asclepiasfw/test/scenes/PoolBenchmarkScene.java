@@ -0,0 +1,162 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.pooling.ObjectPool;
+import com.github.kmacdonald222.asclepiasfw.pooling.Poolable;
+import com.github.kmacdonald222.asclepiasfw.pooling.PoolGrowth;
+
+public class PoolBenchmarkScene extends AppScene {
+	
+	private class Particle implements Poolable {
+		
+		public double x = 0.0d;
+		public double y = 0.0d;
+		public double velocityX = 0.0d;
+		public double velocityY = 0.0d;
+		public int life = 0;
+		
+		public Particle set(double x, double y, double velocityX,
+				double velocityY, int life) {
+			this.x = x;
+			this.y = y;
+			this.velocityX = velocityX;
+			this.velocityY = velocityY;
+			this.life = life;
+			return this;
+		}
+		@Override
+		public void reset() {
+			set(0.0d, 0.0d, 0.0d, 0.0d, 0);
+		}
+		
+	}
+	
+	private static final int SpawnsPerTick = 5000;
+	private static final int MaximumLife = 60;
+	private static final int Ticks = 60 * 40;
+	private static final int PhaseTicks = Ticks / 4;
+	
+	private ObjectPool<Particle> pool = null;
+	private Particle[] particles = null;
+	private int particleCount = 0;
+	private Random random = null;
+	private boolean pooled = false;
+	private long nanoseconds = 0L;
+	private long gcCount = 0L;
+	private long gcMilliseconds = 0L;
+	private double checksum = 0.0d;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		pool = new ObjectPool<Particle>("Particles", Particle::new,
+				SpawnsPerTick * MaximumLife, SpawnsPerTick * MaximumLife,
+				PoolGrowth.BOUNDED);
+		App.Pools.register(pool);
+		particles = new Particle[SpawnsPerTick * MaximumLife];
+		startPhase(false);
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		ticks++;
+		long startTime = System.nanoTime();
+		for (int i = 0; i < SpawnsPerTick; i++) {
+			Particle particle = pooled ? pool.acquire() : new Particle();
+			particles[particleCount++] = particle.set(random.nextDouble(),
+					random.nextDouble(), random.nextDouble() - 0.5d,
+					random.nextDouble() - 0.5d, 1 + random.nextInt(
+					MaximumLife - 1));
+		}
+		for (int i = 0; i < particleCount; i++) {
+			Particle particle = particles[i];
+			particle.x += particle.velocityX * delta;
+			particle.y += particle.velocityY * delta;
+			if (--particle.life > 0) {
+				continue;
+			}
+			checksum += particle.x + particle.y;
+			if (pooled) {
+				pool.release(particle);
+			}
+			particles[i--] = particles[--particleCount];
+			particles[particleCount] = null;
+		}
+		nanoseconds += System.nanoTime() - startTime;
+		if (ticks % PhaseTicks == 0) {
+			finishPhase();
+			startPhase(!pooled);
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		App.Pools.unregister(pool);
+		pool = null;
+		particles = null;
+		random = null;
+		return true;
+	}
+	
+	private void startPhase(boolean pooled) {
+		for (int i = 0; i < particleCount; i++) {
+			if (this.pooled) {
+				pool.release(particles[i]);
+			}
+			particles[i] = null;
+		}
+		this.pooled = pooled;
+		particleCount = 0;
+		random = new Random(222L);
+		nanoseconds = 0L;
+		checksum = 0.0d;
+		gcCount = -GetCollectionCount();
+		gcMilliseconds = -GetCollectionTime();
+	}
+	private void finishPhase() {
+		gcCount += GetCollectionCount();
+		gcMilliseconds += GetCollectionTime();
+		long tickMicroseconds = nanoseconds / PhaseTicks / 1000L;
+		App.Log.write(LogSource.Scene, LogPriority.Info, pooled ? "Pooled"
+				: "Allocating", " particles: ", tickMicroseconds, "us/tick, ",
+				gcCount, " collections taking ", gcMilliseconds, "ms, ",
+				tickMicroseconds + gcMilliseconds * 1000L / PhaseTicks,
+				"us/tick with collections, checksum ", checksum);
+		if (pooled) {
+			pool.writeReport(App.Log);
+		}
+	}
+	private static long GetCollectionCount() {
+		long count = 0L;
+		for (GarbageCollectorMXBean collector
+				: ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(collector.getCollectionCount(), 0L);
+		}
+		return count;
+	}
+	private static long GetCollectionTime() {
+		long time = 0L;
+		for (GarbageCollectorMXBean collector
+				: ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(collector.getCollectionTime(), 0L);
+		}
+		return time;
+	}
+	
+}
@@ -0,0 +1,169 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.spatial.LooseQuadtree;
+import com.github.kmacdonald222.asclepiasfw.spatial.SpatialHashGrid;
+import com.github.kmacdonald222.asclepiasfw.spatial.SpatialIndex;
+import com.github.kmacdonald222.asclepiasfw.spatial.SpatialResults;
+
+public class SpatialBenchmarkScene extends AppScene {
+	
+	private static final int[] PointCounts = {1000, 10000, 100000};
+	private static final int QueryCount = 1000;
+	private static final int NearestCount = 8;
+	private static final double WorldSize = 1000.0d;
+	private static final double NeighbourCount = 16.0d;
+	
+	private SpatialResults results = new SpatialResults();
+	private double[] nearest = new double[NearestCount];
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Initializing ",
+				"spatial index benchmark scene");
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < PointCounts.length;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		int pointCount = PointCounts[ticks];
+		double radius = Math.sqrt(NeighbourCount * WorldSize * WorldSize
+				/ (Math.PI * pointCount));
+		Random random = new Random(pointCount);
+		List<Vector2D> points = new ArrayList<Vector2D>();
+		for (int i = 0; i < pointCount; i++) {
+			points.add(new Vector2D(random.nextDouble() * WorldSize,
+					random.nextDouble() * WorldSize));
+		}
+		Vector2D[] centers = new Vector2D[QueryCount];
+		for (int i = 0; i < QueryCount; i++) {
+			centers[i] = new Vector2D(random.nextDouble() * WorldSize,
+					random.nextDouble() * WorldSize);
+		}
+		SpatialIndex grid = new SpatialHashGrid(radius, pointCount);
+		SpatialIndex tree = new LooseQuadtree(WorldSize * 0.5d,
+				WorldSize * 0.5d, WorldSize * 0.5d);
+		long gridBuild = build(grid, points);
+		long treeBuild = build(tree, points);
+		long bruteRadius = System.nanoTime();
+		long bruteFound = 0L;
+		for (Vector2D center : centers) {
+			for (Vector2D point : points) {
+				if (point.distance(center) <= radius) {
+					bruteFound++;
+				}
+			}
+		}
+		bruteRadius = System.nanoTime() - bruteRadius;
+		long bruteNearest = System.nanoTime();
+		double bruteSum = 0.0d;
+		for (Vector2D center : centers) {
+			bruteSum += findNearest(points, center);
+		}
+		bruteNearest = System.nanoTime() - bruteNearest;
+		long gridFound = 0L;
+		long gridRadius = System.nanoTime();
+		for (Vector2D center : centers) {
+			gridFound += grid.queryRadius(center, radius, results);
+		}
+		gridRadius = System.nanoTime() - gridRadius;
+		long treeFound = 0L;
+		long treeRadius = System.nanoTime();
+		for (Vector2D center : centers) {
+			treeFound += tree.queryRadius(center, radius, results);
+		}
+		treeRadius = System.nanoTime() - treeRadius;
+		double gridSum = 0.0d;
+		long gridNearest = System.nanoTime();
+		for (Vector2D center : centers) {
+			grid.queryNearest(center, NearestCount, results);
+			gridSum += results.getDistance(NearestCount - 1);
+		}
+		gridNearest = System.nanoTime() - gridNearest;
+		double treeSum = 0.0d;
+		long treeNearest = System.nanoTime();
+		for (Vector2D center : centers) {
+			tree.queryNearest(center, NearestCount, results);
+			treeSum += results.getDistance(NearestCount - 1);
+		}
+		treeNearest = System.nanoTime() - treeNearest;
+		long gridMove = move(grid, points, radius);
+		long treeMove = move(tree, points, radius);
+		App.Log.write(LogSource.Scene, LogPriority.Info, pointCount,
+				" points, radius ", String.format("%.2f", radius), ": build ",
+				"grid=", gridBuild / 1000L, "us tree=", treeBuild / 1000L,
+				"us, move all grid=", gridMove / 1000L, "us tree=", treeMove
+				/ 1000L, "us");
+		App.Log.write(LogSource.Scene, LogPriority.Info, pointCount,
+				" points, radius query: brute force=", bruteRadius
+				/ QueryCount, "ns grid=", gridRadius / QueryCount, "ns tree=",
+				treeRadius / QueryCount, "ns, matching=", bruteFound
+				== gridFound && bruteFound == treeFound);
+		App.Log.write(LogSource.Scene, LogPriority.Info, pointCount,
+				" points, ", NearestCount, "-nearest query: brute force=",
+				bruteNearest / QueryCount, "ns grid=", gridNearest
+				/ QueryCount, "ns tree=", treeNearest / QueryCount,
+				"ns, matching=", bruteSum == gridSum && bruteSum == treeSum);
+		ticks++;
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		return true;
+	}
+	
+	private long build(SpatialIndex index, List<Vector2D> points) {
+		long startTime = System.nanoTime();
+		for (int i = 0; i < points.size(); i++) {
+			index.insert(i, points.get(i));
+		}
+		return System.nanoTime() - startTime;
+	}
+	private long move(SpatialIndex index, List<Vector2D> points,
+			double distance) {
+		long startTime = System.nanoTime();
+		for (int i = 0; i < points.size(); i++) {
+			Vector2D point = points.get(i);
+			index.move(i, point.x + Math.sin(i) * distance, point.y
+					+ Math.cos(i) * distance);
+		}
+		return System.nanoTime() - startTime;
+	}
+	private double findNearest(List<Vector2D> points, Vector2D center) {
+		int count = 0;
+		for (Vector2D point : points) {
+			double distance = point.distance(center);
+			if (count == NearestCount && distance >= nearest[count - 1]) {
+				continue;
+			}
+			if (count < NearestCount) {
+				count++;
+			}
+			int i = count - 1;
+			while (i > 0 && nearest[i - 1] > distance) {
+				nearest[i] = nearest[i - 1];
+				i--;
+			}
+			nearest[i] = distance;
+		}
+		return nearest[NearestCount - 1];
+	}
+	
+}
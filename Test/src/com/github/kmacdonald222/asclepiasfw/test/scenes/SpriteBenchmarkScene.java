@@ -0,0 +1,166 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.graphics.SpriteBatch;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class SpriteBenchmarkScene extends AppScene {
+	
+	private static final int SpriteCount = 50000;
+	private static final int ImageCount = 16;
+	private static final int LayerCount = 4;
+	private static final int SpriteSize = 16;
+	private static final int ViewWidth = 800;
+	private static final int ViewHeight = 600;
+	private static final int Ticks = 60 * 8;
+	
+	private BufferedImage[] images = null;
+	private Composite[] composites = null;
+	private double[] x = null;
+	private double[] y = null;
+	private double[] velocityX = null;
+	private double[] velocityY = null;
+	private int[] imageIndices = null;
+	private int[] compositeIndices = null;
+	private int[] layers = null;
+	private SpriteBatch batch = null;
+	private BufferedImage frame = null;
+	private boolean batched = false;
+	private long nanoseconds = 0L;
+	private long compositeChanges = 0L;
+	private int frames = 0;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		Random random = new Random(222L);
+		images = new BufferedImage[ImageCount];
+		for (int i = 0; i < ImageCount; i++) {
+			images[i] = new BufferedImage(SpriteSize, SpriteSize,
+					BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = images[i].createGraphics();
+			graphics.setColor(new Color(Color.HSBtoRGB((float)i / ImageCount,
+					0.8f, 1.0f)));
+			graphics.fillOval(0, 0, SpriteSize, SpriteSize);
+			graphics.dispose();
+		}
+		composites = new Composite[] { AlphaComposite.SrcOver,
+				AlphaComposite.SrcOver.derive(0.5f),
+				AlphaComposite.SrcOver.derive(0.25f) };
+		x = new double[SpriteCount];
+		y = new double[SpriteCount];
+		velocityX = new double[SpriteCount];
+		velocityY = new double[SpriteCount];
+		imageIndices = new int[SpriteCount];
+		compositeIndices = new int[SpriteCount];
+		layers = new int[SpriteCount];
+		for (int i = 0; i < SpriteCount; i++) {
+			x[i] = random.nextDouble() * ViewWidth * 1.25d - ViewWidth * 0.125d;
+			y[i] = random.nextDouble() * ViewHeight * 1.25d
+					- ViewHeight * 0.125d;
+			velocityX[i] = random.nextDouble() * 4.0d - 2.0d;
+			velocityY[i] = random.nextDouble() * 4.0d - 2.0d;
+			imageIndices[i] = random.nextInt(ImageCount);
+			compositeIndices[i] = random.nextInt(composites.length);
+			layers[i] = random.nextInt(LayerCount);
+		}
+		batch = new SpriteBatch();
+		frame = new BufferedImage(ViewWidth, ViewHeight,
+				BufferedImage.TYPE_INT_RGB);
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return !App.IsHeadless() || ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		ticks++;
+		for (int i = 0; i < SpriteCount; i++) {
+			x[i] += velocityX[i] * delta;
+			y[i] += velocityY[i] * delta;
+			if (x[i] < -ViewWidth * 0.125d || x[i] > ViewWidth * 1.125d) {
+				velocityX[i] = -velocityX[i];
+			}
+			if (y[i] < -ViewHeight * 0.125d || y[i] > ViewHeight * 1.125d) {
+				velocityY[i] = -velocityY[i];
+			}
+		}
+		if (!App.IsHeadless()) {
+			return;
+		}
+		Graphics2D graphics = frame.createGraphics();
+		drawSprites(graphics);
+		graphics.dispose();
+		if (ticks == Ticks / 2 || ticks == Ticks) {
+			App.Log.write(LogSource.Scene, LogPriority.Info, batched
+					? "Sprite batch" : "Individual drawImage calls", ": ",
+					SpriteCount, " sprites, ", nanoseconds / frames / 1000L,
+					"us/frame, ", compositeChanges / frames,
+					" composite changes/frame", batched ? ", "
+					+ batch.getDrawnCount() + " drawn, "
+					+ batch.getCulledCount() + " culled, "
+					+ batch.getImageSwitchCount() + " image switches" : "");
+			batched = true;
+			nanoseconds = 0L;
+			compositeChanges = 0L;
+			frames = 0;
+		}
+	}
+	@Override
+	public void render(Graphics2D graphics, double alpha) {
+		batched = true;
+		drawSprites(graphics);
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		images = null;
+		batch = null;
+		frame = null;
+		return true;
+	}
+	
+	private void drawSprites(Graphics2D graphics) {
+		long startTime = System.nanoTime();
+		if (batched) {
+			batch.begin(graphics, ViewWidth, ViewHeight);
+			for (int i = 0; i < SpriteCount; i++) {
+				batch.draw(images[imageIndices[i]], 0, 0, SpriteSize,
+						SpriteSize, x[i], y[i], SpriteSize, SpriteSize,
+						layers[i], composites[compositeIndices[i]]);
+			}
+			batch.end();
+			compositeChanges += batch.getCompositeChangeCount();
+		} else {
+			for (int layer = 0; layer < LayerCount; layer++) {
+				for (int i = 0; i < SpriteCount; i++) {
+					if (layers[i] != layer) {
+						continue;
+					}
+					graphics.setComposite(composites[compositeIndices[i]]);
+					graphics.drawImage(images[imageIndices[i]], (int)x[i],
+							(int)y[i], null);
+					compositeChanges++;
+				}
+			}
+		}
+		nanoseconds += System.nanoTime() - startTime;
+		frames++;
+	}
+	
+}
@@ -1,5 +1,7 @@
 package com.github.kmacdonald222.asclepiasfw.test.scenes;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +15,9 @@ import com.github.kmacdonald222.asclepiasfw.test.Test;
 
 public class TestScene1 extends AppScene {
 	
+	// A boxed Double plus the compressed reference to it in a list
+	private static final long ListDoubleBytes = 16L + 4L;
+	
 	private double timer = 0;
 	private double frames = 0;
 	private boolean timerStarted = false;
@@ -37,7 +42,8 @@ public class TestScene1 extends AppScene {
 	}
 	@Override
 	public boolean processInput() {
-		if (App.Input.keyboard.isKeyPressed(KeyboardKey.TWO)) {
+		if (!App.IsHeadless()
+				&& App.Input.keyboard.isKeyPressed(KeyboardKey.TWO)) {
 			if (!App.SetCurrentScene(Test.Scene2)) {
 				App.Log.write(LogSource.Scene, LogPriority.Info, "Changing to ",
 						"test scene 2");
@@ -80,6 +86,19 @@ public class TestScene1 extends AppScene {
 		}
 	}
 	@Override
+	public void render(Graphics2D graphics, double alpha) {
+		graphics.setColor(Color.WHITE);
+		graphics.fillRect(0, 0, (int)(App.Window.getDimensions().x
+				* timer / App.GetTargetUpdatesPerSecond()), 8);
+	}
+	@Override
+	public long estimateMemoryUsage() {
+		if (deltas == null || timeDiffs == null) {
+			return 0L;
+		}
+		return (deltas.size() + timeDiffs.size()) * ListDoubleBytes;
+	}
+	@Override
 	public void leave(AppScene nextScene) {
 		App.Log.write(LogSource.Scene, LogPriority.Info, "Leaving test scene ",
 				"1");
@@ -22,7 +22,8 @@ public class TestScene2 extends AppScene {
 	}
 	@Override
 	public boolean processInput() {
-		if (App.Input.keyboard.isKeyPressed(KeyboardKey.ONE)) {
+		if (!App.IsHeadless()
+				&& App.Input.keyboard.isKeyPressed(KeyboardKey.ONE)) {
 			if (!App.SetCurrentScene(Test.Scene1)) {
 				App.Log.write(LogSource.Scene, LogPriority.Info, "Changing to ",
 						"test scene 1");
@@ -33,6 +34,10 @@ public class TestScene2 extends AppScene {
 	@Override
 	public void timedUpdate(double delta) {
 		
+	}
+	@Override
+	public long estimateMemoryUsage() {
+		return 0L;
 	}
 	@Override
 	public void leave(AppScene nextScene) {
@@ -0,0 +1,98 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+import com.github.kmacdonald222.asclepiasfw.timing.Timer;
+import com.github.kmacdonald222.asclepiasfw.timing.TimerService;
+
+public class TimerBenchmarkScene extends AppScene {
+	
+	private static final int TimerCount = 1000000;
+	private static final int MaximumDelay = 60 * 60 * 10;
+	private static final int MaximumPeriod = 60 * 10;
+	private static final int Ticks = 60 * 60;
+	
+	private TimerService service = null;
+	private long[] countdowns = null;
+	private long[] periods = null;
+	private long wheelFired = 0L;
+	private long counterFired = 0L;
+	private long wheelNanoseconds = 0L;
+	private long counterNanoseconds = 0L;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		service = new TimerService(0L);
+		countdowns = new long[TimerCount];
+		periods = new long[TimerCount];
+		Random random = new Random(222L);
+		Timer[] timers = new Timer[TimerCount];
+		long startTime = System.nanoTime();
+		for (int i = 0; i < TimerCount; i++) {
+			countdowns[i] = 1L + random.nextInt(MaximumDelay);
+			periods[i] = i % 10 == 0 ? 1L + random.nextInt(MaximumPeriod)
+					: 0L;
+			timers[i] = service.scheduleRepeating(countdowns[i], periods[i],
+					(timer) -> wheelFired++);
+		}
+		long scheduleNanoseconds = System.nanoTime() - startTime;
+		startTime = System.nanoTime();
+		for (int i = 0; i < TimerCount; i += 4) {
+			timers[i].cancel();
+			countdowns[i] = -1L;
+		}
+		long cancelNanoseconds = System.nanoTime() - startTime;
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Scheduled ",
+				TimerCount, " timers in ", scheduleNanoseconds / 1000000L,
+				"ms, cancelled ", TimerCount / 4, " in ", cancelNanoseconds
+				/ 1000000L, "ms, ", service.getPendingCount(), " pending");
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		ticks++;
+		long startTime = System.nanoTime();
+		service.advance(ticks);
+		long middleTime = System.nanoTime();
+		for (int i = 0; i < TimerCount; i++) {
+			if (countdowns[i] > 0L && --countdowns[i] == 0L) {
+				counterFired++;
+				countdowns[i] = periods[i] > 0L ? periods[i] : -1L;
+			}
+		}
+		long endTime = System.nanoTime();
+		wheelNanoseconds += middleTime - startTime;
+		counterNanoseconds += endTime - middleTime;
+		if (ticks == Ticks) {
+			App.Log.write(LogSource.Scene, LogPriority.Info, "Timing wheel: ",
+					wheelNanoseconds / Ticks / 1000L, "us/tick, ", wheelFired,
+					" fired, counters: ", counterNanoseconds / Ticks / 1000L,
+					"us/tick, ", counterFired, " fired, ",
+					service.getPendingCount(), " still pending");
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		service.clear();
+		service = null;
+		countdowns = null;
+		periods = null;
+		return true;
+	}
+	
+}
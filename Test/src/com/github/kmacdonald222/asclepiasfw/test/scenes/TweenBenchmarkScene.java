@@ -0,0 +1,145 @@
+package com.github.kmacdonald222.asclepiasfw.test.scenes;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import com.github.kmacdonald222.asclepiasfw.animation.Easing;
+import com.github.kmacdonald222.asclepiasfw.animation.Keyframes;
+import com.github.kmacdonald222.asclepiasfw.animation.TweenCallback;
+import com.github.kmacdonald222.asclepiasfw.animation.TweenEngine;
+import com.github.kmacdonald222.asclepiasfw.animation.TweenType;
+import com.github.kmacdonald222.asclepiasfw.app.App;
+import com.github.kmacdonald222.asclepiasfw.app.AppScene;
+import com.github.kmacdonald222.asclepiasfw.data.Vector2D;
+import com.github.kmacdonald222.asclepiasfw.logging.LogPriority;
+import com.github.kmacdonald222.asclepiasfw.logging.LogSource;
+
+public class TweenBenchmarkScene extends AppScene {
+	
+	private static final int ValueCount = 30000;
+	private static final int VectorCount = 30000;
+	private static final int ColorCount = 10000;
+	private static final int TrackCount = 10000;
+	private static final int ChurnCount = 20000;
+	private static final int WarmupTicks = 60 * 5;
+	private static final int Ticks = 60 * 20;
+	
+	private TweenEngine engine = null;
+	private Random random = null;
+	private double[] values = null;
+	private Vector2D[] vectors = null;
+	private int[] colors = null;
+	private int[] trackColors = null;
+	private Easing[] easings = null;
+	private TweenCallback restart = this::restart;
+	private com.sun.management.ThreadMXBean threads = null;
+	private long nanoseconds = 0L;
+	private long allocatedBytes = 0L;
+	private long startFinishedCount = 0L;
+	private double checksum = 0.0d;
+	private int ticks = 0;
+	
+	@Override
+	public boolean initialize() {
+		engine = new TweenEngine();
+		random = new Random(222L);
+		easings = Easing.values();
+		values = new double[ValueCount];
+		for (int i = 0; i < ValueCount; i++) {
+			int tween = engine.tween(values, i, 1.0d, 30.0d + i % 60,
+					easings[i % easings.length]);
+			engine.setRepeat(tween, TweenEngine.RepeatForever, true);
+		}
+		vectors = new Vector2D[VectorCount];
+		for (int i = 0; i < VectorCount; i++) {
+			vectors[i] = new Vector2D(random.nextDouble() * 800.0d,
+					random.nextDouble() * 600.0d);
+			int tween = engine.tween(vectors[i], random.nextDouble() * 800.0d,
+					random.nextDouble() * 600.0d, 45.0d + i % 30,
+					easings[i % easings.length]);
+			engine.setDelay(tween, i % 20);
+			engine.setRepeat(tween, TweenEngine.RepeatForever, true);
+		}
+		colors = new int[ColorCount];
+		for (int i = 0; i < ColorCount; i++) {
+			colors[i] = 0xFF000000 | random.nextInt(0x1000000);
+			int tween = engine.tweenColor(colors, i, 0x80FFFFFF, 60.0d,
+					easings[i % easings.length]);
+			engine.setRepeat(tween, TweenEngine.RepeatForever, true);
+		}
+		Keyframes track = new Keyframes(TweenType.COLOR);
+		track.addColor(0.0d, 0xFFFF0000, Easing.LINEAR);
+		track.addColor(20.0d, 0xFF00FF00, Easing.SINE_IN_OUT);
+		track.addColor(50.0d, 0xFF0000FF, Easing.BOUNCE_OUT);
+		track.addColor(90.0d, 0x00FF0000, Easing.QUAD_IN);
+		trackColors = new int[TrackCount];
+		for (int i = 0; i < TrackCount; i++) {
+			int tween = engine.play(track, trackColors, i);
+			engine.setDelay(tween, i % 90);
+			engine.setRepeat(tween, TweenEngine.RepeatForever, false);
+		}
+		for (int i = 0; i < ChurnCount; i++) {
+			restart(engine, TweenEngine.NullTween);
+		}
+		threads = (com.sun.management.ThreadMXBean)
+				ManagementFactory.getThreadMXBean();
+		App.Log.write(LogSource.Scene, LogPriority.Info, "Started ",
+				engine.getActiveCount(), " tweens");
+		return true;
+	}
+	@Override
+	public void enter(AppScene previousScene) {
+	}
+	@Override
+	public boolean processInput() {
+		return ticks < Ticks;
+	}
+	@Override
+	public void timedUpdate(double delta) {
+		ticks++;
+		if (ticks == WarmupTicks) {
+			nanoseconds = 0L;
+			allocatedBytes = 0L;
+			startFinishedCount = engine.getFinishedCount();
+		}
+		long startBytes = threads.getCurrentThreadAllocatedBytes();
+		long startTime = System.nanoTime();
+		engine.update(delta);
+		nanoseconds += System.nanoTime() - startTime;
+		allocatedBytes += threads.getCurrentThreadAllocatedBytes()
+				- startBytes;
+		checksum += values[ticks % ValueCount] + vectors[ticks
+				% VectorCount].x + (colors[ticks % ColorCount] & 0xFF)
+				+ (trackColors[ticks % TrackCount] >>> 24);
+		if (ticks == Ticks) {
+			int measuredTicks = Ticks - WarmupTicks;
+			App.Log.write(LogSource.Scene, LogPriority.Info,
+					engine.getActiveCount(), " tweens: ", nanoseconds
+					/ measuredTicks / 1000L, "us/tick, ", allocatedBytes,
+					" bytes allocated over ", measuredTicks, " ticks, ",
+					engine.getFinishedCount() - startFinishedCount,
+					" finished and restarted, checksum ", checksum);
+		}
+	}
+	@Override
+	public void leave(AppScene nextScene) {
+	}
+	@Override
+	public boolean destroy() {
+		engine.clear();
+		engine = null;
+		values = null;
+		vectors = null;
+		colors = null;
+		trackColors = null;
+		return true;
+	}
+	
+	private void restart(TweenEngine engine, int tween) {
+		int next = engine.tween(random.nextDouble(), random.nextDouble(),
+				10.0d + random.nextInt(50), easings[random.nextInt(
+				easings.length)]);
+		engine.setCallback(next, restart);
+	}
+	
+}